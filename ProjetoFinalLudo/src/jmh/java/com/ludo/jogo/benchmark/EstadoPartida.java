@@ -0,0 +1,81 @@
+package com.ludo.jogo.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+import com.ludo.jogo.simulacao.SimuladorPartidas;
+
+/**
+ * Posição típica de uma partida entre 4 IAs, usada pelos benchmarks.
+ * A partida com a semente fixa é jogada até o fim para medir sua duração, e depois repetida
+ * até 10% (INICIO), 50% (MEIO) ou 90% (FIM) dos turnos, então a posição é sempre a mesma.
+ */
+@State(Scope.Thread)
+public class EstadoPartida {
+
+    // ATRIBUTOS
+
+    /** Semente das partidas dos benchmarks. */
+    public static final long SEMENTE = 20240601L;
+
+    /** Configuração usada em todos os benchmarks: 4 IAs. */
+    public static final ConfigJogo CONFIG = new ConfigJogo(
+            List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.VERDE, Cor.AMARELO, Cor.AZUL));
+
+    @Param({"INICIO", "MEIO", "FIM"})
+    public String fase;
+
+    public MotorJogo motor;
+
+    /** Um valor de dado com pelo menos um movimento para o jogador da vez. */
+    public int valorDado;
+
+
+    // MÉTODOS
+
+    /**
+     * Prepara a posição da fase pedida.
+     *
+     * @throws MovimentoInvalidoException Se a IA fizer um movimento inválido (não deve acontecer).
+     */
+    @Setup(Level.Trial)
+    public void preparar() throws MovimentoInvalidoException {
+        motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, SEMENTE);
+        long duracao = SimuladorPartidas.jogarAteOFim(motor);
+
+        long alvo = switch (fase) {
+            case "INICIO" -> duracao / 10;
+            case "MEIO" -> duracao / 2;
+            default -> duracao * 9 / 10;
+        };
+
+        motor.iniciarNovoJogo(CONFIG, SEMENTE);
+        for (long turno = 0; turno < alvo && motor.getEstado() == EstadoJogo.EM_JOGO; turno++) {
+            motor.jogarTurno();
+        }
+
+        // Procura um valor de dado que gere movimentos, preferindo o 6 (mais opções)
+        valorDado = 6;
+        for (int v = 6; v >= 1; v--) {
+            motor.setValorDado(v);
+            if (motor.getNumMovimentos() > 0) {
+                valorDado = v;
+                break;
+            }
+        }
+        motor.setValorDado(valorDado);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ludo.jogo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.simulacao.SimuladorPartidas;
+
+/**
+ * Benchmark de uma partida completa entre 4 IAs, de iniciarNovoJogo até a vitória.
+ * Cada invocação usa a próxima semente da sequência, então todas as execuções jogam as mesmas partidas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartidaBenchmark {
+
+    // ATRIBUTOS
+
+    private final MotorJogo motor = new MotorJogo();
+    private long partida;
+
+
+    // MÉTODOS
+
+    /**
+     * Joga uma partida completa.
+     *
+     * @return Quantidade de turnos da partida.
+     */
+    @Benchmark
+    public long partidaCompleta() {
+        motor.iniciarNovoJogo(EstadoPartida.CONFIG, Dado.derivarSemente(EstadoPartida.SEMENTE, partida++));
+        return SimuladorPartidas.jogarAteOFim(motor);
+    }
+}
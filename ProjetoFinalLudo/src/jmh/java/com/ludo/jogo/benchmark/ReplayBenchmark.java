@@ -0,0 +1,102 @@
+package com.ludo.jogo.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.persistencia.GravadorReplay;
+import com.ludo.jogo.persistencia.ReplayPartida;
+import com.ludo.jogo.persistencia.ReprodutorReplay;
+import com.ludo.jogo.simulacao.SimuladorPartidas;
+
+/**
+ * Benchmarks dos replays: reproduzir uma partida inteira de 4 IAs (rolagens por segundo = rolagens da partida
+ * dividido pelo tempo médio) e gravar o replay dela.
+ * Uso: gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+
+    // ATRIBUTOS
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(
+            List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.VERDE, Cor.AMARELO, Cor.AZUL));
+    private static final long SEMENTE = 5L;
+
+    private ReplayPartida replay;
+    private ReprodutorReplay reprodutor;
+
+
+    // MÉTODOS
+
+    /**
+     * Grava a partida uma vez, para o benchmark de reprodução.
+     *
+     * @throws IOException Se o replay gravado for inválido (não deve acontecer).
+     */
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        replay = gravarPartida();
+        reprodutor = new ReprodutorReplay(replay);
+    }
+
+    /**
+     * Reproduz a partida inteira, do início ao fim.
+     *
+     * @return O hash da posição final.
+     */
+    @Benchmark
+    public long reproduzir() {
+        reprodutor.reiniciar();
+        while (reprodutor.avancar()) {
+            // Cada passo é uma rolagem (e a jogada dela)
+        }
+        return reprodutor.getMotor().getHash();
+    }
+
+    /**
+     * Joga a partida com as IAs gravando o replay (custo da gravação somado ao da partida).
+     *
+     * @return O replay.
+     */
+    @Benchmark
+    public ReplayPartida gravar() {
+        return gravarPartida();
+    }
+
+    /**
+     * Joga a partida de referência, gravando o replay.
+     *
+     * @return O replay da partida.
+     */
+    private static ReplayPartida gravarPartida() {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, SEMENTE);
+        GravadorReplay gravador = new GravadorReplay(motor);
+        SimuladorPartidas.jogarAteOFim(motor);
+        gravador.encerrar();
+        return gravador.getReplay();
+    }
+}
@@ -0,0 +1,63 @@
+package com.ludo.jogo.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ludo.jogo.game.EstadoCompacto;
+import com.ludo.jogo.game.Tabuleiro;
+
+/**
+ * Benchmark dos rollouts do JogadorMCTS: partidas jogadas até o fim sobre EstadoCompacto.
+ * Rode com -t N (threads do JMH) para medir a taxa somada em N núcleos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RolloutBenchmark {
+
+    // ATRIBUTOS
+
+    private final EstadoCompacto raiz = new EstadoCompacto();
+    private final EstadoCompacto trabalho = new EstadoCompacto();
+    private final int[] movimentos = new int[Tabuleiro.MAX_MOVIMENTOS];
+    private final SplittableRandom gerador = new SplittableRandom(EstadoPartida.SEMENTE);
+
+
+    // MÉTODOS
+
+    /**
+     * Copia a posição da fase pedida para o estado compacto.
+     *
+     * @param estado A posição.
+     */
+    @Setup(Level.Trial)
+    public void preparar(EstadoPartida estado) {
+        raiz.carregar(estado.motor);
+    }
+
+    /**
+     * Joga um rollout completo a partir da posição.
+     *
+     * @return O assento do vencedor.
+     */
+    @Benchmark
+    public int rollout() {
+        trabalho.copiarDe(raiz);
+        return trabalho.jogarAteOFim(gerador, 0, 10_000, movimentos);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ludo.jogo.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.persistencia.FormatoSave;
+
+/**
+ * Benchmarks do formato binário dos saves (codificar e recriar a partida), em posições de início, meio e fim.
+ * Uso: gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+
+    // ATRIBUTOS
+
+    private final MotorJogo destino = new MotorJogo();
+    private byte[] save;
+
+
+    // MÉTODOS
+
+    /**
+     * Codifica a posição uma vez, para o benchmark de leitura.
+     *
+     * @param estado A posição.
+     */
+    @Setup(Level.Trial)
+    public void preparar(EstadoPartida estado) {
+        save = FormatoSave.codificar(estado.motor);
+    }
+
+    /**
+     * Codifica a partida.
+     *
+     * @param estado A posição;
+     * @return Os bytes do save.
+     */
+    @Benchmark
+    public byte[] codificar(EstadoPartida estado) {
+        return FormatoSave.codificar(estado.motor);
+    }
+
+    /**
+     * Recria a partida a partir dos bytes do save.
+     *
+     * @return O hash da posição recriada.
+     * @throws IOException Se o save for inválido (não deve acontecer).
+     */
+    @Benchmark
+    public long decodificar() throws IOException {
+        FormatoSave.decodificar(save, destino);
+        return destino.getHash();
+    }
+}
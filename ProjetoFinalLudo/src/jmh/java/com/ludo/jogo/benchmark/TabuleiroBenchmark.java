@@ -0,0 +1,113 @@
+package com.ludo.jogo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Peao;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.EstadoPeao;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Benchmarks das operações quentes do motor, em posições de início, meio e fim de partida.
+ * Uso: gradle jmh (o perfil "gc" mede também a alocação por operação).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabuleiroBenchmark {
+
+    /**
+     * Calcula a casa de destino de todos os peões da vez, para todos os valores do dado.
+     *
+     * @param estado A posição;
+     * @param bh Consumidor dos resultados.
+     */
+    @Benchmark
+    public void getCasaDestino(EstadoPartida estado, Blackhole bh) {
+        Tabuleiro tabuleiro = estado.motor.getTabuleiro();
+        for (Peao peao : estado.motor.getJogadorAtual().getPeoes()) {
+            for (int valorDado = 1; valorDado <= 6; valorDado++) {
+                bh.consume(tabuleiro.getCasaDestino(peao, valorDado));
+            }
+        }
+    }
+
+    /**
+     * Move um peão e desfaz o movimento (mesmo caminho usado por Jogada).
+     *
+     * @param estado A posição;
+     * @return O peão capturado, se houver.
+     */
+    @Benchmark
+    public Peao moverPeao(EstadoPartida estado) {
+        MotorJogo motor = estado.motor;
+        Tabuleiro tabuleiro = motor.getTabuleiro();
+        int movimento = motor.getMovimentos()[0];
+
+        Peao peao = tabuleiro.getPeao(Tabuleiro.idPeaoDoMovimento(movimento));
+        int origem = tabuleiro.getPosicao(peao);
+        EstadoPeao estadoAnterior = peao.getEstado();
+
+        Peao capturado = tabuleiro.moverPeao(peao, Tabuleiro.destinoDoMovimento(movimento));
+        tabuleiro.desfazerMovimento(peao, origem, estadoAnterior, capturado);
+        return capturado;
+    }
+
+    /**
+     * Verifica bloqueio em todas as casas do circuito.
+     *
+     * @param estado A posição;
+     * @return Quantidade de bloqueios.
+     */
+    @Benchmark
+    public int verificarBloqueio(EstadoPartida estado) {
+        Tabuleiro tabuleiro = estado.motor.getTabuleiro();
+        int bloqueios = 0;
+        for (int posicao = 0; posicao < Tabuleiro.NUM_CASAS_CIRCUITO; posicao++) {
+            if (tabuleiro.verificarBloqueio(tabuleiro.getCasa(posicao))) bloqueios++;
+        }
+        return bloqueios;
+    }
+
+    /**
+     * Lista os peões que podem se mover com o dado da posição.
+     *
+     * @param estado A posição;
+     * @param bh Consumidor dos resultados.
+     */
+    @Benchmark
+    public void getPeoesValidos(EstadoPartida estado, Blackhole bh) {
+        Jogador jogador = estado.motor.getJogadorAtual();
+        bh.consume(jogador.getPeoesValidos(estado.valorDado, estado.motor.getTabuleiro()));
+    }
+
+    /**
+     * Deixa a IA escolher e aplicar uma jogada, e depois a desfaz.
+     *
+     * @param estado A posição;
+     * @return O hash da posição após a jogada.
+     * @throws MovimentoInvalidoException Se a IA fizer um movimento inválido.
+     */
+    @Benchmark
+    public long fazerJogadaIA(EstadoPartida estado) throws MovimentoInvalidoException {
+        MotorJogo motor = estado.motor;
+        ((JogadorIA) motor.getJogadorAtual()).fazerJogada(estado.valorDado);
+        long hash = motor.getHash();
+        motor.desfazerUltimaJogada();
+        return hash;
+    }
+}
@@ -1,18 +1,26 @@
 package com.ludo.jogo.controller;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import com.ludo.jogo.game.Cancelamento;
 import com.ludo.jogo.game.Casa;
 import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Decisao;
+import com.ludo.jogo.game.Decisor;
+import com.ludo.jogo.game.DecisorAssincrono;
 import com.ludo.jogo.game.Jogador;
 import com.ludo.jogo.game.JogadorHumano;
 import com.ludo.jogo.game.JogadorIA;
 import com.ludo.jogo.game.MotorJogo;
 import com.ludo.jogo.game.Peao;
+import com.ludo.jogo.game.Ponderador;
 import com.ludo.jogo.game.Tabuleiro;
 import com.ludo.jogo.game.enums.Cor;
 import com.ludo.jogo.game.enums.EstadoJogo;
@@ -20,9 +28,13 @@ import com.ludo.jogo.game.enums.EstadoPeao;
 import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
 import com.ludo.jogo.game.exceptions.NenhumMovimentoPossivelException;
 import com.ludo.jogo.game.exceptions.SlotSaveIndisponivelException;
+import com.ludo.jogo.persistencia.DiarioPartida;
 import com.ludo.jogo.persistencia.GerenciadorDePersistencia;
+import com.ludo.jogo.persistencia.GravadorAssincrono;
+import com.ludo.jogo.persistencia.GravadorReplay;
 
 import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -46,9 +58,17 @@ public class ControladorJogo {
     // ATRIBUTOS
 
     private static final int BOARD_CELLS = 15;
+    static final Path ARQUIVO_DIARIO = Path.of("partida_em_andamento.diario");
+    private static final Path PASTA_REPLAYS = Path.of("replays");
+    private static boolean retomadaSolicitada = false; // "Continuar Partida" no menu
     private MotorJogo motorJogo;
     private final Map<Peao, Circle> mapaPeoes = new HashMap<>();
     private boolean aguardandoMovimentoHumano = false;
+    private boolean telaVitoriaCarregada = false;
+    private Cancelamento cancelamentoIA = new Cancelamento(); // Trocado a cada cancelamento; a vez da IA guarda o seu
+    private final Ponderador ponderador = new Ponderador(DecisorAssincrono.getPadrao()); // IAs pensam na vez do humano
+    private final DiarioPartida diario = new DiarioPartida(ARQUIVO_DIARIO); // Autosave: um registro por rolagem/jogada
+    private GravadorReplay gravadorReplay; // Replay da partida, gravado em PASTA_REPLAYS quando ela termina
 
     @FXML private Pane painelTabuleiro;
     @FXML private Button botaoRolarDado;
@@ -79,8 +99,9 @@ public class ControladorJogo {
         this.motorJogo = new MotorJogo();
 
         // Pega config escolhida no menu ou define padrao
-        List<Class<? extends Jogador>> tipos = ConfigJogo.getTiposJogadores();
-        List<Cor> cores = ConfigJogo.getCoresJogadores();
+        ConfigJogo config = ConfigJogo.getConfiguracaoAtual();
+        List<Class<? extends Jogador>> tipos = config.getTipos();
+        List<Cor> cores = config.getCores();
 
         if (tipos == null || tipos.isEmpty()) {
             tipos = new ArrayList<>();
@@ -105,6 +126,9 @@ public class ControladorJogo {
 
         // Inicia o jogo
         this.motorJogo.iniciarNovoJogo(tiposFinais, coresFinais);
+        boolean retomada = retomadaSolicitada && retomarPartidaInterrompida();
+        retomadaSolicitada = false;
+        registrarNoDiario(); // Sem retomada, a partida nova substitui a interrompida no diário
 
         // Força um tamanho mínimo para garantir que o Pane não suma ao usar clear()
         paneDado.setMinWidth(100);
@@ -124,28 +148,141 @@ public class ControladorJogo {
 
         // Desenha estado inicial
         atualizarGUI();
-        desenharDado(0);
+        desenharDado(retomada ? motorJogo.getValorDadoAtual() : 0);
+        if (retomada) labelStatus.setText("Partida interrompida retomada!");
 
         // Inicia IA se necessário
         gerenciarTurnoIA();
     }
 
 
+    // Autosave
+
+    /**
+     * Pede que a próxima tela de jogo retome a partida interrompida registrada no diário, em vez de começar uma
+     * nova (ver ControladorMenu). Sem o pedido, a partida nova substitui a interrompida.
+     */
+    static void solicitarRetomada() {
+        retomadaSolicitada = true;
+    }
+
+    /**
+     * Retoma a partida registrada no diário (o programa caiu ou foi fechado no meio dela). Se o diário não puder
+     * ser lido, a partida nova já iniciada continua (e o diário passa a registrá-la).
+     *
+     * @return True se uma partida foi retomada.
+     */
+    private boolean retomarPartidaInterrompida() {
+        if (!DiarioPartida.existe(ARQUIVO_DIARIO)) return false;
+        try {
+            DiarioPartida.recuperar(ARQUIVO_DIARIO, this.motorJogo);
+            return true;
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Erro ao retomar a partida interrompida: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Passa a registrar a partida atual no diário (recomeçando-o com um checkpoint da posição atual).
+     */
+    private void registrarNoDiario() {
+        try {
+            this.diario.iniciar(this.motorJogo);
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Erro ao iniciar o diário da partida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Começa a gravar o replay da partida atual, no início de um turno (o replay começa antes de uma rolagem).
+     * Se a partida foi retomada com um movimento pendente, a gravação começa no turno seguinte.
+     */
+    private void iniciarReplay() {
+        if (this.gravadorReplay != null || motorJogo.getEstado() != EstadoJogo.EM_JOGO || motorJogo.isMovimentoPendente()) return;
+        this.gravadorReplay = new GravadorReplay(motorJogo);
+    }
+
+    /**
+     * Para de gravar o replay (ex: a partida vai ser substituída ou abandonada).
+     */
+    private void descartarReplay() {
+        if (this.gravadorReplay == null) return;
+        this.gravadorReplay.encerrar();
+        this.gravadorReplay = null;
+    }
+
+    /**
+     * Grava o replay da partida que terminou em PASTA_REPLAYS, em segundo plano. Erros são só informados:
+     * a partida já terminou e não depende do replay.
+     */
+    private void salvarReplay() {
+        if (this.gravadorReplay == null) return;
+        this.gravadorReplay.encerrar();
+        try {
+            Files.createDirectories(PASTA_REPLAYS);
+            Path arquivo = PASTA_REPLAYS.resolve("partida-" + System.currentTimeMillis() + ".replay");
+            GravadorAssincrono.getPadrao().salvar(this.gravadorReplay.getReplay(), arquivo).whenComplete((nada, erro) -> {
+                if (erro != null) {
+                    Throwable causa = (erro.getCause() != null) ? erro.getCause() : erro;
+                    System.err.println("Erro ao gravar o replay da partida: " + causa.getMessage());
+                }
+            });
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Erro ao gravar o replay da partida: " + e.getMessage());
+        }
+        this.gravadorReplay = null;
+    }
+
+    /**
+     * Apaga o diário quando a partida termina ou é abandonada: não há o que retomar.
+     */
+    private void apagarDiario() {
+        try {
+            this.diario.apagar();
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Erro ao apagar o diário da partida: " + e.getMessage());
+        }
+    }
+
+
     // Gerenciamento de Turno e IA
 
     /**
      * Verifica se é a vez da IA. Se for, aguarda um tempo e executa a jogada.
      */
     private void gerenciarTurnoIA() {
-        if (motorJogo.getJogadorAtual() instanceof JogadorIA) {
+        iniciarReplay();
+        if (motorJogo.getJogadorAtual() instanceof Decisor) {
             botaoRolarDado.setDisable(true);
             labelStatus.setText(textoVezJogador() + " (Calculando...)");
 
             // Pausa inicial de 1s para dar ritmo ao jogo
+            Cancelamento cancelamento = this.cancelamentoIA;
             PauseTransition pause = new PauseTransition(Duration.seconds(1.0));
-            pause.setOnFinished(event -> executarJogadaIA());
+            pause.setOnFinished(event -> {
+                if (!cancelamento.isCancelado()) executarJogadaIA(cancelamento);
+            });
             pause.play();
         }
+        else if (motorJogo.isMovimentoPendente()) {
+            // Vez do Humano, que já rolou antes de a partida ser interrompida: falta mover
+            aguardandoMovimentoHumano = true;
+            botaoRolarDado.setDisable(true);
+            desenharDado(motorJogo.getValorDadoAtual());
+            Jogador atual = motorJogo.getJogadorAtual();
+            labelStatus.setText(nomeJogador(atual) + " (" + atual.getCor() + ") tirou " + motorJogo.getValorDadoAtual()
+                    + "\nClique no peão para mover.");
+            ponderador.ponderar(motorJogo);
+        }
         else {
             // Vez do Humano
             botaoRolarDado.setDisable(false);
@@ -154,42 +291,19 @@ public class ControladorJogo {
     }
 
     /**
-     * Executa a logica de rolar dado e mover da IA com delays para visualização.
+     * Rola o dado da IA e pede a sua decisão em segundo plano (DecisorAssincrono), para não travar a tela,
+     * a menos que o Ponderador já a tenha decidido durante a vez do humano.
+     * Se a IA já tinha rolado (partida retomada entre a rolagem e o movimento), decide com o valor pendente.
+     * A jogada é aplicada no motor aqui, na thread do JavaFX, com delays para visualização.
+     *
+     * @param cancelamento Cancelamento desta vez da IA; se acionado, a decisão e os delays pendentes são descartados.
      */
-    private void executarJogadaIA() {
+    private void executarJogadaIA(Cancelamento cancelamento) {
         Jogador iaDaVez = motorJogo.getJogadorAtual();
 
-        try {
-            motorJogo.rolarDado();
-
-            // Visual do dado e mensagem
-            int valor = motorJogo.getValorDadoAtual();
-            desenharDado(valor);
-            labelStatus.setText("IA (" + iaDaVez.getCor() + ") tirou " + valor + " e moveu.");
-
-            // Animação para a leitura
-            PauseTransition delayLeitura = new PauseTransition(Duration.seconds(1.5));
-            delayLeitura.setOnFinished(ev1 -> {
-
-                atualizarGUI(); // Atualiza o tabuleiro
-
-                // Animação Pós movimento
-                PauseTransition delayPosMovimento = new PauseTransition(Duration.seconds(1.0));
-                delayPosMovimento.setOnFinished(ev2 -> {
-
-                    // Verifica se após o movimento o jogo encerrou
-                    if (motorJogo.getEstado() == com.ludo.jogo.game.enums.EstadoJogo.ENCERRADO) {
-                        carregarTelaVitoria();
-                    } else {
-                        // Se não venceu, segue o jogo
-                        gerenciarTurnoIA();
-                    }
-                });
-                delayPosMovimento.play();
-            });
-            delayLeitura.play();
-        }
-        catch (NenhumMovimentoPossivelException e) {
+        boolean temMovimentos = motorJogo.isMovimentoPendente() || motorJogo.rolarSemJogar();
+        Decisao ponderada = ponderador.buscar(motorJogo); // Encerra a especulação; a posição real é conhecida
+        if (!temMovimentos) {
             int valor = motorJogo.getValorDadoAtual();
             desenharDado(valor);
 
@@ -199,47 +313,137 @@ public class ControladorJogo {
             // Pausa longa (2.0s) para ler o erro antes de passar a vez
             PauseTransition pauseErro = new PauseTransition(Duration.seconds(2.0));
             pauseErro.setOnFinished(ev -> {
+                if (cancelamento.isCancelado()) return;
                 atualizarGUI();
                 gerenciarTurnoIA();
             });
             pauseErro.play();
+            return;
+        }
 
-            return; // Impede execução cascata
+        int valor = motorJogo.getValorDadoAtual();
+        desenharDado(valor);
+        labelStatus.setText("IA (" + iaDaVez.getCor() + ") tirou " + valor + ". Calculando...");
+
+        // Se a jogada foi decidida enquanto o humano pensava, a resposta sai na hora
+        CompletableFuture<Decisao> futuro = ponderada != null
+                ? CompletableFuture.completedFuture(ponderada)
+                : DecisorAssincrono.getPadrao().decidir(motorJogo, cancelamento);
+        aguardarDecisaoIA(iaDaVez, valor, futuro, cancelamento, false);
+    }
+
+    /**
+     * Espera a decisão da IA e a aplica na thread do JavaFX.
+     *
+     * @param iaDaVez A IA da vez;
+     * @param valor O valor do dado;
+     * @param futuro A decisão pedida;
+     * @param cancelamento Cancelamento desta vez da IA;
+     * @param repetida Se a decisão já foi pedida de novo porque a anterior ficou desatualizada.
+     */
+    private void aguardarDecisaoIA(Jogador iaDaVez, int valor, CompletableFuture<Decisao> futuro, Cancelamento cancelamento,
+                                   boolean repetida) {
+        futuro.whenComplete((decisao, erro) -> Platform.runLater(() -> {
+            if (cancelamento.isCancelado()) return;
+
+            if (erro != null) {
+                System.err.println("Erro IA: " + erro.getMessage());
+                aplicarJogadaIA(iaDaVez, valor, null, cancelamento, true);
+                return;
+            }
+            aplicarJogadaIA(iaDaVez, valor, decisao, cancelamento, repetida);
+        }));
+    }
+
+    /**
+     * Aplica a jogada decidida pela IA e segue o jogo depois das animações.
+     * Se a posição mudou enquanto a IA pensava, a decisão é pedida de novo (uma vez) para a posição atual;
+     * se ainda assim não servir (ou a IA falhar), a IA joga o primeiro movimento válido, para o jogo não travar.
+     *
+     * @param iaDaVez A IA que jogou;
+     * @param valor O valor do dado;
+     * @param decisao A decisão da IA (null se ela falhou);
+     * @param cancelamento Cancelamento desta vez da IA;
+     * @param repetida Se a decisão já foi pedida de novo.
+     */
+    private void aplicarJogadaIA(Jogador iaDaVez, int valor, Decisao decisao, Cancelamento cancelamento, boolean repetida) {
+        boolean aplicada;
+        try {
+            aplicada = decisao != null && decisao.aplicar(motorJogo);
         }
         catch (MovimentoInvalidoException e) {
             System.err.println("Erro IA: " + e.getMessage());
-            atualizarGUI();
-            gerenciarTurnoIA();
+            aplicada = false;
+        }
+
+        if (!aplicada) {
+            boolean vezDaIA = motorJogo.getEstado() == EstadoJogo.EM_JOGO && motorJogo.getJogadorAtual() == iaDaVez;
+            if (decisao != null && !repetida && vezDaIA && motorJogo.getNumMovimentos() > 0) {
+                aguardarDecisaoIA(iaDaVez, valor, DecisorAssincrono.getPadrao().decidir(motorJogo, cancelamento),
+                        cancelamento, true);
+                return;
+            }
+            if (!vezDaIA || !jogarPrimeiroMovimento()) {
+                atualizarGUI();
+                gerenciarTurnoIA();
+                return;
+            }
         }
+        labelStatus.setText("IA (" + iaDaVez.getCor() + ") tirou " + valor + " e moveu.");
+
+        // Animação para a leitura
+        PauseTransition delayLeitura = new PauseTransition(Duration.seconds(1.5));
+        delayLeitura.setOnFinished(ev1 -> {
+            if (cancelamento.isCancelado()) return;
+
+            atualizarGUI(); // Atualiza o tabuleiro
+
+            // Animação Pós movimento
+            PauseTransition delayPosMovimento = new PauseTransition(Duration.seconds(1.0));
+            delayPosMovimento.setOnFinished(ev2 -> {
+                if (cancelamento.isCancelado()) return;
+
+                // Verifica se após o movimento o jogo encerrou
+                if (motorJogo.getEstado() == com.ludo.jogo.game.enums.EstadoJogo.ENCERRADO) {
+                    carregarTelaVitoria();
+                } else {
+                    // Se não venceu, segue o jogo
+                    gerenciarTurnoIA();
+                }
+            });
+            delayPosMovimento.play();
+        });
+        delayLeitura.play();
     }
 
-    private void mostrarTelaVitoria(Jogador vencedor) {
+    /**
+     * Joga o primeiro movimento válido do jogador da vez, ou passa a vez se não houver nenhum (como manda a regra).
+     *
+     * @return True se um movimento foi feito.
+     */
+    private boolean jogarPrimeiroMovimento() {
+        if (motorJogo.getNumMovimentos() == 0) {
+            motorJogo.finalizarTurno();
+            return false;
+        }
+        int movimento = motorJogo.getMovimentos()[0];
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/com/ludo/jogo/gui/tela_vitoria.fxml")
-            );
-            Parent root = loader.load();
-
-            // controlador da tela de vitória
-            ControladorVitoria controladorVitoria = loader.getController();
-
-            String nome = nomeJogador(vencedor);
-            String cor  = vencedor.getCor().toString();
-
-            // AQUI: usa o mesmo nome do método que existe no ControladorVitoria
-            controladorVitoria.configurarVencedor(nome, cor);
-
-            Stage stage = (Stage) painelTabuleiro.getScene().getWindow();
-            stage.setScene(new Scene(root));
-            stage.setTitle("Vitória - Ludo");
-            stage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
+            motorJogo.tentarMoverPeao(motorJogo.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)));
         }
+        catch (MovimentoInvalidoException e) {
+            throw new IllegalStateException("Movimento da lista recusado pelo motor: " + e.getMessage(), e);
+        }
+        return true;
     }
 
-
-    // Auxiliares de Texto
+    /**
+     * Cancela a vez da IA em andamento (decisão em segundo plano e delays pendentes).
+     */
+    private void cancelarIA() {
+        this.ponderador.cancelar();
+        this.cancelamentoIA.cancelar();
+        this.cancelamentoIA = new Cancelamento();
+    }
 
     /**
      * Gera um nome amigavel para o jogador (Ex: Jogador 1, Máquina 1).
@@ -256,11 +460,11 @@ public class ControladorJogo {
         for (int i = 0; i <= idx; i++) {
             Jogador atual = lista.get(i);
             if (atual instanceof JogadorHumano) countHumanos++;
-            else if (atual instanceof JogadorIA) countIAs++;
+            else if (atual instanceof Decisor) countIAs++;
         }
 
         if (j instanceof JogadorHumano) return "Jogador " + countHumanos;
-        if (j instanceof JogadorIA) return "Máquina " + countIAs;
+        if (j instanceof Decisor) return "Máquina " + countIAs;
         return "Jogador";
     }
 
@@ -305,6 +509,7 @@ public class ControladorJogo {
             if (atual instanceof JogadorHumano) {
                 sb.append("\nClique no peão para mover.");
                 botaoRolarDado.setDisable(true);
+                ponderador.ponderar(motorJogo); // As IAs já pensam nas respostas a cada movimento possível
             }
             labelStatus.setText(sb.toString());
         }
@@ -342,7 +547,7 @@ public class ControladorJogo {
      */
     private void tratarCliqueNoPeao(Peao peao) {
         // Ignora clique se for vez da IA
-        if (motorJogo.getJogadorAtual() instanceof JogadorIA) return;
+        if (motorJogo.getJogadorAtual() instanceof Decisor) return;
 
         if (!aguardandoMovimentoHumano) {
         labelStatus.setText("Você precisa rolar o dado antes de mover um peão.");
@@ -351,6 +556,7 @@ public class ControladorJogo {
 
         try {
             motorJogo.tentarMoverPeao(peao);
+            ponderador.confirmar(motorJogo); // Descarta a especulação sobre os outros movimentos
             labelStatus.setText("Movimento realizado!");
 
             aguardandoMovimentoHumano = false;
@@ -384,8 +590,17 @@ public class ControladorJogo {
         String id = node.getId();
         int slot = Character.getNumericValue(id.charAt(id.length() - 1));
 
-        GerenciadorDePersistencia.salvarJogo(motorJogo, slot);
-        labelStatus.setText("Jogo salvo no Slot " + slot + "!");
+        // O estado é copiado agora e o arquivo é gravado em outra thread; o aviso vem quando a gravação termina
+        labelStatus.setText("Salvando no Slot " + slot + "...");
+        GravadorAssincrono.getPadrao().salvar(motorJogo, slot).whenComplete((nada, erro) -> Platform.runLater(() -> {
+            if (erro != null) {
+                Throwable causa = (erro.getCause() != null) ? erro.getCause() : erro;
+                System.err.println("Erro ao salvar o jogo: " + causa.getMessage());
+                labelStatus.setText("Erro ao salvar no Slot " + slot + "!");
+                return;
+            }
+            labelStatus.setText("Jogo salvo no Slot " + slot + "!");
+        }));
     }
 
     /**
@@ -395,7 +610,11 @@ public class ControladorJogo {
      * @throws SlotSaveIndisponivelException Se falhar ao carregar.
      */
     public void carregarDoSlot(int slot) throws SlotSaveIndisponivelException {
+        cancelarIA(); // A IA pode estar pensando sobre a partida que será substituída
+        GravadorAssincrono.getPadrao().aguardar(); // Um save pedido há pouco pode ainda estar sendo gravado
+        descartarReplay();
         this.motorJogo.carregarJogo(slot);
+        registrarNoDiario(); // O diário passa a registrar a partida carregada
         labelStatus.setText("Jogo carregado do Slot " + slot + "!");
         desenharDado(motorJogo.getValorDadoAtual());
         atualizarGUI();
@@ -413,6 +632,7 @@ public class ControladorJogo {
         String id = node.getId();
         int slot = Character.getNumericValue(id.charAt(id.length() - 1));
 
+        GravadorAssincrono.getPadrao().aguardar(); // Não deixa uma gravação pendente recriar o save apagado
         boolean apagou = GerenciadorDePersistencia.apagarSave(slot);
         if (apagou) {
             labelStatus.setText("Save do Slot " + slot + " apagado!");
@@ -429,6 +649,9 @@ public class ControladorJogo {
      */
     @FXML
     private void handleVoltar(ActionEvent event) {
+        cancelarIA();
+        descartarReplay();
+        apagarDiario();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/ludo/jogo/gui/tela_inicial.fxml"));
             Parent root = loader.load();
@@ -449,6 +672,10 @@ public class ControladorJogo {
      * Carrega a tela de vitória e exibe o vencedor.
      */
     private void carregarTelaVitoria() {
+        if (telaVitoriaCarregada) return; // Já trocou de cena (atualizarGUI também chama ao ver o jogo encerrado)
+        telaVitoriaCarregada = true;
+        salvarReplay();
+        apagarDiario();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/ludo/jogo/gui/tela_vitoria.fxml"));
             Parent root = loader.load();
@@ -476,8 +703,7 @@ public class ControladorJogo {
     private void atualizarGUI() {
         desenharTabuleiroBase();
         if (motorJogo.getEstado() == EstadoJogo.ENCERRADO) {
-            mostrarTelaVitoria(motorJogo.getJogadorAtual());
-            return;
+            carregarTelaVitoria();
         }
     }
 
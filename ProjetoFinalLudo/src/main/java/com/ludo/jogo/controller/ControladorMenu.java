@@ -12,6 +12,7 @@ import com.ludo.jogo.game.JogadorHumano;
 import com.ludo.jogo.game.JogadorIA;
 import com.ludo.jogo.game.enums.Cor;
 import com.ludo.jogo.game.exceptions.SlotSaveIndisponivelException;
+import com.ludo.jogo.persistencia.DiarioPartida;
 
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -35,6 +36,7 @@ public class ControladorMenu {
     @FXML private BorderPane rootPane;
     @FXML private VBox menuPrincipal; // definido no FXML
 
+    @FXML private Button btnContinuarPartida;
     @FXML private Button btnJogadorVsJogador;
     @FXML private Button btnJogadorVsMaquina;
     @FXML private Button btnCarregarJogo;
@@ -56,9 +58,14 @@ public class ControladorMenu {
 
     /**
      * Inicializa o controlador e configura a escalabilidade da tela.
+     * O botão "Continuar Partida" só aparece se houver uma partida interrompida para retomar.
      */
     @FXML
     public void initialize() {
+        boolean interrompida = DiarioPartida.existe(ControladorJogo.ARQUIVO_DIARIO);
+        btnContinuarPartida.setVisible(interrompida);
+        btnContinuarPartida.setManaged(interrompida);
+
         // Escala o menu conforme o tamanho da janela
         rootPane.sceneProperty().addListener((obs, oldScene, newScene) -> {
             if (newScene != null) {
@@ -72,6 +79,13 @@ public class ControladorMenu {
 
     // Menu Principal (Eventos)
 
+    /** Trata o clique no botão "Continuar Partida", retomando a partida interrompida. */
+    @FXML
+    private void onContinuarPartida() {
+        ControladorJogo.solicitarRetomada();
+        abrirTelaJogo(null);
+    }
+
     /** Trata o clique no botão "Jogador vs Jogador". */
     @FXML
     private void onJogadorVsJogador() {
@@ -0,0 +1,234 @@
+package com.ludo.jogo.game;
+
+import java.io.Serializable;
+
+/**
+ * Componentes da avaliação de posição de cada cor, mantidos incrementalmente pelo Tabuleiro.
+ * A cada peão que entra ou sai de uma posição (movimento, captura ou desfazer), apenas as casas alcançáveis a partir
+ * dela são atualizadas, então ler os componentes custa poucas somas, sem percorrer peões nem casas.
+ *
+ * Por cor, são mantidos: a soma do progresso dos peões, os peões fora da base, os que chegaram, e o perigo dos peões
+ * expostos (em casas inseguras do circuito). Uma ameaça a um peão é uma casa ocupada por um adversário que alcança
+ * a casa do peão com algum valor de dado (inclusive a saída de uma base com peões); o perigo soma, para cada peão
+ * exposto, as ameaças à sua casa e as ameaças multiplicadas pelo progresso dele.
+ *
+ * Também é mantido o mapa de perigo: para cada casa exposta e cada cor, quais faces do dado levam algum peão
+ * da cor até a casa. Daí saem, em O(1), a chance de uma cor alcançar a casa na próxima rolagem e a chance de
+ * um peão na casa ser capturado até a sua próxima vez (supondo dados independentes e sem contar as rolagens
+ * extras do 6 nem os bloqueios).
+ */
+public final class AvaliacaoIncremental implements Serializable {
+
+    // ATRIBUTOS
+
+    private static final int FACES = 6;
+    private static final int CASAS = Tabuleiro.NUM_CASAS_CIRCUITO;
+
+    private final byte[] ocupacaoPorCor = new byte[4 * Tabuleiro.NUM_POSICOES];
+    private final byte[] alcance = new byte[4 * CASAS]; // [cor * CASAS + casa]: casas da cor que alcançam a casa
+    private final byte[] alcancePorFace = new byte[4 * CASAS * FACES]; // O mesmo, separado pela face do dado
+    private final byte[] facesQueAlcancam = new byte[4 * CASAS]; // Bit f: alguma casa da cor alcança com a face f+1
+
+    private final int[] somaProgresso = new int[4];
+    private final int[] foraDaBase = new int[4];
+    private final int[] chegados = new int[4];
+    private final int[] ameacas = new int[4];
+    private final int[] progressoAmeacado = new int[4];
+
+
+    // CONSTRUTOR
+
+    /** Construtor padrao: nenhum peão no tabuleiro. */
+    public AvaliacaoIncremental() {
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a soma do progresso dos peões de uma cor.
+     * @param cor O índice da cor;
+     * @return Soma de Tabuleiro.getProgresso dos peões. */
+    public int getSomaProgresso(int cor) { return this.somaProgresso[cor]; }
+    /** Getter para os peões de uma cor fora da base.
+     * @param cor O índice da cor;
+     * @return Peões no circuito, na reta ou na chegada. */
+    public int getForaDaBase(int cor) { return this.foraDaBase[cor]; }
+    /** Getter para os peões de uma cor na chegada.
+     * @param cor O índice da cor;
+     * @return Peões que chegaram. */
+    public int getChegados(int cor) { return this.chegados[cor]; }
+    /** Getter para as ameaças aos peões expostos de uma cor.
+     * @param cor O índice da cor;
+     * @return Soma, nos peões expostos, das ameaças à casa de cada um. */
+    public int getAmeacas(int cor) { return this.ameacas[cor]; }
+    /** Getter para o progresso ameaçado de uma cor.
+     * @param cor O índice da cor;
+     * @return Soma, nos peões expostos, das ameaças à casa multiplicadas pelo progresso do peão. */
+    public int getProgressoAmeacado(int cor) { return this.progressoAmeacado[cor]; }
+
+    /**
+     * Chance de uma cor alcançar uma casa na sua próxima rolagem, com algum dos seus peões.
+     *
+     * @param atacante O índice da cor que rola o dado;
+     * @param posicao A posição lógica;
+     * @return Faces que alcançam a casa / 6 (0 para casas seguras e fora do circuito).
+     */
+    public double getChanceDeAlcance(int atacante, int posicao) {
+        if (!isExposta(posicao)) return 0;
+        return Integer.bitCount(this.facesQueAlcancam[atacante * CASAS + posicao]) / (double) FACES;
+    }
+
+    /**
+     * Chance de um peão de uma cor em uma posição ser capturado antes da sua próxima vez,
+     * combinando a chance de alcance de cada adversário.
+     *
+     * @param cor O índice da cor do peão;
+     * @param posicao A posição lógica;
+     * @return 1 - produto de (1 - chance de alcance) dos adversários (0 para casas seguras e fora do circuito).
+     */
+    public double getPerigo(int cor, int posicao) {
+        if (!isExposta(posicao)) return 0;
+
+        double escapa = 1;
+        for (int outra = 0; outra < 4; outra++) {
+            if (outra == cor) continue;
+            escapa *= 1 - Integer.bitCount(this.facesQueAlcancam[outra * CASAS + posicao]) / (double) FACES;
+        }
+        return 1 - escapa;
+    }
+
+    // Principais
+
+    /**
+     * Calcula os componentes do zero, a partir das posições dos peões registrados em um tabuleiro.
+     * O Tabuleiro não precisa disso (ele mantém a sua avaliação a cada movimento); serve para conferência.
+     *
+     * @param tabuleiro O tabuleiro;
+     * @return Uma avaliação nova, com os mesmos componentes que a do tabuleiro deveria ter.
+     */
+    public static AvaliacaoIncremental calcular(Tabuleiro tabuleiro) {
+        AvaliacaoIncremental avaliacao = new AvaliacaoIncremental();
+        for (int id = 0; id < Tabuleiro.MAX_PEOES; id++) {
+            if (tabuleiro.getPeao(id) != null) avaliacao.adicionar(id / 4, tabuleiro.getPosicao(id));
+        }
+        return avaliacao;
+    }
+
+    /**
+     * Conta um peão que entrou em uma posição.
+     *
+     * @param cor O índice da cor do peão;
+     * @param posicao A posição lógica.
+     */
+    void adicionar(int cor, int posicao) {
+        int progresso = Tabuleiro.getProgresso(cor, posicao);
+        if (progresso > 0) {
+            this.somaProgresso[cor] += progresso;
+            this.foraDaBase[cor]++;
+            if (posicao == Tabuleiro.posicaoChegada(cor)) this.chegados[cor]++;
+        }
+
+        if (isExposta(posicao)) {
+            int ameacasNaCasa = ameacasA(cor, posicao);
+            this.ameacas[cor] += ameacasNaCasa;
+            this.progressoAmeacado[cor] += ameacasNaCasa * progresso;
+        }
+
+        // A primeira ocupação da casa pela cor passa a ameaçar as casas alcançáveis a partir dela
+        if (this.ocupacaoPorCor[cor * Tabuleiro.NUM_POSICOES + posicao]++ == 0) atualizarAlcance(cor, posicao, 1);
+    }
+
+    /**
+     * Desconta um peão que saiu de uma posição (inverso de adicionar).
+     *
+     * @param cor O índice da cor do peão;
+     * @param posicao A posição lógica.
+     */
+    void remover(int cor, int posicao) {
+        if (--this.ocupacaoPorCor[cor * Tabuleiro.NUM_POSICOES + posicao] == 0) atualizarAlcance(cor, posicao, -1);
+
+        int progresso = Tabuleiro.getProgresso(cor, posicao);
+        if (progresso > 0) {
+            this.somaProgresso[cor] -= progresso;
+            this.foraDaBase[cor]--;
+            if (posicao == Tabuleiro.posicaoChegada(cor)) this.chegados[cor]--;
+        }
+
+        if (isExposta(posicao)) {
+            int ameacasNaCasa = ameacasA(cor, posicao);
+            this.ameacas[cor] -= ameacasNaCasa;
+            this.progressoAmeacado[cor] -= ameacasNaCasa * progresso;
+        }
+    }
+
+    // Auxiliares
+
+    /**
+     * Soma (ou subtrai) o alcance de uma casa da cor e atualiza o perigo dos peões adversários nas casas alcançadas.
+     *
+     * @param cor O índice da cor que ocupou (ou desocupou) a casa;
+     * @param origem A posição lógica ocupada;
+     * @param sinal 1 ao ocupar, -1 ao desocupar.
+     */
+    private void atualizarAlcance(int cor, int origem, int sinal) {
+        // Da reta final e da chegada não se alcança o circuito
+        if (Tabuleiro.isPosicaoRetaFinal(origem)) return;
+
+        for (int valorDado = 1; valorDado <= FACES; valorDado++) {
+            int alvo = Tabuleiro.getDestino(cor, origem, valorDado);
+            if (!isExposta(alvo)) continue;
+
+            this.alcance[cor * CASAS + alvo] += (byte) sinal;
+            atualizarFace(cor, alvo, valorDado, sinal);
+            for (int outra = 0; outra < 4; outra++) {
+                int peoes = outra == cor ? 0 : this.ocupacaoPorCor[outra * Tabuleiro.NUM_POSICOES + alvo];
+                if (peoes == 0) continue;
+
+                this.ameacas[outra] += sinal * peoes;
+                this.progressoAmeacado[outra] += sinal * peoes * Tabuleiro.getProgresso(outra, alvo);
+            }
+        }
+    }
+
+    /**
+     * Soma (ou subtrai) uma casa de origem no alcance de uma face e atualiza a máscara de faces da casa alvo.
+     *
+     * @param cor O índice da cor;
+     * @param alvo A casa alcançada;
+     * @param valorDado A face do dado;
+     * @param sinal 1 ao ocupar, -1 ao desocupar.
+     */
+    private void atualizarFace(int cor, int alvo, int valorDado, int sinal) {
+        int indice = cor * CASAS + alvo;
+        int origens = this.alcancePorFace[indice * FACES + valorDado - 1] += (byte) sinal;
+        int bit = 1 << (valorDado - 1);
+        if (origens == 0) this.facesQueAlcancam[indice] &= (byte) ~bit;
+        else this.facesQueAlcancam[indice] |= (byte) bit;
+    }
+
+    /**
+     * Conta as ameaças a uma casa para os peões de uma cor.
+     *
+     * @param cor O índice da cor ameaçada;
+     * @param posicao A casa (do circuito);
+     * @return Quantas casas adversárias alcançam a casa.
+     */
+    private int ameacasA(int cor, int posicao) {
+        int total = 0;
+        for (int outra = 0; outra < 4; outra++) {
+            if (outra != cor) total += this.alcance[outra * CASAS + posicao];
+        }
+        return total;
+    }
+
+    /**
+     * Verifica se um peão na posição pode ser capturado (circuito, fora das estrelas).
+     *
+     * @param posicao A posição lógica;
+     * @return True se a casa é exposta.
+     */
+    private static boolean isExposta(int posicao) {
+        return Tabuleiro.isPosicaoCircuito(posicao) && !Tabuleiro.isPosicaoSegura(posicao);
+    }
+}
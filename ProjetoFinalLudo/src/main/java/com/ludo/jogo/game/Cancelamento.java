@@ -0,0 +1,48 @@
+package com.ludo.jogo.game;
+
+/**
+ * Sinal de cancelamento de uma decisão de IA em andamento.
+ * Quem pediu a decisão chama cancelar() (por exemplo, ao sair da partida ou carregar um save),
+ * e as buscas consultam isCancelado() junto com a checagem de tempo, encerrando o quanto antes.
+ */
+public final class Cancelamento {
+
+    // ATRIBUTOS
+
+    /** Cancelamento que nunca é acionado, para decisões síncronas. */
+    public static final Cancelamento NENHUM = new Cancelamento(false);
+
+    private final boolean cancelavel;
+    private volatile boolean cancelado;
+
+
+    // CONSTRUTOR
+
+    /** Construtor padrao: um novo sinal, ainda não acionado. */
+    public Cancelamento() {
+        this(true);
+    }
+
+    /**
+     * Construtor auxiliar.
+     *
+     * @param cancelavel Se false, cancelar() não tem efeito.
+     */
+    private Cancelamento(boolean cancelavel) {
+        this.cancelavel = cancelavel;
+    }
+
+
+    // MÉTODOS
+
+    /** Getter para o estado do sinal.
+     * @return True se cancelar() já foi chamado. */
+    public boolean isCancelado() { return this.cancelado; }
+
+    /**
+     * Aciona o sinal. Pode ser chamado de qualquer thread, mais de uma vez.
+     */
+    public void cancelar() {
+        if (this.cancelavel) this.cancelado = true;
+    }
+}
@@ -10,6 +10,7 @@ public abstract class Casa implements Serializable {
     // ATRIBUTOS
 
     protected List<Peao> peoesNaCasa;
+    private int indice;
 
 
     // CONSTRUTOR
@@ -17,6 +18,7 @@ public abstract class Casa implements Serializable {
     /** Construtor padrao que inicializa a lista de peoes. */
     public Casa() {
         this.peoesNaCasa = new ArrayList<>();
+        this.indice = -1;
     }
 
 
@@ -29,6 +31,12 @@ public abstract class Casa implements Serializable {
      * @return Retorna a lista de peões na casa.
      */
     public List<Peao> getPeoes() { return this.peoesNaCasa; }
+    /**
+     * Getter para a posição lógica da casa no tabuleiro.
+     *
+     * @return Retorna o índice da casa no Tabuleiro, ou -1 se a casa não pertence a nenhum tabuleiro.
+     */
+    public int getIndice() { return this.indice; }
 
     /**
      * (Abstrato) Retorna true se for um abrigo.
@@ -37,6 +45,14 @@ public abstract class Casa implements Serializable {
      */
     public abstract boolean isCasaSegura();
 
+    // Setters
+    /**
+     * Setter usado pelo Tabuleiro ao montar as casas.
+     *
+     * @param indice A posição lógica da casa no tabuleiro.
+     */
+    void setIndice(int indice) { this.indice = indice; }
+
     // Principais
     /**
      * Adiciona um Peao na lista de peões da casa.
@@ -1,51 +1,72 @@
 package com.ludo.jogo.game;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import com.ludo.jogo.game.enums.Cor;
 
-/** Armazena a configuração escolhida no menu (tipos de jogador e cores) para ser usada ao iniciar o MotorJogo. */
+/**
+ * Configuração de uma partida (tipos de jogador e cores), usada para iniciar o MotorJogo.
+ * Cada instância é imutável, então várias partidas (por exemplo, em simulações paralelas) podem ter a sua.
+ * A configuração escolhida no menu fica guardada em getConfiguracaoAtual().
+ */
 public class ConfigJogo {
 
     // ATRIBUTOS
 
-    private static List<Class<? extends Jogador>> tiposJogadores = new ArrayList<>();
-    private static List<Cor> coresJogadores = new ArrayList<>();
+    private static volatile ConfigJogo configuracaoAtual = new ConfigJogo(List.of(), List.of());
 
+    private final List<Class<? extends Jogador>> tipos;
+    private final List<Cor> cores;
 
-    // MÉTODOS
 
-    // Setters / Configuração
+    // CONSTRUTOR
 
     /**
-     * Define as configurações da próxima partida.
+     * Cria uma configuração de partida.
      *
-     * @param tipos Lista contendo as classes dos jogadores (Humano ou IA).
+     * @param tipos Lista contendo as classes dos jogadores (Humano ou IA);
      * @param cores Lista contendo as cores selecionadas para cada jogador.
      */
-    public static void configurar(List<Class<? extends Jogador>> tipos, List<Cor> cores) {
-        tiposJogadores = new ArrayList<>(tipos);
-        coresJogadores = new ArrayList<>(cores);
+    public ConfigJogo(List<Class<? extends Jogador>> tipos, List<Cor> cores) {
+        this.tipos = List.copyOf(tipos);
+        this.cores = List.copyOf(cores);
     }
 
+
+    // MÉTODOS
+
     // Getters
 
     /**
-     * Retorna a lista de tipos de jogadores configurada.
+     * Retorna a lista de tipos de jogadores.
      *
-     * @return Lista de classes que estendem Jogador.
+     * @return Lista (imutável) de classes que estendem Jogador.
      */
-    public static List<Class<? extends Jogador>> getTiposJogadores() {
-        return tiposJogadores;
-    }
+    public List<Class<? extends Jogador>> getTipos() { return this.tipos; }
 
     /**
-     * Retorna a lista de cores configurada.
+     * Retorna a lista de cores.
      *
-     * @return Lista de enums Cor.
+     * @return Lista (imutável) de enums Cor.
      */
-    public static List<Cor> getCoresJogadores() {
-        return coresJogadores;
+    public List<Cor> getCores() { return this.cores; }
+
+    /**
+     * Retorna a configuração escolhida no menu para a próxima partida.
+     *
+     * @return A configuração atual (vazia se nada foi escolhido).
+     */
+    public static ConfigJogo getConfiguracaoAtual() { return configuracaoAtual; }
+
+    // Setters / Configuração
+
+    /**
+     * Define as configurações da próxima partida iniciada pela GUI.
+     *
+     * @param tipos Lista contendo as classes dos jogadores (Humano ou IA).
+     * @param cores Lista contendo as cores selecionadas para cada jogador.
+     */
+    public static void configurar(List<Class<? extends Jogador>> tipos, List<Cor> cores) {
+        configuracaoAtual = new ConfigJogo(tipos, cores);
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,239 @@
 package com.ludo.jogo.game;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
-/** Classe que simula um dado. */
+/**
+ * Classe que simula um dado.
+ * Os valores vêm de um RandomGenerator criado a partir de um algoritmo e de uma semente, então
+ * uma partida pode ser reproduzida exatamente a partir da semente do seu dado.
+ */
 public class Dado implements Serializable {
 
+    // ATRIBUTOS
+
+    /** Algoritmo padrão: pequeno e rápido. As sementes de partidas em lote são derivadas por hash (derivarSemente)
+     * e, ao recriar o dado no meio da partida, o gerador pula adiante em O(log n) (GeradorLXM). */
+    public static final String ALGORITMO_PADRAO = "L64X128MixRandom";
+
+    private final String algoritmo;
+    private final long semente;
+    private long sorteios;
+
+    // O algoritmo padrão usa GeradorLXM, cujo estado é serializado e pula adiante em O(log n). Os geradores dos
+    // outros algoritmos não são serializáveis: ao carregar, são recriados e avançados "sorteios" vezes
+    private transient RandomGenerator gerador;
+
+
     // CONSTRUTOR
 
-    /** Construtor padrao. */
-    public Dado() { }
+    /** Construtor padrao: semente aleatória, com o algoritmo padrão. */
+    public Dado() {
+        this(ALGORITMO_PADRAO, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Cria um dado reproduzível com o algoritmo padrão.
+     *
+     * @param semente A semente do gerador.
+     */
+    public Dado(long semente) {
+        this(ALGORITMO_PADRAO, semente);
+    }
+
+    /**
+     * Cria um dado reproduzível com um algoritmo escolhido.
+     *
+     * @param algoritmo Nome de um algoritmo de java.util.random (ex: "L64X128MixRandom", "SplittableRandom");
+     * @param semente A semente do gerador.
+     */
+    public Dado(String algoritmo, long semente) {
+        this.algoritmo = algoritmo;
+        this.semente = semente;
+        this.gerador = criarGerador(algoritmo, semente);
+    }
+
+    /**
+     * Recria um dado no ponto da sequência em que estava, por exemplo ao carregar um jogo salvo.
+     * Com o algoritmo padrão custa O(log sorteios); com os outros, O(sorteios).
+     *
+     * @param algoritmo Nome de um algoritmo de java.util.random;
+     * @param semente A semente do gerador;
+     * @param sorteios Quantidade de sorteios já feitos (ver getSorteios).
+     * @throws IllegalArgumentException Se sorteios for negativo.
+     */
+    public Dado(String algoritmo, long semente, long sorteios) {
+        this(algoritmo, semente);
+        if (sorteios < 0) throw new IllegalArgumentException("Quantidade de sorteios negativa: " + sorteios);
+        avancarGerador(sorteios);
+        this.sorteios = sorteios;
+    }
 
 
     // MÉTODOS
 
+    // Getters
+    /** Getter para o algoritmo do gerador.
+     * @return Nome do algoritmo. */
+    public String getAlgoritmo() { return this.algoritmo; }
+    /** Getter para a semente.
+     * @return A semente com que o dado foi criado. */
+    public long getSemente() { return this.semente; }
+    /** Getter para a quantidade de sorteios feitos desde a criação.
+     * @return Sorteios (rolagens e desempates). */
+    public long getSorteios() { return this.sorteios; }
+
+    // Principais
+
     /**
      * Simula a rolagem de um dado.
      *
      * @return Retorna um número inteiro entre 1 e 6.
      */
-    public int rolar() { return (int) (Math.random() * 6 + 1); }
-}
\ No newline at end of file
+    public int rolar() { return 1 + sortear(6); }
+
+    /**
+     * Rola o dado várias vezes de uma vez.
+     *
+     * @param valores Vetor onde os valores serão escritos;
+     * @param inicio Primeira posição a preencher;
+     * @param quantidade Quantidade de rolagens.
+     */
+    public void rolar(int[] valores, int inicio, int quantidade) {
+        for (int i = inicio; i < inicio + quantidade; i++) {
+            valores[i] = 1 + sortear(6);
+        }
+    }
+
+    /**
+     * Rola o dado várias vezes de uma vez.
+     *
+     * @param quantidade Quantidade de rolagens;
+     * @return Vetor com os valores (1 a 6).
+     */
+    public int[] rolar(int quantidade) {
+        int[] valores = new int[quantidade];
+        rolar(valores, 0, quantidade);
+        return valores;
+    }
+
+    /**
+     * Sorteia um índice usando o mesmo gerador do dado (usado pelas IAs em desempates),
+     * para que toda a partida dependa só da semente.
+     *
+     * @param limite Quantidade de opções (maior que 0);
+     * @return Um inteiro entre 0 e limite - 1.
+     */
+    public int sortearIndice(int limite) { return sortear(limite); }
+
+    /**
+     * Avança o dado como se tivessem sido feitos outros sorteios, sem usar os valores.
+     * Usado quando uma decisão feita sobre uma cópia do motor consumiu sorteios (desempates) no dado da cópia,
+     * e por replays, que refazem os desempates sem as IAs.
+     *
+     * @param quantidade Quantidade de sorteios a pular.
+     */
+    public void avancar(long quantidade) {
+        if (quantidade <= 0) return;
+        avancarGerador(quantidade);
+        this.sorteios += quantidade;
+    }
+
+    /**
+     * Cria um dado independente para a partida de índice informado (ex: em simulações paralelas).
+     * O dado derivado depende apenas da semente deste dado e do índice, não da ordem em que é criado.
+     *
+     * @param indice Índice da partida;
+     * @return Um novo dado com o mesmo algoritmo.
+     */
+    public Dado derivar(long indice) {
+        return new Dado(this.algoritmo, derivarSemente(this.semente, indice));
+    }
+
+    /**
+     * Calcula a semente da partida de índice informado a partir de uma semente base.
+     *
+     * @param sementeBase Semente do lote;
+     * @param indice Índice da partida;
+     * @return Semente da partida.
+     */
+    public static long derivarSemente(long sementeBase, long indice) {
+        return new SplittableRandom(sementeBase ^ (indice * 0x9E3779B97F4A7C15L)).nextLong();
+    }
+
+    /**
+     * Sorteia um inteiro em [0, limite). Cada sorteio consome exatamente um nextLong do gerador,
+     * o que permite recriar o estado do gerador apenas contando os sorteios.
+     *
+     * @param limite Quantidade de opções;
+     * @return O valor sorteado.
+     */
+    private int sortear(int limite) {
+        this.sorteios++;
+        return (int) (((gerador.nextLong() >>> 32) * limite) >>> 32);
+    }
+
+    /**
+     * Avança o gerador sem contar os sorteios: pula direto no algoritmo padrão, ou descarta os valores nos outros.
+     *
+     * @param quantidade Quantidade de valores a pular.
+     */
+    private void avancarGerador(long quantidade) {
+        if (this.gerador instanceof GeradorLXM lxm) {
+            lxm.pular(quantidade);
+            return;
+        }
+        for (long i = 0; i < quantidade; i++) this.gerador.nextLong();
+    }
+
+    /**
+     * Cria o gerador do algoritmo informado.
+     *
+     * @param algoritmo Nome do algoritmo;
+     * @param semente A semente;
+     * @return O gerador.
+     */
+    private static RandomGenerator criarGerador(String algoritmo, long semente) {
+        if (ALGORITMO_PADRAO.equals(algoritmo)) return new GeradorLXM(semente);
+        try {
+            return RandomGeneratorFactory.of(algoritmo).create(semente);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Algoritmo de números aleatórios desconhecido: " + algoritmo, e);
+        }
+    }
+
+    /**
+     * Grava o estado do gerador junto com o dado, quando ele é serializável (algoritmo padrão).
+     *
+     * @param out Fluxo de saída;
+     * @throws IOException Se houver erro de escrita.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(this.gerador instanceof GeradorLXM ? this.gerador : null);
+    }
+
+    /**
+     * Recria o gerador no mesmo ponto da sequência: direto do estado gravado, ou refazendo os sorteios.
+     *
+     * @param in Fluxo de entrada;
+     * @throws IOException Se houver erro de leitura;
+     * @throws ClassNotFoundException Se uma classe do fluxo não existir.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (in.readObject() instanceof GeradorLXM lxm) {
+            this.gerador = lxm;
+            return;
+        }
+        this.gerador = criarGerador(this.algoritmo, this.semente);
+        avancarGerador(this.sorteios);
+    }
+}
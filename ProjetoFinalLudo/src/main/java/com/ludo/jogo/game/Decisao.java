@@ -0,0 +1,64 @@
+package com.ludo.jogo.game;
+
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Resultado de uma decisão de IA feita sobre uma cópia do motor (ver DecisorAssincrono).
+ * Guarda a posição para a qual foi decidida, para não ser aplicada a um motor que mudou nesse meio tempo,
+ * e os sorteios que a decisão consumiu do dado da cópia, para manter o dado do motor na mesma sequência.
+ */
+public final class Decisao {
+
+    // ATRIBUTOS
+
+    private final int movimento;
+    private final long hashPosicao;
+    private final long sorteiosDoDado;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param movimento O movimento escolhido (codificado);
+     * @param hashPosicao O hash (MotorJogo.getHash) da posição em que a decisão foi pedida;
+     * @param sorteiosDoDado Sorteios do dado consumidos pela decisão.
+     */
+    public Decisao(int movimento, long hashPosicao, long sorteiosDoDado) {
+        this.movimento = movimento;
+        this.hashPosicao = hashPosicao;
+        this.sorteiosDoDado = sorteiosDoDado;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para o movimento escolhido.
+     * @return O movimento codificado (ver Tabuleiro.codificarMovimento). */
+    public int getMovimento() { return this.movimento; }
+    /** Getter para o hash da posição da decisão.
+     * @return O hash do motor quando a decisão foi pedida. */
+    public long getHashPosicao() { return this.hashPosicao; }
+    /** Getter para os sorteios consumidos.
+     * @return Sorteios do dado feitos durante a decisão. */
+    public long getSorteiosDoDado() { return this.sorteiosDoDado; }
+
+    // Principais
+
+    /**
+     * Aplica a decisão ao motor, como se o jogador da vez tivesse feito a jogada.
+     *
+     * @param motor O motor (o mesmo de onde a cópia foi feita);
+     * @return True se aplicou; false se o motor não está mais na posição da decisão (nada é alterado).
+     * @throws MovimentoInvalidoException Se o movimento não for válido no motor.
+     */
+    public boolean aplicar(MotorJogo motor) throws MovimentoInvalidoException {
+        if (motor.getHash() != this.hashPosicao) return false;
+
+        motor.getDado().avancar(this.sorteiosDoDado);
+        motor.tentarMoverPeao(motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(this.movimento)));
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ludo.jogo.game;
+
+/** Interface dos jogadores automáticos que sabem escolher uma jogada sem executá-la. */
+public interface Decisor {
+
+    // MÉTODOS
+
+    /**
+     * Escolhe o movimento do jogador da vez para o dado atual, sem alterar o estado visível do motor
+     * (buscas podem aplicar e desfazer jogadas, mas devolvem o motor como receberam).
+     *
+     * @param valorDado O valor do dado rolado;
+     * @param cancelamento Sinal para interromper a escolha; ao ser acionado, o método retorna o quanto antes;
+     * @return O movimento codificado (ver Tabuleiro.codificarMovimento), ou POSICAO_INVALIDA se não há movimentos.
+     */
+    int escolherMovimento(int valorDado, Cancelamento cancelamento);
+
+    /**
+     * Reaproveita caches de outro decisor do mesmo jogador (por exemplo, de quem está em uma cópia do motor).
+     * Por padrão, não faz nada.
+     *
+     * @param original O decisor cujo estado pode ser reaproveitado.
+     */
+    default void reaproveitarDe(Decisor original) { }
+}
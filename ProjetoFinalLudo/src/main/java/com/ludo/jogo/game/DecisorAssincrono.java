@@ -0,0 +1,95 @@
+package com.ludo.jogo.game;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executa as decisões das IAs fora da thread que as pede (na GUI, a thread do JavaFX).
+ * A decisão é feita sobre uma cópia do motor, tirada no momento do pedido: o motor original pode continuar
+ * sendo lido e desenhado enquanto a IA pensa. O resultado volta em um CompletableFuture e deve ser aplicado
+ * ao motor original pela mesma thread que o usa (ver Decisao.aplicar).
+ */
+public final class DecisorAssincrono implements AutoCloseable {
+
+    // ATRIBUTOS
+
+    private static final DecisorAssincrono PADRAO = new DecisorAssincrono(Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "ludo-ia");
+        thread.setDaemon(true); // Não impede o fim da aplicação
+        return thread;
+    }));
+
+    private final ExecutorService executor;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param executor Executor onde as decisões rodam.
+     */
+    public DecisorAssincrono(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+
+    // MÉTODOS
+
+    /**
+     * Retorna o decisor compartilhado, com uma thread daemon.
+     *
+     * @return O decisor padrão.
+     */
+    public static DecisorAssincrono getPadrao() { return PADRAO; }
+
+    /**
+     * Pede a decisão do jogador da vez para o dado já rolado.
+     * Deve ser chamado pela thread dona do motor; a cópia é feita antes de retornar.
+     *
+     * @param motor O motor, com o dado rolado e movimentos disponíveis;
+     * @param cancelamento Sinal que interrompe a decisão; se acionado, o futuro termina com CancellationException;
+     * @return O futuro com a decisão.
+     * @throws IllegalArgumentException Se o jogador da vez não é um Decisor.
+     */
+    public CompletableFuture<Decisao> decidir(MotorJogo motor, Cancelamento cancelamento) {
+        if (!(motor.getJogadorAtual() instanceof Decisor original)) {
+            throw new IllegalArgumentException("O jogador da vez não decide sozinho: " + motor.getJogadorAtual());
+        }
+
+        long hash = motor.getHash();
+        MotorJogo copia = motor.copiar();
+        Decisor decisor = (Decisor) copia.getJogadorAtual();
+        decisor.reaproveitarDe(original);
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (cancelamento.isCancelado()) throw new CancellationException("Decisão cancelada.");
+
+            long sorteiosAntes = copia.getDado().getSorteios();
+            int movimento = decisor.escolherMovimento(copia.getValorDadoAtual(), cancelamento);
+            if (cancelamento.isCancelado()) throw new CancellationException("Decisão cancelada.");
+
+            return new Decisao(movimento, hash, copia.getDado().getSorteios() - sorteiosAntes);
+        }, this.executor);
+    }
+
+    /**
+     * Executa uma tarefa no mesmo executor das decisões (usado pelo Ponderador), na fila depois das já pedidas.
+     *
+     * @param tarefa A tarefa;
+     * @return O futuro da tarefa.
+     */
+    CompletableFuture<Void> executar(Runnable tarefa) {
+        return CompletableFuture.runAsync(tarefa, this.executor);
+    }
+
+    /**
+     * Encerra o executor, interrompendo as decisões em andamento.
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+}
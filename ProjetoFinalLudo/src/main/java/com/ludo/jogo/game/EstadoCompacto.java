@@ -0,0 +1,249 @@
+package com.ludo.jogo.game;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Cópia compacta do estado de uma partida (posições dos peões, jogador da vez e vencedor), sem Casa, Peao nem Jogador.
+ * Segue as mesmas regras do MotorJogo/Tabuleiro, mas copiar o estado custa apenas alguns System.arraycopy,
+ * o que permite jogar milhares de partidas simuladas (rollouts) por segundo nas buscas das IAs.
+ * Os movimentos usam a mesma codificação de Tabuleiro.codificarMovimento.
+ */
+public final class EstadoCompacto {
+
+    // ATRIBUTOS
+
+    private final byte[] posicoes = new byte[Tabuleiro.MAX_PEOES];
+    private final byte[] ocupacao = new byte[Tabuleiro.NUM_POSICOES];
+    private final int[] coresAssentos = new int[4];
+    private final int[] chegados = new int[4];
+    private int numJogadores;
+    private int assentoDaVez;
+    private int vencedor;
+
+
+    // CONSTRUTOR
+
+    /** Construtor padrao: estado vazio, a ser preenchido por carregar() ou copiarDe(). */
+    public EstadoCompacto() {
+        this.vencedor = -1;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a quantidade de jogadores.
+     * @return Jogadores na partida. */
+    public int getNumJogadores() { return this.numJogadores; }
+    /** Getter para o assento (ordem de jogada) do jogador da vez.
+     * @return Índice do jogador da vez em MotorJogo.getJogadores(). */
+    public int getAssentoDaVez() { return this.assentoDaVez; }
+    /** Getter para o vencedor.
+     * @return Assento do vencedor, ou -1 se a partida não terminou. */
+    public int getVencedor() { return this.vencedor; }
+    /** Getter para a cor de um assento.
+     * @param assento Índice do assento;
+     * @return O índice da cor (ordinal de Cor). */
+    public int getCorAssento(int assento) { return this.coresAssentos[assento]; }
+    /** Getter para a posição de um peão.
+     * @param id O id do peão (cor * 4 + k);
+     * @return A posição lógica, ou POSICAO_INVALIDA se a cor não está na partida. */
+    public int getPosicao(int id) { return this.posicoes[id]; }
+
+    // Principais
+
+    /**
+     * Copia o estado atual de um motor.
+     *
+     * @param motor O motor com a partida.
+     */
+    public void carregar(MotorJogo motor) {
+        Tabuleiro tabuleiro = motor.getTabuleiro();
+        List<Jogador> jogadores = motor.getJogadores();
+
+        Arrays.fill(this.posicoes, (byte) Tabuleiro.POSICAO_INVALIDA);
+        Arrays.fill(this.ocupacao, (byte) 0);
+        Arrays.fill(this.chegados, 0);
+
+        this.numJogadores = jogadores.size();
+        for (int assento = 0; assento < numJogadores; assento++) {
+            int cor = jogadores.get(assento).getCor().ordinal();
+            this.coresAssentos[assento] = cor;
+
+            for (Peao peao : jogadores.get(assento).getPeoes()) {
+                int id = peao.getId();
+                int posicao = tabuleiro.getPosicao(id);
+                this.posicoes[id] = (byte) posicao;
+                this.ocupacao[posicao]++;
+                if (posicao == Tabuleiro.posicaoChegada(cor)) this.chegados[cor]++;
+            }
+        }
+
+        this.assentoDaVez = jogadores.indexOf(motor.getJogadorAtual());
+        this.vencedor = motor.getEstado() == EstadoJogo.ENCERRADO ? this.assentoDaVez : -1;
+    }
+
+    /**
+     * Copia outro estado compacto, sem alocar memória.
+     *
+     * @param outro O estado a copiar.
+     */
+    public void copiarDe(EstadoCompacto outro) {
+        System.arraycopy(outro.posicoes, 0, this.posicoes, 0, this.posicoes.length);
+        System.arraycopy(outro.ocupacao, 0, this.ocupacao, 0, this.ocupacao.length);
+        System.arraycopy(outro.coresAssentos, 0, this.coresAssentos, 0, this.coresAssentos.length);
+        System.arraycopy(outro.chegados, 0, this.chegados, 0, this.chegados.length);
+        this.numJogadores = outro.numJogadores;
+        this.assentoDaVez = outro.assentoDaVez;
+        this.vencedor = outro.vencedor;
+    }
+
+    /**
+     * Gera os movimentos válidos do jogador da vez, com as mesmas regras de Tabuleiro.gerarMovimentos.
+     *
+     * @param valorDado O valor do dado;
+     * @param movimentos Vetor com ao menos MAX_MOVIMENTOS posições;
+     * @return A quantidade de movimentos gerados.
+     */
+    public int gerarMovimentos(int valorDado, int[] movimentos) {
+        int cor = this.coresAssentos[this.assentoDaVez];
+        int chegada = Tabuleiro.posicaoChegada(cor);
+        int quantidade = 0;
+
+        for (int id = cor * 4; id < cor * 4 + 4; id++) {
+            int posicao = this.posicoes[id];
+            if (posicao == chegada) continue;
+
+            int destino = Tabuleiro.getDestino(cor, posicao, valorDado);
+            if (destino != Tabuleiro.POSICAO_INVALIDA && !isBloqueio(destino)) {
+                movimentos[quantidade++] = Tabuleiro.codificarMovimento(id, destino);
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Aplica um movimento do jogador da vez: move, captura, verifica vitória e passa a vez (exceto com 6).
+     *
+     * @param movimento O movimento codificado;
+     * @param valorDado O valor do dado usado.
+     */
+    public void aplicar(int movimento, int valorDado) {
+        int id = Tabuleiro.idPeaoDoMovimento(movimento);
+        int destino = Tabuleiro.destinoDoMovimento(movimento);
+        int cor = id / 4;
+
+        this.ocupacao[this.posicoes[id]]--;
+        if (isCapturaPossivel(cor, destino)) capturar(destino);
+        this.posicoes[id] = (byte) destino;
+        this.ocupacao[destino]++;
+
+        if (destino == Tabuleiro.posicaoChegada(cor) && ++this.chegados[cor] == 4) {
+            this.vencedor = this.assentoDaVez;
+            return;
+        }
+        passarVez(valorDado);
+    }
+
+    /**
+     * Passa a vez quando o jogador não tem movimentos (com 6, joga de novo, como no MotorJogo).
+     *
+     * @param valorDado O valor do dado rolado.
+     */
+    public void passarVez(int valorDado) {
+        if (valorDado != 6) this.assentoDaVez = (this.assentoDaVez + 1) % this.numJogadores;
+    }
+
+    /**
+     * Joga a partida até o fim com uma política rápida: captura quando possível, senão um movimento aleatório.
+     *
+     * @param gerador Gerador de números aleatórios (dado e escolhas);
+     * @param primeiroDado Valor do dado já rolado para o jogador da vez, ou 0 para rolar;
+     * @param limiteTurnos Quantidade máxima de rolagens;
+     * @param movimentos Vetor auxiliar com ao menos MAX_MOVIMENTOS posições;
+     * @return O assento do vencedor, ou -1 se o limite de turnos foi atingido.
+     */
+    public int jogarAteOFim(RandomGenerator gerador, int primeiroDado, int limiteTurnos, int[] movimentos) {
+        int valorDado = primeiroDado;
+        for (int turno = 0; turno < limiteTurnos && this.vencedor < 0; turno++) {
+            if (valorDado == 0) valorDado = 1 + gerador.nextInt(6);
+
+            int quantidade = gerarMovimentos(valorDado, movimentos);
+            if (quantidade == 0) {
+                passarVez(valorDado);
+            }
+            else {
+                aplicar(movimentos[escolherMovimento(gerador, movimentos, quantidade)], valorDado);
+            }
+            valorDado = 0;
+        }
+        return this.vencedor;
+    }
+
+    /**
+     * Política dos rollouts: a primeira captura disponível, senão um movimento aleatório.
+     *
+     * @param gerador Gerador de números aleatórios;
+     * @param movimentos Os movimentos;
+     * @param quantidade Quantidade de movimentos;
+     * @return O índice do movimento escolhido.
+     */
+    private int escolherMovimento(RandomGenerator gerador, int[] movimentos, int quantidade) {
+        if (quantidade == 1) return 0;
+
+        int cor = this.coresAssentos[this.assentoDaVez];
+        for (int i = 0; i < quantidade; i++) {
+            if (isCapturaPossivel(cor, Tabuleiro.destinoDoMovimento(movimentos[i]))) return i;
+        }
+        return gerador.nextInt(quantidade);
+    }
+
+    /**
+     * Verifica se uma posição está bloqueada (dois ou mais peões em uma casa do circuito, ou na base).
+     *
+     * @param posicao A posição lógica;
+     * @return True se nenhum peão pode parar nela.
+     */
+    private boolean isBloqueio(int posicao) {
+        return !Tabuleiro.isPosicaoRetaFinal(posicao) && this.ocupacao[posicao] > 1;
+    }
+
+    /**
+     * Verifica se um peão de cor cor, ao chegar na posição destino, captura um peão adversário
+     * (mesma regra de Tabuleiro.isCapturaPossivel: um único peão inimigo, no circuito e fora das estrelas).
+     *
+     * @param cor O índice da cor de quem se move;
+     * @param destino A posição lógica de destino;
+     * @return True se há captura.
+     */
+    private boolean isCapturaPossivel(int cor, int destino) {
+        if (!Tabuleiro.isPosicaoCircuito(destino) || Tabuleiro.isPosicaoSegura(destino)) return false;
+        if (this.ocupacao[destino] != 1) return false;
+
+        for (int id = 0; id < Tabuleiro.MAX_PEOES; id++) {
+            if (this.posicoes[id] == destino) return id / 4 != cor;
+        }
+        return false;
+    }
+
+    /**
+     * Manda o peão que está na posição de volta para a base.
+     *
+     * @param posicao A posição do peão capturado.
+     */
+    private void capturar(int posicao) {
+        for (int id = 0; id < Tabuleiro.MAX_PEOES; id++) {
+            if (this.posicoes[id] == posicao) {
+                int base = Tabuleiro.posicaoBase(id / 4);
+                this.posicoes[id] = (byte) base;
+                this.ocupacao[posicao]--;
+                this.ocupacao[base]++;
+                return;
+            }
+        }
+    }
+}
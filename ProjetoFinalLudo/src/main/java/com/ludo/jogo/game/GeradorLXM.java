@@ -0,0 +1,169 @@
+package com.ludo.jogo.game;
+
+import java.io.Serializable;
+import java.util.random.RandomGenerator;
+
+/**
+ * O algoritmo L64X128MixRandom de java.util.random (mesma semente, mesma sequência), com o estado acessível:
+ * o gerador do JDK não é serializável nem pula adiante, então recriar um dado no meio da partida exigiria refazer
+ * todos os sorteios. Aqui o estado (4 longs) é serializado direto e pular(n) custa O(log n): a parte LCG pula por
+ * potências do multiplicador e a parte xoroshiro128 por potências da sua matriz de transição (sobre GF(2)).
+ */
+final class GeradorLXM implements RandomGenerator, Serializable {
+
+    // ATRIBUTOS
+
+    private static final long M = 0xd1342543de82ef95L;
+    private static final long GOLDEN_RATIO_64 = 0x9e3779b97f4a7c15L;
+    private static final long SILVER_RATIO_64 = 0x6A09E667F3BCC909L;
+
+    private final long a;
+    private long s;
+    private long x0;
+    private long x1;
+
+    /** Matrizes de T^(2^k) da parte xoroshiro128, por colunas (2 longs cada), criadas no primeiro pulo. */
+    private static final class Saltos {
+        static final long[][] COLUNAS = new long[63][];
+        static {
+            long[] passo = new long[256];
+            for (int j = 0; j < 128; j++) {
+                long q0 = j < 64 ? 1L << j : 0;
+                long q1 = j < 64 ? 0 : 1L << (j - 64);
+                q1 ^= q0;
+                q0 = Long.rotateLeft(q0, 24) ^ q1 ^ (q1 << 16);
+                q1 = Long.rotateLeft(q1, 37);
+                passo[2 * j] = q0;
+                passo[2 * j + 1] = q1;
+            }
+            COLUNAS[0] = passo;
+            long[] v = new long[2];
+            for (int k = 1; k < COLUNAS.length; k++) {
+                long[] anterior = COLUNAS[k - 1];
+                long[] atual = new long[256];
+                for (int j = 0; j < 128; j++) {
+                    aplicar(anterior, anterior[2 * j], anterior[2 * j + 1], v);
+                    atual[2 * j] = v[0];
+                    atual[2 * j + 1] = v[1];
+                }
+                COLUNAS[k] = atual;
+            }
+        }
+    }
+
+
+    // CONSTRUTOR
+
+    /**
+     * Cria o gerador como L64X128MixRandom(semente) do JDK.
+     *
+     * @param semente A semente.
+     */
+    GeradorLXM(long semente) {
+        semente ^= SILVER_RATIO_64;
+        this.a = mixMurmur64(semente) | 1;
+        this.s = 1;
+        this.x0 = mixStafford13(semente);
+        this.x1 = mixStafford13(semente + GOLDEN_RATIO_64);
+        if ((this.x0 | this.x1) == 0) {
+            this.x0 = mixStafford13(this.s + GOLDEN_RATIO_64);
+            this.x1 = mixStafford13(this.s + 2 * GOLDEN_RATIO_64);
+        }
+    }
+
+
+    // MÉTODOS
+
+    // Principais
+
+    @Override
+    public long nextLong() {
+        long resultado = mixLea64(this.s + this.x0);
+        this.s = M * this.s + this.a;
+        long q0 = this.x0;
+        long q1 = this.x1;
+        q1 ^= q0;
+        q0 = Long.rotateLeft(q0, 24) ^ q1 ^ (q1 << 16);
+        q1 = Long.rotateLeft(q1, 37);
+        this.x0 = q0;
+        this.x1 = q1;
+        return resultado;
+    }
+
+    /**
+     * Avança o gerador como se nextLong tivesse sido chamado n vezes, em O(log n).
+     *
+     * @param n Quantidade de valores a pular (não negativa).
+     */
+    void pular(long n) {
+        // LCG: compõe s -> m*s + c consigo mesma, dobrando o passo a cada bit de n
+        long multiplicador = 1;
+        long soma = 0;
+        long m = M;
+        long c = this.a;
+        long[] v = new long[2];
+        long q0 = this.x0;
+        long q1 = this.x1;
+        for (int k = 0; n != 0; k++, n >>>= 1) {
+            if ((n & 1) != 0) {
+                soma = soma * m + c;
+                multiplicador *= m;
+                aplicar(Saltos.COLUNAS[k], q0, q1, v);
+                q0 = v[0];
+                q1 = v[1];
+            }
+            c *= m + 1;
+            m *= m;
+        }
+        this.s = multiplicador * this.s + soma;
+        this.x0 = q0;
+        this.x1 = q1;
+    }
+
+    /**
+     * Multiplica uma matriz 128x128 sobre GF(2) (por colunas) por um vetor.
+     *
+     * @param colunas A matriz;
+     * @param q0 Primeira palavra do vetor;
+     * @param q1 Segunda palavra do vetor;
+     * @param destino Onde escrever o resultado (2 longs).
+     */
+    private static void aplicar(long[] colunas, long q0, long q1, long[] destino) {
+        long r0 = 0;
+        long r1 = 0;
+        for (int j = 0; q0 != 0; j++, q0 >>>= 1) {
+            if ((q0 & 1) != 0) {
+                r0 ^= colunas[2 * j];
+                r1 ^= colunas[2 * j + 1];
+            }
+        }
+        for (int j = 64; q1 != 0; j++, q1 >>>= 1) {
+            if ((q1 & 1) != 0) {
+                r0 ^= colunas[2 * j];
+                r1 ^= colunas[2 * j + 1];
+            }
+        }
+        destino[0] = r0;
+        destino[1] = r1;
+    }
+
+    // Funções de mistura do JDK (jdk.internal.util.random.RandomSupport)
+
+    private static long mixMurmur64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static long mixStafford13(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixLea64(long z) {
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        return z ^ (z >>> 32);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ludo.jogo.game;
+
+import java.io.Serializable;
+
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.enums.EstadoPeao;
+
+/**
+ * Representa o movimento de um peão, guardando tudo o que é preciso para desfazê-lo:
+ * a posição e o estado anteriores do peão, o peão capturado (se houver) e o turno anterior.
+ * Permite que IAs explorem jogadas com aplicar/desfazer sem copiar o MotorJogo.
+ */
+public class Jogada implements Serializable {
+
+    // ATRIBUTOS
+
+    private Peao peao;
+    private int destino;
+
+    // Registrados em aplicar()
+    private int origem;
+    private EstadoPeao estadoPeaoAnterior;
+    private Peao capturado;
+    private Jogador jogadorAnterior;
+    private int valorDadoAnterior;
+    private boolean movimentoPendenteAnterior;
+    private EstadoJogo estadoJogoAnterior;
+    private long hashTurnoAnterior;
+    private boolean aplicada;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrão.
+     *
+     * @param peao O peão que será movido;
+     * @param destino A posição lógica de destino (já validada).
+     */
+    public Jogada(Peao peao, int destino) {
+        this.peao = peao;
+        this.destino = destino;
+        this.origem = Tabuleiro.POSICAO_INVALIDA;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para o peão movido.
+     * @return O peão. */
+    public Peao getPeao() { return this.peao; }
+    /** Getter para a posição de destino.
+     * @return A posição lógica de destino. */
+    public int getDestino() { return this.destino; }
+    /** Getter para a posição de origem (válida após aplicar).
+     * @return A posição lógica de origem. */
+    public int getOrigem() { return this.origem; }
+    /** Getter para o peão capturado (válido após aplicar).
+     * @return O peão capturado, ou null se não houve captura. */
+    public Peao getCapturado() { return this.capturado; }
+
+    // Principais
+
+    /**
+     * Reaproveita a jogada para outro movimento (buscas que guardam uma Jogada por nível, sem alocar a cada nó).
+     * Só deve ser chamado com a jogada anterior já desfeita.
+     *
+     * @param peao O peão que será movido;
+     * @param destino A posição lógica de destino (já validada).
+     */
+    void redefinir(Peao peao, int destino) {
+        this.peao = peao;
+        this.destino = destino;
+        this.origem = Tabuleiro.POSICAO_INVALIDA;
+        this.capturado = null;
+        this.aplicada = false;
+    }
+
+    /**
+     * Executa o movimento no motor, sem validação: move o peão, verifica vitória e passa o turno.
+     *
+     * @param motorJogo O motor em que a jogada será aplicada.
+     */
+    public void aplicar(MotorJogo motorJogo) {
+        Tabuleiro tabuleiro = motorJogo.getTabuleiro();
+
+        this.origem = tabuleiro.getPosicao(this.peao);
+        this.estadoPeaoAnterior = this.peao.getEstado();
+        this.jogadorAnterior = motorJogo.getJogadorAtual();
+        this.valorDadoAnterior = motorJogo.getValorDadoAtual();
+        this.movimentoPendenteAnterior = motorJogo.isMovimentoPendente();
+        this.estadoJogoAnterior = motorJogo.getEstado();
+        this.hashTurnoAnterior = motorJogo.getHashTurno();
+
+        this.capturado = tabuleiro.moverPeao(this.peao, this.destino);
+        motorJogo.concluirMovimento();
+        this.aplicada = true;
+    }
+
+    /**
+     * Desfaz o movimento, restaurando exatamente o estado anterior a aplicar().
+     * Deve ser chamado na ordem inversa das jogadas aplicadas.
+     *
+     * @param motorJogo O motor em que a jogada foi aplicada.
+     */
+    public void desfazer(MotorJogo motorJogo) {
+        if (!this.aplicada) return;
+
+        motorJogo.getTabuleiro().desfazerMovimento(this.peao, this.origem, this.estadoPeaoAnterior, this.capturado);
+        motorJogo.restaurarTurno(this.jogadorAnterior, this.valorDadoAnterior, this.movimentoPendenteAnterior,
+                this.estadoJogoAnterior, this.hashTurnoAnterior);
+        this.aplicada = false;
+    }
+}
@@ -30,10 +30,12 @@ public abstract class Jogador implements Serializable {
         this.peoes = new ArrayList<>();
 
         // Cria os 4 peões na base
-        Casa base = motorJogo.getTabuleiro().getCasaBase(cor);
+        Tabuleiro tabuleiro = motorJogo.getTabuleiro();
+        Casa base = tabuleiro.getCasaBase(cor);
         for (int i = 0; i < 4; i++) {
             this.peoes.add(new Peao(cor, base));
             base.adicionarPeao(this.peoes.get(i));
+            tabuleiro.registrarPeao(this.peoes.get(i));
         }
     }
 
@@ -57,22 +59,19 @@ public abstract class Jogador implements Serializable {
     // Principais
     /**
      * Lógica para verificar quais peões podem se mover.
+     * Aloca uma lista nova; no caminho crítico prefira Tabuleiro.gerarMovimentos ou a lista do MotorJogo.
      *
      * @param valorDado Valor de 1 a 6 tirado no dado neste turno;
      * @param tabuleiro Uma referência do tabuleiro entregue para uso de métodos;
      * @return Retorna uma lista com os peões que podem se mover.
      */
     public List<Peao> getPeoesValidos(int valorDado, Tabuleiro tabuleiro) {
-        List<Peao> listaPeoesValidos = new ArrayList<>();
-        for (Peao peao : peoes) {
-            if (peao.getEstado() == EstadoPeao.FINALIZADO) continue;
+        int[] movimentos = new int[Tabuleiro.MAX_MOVIMENTOS];
+        int quantidade = tabuleiro.gerarMovimentos(this.cor.ordinal(), valorDado, movimentos);
 
-            Casa casaDestino = tabuleiro.getCasaDestino(peao, valorDado);
-
-            // Verifica se destino existe e nao é bloqueio
-            if (casaDestino != null && !tabuleiro.verificarBloqueio(casaDestino)) {
-                listaPeoesValidos.add(peao);
-            }
+        List<Peao> listaPeoesValidos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            listaPeoesValidos.add(tabuleiro.getPeao(Tabuleiro.idPeaoDoMovimento(movimentos[i])));
         }
         return listaPeoesValidos;
     }
@@ -83,7 +82,10 @@ public abstract class Jogador implements Serializable {
      * @return True se venceu, false se não.
      */
     public boolean verificarVitoria() {
-        // Se todos (allMatch) os peões tiverem o Estado FINALIZADO, retorna true
-        return peoes.stream().allMatch(p -> p.getEstado() == EstadoPeao.FINALIZADO);
+        // Se todos os peões tiverem o Estado FINALIZADO, retorna true
+        for (int i = 0; i < peoes.size(); i++) {
+            if (peoes.get(i).getEstado() != EstadoPeao.FINALIZADO) return false;
+        }
+        return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,610 @@
+package com.ludo.jogo.game;
+
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Jogador controlado pelo computador que escolhe a jogada por busca expectiminimax.
+ * Os nós de decisão são do jogador da vez (MAX para este jogador, MIN para os adversários, que são tratados
+ * como aliados contra ele) e os nós de acaso são as 6 faces do dado. A busca usa poda Star1/Star2 nos nós de
+ * acaso e aprofundamento iterativo dentro de um tempo por jogada, sempre aplicando e desfazendo Jogadas no
+ * próprio MotorJogo.
+ * A profundidade conta jogadas (ou turnos passados); os padrões podem ser mudados pelas propriedades de sistema
+ * "ludo.busca.profundidade", "ludo.busca.tempoMs" e "ludo.busca.tabelaMB".
+ * Os nós já avaliados são guardados em uma TabelaTransposicao, reaproveitada entre as jogadas.
+ * Quando todos os peões que faltam chegar estão na reta final, a jogada vem da TabelaFinais, sem busca.
+ */
+public class JogadorExpectiminimax extends Jogador implements Jogavel, Decisor {
+
+    // ATRIBUTOS
+
+    /** Profundidade máxima padrão da busca. */
+    public static final int PROFUNDIDADE_PADRAO = Integer.getInteger("ludo.busca.profundidade", 8);
+    /** Tempo padrão por jogada, em milissegundos. */
+    public static final long TEMPO_PADRAO_MS = Long.getLong("ludo.busca.tempoMs", 50L);
+    /** Tamanho padrão da tabela de transposição, em MB. */
+    public static final int TABELA_PADRAO_MB = Integer.getInteger("ludo.busca.tabelaMB", 16);
+
+    /** Valor de uma vitória; a avaliação heurística fica sempre dentro de (-VITORIA, VITORIA). */
+    static final double VITORIA = 1000;
+
+    private static final int FACES = 6;
+    private static final int BONUS_FORA_BASE = 10;
+    private static final int BONUS_CHEGADA = 8;
+    private static final int NOS_ENTRE_CHECAGENS = 1024;
+
+    private int profundidadeMaxima;
+    private long tempoPorJogadaMs;
+
+    // Estado da busca em andamento (não é salvo com o jogo)
+    private transient TabelaTransposicao tabela;
+    private transient int[][] movimentosPorNivel;
+    private transient Jogada[] jogadasPorNivel;
+    private transient double[][] inferioresPorNivel;
+    private transient double[][] superioresPorNivel;
+    private transient Cancelamento cancelamento;
+    private transient long prazo;
+    private transient boolean tempoEsgotado;
+    private transient long nosVisitados;
+    private transient int profundidadeAlcancada;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param cor Cor do jogador;
+     * @param motorJogo Referencia ao motor.
+     */
+    public JogadorExpectiminimax(Cor cor, MotorJogo motorJogo) {
+        super(cor, motorJogo);
+        this.profundidadeMaxima = PROFUNDIDADE_PADRAO;
+        this.tempoPorJogadaMs = TEMPO_PADRAO_MS;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a profundidade máxima.
+     * @return Profundidade máxima da busca. */
+    public int getProfundidadeMaxima() { return this.profundidadeMaxima; }
+    /** Getter para o tempo por jogada.
+     * @return Tempo por jogada, em milissegundos. */
+    public long getTempoPorJogadaMs() { return this.tempoPorJogadaMs; }
+    /** Getter para a profundidade completada na última busca.
+     * @return Profundidade da última iteração completa. */
+    public int getProfundidadeAlcancada() { return this.profundidadeAlcancada; }
+    /** Getter para os nós visitados na última busca.
+     * @return Quantidade de jogadas aplicadas pela busca. */
+    public long getNosVisitados() { return this.nosVisitados; }
+    /** Getter para a tabela de transposição (criada na primeira busca).
+     * @return A tabela, ou null se ainda não houve busca. */
+    public TabelaTransposicao getTabelaTransposicao() { return this.tabela; }
+
+    // Setters
+    /** Setter para a profundidade máxima.
+     * @param profundidadeMaxima Profundidade máxima da busca (pelo menos 1). */
+    public void setProfundidadeMaxima(int profundidadeMaxima) { this.profundidadeMaxima = Math.max(1, profundidadeMaxima); }
+    /** Setter para o tempo por jogada.
+     * @param tempoPorJogadaMs Tempo por jogada, em milissegundos. */
+    public void setTempoPorJogadaMs(long tempoPorJogadaMs) { this.tempoPorJogadaMs = tempoPorJogadaMs; }
+    /** Setter para a tabela de transposição, por exemplo para usar uma tabela de outro tamanho.
+     * Os valores são do ponto de vista deste jogador, então a tabela não deve ser compartilhada com outra cor.
+     * @param tabela A tabela a usar. */
+    public void setTabelaTransposicao(TabelaTransposicao tabela) { this.tabela = tabela; }
+
+    // Principais
+
+    /**
+     * Ação da IA: busca a melhor jogada para a rolagem atual e a executa.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @throws MovimentoInvalidoException Se tentar um movimento inválido.
+     */
+    @Override
+    public void fazerJogada(int valorDado) throws MovimentoInvalidoException {
+        int movimento = escolherMovimento(valorDado, Cancelamento.NENHUM);
+        if (movimento == Tabuleiro.POSICAO_INVALIDA) {
+            motorJogo.finalizarTurno();
+            return;
+        }
+        motorJogo.tentarMoverPeao(motorJogo.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)));
+    }
+
+    /**
+     * Busca a melhor jogada para a rolagem atual, sem executá-la.
+     * Se for cancelada, retorna a escolha da última iteração completa.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @param cancelamento Sinal que interrompe a busca, como o fim do tempo;
+     * @return O movimento codificado, ou POSICAO_INVALIDA se não há movimentos.
+     */
+    @Override
+    public int escolherMovimento(int valorDado, Cancelamento cancelamento) {
+        int quantidade = motorJogo.getNumMovimentos();
+        if (quantidade == 0) return Tabuleiro.POSICAO_INVALIDA;
+
+        int[] raiz = new int[quantidade];
+        System.arraycopy(motorJogo.getMovimentos(), 0, raiz, 0, quantidade);
+        if (quantidade == 1) return raiz[0];
+
+        // Na reta final não há interação com os adversários: a tabela de finais já tem a jogada ótima
+        int movimento = TabelaFinais.getPadrao().escolherMovimento(motorJogo.getTabuleiro(), this.cor.ordinal(), valorDado);
+        return movimento != Tabuleiro.POSICAO_INVALIDA ? movimento : buscarMelhorMovimento(raiz, quantidade, cancelamento);
+    }
+
+    /**
+     * Reaproveita a tabela de transposição de outro JogadorExpectiminimax (o mesmo jogador, em outro motor).
+     * Se o original ainda não tem tabela (ele mesmo nunca buscou, só as cópias), ela é criada nele agora,
+     * para que todas as cópias usem a mesma.
+     *
+     * @param original O decisor original.
+     */
+    @Override
+    public void reaproveitarDe(Decisor original) {
+        if (original instanceof JogadorExpectiminimax outro && outro.cor == this.cor) {
+            this.tabela = outro.tabelaCompartilhada();
+        }
+    }
+
+    /**
+     * Retorna a tabela deste jogador, criando-a se preciso. Sincronizado porque as cópias podem pedi-la
+     * de threads diferentes (a da GUI e a das buscas especulativas).
+     *
+     * @return A tabela.
+     */
+    private synchronized TabelaTransposicao tabelaCompartilhada() {
+        if (this.tabela == null) this.tabela = new TabelaTransposicao(TABELA_PADRAO_MB);
+        return this.tabela;
+    }
+
+    /**
+     * Aprofundamento iterativo: busca com profundidade 1, 2, ... até a máxima ou até acabar o tempo.
+     * Uma iteração interrompida é descartada; a jogada escolhida é a da última iteração completa.
+     *
+     * @param raiz Movimentos da rolagem atual (será reordenado);
+     * @param quantidade Quantidade de movimentos;
+     * @return O movimento escolhido.
+     */
+    int buscarMelhorMovimento(int[] raiz, int quantidade) {
+        return buscarMelhorMovimento(raiz, quantidade, Cancelamento.NENHUM);
+    }
+
+    /**
+     * Versão de buscarMelhorMovimento que também termina quando o cancelamento é acionado.
+     *
+     * @param raiz Movimentos da rolagem atual (será reordenado);
+     * @param quantidade Quantidade de movimentos;
+     * @param cancelamento Sinal que interrompe a busca;
+     * @return O movimento escolhido.
+     */
+    int buscarMelhorMovimento(int[] raiz, int quantidade, Cancelamento cancelamento) {
+        prepararBusca(cancelamento);
+        ordenarMovimentos(raiz, quantidade);
+
+        for (int profundidade = 1; profundidade <= profundidadeMaxima; profundidade++) {
+            double alfa = -VITORIA;
+            double melhorValor = -VITORIA - 1;
+            int melhor = 0;
+
+            for (int i = 0; i < quantidade; i++) {
+                double valor = avaliarJogada(raiz[i], profundidade - 1, alfa, VITORIA);
+                if (tempoEsgotado) break;
+
+                if (valor > melhorValor) {
+                    melhorValor = valor;
+                    melhor = i;
+                }
+                if (valor > alfa) alfa = valor;
+            }
+            if (tempoEsgotado) break;
+
+            // O melhor desta iteração é buscado primeiro na próxima
+            int movimento = raiz[melhor];
+            System.arraycopy(raiz, 0, raiz, 1, melhor);
+            raiz[0] = movimento;
+            profundidadeAlcancada = profundidade;
+
+            // Vitória ou derrota garantidas: não adianta buscar mais fundo
+            if (Math.abs(melhorValor) >= VITORIA) break;
+        }
+        return raiz[0];
+    }
+
+    /**
+     * Zera os contadores e garante os vetores de cada nível da busca.
+     *
+     * @param cancelamento Sinal que interrompe a busca.
+     */
+    private void prepararBusca(Cancelamento cancelamento) {
+        this.cancelamento = cancelamento;
+        this.prazo = System.nanoTime() + this.tempoPorJogadaMs * 1_000_000L;
+        this.tempoEsgotado = false;
+        this.nosVisitados = 0;
+        this.profundidadeAlcancada = 0;
+
+        if (tabela == null) tabela = new TabelaTransposicao(TABELA_PADRAO_MB);
+        tabela.novaGeracao();
+
+        if (movimentosPorNivel == null || movimentosPorNivel.length <= profundidadeMaxima) {
+            movimentosPorNivel = new int[profundidadeMaxima + 1][Tabuleiro.MAX_MOVIMENTOS];
+            jogadasPorNivel = new Jogada[profundidadeMaxima + 1];
+            for (int i = 0; i < jogadasPorNivel.length; i++) jogadasPorNivel[i] = new Jogada(null, Tabuleiro.POSICAO_INVALIDA);
+            inferioresPorNivel = new double[profundidadeMaxima + 1][FACES];
+            superioresPorNivel = new double[profundidadeMaxima + 1][FACES];
+        }
+    }
+
+    /**
+     * Aplica um movimento, avalia a posição resultante e desfaz o movimento.
+     *
+     * @param movimento O movimento codificado;
+     * @param profundidade Profundidade restante após o movimento;
+     * @param alfa Limite inferior da janela;
+     * @param beta Limite superior da janela;
+     * @return O valor da posição após o movimento, do ponto de vista deste jogador.
+     */
+    private double avaliarJogada(int movimento, int profundidade, double alfa, double beta) {
+        if ((++nosVisitados % NOS_ENTRE_CHECAGENS) == 0 && (System.nanoTime() > prazo || cancelamento.isCancelado())) {
+            tempoEsgotado = true;
+        }
+        if (tempoEsgotado) return 0;
+
+        Tabuleiro tabuleiro = motorJogo.getTabuleiro();
+        Jogada jogada = jogadasPorNivel[profundidade]; // Cada nível da recursão tem a sua
+        jogada.redefinir(tabuleiro.getPeao(Tabuleiro.idPeaoDoMovimento(movimento)), Tabuleiro.destinoDoMovimento(movimento));
+        jogada.aplicar(motorJogo);
+        double valor = valorAposTurno(profundidade, alfa, beta);
+        jogada.desfazer(motorJogo);
+        return valor;
+    }
+
+    /**
+     * Avalia a posição depois de uma jogada ou de um turno passado.
+     *
+     * @param profundidade Profundidade restante;
+     * @param alfa Limite inferior da janela;
+     * @param beta Limite superior da janela;
+     * @return O valor da posição.
+     */
+    private double valorAposTurno(int profundidade, double alfa, double beta) {
+        if (motorJogo.getEstado() == EstadoJogo.ENCERRADO) {
+            // Quem venceu continua sendo o jogador da vez
+            return motorJogo.getJogadorAtual().getCor() == this.cor ? VITORIA : -VITORIA;
+        }
+        if (profundidade == 0) return avaliar();
+        return noAcaso(profundidade, alfa, beta);
+    }
+
+    /**
+     * Nó de decisão: o jogador da vez escolhe um movimento para o dado atual.
+     *
+     * @param profundidade Profundidade restante (pelo menos 1);
+     * @param alfa Limite inferior da janela;
+     * @param beta Limite superior da janela;
+     * @return O valor do nó.
+     */
+    private double noDecisao(int profundidade, double alfa, double beta) {
+        int quantidade = motorJogo.getNumMovimentos();
+        if (quantidade == 0) return passarTurno(profundidade, alfa, beta);
+
+        long chave = motorJogo.getHash();
+        long dados = tabela.buscar(chave);
+        if (dados != 0 && isCorteDaTabela(dados, profundidade, alfa, beta)) return TabelaTransposicao.valor(dados);
+
+        int[] movimentos = movimentosPorNivel[profundidade];
+        System.arraycopy(motorJogo.getMovimentos(), 0, movimentos, 0, quantidade);
+        ordenarMovimentos(movimentos, quantidade);
+        if (dados != 0) trazerParaFrente(movimentos, quantidade, TabelaTransposicao.movimento(dados));
+
+        boolean maximizar = motorJogo.getJogadorAtual().getCor() == this.cor;
+        double melhor = maximizar ? -VITORIA : VITORIA;
+        int melhorMovimento = movimentos[0];
+        double alfaOriginal = alfa;
+        double betaOriginal = beta;
+
+        for (int i = 0; i < quantidade; i++) {
+            double valor = avaliarJogada(movimentos[i], profundidade - 1, alfa, beta);
+            if (tempoEsgotado) return 0;
+
+            if (maximizar) {
+                if (valor > melhor) {
+                    melhor = valor;
+                    melhorMovimento = movimentos[i];
+                }
+                if (melhor > alfa) alfa = melhor;
+            }
+            else {
+                if (valor < melhor) {
+                    melhor = valor;
+                    melhorMovimento = movimentos[i];
+                }
+                if (melhor < beta) beta = melhor;
+            }
+            if (alfa >= beta) break;
+        }
+
+        tabela.gravar(chave, melhor, profundidade, tipoDoValor(melhor, alfaOriginal, betaOriginal), melhorMovimento);
+        return melhor;
+    }
+
+    /**
+     * O jogador da vez não tem movimentos: passa o turno, avalia e restaura o turno.
+     *
+     * @param profundidade Profundidade restante (o turno passado consome um nível);
+     * @param alfa Limite inferior da janela;
+     * @param beta Limite superior da janela;
+     * @return O valor do nó.
+     */
+    private double passarTurno(int profundidade, double alfa, double beta) {
+        Jogador jogador = motorJogo.getJogadorAtual();
+        int valorDado = motorJogo.getValorDadoAtual();
+        boolean movimentoPendente = motorJogo.isMovimentoPendente();
+        EstadoJogo estado = motorJogo.getEstado();
+        long hashTurno = motorJogo.getHashTurno();
+
+        motorJogo.finalizarTurno();
+        double valor = valorAposTurno(profundidade - 1, alfa, beta);
+        motorJogo.restaurarTurno(jogador, valorDado, movimentoPendente, estado, hashTurno);
+        return valor;
+    }
+
+    /**
+     * Nó de acaso: média dos 6 valores do dado para o jogador da vez, com poda Star2 (sondagem) e Star1.
+     * Cada face tem um limite inferior e um superior, que começam em -VITORIA e VITORIA e vão sendo apertados;
+     * o nó é cortado quando a média dos limites já fica fora da janela (alfa, beta).
+     *
+     * @param profundidade Profundidade restante (pelo menos 1);
+     * @param alfa Limite inferior da janela;
+     * @param beta Limite superior da janela;
+     * @return O valor do nó (ou um limite, se houve corte).
+     */
+    private double noAcaso(int profundidade, double alfa, double beta) {
+        double[] inferior = inferioresPorNivel[profundidade];
+        double[] superior = superioresPorNivel[profundidade];
+        double somaInferior = -VITORIA * FACES;
+        double somaSuperior = VITORIA * FACES;
+        for (int i = 0; i < FACES; i++) {
+            inferior[i] = -VITORIA;
+            superior[i] = VITORIA;
+        }
+
+        int valorDadoAnterior = motorJogo.getValorDadoAtual();
+        boolean maximizar = motorJogo.getJogadorAtual().getCor() == this.cor;
+        double resultado = Double.NaN;
+
+        // O valor de um nó de acaso não depende do dado anterior: a chave usa o dado "não rolado" (0)
+        long chave = motorJogo.getHash() ^ Zobrist.chaveDado(valorDadoAnterior) ^ Zobrist.chaveDado(0);
+        long dados = tabela.buscar(chave);
+        if (dados != 0 && isCorteDaTabela(dados, profundidade, alfa, beta)) return TabelaTransposicao.valor(dados);
+
+        // Star2: sonda cada face buscando só o primeiro movimento. Em um nó MAX isso dá um limite
+        // inferior para a face (em um nó MIN, um superior), o que pode cortar o nó sem busca completa
+        for (int i = 0; i < FACES && Double.isNaN(resultado); i++) {
+            motorJogo.setValorDado(i + 1);
+
+            double janelaInferior = Math.max(-VITORIA, FACES * alfa - (somaSuperior - superior[i]));
+            double janelaSuperior = Math.min(VITORIA, FACES * beta - (somaInferior - inferior[i]));
+            int quantidade = motorJogo.getNumMovimentos();
+
+            double valor;
+            boolean unicaOpcao = quantidade <= 1;
+            if (quantidade == 0) {
+                valor = passarTurno(profundidade, janelaInferior, janelaSuperior);
+            }
+            else {
+                int[] movimentos = movimentosPorNivel[profundidade];
+                System.arraycopy(motorJogo.getMovimentos(), 0, movimentos, 0, quantidade);
+                ordenarMovimentos(movimentos, quantidade);
+                valor = avaliarJogada(movimentos[0], profundidade - 1, janelaInferior, janelaSuperior);
+            }
+            if (tempoEsgotado) break;
+
+            if (unicaOpcao) {
+                somaInferior -= inferior[i];
+                somaSuperior -= superior[i];
+                atualizarLimites(inferior, superior, i, valor, janelaInferior, janelaSuperior);
+                somaInferior += inferior[i];
+                somaSuperior += superior[i];
+            }
+            else if (maximizar && valor > janelaInferior) {
+                somaInferior += valor - inferior[i];
+                inferior[i] = valor;
+            }
+            else if (!maximizar && valor < janelaSuperior) {
+                somaSuperior += valor - superior[i];
+                superior[i] = valor;
+            }
+
+            if (somaInferior >= FACES * beta) resultado = somaInferior / FACES;
+            else if (somaSuperior <= FACES * alfa) resultado = somaSuperior / FACES;
+        }
+
+        // Star1: busca completa de cada face ainda não resolvida, cortando pela média dos limites
+        for (int i = 0; i < FACES && Double.isNaN(resultado) && !tempoEsgotado; i++) {
+            if (inferior[i] == superior[i]) continue;
+            motorJogo.setValorDado(i + 1);
+
+            double janelaInferior = Math.max(-VITORIA, FACES * alfa - (somaSuperior - superior[i]));
+            double janelaSuperior = Math.min(VITORIA, FACES * beta - (somaInferior - inferior[i]));
+            double valor = noDecisao(profundidade, janelaInferior, janelaSuperior);
+            if (tempoEsgotado) break;
+
+            somaInferior -= inferior[i];
+            somaSuperior -= superior[i];
+            atualizarLimites(inferior, superior, i, valor, janelaInferior, janelaSuperior);
+            somaInferior += inferior[i];
+            somaSuperior += superior[i];
+
+            if (somaInferior >= FACES * beta) resultado = somaInferior / FACES;
+            else if (somaSuperior <= FACES * alfa) resultado = somaSuperior / FACES;
+        }
+
+        motorJogo.setValorDado(valorDadoAnterior);
+        if (tempoEsgotado) return 0;
+
+        double valor = Double.isNaN(resultado) ? somaInferior / FACES : resultado;
+        tabela.gravar(chave, valor, profundidade, tipoDoValor(valor, alfa, beta), TabelaTransposicao.SEM_MOVIMENTO);
+        return valor;
+    }
+
+    /**
+     * Verifica se uma entrada da tabela já resolve o nó: precisa ser de uma busca ao menos tão profunda
+     * e ter um valor exato, ou um limite que já fica fora da janela.
+     *
+     * @param dados Dados da entrada;
+     * @param profundidade Profundidade restante do nó;
+     * @param alfa Limite inferior da janela;
+     * @param beta Limite superior da janela;
+     * @return True se o valor da entrada pode ser retornado.
+     */
+    private static boolean isCorteDaTabela(long dados, int profundidade, double alfa, double beta) {
+        if (TabelaTransposicao.profundidade(dados) < profundidade) return false;
+
+        double valor = TabelaTransposicao.valor(dados);
+        return switch (TabelaTransposicao.tipo(dados)) {
+            case TabelaTransposicao.EXATO -> true;
+            case TabelaTransposicao.LIMITE_INFERIOR -> valor >= beta;
+            default -> valor <= alfa;
+        };
+    }
+
+    /**
+     * Classifica o valor retornado por uma busca com a janela (alfa, beta), para gravar na tabela.
+     *
+     * @param valor O valor retornado;
+     * @param alfa Limite inferior da janela usada;
+     * @param beta Limite superior da janela usada;
+     * @return EXATO, LIMITE_INFERIOR ou LIMITE_SUPERIOR.
+     */
+    private static int tipoDoValor(double valor, double alfa, double beta) {
+        if (valor <= alfa) return TabelaTransposicao.LIMITE_SUPERIOR;
+        if (valor >= beta) return TabelaTransposicao.LIMITE_INFERIOR;
+        return TabelaTransposicao.EXATO;
+    }
+
+    /**
+     * Coloca o movimento informado (o melhor da tabela) na frente da lista, se estiver nela.
+     *
+     * @param movimentos Os movimentos;
+     * @param quantidade Quantidade de movimentos;
+     * @param movimento O movimento a priorizar.
+     */
+    private static void trazerParaFrente(int[] movimentos, int quantidade, int movimento) {
+        for (int i = 1; i < quantidade; i++) {
+            if (movimentos[i] == movimento) {
+                System.arraycopy(movimentos, 0, movimentos, 1, i);
+                movimentos[0] = movimento;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Atualiza os limites de uma face com o resultado de uma busca completa na janela informada
+     * (acima da janela o valor é um limite inferior, abaixo é um limite superior, dentro é exato).
+     *
+     * @param inferior Limites inferiores das faces;
+     * @param superior Limites superiores das faces;
+     * @param face Índice da face;
+     * @param valor Valor retornado pela busca;
+     * @param janelaInferior Limite inferior da janela usada;
+     * @param janelaSuperior Limite superior da janela usada.
+     */
+    private static void atualizarLimites(double[] inferior, double[] superior, int face, double valor,
+                                         double janelaInferior, double janelaSuperior) {
+        if (valor >= janelaSuperior) {
+            inferior[face] = Math.max(inferior[face], valor);
+        }
+        else if (valor <= janelaInferior) {
+            superior[face] = Math.min(superior[face], valor);
+        }
+        else {
+            inferior[face] = valor;
+            superior[face] = valor;
+        }
+    }
+
+    /**
+     * Avaliação heurística da posição: pontuação deste jogador menos a do adversário mais adiantado.
+     *
+     * @return Valor entre -VITORIA e VITORIA (exclusive).
+     */
+    double avaliar() {
+        AvaliacaoIncremental avaliacao = motorJogo.getTabuleiro().getAvaliacao();
+
+        double meu = 0;
+        double melhorAdversario = 0;
+        for (Jogador jogador : motorJogo.getJogadores()) {
+            double pontos = pontuar(avaliacao, jogador.getCor().ordinal());
+            if (jogador.getCor() == this.cor) meu = pontos;
+            else if (pontos > melhorAdversario) melhorAdversario = pontos;
+        }
+        return meu - melhorAdversario;
+    }
+
+    /**
+     * Pontua uma cor a partir dos componentes mantidos pelo Tabuleiro: progresso dos peões, bônus para os que saíram
+     * da base e para os que chegaram, descontando o valor que pode ser perdido em uma captura na próxima rolagem
+     * de um adversário (1/6 do valor do peão exposto para cada casa adversária que o alcança).
+     *
+     * @param avaliacao A avaliação incremental do tabuleiro;
+     * @param indiceCor O índice da cor;
+     * @return A pontuação (no máximo 4 * (62 + BONUS_FORA_BASE + BONUS_CHEGADA)).
+     */
+    private static double pontuar(AvaliacaoIncremental avaliacao, int indiceCor) {
+        double pontos = avaliacao.getSomaProgresso(indiceCor)
+                + BONUS_FORA_BASE * avaliacao.getForaDaBase(indiceCor)
+                + BONUS_CHEGADA * avaliacao.getChegados(indiceCor);
+        double emRisco = avaliacao.getProgressoAmeacado(indiceCor) + BONUS_FORA_BASE * avaliacao.getAmeacas(indiceCor);
+        return pontos - emRisco / FACES;
+    }
+
+    /**
+     * Ordena os movimentos do mais promissor ao menos promissor (capturas, saída da base, chegada
+     * em casa segura e progresso), para que a poda aconteça mais cedo.
+     *
+     * @param movimentos Os movimentos (ordenados no lugar);
+     * @param quantidade Quantidade de movimentos.
+     */
+    private void ordenarMovimentos(int[] movimentos, int quantidade) {
+        if (quantidade < 2) return;
+
+        Tabuleiro tabuleiro = motorJogo.getTabuleiro();
+        int indiceCor = motorJogo.getJogadorAtual().getCor().ordinal();
+
+        // Ordenação por inserção: são no máximo 4 movimentos
+        for (int i = 1; i < quantidade; i++) {
+            int movimento = movimentos[i];
+            int prioridade = prioridade(tabuleiro, indiceCor, movimento);
+            int j = i - 1;
+            while (j >= 0 && prioridade(tabuleiro, indiceCor, movimentos[j]) < prioridade) {
+                movimentos[j + 1] = movimentos[j];
+                j--;
+            }
+            movimentos[j + 1] = movimento;
+        }
+    }
+
+    /**
+     * Calcula a prioridade de um movimento para a ordenação.
+     *
+     * @param tabuleiro O tabuleiro;
+     * @param indiceCor O índice da cor do jogador da vez;
+     * @param movimento O movimento codificado;
+     * @return Quanto maior, mais cedo o movimento é buscado.
+     */
+    private static int prioridade(Tabuleiro tabuleiro, int indiceCor, int movimento) {
+        int origem = tabuleiro.getPosicao(Tabuleiro.idPeaoDoMovimento(movimento));
+        int destino = Tabuleiro.destinoDoMovimento(movimento);
+
+        int prioridade = Tabuleiro.getProgresso(indiceCor, destino);
+        if (tabuleiro.isCapturaPossivel(indiceCor, destino)) prioridade += 300;
+        if (origem == Tabuleiro.posicaoBase(indiceCor)) prioridade += 200;
+        if (!Tabuleiro.isPosicaoSegura(origem) && Tabuleiro.isPosicaoSegura(destino)) prioridade += 100;
+        return prioridade;
+    }
+}
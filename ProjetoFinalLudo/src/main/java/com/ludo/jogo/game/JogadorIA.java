@@ -1,13 +1,16 @@
 package com.ludo.jogo.game;
 
 import com.ludo.jogo.game.enums.Cor;
-import com.ludo.jogo.game.enums.EstadoPeao;
 import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
-import java.util.List;
-import java.util.Random;
 
 /** Implementacao do jogador controlado pelo computador. */
-public class JogadorIA extends Jogador implements Jogavel {
+public class JogadorIA extends Jogador implements Jogavel, Decisor {
+
+    // ATRIBUTOS
+
+    private PesosHeuristica pesos;
+    private transient double[] pontuacoes; // Pontuação de cada movimento da rolagem, reaproveitada entre escolhas
+
 
     // CONSTRUTOR
 
@@ -19,42 +22,57 @@ public class JogadorIA extends Jogador implements Jogavel {
      */
     public JogadorIA(Cor cor, MotorJogo motorJogo) {
         super(cor, motorJogo);
+        this.pesos = PesosHeuristica.getPadrao();
     }
 
 
     // MÉTODOS
 
+    // Getters
+    /** Getter para os pesos das regras.
+     * @return Os pesos usados nas escolhas. */
+    public PesosHeuristica getPesos() { return this.pesos; }
+
+    // Setters
+    /** Setter para os pesos das regras, por exemplo candidatos do AfinadorHeuristica.
+     * @param pesos Os pesos a usar. */
+    public void setPesos(PesosHeuristica pesos) { this.pesos = pesos; }
+
+    // Principais
+
     /**
      * Ação da IA: Calcula e executa a jogada automaticamente.
+     * Usa a lista de movimentos gerada pelo MotorJogo para a rolagem atual.
      *
      * @param valorDado Valor do dado rolado;
      * @throws MovimentoInvalidoException Se tentar um movimento inválido.
      */
     @Override
     public void fazerJogada(int valorDado) throws MovimentoInvalidoException {
-        List<Peao> peoesValidos = getPeoesValidos(valorDado, motorJogo.getTabuleiro());
+        int quantidade = motorJogo.getNumMovimentos();
+        int[] movimentos = motorJogo.getMovimentos();
+        Tabuleiro tabuleiro = motorJogo.getTabuleiro();
 
-        if (peoesValidos.isEmpty()) {
+        if (quantidade == 0) {
             // Se não há movimentos, apenas passa o turno. Apenas por segurança, pois o MotorJogo já lida com isso
             motorJogo.finalizarTurno();
         }
         else {
-            // Tenta o melhor Peão primeiro
-            Peao escolhido = melhorPeao(peoesValidos, valorDado);
+            // Tenta o melhor movimento primeiro
+            int escolhido = melhorMovimento(movimentos, quantidade, valorDado);
             try {
-                motorJogo.tentarMoverPeao(escolhido);
+                motorJogo.tentarMoverPeao(tabuleiro.getPeao(Tabuleiro.idPeaoDoMovimento(movimentos[escolhido])));
                 return;
             }
             catch (MovimentoInvalidoException e) {
                 System.err.println("Erro na IA (Melhor Peão): " + e.getMessage());
-                // Remove este peão falho da lista e tenta os outros
-                peoesValidos.remove(escolhido);
             }
 
-            // primeiro fallback: Se o melhor falhou, tenta aleatoriamente outro válido da lista
-            for (Peao p : peoesValidos) {
+            // primeiro fallback: Se o melhor falhou, tenta os outros movimentos da lista
+            for (int i = 0; i < quantidade; i++) {
+                if (i == escolhido) continue;
                 try {
-                    motorJogo.tentarMoverPeao(p);
+                    motorJogo.tentarMoverPeao(tabuleiro.getPeao(Tabuleiro.idPeaoDoMovimento(movimentos[i])));
                     return;
                 }
                 catch (MovimentoInvalidoException e) {
@@ -69,53 +87,69 @@ public class JogadorIA extends Jogador implements Jogavel {
     }
 
     /**
-     * Reliza uma escolha para o melhor Peao para a IA jogar.
+     * Escolhe o movimento pelas mesmas regras de fazerJogada, sem executá-lo. A escolha é imediata,
+     * então o cancelamento não é consultado.
      *
-     * @param peoesValidos Lista com peões que podem ser movidos;
+     * @param valorDado Valor do dado rolado;
+     * @param cancelamento Sinal de cancelamento (não usado);
+     * @return O movimento codificado, ou POSICAO_INVALIDA se não há movimentos.
+     */
+    @Override
+    public int escolherMovimento(int valorDado, Cancelamento cancelamento) {
+        int quantidade = motorJogo.getNumMovimentos();
+        if (quantidade == 0) return Tabuleiro.POSICAO_INVALIDA;
+
+        return motorJogo.getMovimentos()[melhorMovimento(motorJogo.getMovimentos(), quantidade, valorDado)];
+    }
+
+    /**
+     * Reliza uma escolha para o melhor movimento para a IA jogar.
+     *
+     * @param movimentos Movimentos válidos codificados (ver Tabuleiro.codificarMovimento);
+     * @param quantidade Quantidade de movimentos válidos;
      * @param valorDado Valor tirado no dado;
-     * @return Retorna o melhor peão para se jogar.
+     * @return Retorna o índice do melhor movimento no vetor.
      */
-    private Peao melhorPeao(List<Peao> peoesValidos, int valorDado){
-        // Caso tenha apenas um peão na lista de peões válidos, ele é o escolhido
-        if (peoesValidos.size() == 1){
-            return peoesValidos.getFirst();
+    private int melhorMovimento(int[] movimentos, int quantidade, int valorDado){
+        // Caso tenha apenas um movimento, ele é o escolhido
+        if (quantidade == 1){
+            return 0;
         }
 
-        // Quando o valor do dado é 6, verifica se existe algum peão na base. Se sim, ele é o escolhido
-        for (Peao peao : peoesValidos) {
-            if (valorDado == 6 && peao.getEstado() == EstadoPeao.BASE){
-                return peao;
+        Tabuleiro tabuleiro = motorJogo.getTabuleiro();
+        int cor = this.cor.ordinal();
+
+        // Com todos os peões restantes na reta final, a tabela de finais sabe a jogada ótima
+        int movimentoFinal = TabelaFinais.getPadrao().escolherMovimento(tabuleiro, cor, valorDado);
+        for (int i = 0; i < quantidade; i++) {
+            if (movimentos[i] == movimentoFinal) {
+                return i;
             }
         }
 
-        // Verifica se a casa destino do peão é segura, e se tem peões adversários. Se a casa não for segura, e tem
-        // peões adversários, ele é o escolhido
-        for (Peao peao : peoesValidos) {
-            Casa casaDestino = motorJogo.getTabuleiro().getCasaDestino(peao, valorDado);
-            if (!casaDestino.isCasaSegura() && !casaDestino.getPeoes().isEmpty()){
-                if (casaDestino.getPeoes().getFirst().getCor() != peao.getCor()) {
-                    return peao;
-                }
+        // Pontua cada movimento pelas regras ponderadas (sair da base, capturar, fugir do perigo, ...)
+        if (pontuacoes == null) pontuacoes = new double[Tabuleiro.MAX_MOVIMENTOS];
+        int empatados = 0;
+        double maiorPontuacao = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < quantidade; i++) {
+            double pontuacao = pesos.pontuar(tabuleiro, cor, movimentos[i]);
+            pontuacoes[i] = pontuacao;
+            if (pontuacao > maiorPontuacao) {
+                maiorPontuacao = pontuacao;
+                empatados = 0;
             }
-        }
-        // Verifica se a casa do peão é segura, e se a casa destino do peão é segura. Se o peão não estiver numa casa
-        // segura, mas o seu destino é seguro, ele é o escolhido
-        for (Peao peao : peoesValidos) {
-            Casa casaDestino = motorJogo.getTabuleiro().getCasaDestino(peao, valorDado);
-            if (!peao.getCasa().isCasaSegura() && casaDestino.isCasaSegura()){
-                return peao;
+            if (pontuacao == maiorPontuacao) {
+                empatados++;
             }
         }
 
-        // Verifica se a casa que o peão está é segura. Se não, ele é o escolhido.
-        for (Peao peao : peoesValidos) {
-            if (!peao.getCasa().isCasaSegura()){
-                return peao;
+        // Em empate, sorteia entre os melhores (pelo dado da partida, para que ela seja reproduzível pela semente)
+        int sorteado = empatados > 1 ? motorJogo.getDado().sortearIndice(empatados) : 0;
+        for (int i = 0; i < quantidade; i++) {
+            if (pontuacoes[i] == maiorPontuacao && sorteado-- == 0) {
+                return i;
             }
         }
-
-        // Caso nenhum dos requisitos seja atendido, retorna um peão aleatório entre a lista de peões validos
-        return peoesValidos.get(new Random().nextInt(peoesValidos.size()));
-
+        return 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,313 @@
+package com.ludo.jogo.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Jogador controlado pelo computador que escolhe a jogada por busca em árvore de Monte Carlo (UCT).
+ * Cada nó da árvore é uma decisão do jogador da vez com um valor de dado conhecido; depois de cada movimento há
+ * um nó de acaso, em que a face do dado é sorteada e cada face leva a um nó de decisão próprio.
+ * A simulação a partir de cada folha (rollout) é feita sobre um EstadoCompacto, não sobre o MotorJogo.
+ * A busca é paralelizada na raiz: cada thread monta a sua árvore, e as visitas dos movimentos da raiz são somadas.
+ * Os padrões podem ser mudados pelas propriedades "ludo.mcts.tempoMs", "ludo.mcts.rollouts" e "ludo.mcts.threads".
+ */
+public class JogadorMCTS extends Jogador implements Jogavel, Decisor {
+
+    // ATRIBUTOS
+
+    /** Tempo padrão por jogada, em milissegundos. */
+    public static final long TEMPO_PADRAO_MS = Long.getLong("ludo.mcts.tempoMs", 50L);
+    /** Quantidade padrão de rollouts por jogada (0 = limitado só pelo tempo). */
+    public static final int ROLLOUTS_PADRAO = Integer.getInteger("ludo.mcts.rollouts", 0);
+    /** Quantidade padrão de threads da busca. */
+    public static final int THREADS_PADRAO = Integer.getInteger("ludo.mcts.threads",
+            Runtime.getRuntime().availableProcessors());
+
+    /** Constante de exploração do UCT. */
+    static final double EXPLORACAO = 0.7;
+    /** Limite de rolagens de um rollout (partidas de Ludo raramente passam de alguns milhares). */
+    static final int LIMITE_TURNOS_ROLLOUT = 10_000;
+
+    private static final int FACES = 6;
+
+    private long tempoPorJogadaMs;
+    private int rolloutsPorJogada;
+    private int threads;
+
+    private transient long rolloutsUltimaJogada;
+    private transient long nanosUltimaJogada;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param cor Cor do jogador;
+     * @param motorJogo Referencia ao motor.
+     */
+    public JogadorMCTS(Cor cor, MotorJogo motorJogo) {
+        super(cor, motorJogo);
+        this.tempoPorJogadaMs = TEMPO_PADRAO_MS;
+        this.rolloutsPorJogada = ROLLOUTS_PADRAO;
+        this.threads = Math.max(1, THREADS_PADRAO);
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para o tempo por jogada.
+     * @return Tempo por jogada, em milissegundos. */
+    public long getTempoPorJogadaMs() { return this.tempoPorJogadaMs; }
+    /** Getter para o limite de rollouts por jogada.
+     * @return Rollouts por jogada (0 = limitado só pelo tempo). */
+    public int getRolloutsPorJogada() { return this.rolloutsPorJogada; }
+    /** Getter para a quantidade de threads.
+     * @return Threads da busca. */
+    public int getThreads() { return this.threads; }
+    /** Getter para os rollouts feitos na última busca.
+     * @return Rollouts somados de todas as threads. */
+    public long getRolloutsUltimaJogada() { return this.rolloutsUltimaJogada; }
+    /** Getter para a taxa da última busca.
+     * @return Rollouts por segundo. */
+    public double getRolloutsPorSegundo() {
+        return this.nanosUltimaJogada == 0 ? 0 : this.rolloutsUltimaJogada * 1e9 / this.nanosUltimaJogada;
+    }
+
+    // Setters
+    /** Setter para o tempo por jogada.
+     * @param tempoPorJogadaMs Tempo por jogada, em milissegundos. */
+    public void setTempoPorJogadaMs(long tempoPorJogadaMs) { this.tempoPorJogadaMs = tempoPorJogadaMs; }
+    /** Setter para o limite de rollouts por jogada. Com limite e uma thread, a busca é reproduzível pela semente do dado.
+     * @param rolloutsPorJogada Rollouts por jogada (0 = limitado só pelo tempo). */
+    public void setRolloutsPorJogada(int rolloutsPorJogada) { this.rolloutsPorJogada = Math.max(0, rolloutsPorJogada); }
+    /** Setter para a quantidade de threads.
+     * @param threads Threads da busca (pelo menos 1). */
+    public void setThreads(int threads) { this.threads = Math.max(1, threads); }
+
+    // Principais
+
+    /**
+     * Ação da IA: busca a melhor jogada para a rolagem atual e a executa.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @throws MovimentoInvalidoException Se tentar um movimento inválido.
+     */
+    @Override
+    public void fazerJogada(int valorDado) throws MovimentoInvalidoException {
+        int movimento = escolherMovimento(valorDado, Cancelamento.NENHUM);
+        if (movimento == Tabuleiro.POSICAO_INVALIDA) {
+            motorJogo.finalizarTurno();
+            return;
+        }
+        motorJogo.tentarMoverPeao(motorJogo.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)));
+    }
+
+    /**
+     * Busca a melhor jogada para a rolagem atual, sem executá-la.
+     * Se for cancelada, retorna o movimento mais visitado até ali.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @param cancelamento Sinal que interrompe a busca, como o fim do tempo;
+     * @return O movimento codificado, ou POSICAO_INVALIDA se não há movimentos.
+     */
+    @Override
+    public int escolherMovimento(int valorDado, Cancelamento cancelamento) {
+        int quantidade = motorJogo.getNumMovimentos();
+        if (quantidade == 0) return Tabuleiro.POSICAO_INVALIDA;
+
+        return quantidade == 1 ? motorJogo.getMovimentos()[0] : buscarMelhorMovimento(valorDado, cancelamento);
+    }
+
+    /**
+     * Executa a busca em paralelo e escolhe o movimento da raiz com mais visitas somadas.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @return O movimento escolhido.
+     */
+    int buscarMelhorMovimento(int valorDado) {
+        return buscarMelhorMovimento(valorDado, Cancelamento.NENHUM);
+    }
+
+    /**
+     * Versão de buscarMelhorMovimento que também termina quando o cancelamento é acionado.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @param cancelamento Sinal que interrompe a busca;
+     * @return O movimento escolhido.
+     */
+    int buscarMelhorMovimento(int valorDado, Cancelamento cancelamento) {
+        EstadoCompacto raiz = new EstadoCompacto();
+        raiz.carregar(motorJogo);
+
+        long inicio = System.nanoTime();
+        long prazo = inicio + tempoPorJogadaMs * 1_000_000L;
+        long sementeBase = motorJogo.getDado().getSemente() ^ motorJogo.getDado().getSorteios();
+
+        List<BuscaArvore> buscas = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long rollouts = rolloutsPorJogada == 0 ? Long.MAX_VALUE
+                    : rolloutsPorJogada / threads + (t < rolloutsPorJogada % threads ? 1 : 0);
+            buscas.add(new BuscaArvore(raiz, valorDado, prazo, rollouts, Dado.derivarSemente(sementeBase, t), cancelamento));
+        }
+        if (threads == 1) buscas.get(0).invoke();
+        else ForkJoinTask.invokeAll(buscas);
+
+        // Soma as visitas da raiz de todas as árvores (todas têm os mesmos movimentos, na mesma ordem)
+        No primeira = buscas.get(0).getRawResult();
+        long[] visitas = new long[primeira.quantidade];
+        long total = 0;
+        for (BuscaArvore busca : buscas) {
+            No no = busca.getRawResult();
+            for (int i = 0; i < no.quantidade; i++) visitas[i] += no.visitasAresta[i];
+            total += busca.rollouts;
+        }
+
+        int melhor = 0;
+        for (int i = 1; i < visitas.length; i++) {
+            if (visitas[i] > visitas[melhor]) melhor = i;
+        }
+
+        this.rolloutsUltimaJogada = total;
+        this.nanosUltimaJogada = System.nanoTime() - inicio;
+        return primeira.movimentos[melhor];
+    }
+
+
+    /** Nó de decisão: jogador da vez com um valor de dado conhecido. */
+    private static final class No {
+
+        final int assento;
+        final int valorDado;
+        final int quantidade;  // 0 = sem movimentos (o nó só passa a vez)
+        final int[] movimentos;
+        final long[] visitasAresta;
+        final double[] vitoriasAresta;
+        final No[] filhos;     // [aresta * FACES + (face - 1)]
+        long visitas;
+
+        No(EstadoCompacto estado, int valorDado, int[] auxiliar) {
+            this.assento = estado.getAssentoDaVez();
+            this.valorDado = valorDado;
+            this.quantidade = estado.gerarMovimentos(valorDado, auxiliar);
+
+            int arestas = Math.max(1, quantidade);
+            this.movimentos = new int[arestas];
+            System.arraycopy(auxiliar, 0, this.movimentos, 0, quantidade);
+            this.visitasAresta = new long[arestas];
+            this.vitoriasAresta = new double[arestas];
+            this.filhos = new No[arestas * FACES];
+        }
+
+        /**
+         * Escolhe a aresta pelo UCT, visitando primeiro as que ainda não foram tentadas.
+         *
+         * @return O índice da aresta.
+         */
+        int selecionar() {
+            int arestas = visitasAresta.length;
+            double logVisitas = Math.log(Math.max(1, visitas));
+            int melhor = 0;
+            double melhorValor = Double.NEGATIVE_INFINITY;
+
+            for (int i = 0; i < arestas; i++) {
+                if (visitasAresta[i] == 0) return i;
+
+                double valor = vitoriasAresta[i] / visitasAresta[i]
+                        + EXPLORACAO * Math.sqrt(logVisitas / visitasAresta[i]);
+                if (valor > melhorValor) {
+                    melhorValor = valor;
+                    melhor = i;
+                }
+            }
+            return melhor;
+        }
+    }
+
+
+    /** Busca de uma thread: monta a própria árvore a partir da raiz, com o próprio gerador e estados. */
+    private static final class BuscaArvore extends RecursiveTask<No> {
+
+        private final EstadoCompacto raiz;
+        private final int valorDado;
+        private final long prazo;
+        private final long limiteRollouts;
+        private final long semente;
+        private final Cancelamento cancelamento;
+        long rollouts;
+
+        BuscaArvore(EstadoCompacto raiz, int valorDado, long prazo, long limiteRollouts, long semente,
+                Cancelamento cancelamento) {
+            this.raiz = raiz;
+            this.valorDado = valorDado;
+            this.prazo = prazo;
+            this.limiteRollouts = limiteRollouts;
+            this.semente = semente;
+            this.cancelamento = cancelamento;
+        }
+
+        @Override
+        protected No compute() {
+            SplittableRandom gerador = new SplittableRandom(semente);
+            EstadoCompacto estado = new EstadoCompacto();
+            int[] auxiliar = new int[Tabuleiro.MAX_MOVIMENTOS];
+            No[] caminho = new No[256];
+            int[] arestas = new int[256];
+
+            estado.copiarDe(raiz);
+            No arvore = new No(estado, valorDado, auxiliar);
+
+            // Pelo menos um rollout por movimento da raiz, mesmo sem tempo (mas não depois de cancelada)
+            while (rollouts < limiteRollouts && !cancelamento.isCancelado()
+                    && (rollouts < arvore.quantidade || System.nanoTime() < prazo)) {
+                estado.copiarDe(raiz);
+                No no = arvore;
+                int profundidade = 0;
+                int dadoDoRollout = 0;
+
+                // Seleção e expansão
+                while (true) {
+                    int aresta = no.selecionar();
+                    caminho[profundidade] = no;
+                    arestas[profundidade] = aresta;
+                    profundidade++;
+
+                    if (no.quantidade == 0) estado.passarVez(no.valorDado);
+                    else estado.aplicar(no.movimentos[aresta], no.valorDado);
+                    if (estado.getVencedor() >= 0 || profundidade == caminho.length) break;
+
+                    int face = 1 + gerador.nextInt(FACES);
+                    int indice = aresta * FACES + face - 1;
+                    No filho = no.filhos[indice];
+                    if (filho == null) {
+                        no.filhos[indice] = new No(estado, face, auxiliar);
+                        dadoDoRollout = face;
+                        break;
+                    }
+                    no = filho;
+                }
+
+                // Simulação
+                int vencedor = estado.getVencedor() >= 0 ? estado.getVencedor()
+                        : estado.jogarAteOFim(gerador, dadoDoRollout, LIMITE_TURNOS_ROLLOUT, auxiliar);
+                rollouts++;
+
+                // Retropropagação: cada nó conta as vitórias do jogador que decidiu nele
+                for (int i = 0; i < profundidade; i++) {
+                    No visitado = caminho[i];
+                    visitado.visitas++;
+                    visitado.visitasAresta[arestas[i]]++;
+                    if (visitado.assento == vencedor) visitado.vitoriasAresta[arestas[i]] += 1;
+                }
+            }
+            return arvore;
+        }
+    }
+}
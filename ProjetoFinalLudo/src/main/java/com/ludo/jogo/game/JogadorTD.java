@@ -0,0 +1,115 @@
+package com.ludo.jogo.game;
+
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Jogador controlado pelo computador que escolhe a jogada com a avaliação aprendida por autojogo (PesosAvaliacao).
+ * Cada movimento possível é aplicado e desfeito no próprio MotorJogo, e o escolhido é o que deixa a maior chance
+ * estimada de vitória. Os pesos são lidos na criação do jogador (PesosAvaliacao.getPadrao) e podem ser trocados.
+ * Quando todos os peões que faltam chegar estão na reta final, a jogada vem da TabelaFinais.
+ */
+public class JogadorTD extends Jogador implements Jogavel, Decisor {
+
+    // ATRIBUTOS
+
+    private PesosAvaliacao pesos;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param cor Cor do jogador;
+     * @param motorJogo Referencia ao motor.
+     */
+    public JogadorTD(Cor cor, MotorJogo motorJogo) {
+        super(cor, motorJogo);
+        this.pesos = PesosAvaliacao.getPadrao();
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para os pesos da avaliação.
+     * @return Os pesos usados nas escolhas. */
+    public PesosAvaliacao getPesos() { return this.pesos; }
+
+    // Setters
+    /** Setter para os pesos da avaliação, por exemplo recém-treinados.
+     * @param pesos Os pesos a usar. */
+    public void setPesos(PesosAvaliacao pesos) { this.pesos = pesos; }
+
+    // Principais
+
+    /**
+     * Ação da IA: escolhe a jogada de maior valor e a executa.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @throws MovimentoInvalidoException Se tentar um movimento inválido.
+     */
+    @Override
+    public void fazerJogada(int valorDado) throws MovimentoInvalidoException {
+        int movimento = escolherMovimento(valorDado, Cancelamento.NENHUM);
+        if (movimento == Tabuleiro.POSICAO_INVALIDA) {
+            motorJogo.finalizarTurno();
+            return;
+        }
+        motorJogo.tentarMoverPeao(motorJogo.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)));
+    }
+
+    /**
+     * Escolhe a jogada de maior valor, sem executá-la. A escolha é imediata, então o cancelamento não é consultado.
+     *
+     * @param valorDado Valor do dado rolado;
+     * @param cancelamento Sinal de cancelamento (não usado);
+     * @return O movimento codificado, ou POSICAO_INVALIDA se não há movimentos.
+     */
+    @Override
+    public int escolherMovimento(int valorDado, Cancelamento cancelamento) {
+        return melhorMovimento(motorJogo, this.pesos);
+    }
+
+    /**
+     * Escolhe, para o jogador da vez de um motor, o movimento que deixa a maior chance estimada de vitória.
+     * Também é a política do treino por autojogo (simulacao.TreinadorTD).
+     *
+     * @param motor O motor, com o dado já rolado (é devolvido como recebido);
+     * @param pesos Os pesos da avaliação;
+     * @return O movimento codificado, ou POSICAO_INVALIDA se não há movimentos.
+     */
+    public static int melhorMovimento(MotorJogo motor, PesosAvaliacao pesos) {
+        int quantidade = motor.getNumMovimentos();
+        if (quantidade == 0) return Tabuleiro.POSICAO_INVALIDA;
+
+        int[] movimentos = new int[quantidade];
+        System.arraycopy(motor.getMovimentos(), 0, movimentos, 0, quantidade);
+        if (quantidade == 1) return movimentos[0];
+
+        Tabuleiro tabuleiro = motor.getTabuleiro();
+        int cor = motor.getJogadorAtual().getCor().ordinal();
+
+        // Na reta final não há interação com os adversários: a tabela de finais já tem a jogada ótima
+        int movimentoFinal = TabelaFinais.getPadrao().escolherMovimento(tabuleiro, cor, motor.getValorDadoAtual());
+        if (movimentoFinal != Tabuleiro.POSICAO_INVALIDA) return movimentoFinal;
+
+        int melhor = movimentos[0];
+        double melhorValor = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < quantidade; i++) {
+            Jogada jogada = new Jogada(tabuleiro.getPeao(Tabuleiro.idPeaoDoMovimento(movimentos[i])),
+                    Tabuleiro.destinoDoMovimento(movimentos[i]));
+            jogada.aplicar(motor);
+            double valor = motor.getEstado() == EstadoJogo.ENCERRADO ? 1 : pesos.avaliar(motor, cor);
+            jogada.desfazer(motor);
+
+            if (valor > melhorValor) {
+                melhorValor = valor;
+                melhor = movimentos[i];
+            }
+        }
+        return melhor;
+    }
+}
@@ -1,8 +1,16 @@
 package com.ludo.jogo.game;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 
 import com.ludo.jogo.game.enums.Cor;
@@ -23,7 +31,20 @@ public class MotorJogo implements Serializable {
     private Jogador jogadorAtual;
     private Dado dado;
     private int valorDadoAtual;
+    private boolean movimentoPendente; // O jogador da vez rolou, tem movimentos e ainda não moveu
     private EstadoJogo estado;
+    private long hashTurno;
+    private Deque<Jogada> historico;
+
+    // Lista de movimentos compartilhada (motor, IA e GUI) para o jogador da vez e o dado atual
+    private final int[] movimentos;
+    private int numMovimentos;
+    private long hashMovimentos;
+    private boolean movimentosGerados;
+
+    // Quem acompanha a partida (ex: diário de jogadas, replay); null se ninguém. Não vai para as cópias do motor.
+    // Trocado por um array novo a cada mudança: um observador pode se remover durante uma notificação
+    private transient ObservadorJogadas[] observadores;
 
 
     // CONSTRUTOR
@@ -31,6 +52,7 @@ public class MotorJogo implements Serializable {
     /** Construtor padrao. */
     public MotorJogo() {
         this.estado = EstadoJogo.ENCERRADO;
+        this.movimentos = new int[Tabuleiro.MAX_MOVIMENTOS];
     }
 
 
@@ -43,15 +65,110 @@ public class MotorJogo implements Serializable {
     /** Getter para o jogador atual.
      * @return O jogador da vez. */
     public Jogador getJogadorAtual() { return this.jogadorAtual; }
+    /** Getter para o dado da partida.
+     * @return O dado (com a semente da partida). */
+    public Dado getDado() { return this.dado; }
     /** Getter para o valor do dado.
      * @return Ultimo valor rolado. */
     public int getValorDadoAtual() { return this.valorDadoAtual; }
+    /** Indica se o jogador da vez já rolou o dado e falta mover um peão.
+     * @return True entre uma rolagem com movimentos e o movimento. */
+    public boolean isMovimentoPendente() { return this.movimentoPendente; }
     /** Getter para o estado do jogo.
      * @return Estado atual. */
     public EstadoJogo getEstado() { return this.estado; }
     /** Getter para os jogadores do jogo.
      * @return Lista de jogadores. */
     public List<Jogador> getJogadores() { return this.jogadores; }
+    /** Getter para o hash de Zobrist da posição: peões, jogador da vez e valor pendente do dado.
+     * @return Hash de 64 bits, atualizado incrementalmente. */
+    public long getHash() { return this.tabuleiro.getHash() ^ this.hashTurno; }
+    /** Getter para a parte do hash referente ao turno (jogador da vez e dado).
+     * @return Hash do turno. */
+    long getHashTurno() { return this.hashTurno; }
+    /** Getter para os movimentos válidos do jogador da vez com o dado atual.
+     * O vetor é compartilhado e reaproveitado: não deve ser alterado nem guardado.
+     * @return Vetor com os movimentos codificados (ver Tabuleiro.codificarMovimento). */
+    public int[] getMovimentos() {
+        atualizarMovimentos();
+        return this.movimentos;
+    }
+    /** Getter para a quantidade de movimentos válidos do jogador da vez com o dado atual.
+     * @return Quantidade de posições válidas em getMovimentos(). */
+    public int getNumMovimentos() {
+        atualizarMovimentos();
+        return this.numMovimentos;
+    }
+
+    // Setters
+    /**
+     * Define o valor pendente do dado sem rolar. Usado por buscas das IAs (nós de acaso) e por replays.
+     *
+     * @param valorDado O valor do dado (1 a 6).
+     */
+    public void setValorDado(int valorDado) {
+        this.hashTurno ^= Zobrist.chaveDado(this.valorDadoAtual) ^ Zobrist.chaveDado(valorDado);
+        this.valorDadoAtual = valorDado;
+    }
+
+    /**
+     * Troca o dado da partida, sem mexer no tabuleiro nem no turno.
+     * Usado ao recuperar uma partida, para continuar a sequência do dado do ponto registrado.
+     *
+     * @param dado O novo dado.
+     */
+    public void setDado(Dado dado) { this.dado = dado; }
+
+    /**
+     * Marca que o jogador da vez já rolou o valor atual do dado e falta mover, sem rolar.
+     * Usado ao recuperar uma partida interrompida entre a rolagem e o movimento (ver persistencia.DiarioPartida).
+     *
+     * @param pendente Se há um movimento pendente.
+     * @throws IllegalArgumentException Se pendente for true sem jogo em andamento ou sem movimentos para o dado atual.
+     */
+    public void setMovimentoPendente(boolean pendente) {
+        if (pendente && (this.estado != EstadoJogo.EM_JOGO || getNumMovimentos() == 0)) {
+            throw new IllegalArgumentException("Não há movimento a fazer com o dado " + this.valorDadoAtual + ".");
+        }
+        this.movimentoPendente = pendente;
+    }
+
+    /**
+     * Passa a notificar um observador das rolagens e jogadas da partida, depois dos que já estavam registrados.
+     *
+     * @param observador O observador.
+     */
+    public void adicionarObservador(ObservadorJogadas observador) {
+        if (observador == null) throw new IllegalArgumentException("Observador nulo.");
+        if (this.observadores == null) {
+            this.observadores = new ObservadorJogadas[] {observador};
+            return;
+        }
+        ObservadorJogadas[] novos = Arrays.copyOf(this.observadores, this.observadores.length + 1);
+        novos[this.observadores.length] = observador;
+        this.observadores = novos;
+    }
+
+    /**
+     * Deixa de notificar um observador. Não faz nada se ele não estava registrado.
+     *
+     * @param observador O observador.
+     */
+    public void removerObservador(ObservadorJogadas observador) {
+        if (this.observadores == null) return;
+        for (int i = 0; i < this.observadores.length; i++) {
+            if (this.observadores[i] != observador) continue;
+            if (this.observadores.length == 1) {
+                this.observadores = null;
+                return;
+            }
+            ObservadorJogadas[] novos = new ObservadorJogadas[this.observadores.length - 1];
+            System.arraycopy(this.observadores, 0, novos, 0, i);
+            System.arraycopy(this.observadores, i + 1, novos, i, novos.length - i);
+            this.observadores = novos;
+            return;
+        }
+    }
 
     // Principais
 
@@ -63,9 +180,22 @@ public class MotorJogo implements Serializable {
      * @param coresEscolhidas Permite escolha de cores para cada jogador humano.
      */
     public void iniciarNovoJogo(List<Class<? extends Jogador>> tipos, List<Cor> coresEscolhidas) {
+        iniciarNovoJogo(tipos, coresEscolhidas, new Dado());
+    }
+
+    /**
+     * Inicia o jogo com um dado específico. Com um dado de semente conhecida,
+     * a partida inteira (rolagens e desempates das IAs) é reproduzível.
+     *
+     * @param tipos Jogador Humano ou JogadorIA;
+     * @param coresEscolhidas Permite escolha de cores para cada jogador humano;
+     * @param dado O dado da partida.
+     */
+    public void iniciarNovoJogo(List<Class<? extends Jogador>> tipos, List<Cor> coresEscolhidas, Dado dado) {
         this.tabuleiro = new Tabuleiro();
-        this.dado = new Dado();
+        this.dado = dado;
         this.jogadores = new ArrayList<>();
+        this.historico = new ArrayDeque<>();
         this.estado = EstadoJogo.EM_JOGO;
 
         for (int i = 0; i < tipos.size() && i < coresEscolhidas.size() && i < 4; i++) {
@@ -82,12 +212,35 @@ public class MotorJogo implements Serializable {
         }
 
         this.jogadorAtual = jogadores.get(0);
+        this.valorDadoAtual = 0;
+        this.movimentoPendente = false;
+        this.hashTurno = Zobrist.chaveJogador(0) ^ Zobrist.chaveDado(0);
+    }
+
+    /**
+     * Inicia o jogo a partir de uma configuração.
+     *
+     * @param config Tipos e cores dos jogadores.
+     */
+    public void iniciarNovoJogo(ConfigJogo config) {
+        iniciarNovoJogo(config.getTipos(), config.getCores());
+    }
+
+    /**
+     * Inicia o jogo a partir de uma configuração, com um dado de semente conhecida.
+     *
+     * @param config Tipos e cores dos jogadores;
+     * @param semente Semente do dado da partida.
+     */
+    public void iniciarNovoJogo(ConfigJogo config, long semente) {
+        iniciarNovoJogo(config.getTipos(), config.getCores(), new Dado(semente));
     }
 
     /**
      * Atualiza jogadorAtual (ou repete, se tirou 6).
      */
     public void finalizarTurno() {
+        this.movimentoPendente = false;
         if (this.estado != EstadoJogo.EM_JOGO) return;
 
         // Verifica vitoria
@@ -104,23 +257,23 @@ public class MotorJogo implements Serializable {
 
         // Passa a vez para o próximo jogador
         int indice = jogadores.indexOf(jogadorAtual);
-        this.jogadorAtual = jogadores.get((indice + 1) % jogadores.size()); // Conecta o último jogador ao primeiro, em círculo
+        int proximo = (indice + 1) % jogadores.size(); // Conecta o último jogador ao primeiro, em círculo
+        this.jogadorAtual = jogadores.get(proximo);
+        this.hashTurno ^= Zobrist.chaveJogador(indice) ^ Zobrist.chaveJogador(proximo);
     }
 
     /**
-     * Verifica se o jogadorAtual tem movimentos. Se não, lança exceção.
+     * Verifica se o jogadorAtual tem movimentos. Se não, passa a vez.
      *
-     * @param valorDado Valor rolado.
-     * @throws NenhumMovimentoPossivelException Se lista vazia.
+     * @return True se há movimentos para o dado atual.
      */
-    private void verificarMovimentosPossiveis(int valorDado) throws NenhumMovimentoPossivelException {
-        List<Peao> listaPeoesValidos = jogadorAtual.getPeoesValidos(valorDado, this.tabuleiro);
-
-        if (listaPeoesValidos.isEmpty()) {
+    private boolean verificarMovimentosPossiveis() {
+        if (getNumMovimentos() == 0) {
             // Forca passagem de turno se não pode mover
             finalizarTurno();
-            throw new NenhumMovimentoPossivelException("Nenhum movimento possível! Passando a vez.");
+            return false;
         }
+        return true;
     }
 
     /**
@@ -132,18 +285,68 @@ public class MotorJogo implements Serializable {
     public void rolarDado() throws NenhumMovimentoPossivelException, MovimentoInvalidoException {
         if (this.estado != EstadoJogo.EM_JOGO) return;
 
-        this.valorDadoAtual = dado.rolar();
-
-        try {
-            verificarMovimentosPossiveis(valorDadoAtual);
+        if (!rolarEJogar()) {
+            throw new NenhumMovimentoPossivelException("Nenhum movimento possível! Passando a vez."); // Sobe para a GUI exibir msg
         }
-        catch (NenhumMovimentoPossivelException e) {
-            throw e; // Sobe para a GUI exibir msg
+    }
+
+    /**
+     * Versão de rolarDado para execução sem GUI (simulações): não usa exceção quando não há movimentos,
+     * o que evita criar uma exceção a cada rolagem sem jogada.
+     *
+     * @return True se o jogador da vez tinha movimentos, false se o turno foi passado (ou o jogo não está EM_JOGO).
+     * @throws MovimentoInvalidoException Se erro de logica IA.
+     */
+    public boolean jogarTurno() throws MovimentoInvalidoException {
+        if (this.estado != EstadoJogo.EM_JOGO) return false;
+
+        return rolarEJogar();
+    }
+
+    /**
+     * Rola o dado sem delegar a jogada ao jogador da vez, para quando ela é decidida por fora
+     * (ex: a GUI, que pede a decisão das IAs em outra thread). Se não houver movimentos, o turno é passado.
+     *
+     * @return True se o jogador da vez tem movimentos para o valor rolado.
+     */
+    public boolean rolarSemJogar() {
+        if (this.estado != EstadoJogo.EM_JOGO) return false;
+
+        return rolar();
+    }
+
+    /**
+     * Rola o dado e, se houver movimentos, delega a jogada ao jogador da vez.
+     *
+     * @return True se havia movimentos.
+     * @throws MovimentoInvalidoException Se erro de logica IA.
+     */
+    private boolean rolarEJogar() throws MovimentoInvalidoException {
+        if (!rolar()) {
+            return false;
         }
 
         if (jogadorAtual instanceof Jogavel) { // cast
             ((Jogavel) jogadorAtual).fazerJogada(valorDadoAtual);
         }
+        return true;
+    }
+
+    /**
+     * Rola o dado, guarda o valor, passa a vez se não houver movimentos e notifica os observadores.
+     *
+     * @return True se o jogador da vez tem movimentos para o valor rolado.
+     */
+    private boolean rolar() {
+        setValorDado(dado.rolar());
+        int valor = this.valorDadoAtual;
+        boolean temMovimentos = verificarMovimentosPossiveis();
+        this.movimentoPendente = temMovimentos;
+        ObservadorJogadas[] lista = this.observadores;
+        if (lista != null) {
+            for (ObservadorJogadas observador : lista) observador.dadoRolado(valor, temMovimentos, this.dado.getSorteios());
+        }
+        return temMovimentos;
     }
 
     /**
@@ -165,25 +368,84 @@ public class MotorJogo implements Serializable {
             throw new MovimentoInvalidoException("Este peão não é seu!");
         }
 
-        // Validar movimento fisico
-        Casa destino = tabuleiro.getCasaDestino(peao, valorDadoAtual);
+        // Validar movimento fisico: o peão precisa estar na lista de movimentos da rolagem
+        int destino = buscarDestinoNosMovimentos(peao);
 
-        if (destino == null) {
-            if (peao.getEstado() == EstadoPeao.BASE) {
-                throw new MovimentoInvalidoException("Precisa tirar 6 para sair da base!");
-            }
-            if (destino == null) {
+        if (destino == Tabuleiro.POSICAO_INVALIDA) {
+            int destinoCalculado = tabuleiro.getDestino(peao, valorDadoAtual);
+
+            if (destinoCalculado == Tabuleiro.POSICAO_INVALIDA) {
+                if (peao.getEstado() == EstadoPeao.BASE) {
+                    throw new MovimentoInvalidoException("Precisa tirar 6 para sair da base!");
+                }
                 throw new MovimentoInvalidoException("Você não pode realizar esse movimento!");
             }
+            if (tabuleiro.isBloqueio(destinoCalculado)) {
+                throw new MovimentoInvalidoException("Esta casa está bloqueada!");
+            }
+            throw new MovimentoInvalidoException("Você não pode realizar esse movimento!");
         }
 
-        if (tabuleiro.verificarBloqueio(destino)) {
-            throw new MovimentoInvalidoException("Esta casa está bloqueada!");
+        // Executa
+        Jogada jogada = new Jogada(peao, destino);
+        jogada.aplicar(this);
+        this.historico.push(jogada);
+        ObservadorJogadas[] lista = this.observadores;
+        if (lista != null) {
+            int movimento = Tabuleiro.codificarMovimento(peao.getId(), destino);
+            for (ObservadorJogadas observador : lista) observador.peaoMovido(movimento, this.dado.getSorteios());
         }
+    }
 
-        // Executa
-        tabuleiro.moverPeao(peao, destino);
+    /**
+     * Procura o peão na lista de movimentos da rolagem atual.
+     *
+     * @param peao O peão;
+     * @return A posição de destino do peão, ou POSICAO_INVALIDA se ele não puder se mover.
+     */
+    private int buscarDestinoNosMovimentos(Peao peao) {
+        int quantidade = getNumMovimentos();
+        for (int i = 0; i < quantidade; i++) {
+            if (Tabuleiro.idPeaoDoMovimento(this.movimentos[i]) == peao.getId()) {
+                return Tabuleiro.destinoDoMovimento(this.movimentos[i]);
+            }
+        }
+        return Tabuleiro.POSICAO_INVALIDA;
+    }
 
+    /**
+     * Gera a lista de movimentos se o estado mudou desde a última geração (comparando o hash da posição).
+     */
+    private void atualizarMovimentos() {
+        long hashAtual = getHash();
+        if (this.movimentosGerados && hashAtual == this.hashMovimentos) return;
+
+        this.numMovimentos = tabuleiro.gerarMovimentos(jogadorAtual.getCor().ordinal(), valorDadoAtual, movimentos);
+        this.hashMovimentos = hashAtual;
+        this.movimentosGerados = true;
+    }
+
+    /**
+     * Desfaz a última jogada feita por tentarMoverPeao, voltando o tabuleiro e o turno ao estado anterior.
+     *
+     * @return True se havia jogada para desfazer.
+     */
+    public boolean desfazerUltimaJogada() {
+        if (this.historico == null || this.historico.isEmpty()) return false;
+
+        this.historico.pop().desfazer(this);
+        ObservadorJogadas[] lista = this.observadores;
+        if (lista != null) {
+            for (ObservadorJogadas observador : lista) observador.jogadaDesfeita(this.dado.getSorteios());
+        }
+        return true;
+    }
+
+    /**
+     * Finaliza um movimento já executado no tabuleiro: verifica vitória e passa o turno.
+     */
+    void concluirMovimento() {
+        this.movimentoPendente = false;
         if (jogadorAtual.verificarVitoria()) {
             this.estado = EstadoJogo.ENCERRADO;
             return; // O controlador detecta e abre a tela de vitória
@@ -192,6 +454,130 @@ public class MotorJogo implements Serializable {
         finalizarTurno();
     }
 
+    /**
+     * Restaura o turno salvo por uma Jogada antes de ser aplicada.
+     *
+     * @param jogador O jogador da vez antes da jogada;
+     * @param valorDado O valor do dado antes da jogada;
+     * @param movimentoPendente Se havia movimento pendente antes da jogada;
+     * @param estadoJogo O estado do jogo antes da jogada;
+     * @param hashTurno A parte do hash referente ao turno antes da jogada.
+     */
+    void restaurarTurno(Jogador jogador, int valorDado, boolean movimentoPendente, EstadoJogo estadoJogo, long hashTurno) {
+        this.jogadorAtual = jogador;
+        this.valorDadoAtual = valorDado;
+        this.movimentoPendente = movimentoPendente;
+        this.estado = estadoJogo;
+        this.hashTurno = hashTurno;
+    }
+
+    /**
+     * Cria uma cópia independente do motor (tabuleiro, jogadores e dado), por serialização.
+     * Permite que uma IA decida em outra thread sem tocar no motor exibido pela GUI.
+     * A cópia começa com o histórico de jogadas vazio: ele não é usado nas decisões e seria a maior parte do custo.
+     *
+     * @return A cópia.
+     */
+    public MotorJogo copiar() {
+        Deque<Jogada> historicoOriginal = this.historico;
+        this.historico = new ArrayDeque<>();
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream saida = new ObjectOutputStream(bytes)) {
+                saida.writeObject(this);
+            }
+            try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (MotorJogo) entrada.readObject();
+            }
+        }
+        catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Não foi possível copiar o motor: " + e.getMessage(), e);
+        }
+        finally {
+            this.historico = historicoOriginal;
+        }
+    }
+
+    /**
+     * Coloca os peões nas posições informadas e restaura o turno, a partir da posição inicial de iniciarNovoJogo.
+     * Usado para carregar jogos salvos (ver persistencia.FormatoSave). O histórico de jogadas começa vazio.
+     * A posição é validada antes (validarPosicao): se for inválida, o motor não é alterado.
+     *
+     * @param posicoes Posição lógica de cada peão, indexada pelo id (cor * 4 + k);
+     * @param assentoDaVez Índice do jogador da vez em getJogadores();
+     * @param valorDado Valor pendente do dado (0 se ainda não rolou);
+     * @param estadoJogo Estado do jogo.
+     * @throws IllegalArgumentException Se alguma posição não for válida para a cor do peão, ou o turno for inválido.
+     */
+    public void restaurarPosicao(int[] posicoes, int assentoDaVez, int valorDado, EstadoJogo estadoJogo) {
+        List<Cor> cores = new ArrayList<>();
+        for (Jogador jogador : jogadores) cores.add(jogador.getCor());
+        validarPosicao(cores, posicoes, assentoDaVez, valorDado);
+
+        for (Jogador jogador : jogadores) {
+            int base = Tabuleiro.posicaoBase(jogador.getCor().ordinal());
+            for (Peao peao : jogador.getPeoes()) {
+                if (posicoes[peao.getId()] != base) tabuleiro.moverPeao(peao, posicoes[peao.getId()]);
+            }
+        }
+
+        this.jogadorAtual = jogadores.get(assentoDaVez);
+        this.valorDadoAtual = valorDado;
+        this.movimentoPendente = false;
+        this.estado = estadoJogo;
+        this.hashTurno = Zobrist.chaveJogador(assentoDaVez) ^ Zobrist.chaveDado(valorDado);
+        this.historico = new ArrayDeque<>();
+        this.movimentosGerados = false;
+    }
+
+    /**
+     * Verifica, sem tocar em nenhum motor, se uma posição pode ser restaurada por restaurarPosicao: cada peão em
+     * uma casa da sua cor (circuito, base ou reta final), nenhuma captura ao colocá-los e um turno válido.
+     *
+     * @param cores Cores dos jogadores, na ordem de jogada;
+     * @param posicoes Posição lógica de cada peão, indexada pelo id (cor * 4 + k);
+     * @param assentoDaVez Índice do jogador da vez;
+     * @param valorDado Valor pendente do dado (0 se ainda não rolou).
+     * @throws IllegalArgumentException Se a posição ou o turno forem inválidos.
+     */
+    public static void validarPosicao(List<Cor> cores, int[] posicoes, int assentoDaVez, int valorDado) {
+        if (assentoDaVez < 0 || assentoDaVez >= cores.size() || valorDado < 0 || valorDado > 6) {
+            throw new IllegalArgumentException("Turno inválido: assento " + assentoDaVez + ", dado " + valorDado + ".");
+        }
+        if (posicoes.length != Tabuleiro.MAX_PEOES) {
+            throw new IllegalArgumentException("Quantidade de posições inválida: " + posicoes.length + ".");
+        }
+
+        // Os peões são colocados em um tabuleiro de rascunho, como Jogador e restaurarPosicao fariam
+        Tabuleiro rascunho = new Tabuleiro();
+        List<Peao> peoes = new ArrayList<>();
+        for (Cor cor : cores) {
+            Casa casaBase = rascunho.getCasaBase(cor);
+            for (int k = 0; k < 4; k++) {
+                Peao peao = new Peao(cor, casaBase);
+                casaBase.adicionarPeao(peao);
+                rascunho.registrarPeao(peao);
+                peoes.add(peao);
+            }
+        }
+        for (Peao peao : peoes) {
+            int cor = peao.getCor().ordinal();
+            int posicao = posicoes[peao.getId()];
+            boolean daCor = Tabuleiro.isPosicaoCircuito(posicao) || posicao == Tabuleiro.posicaoBase(cor)
+                    || (posicao >= Tabuleiro.posicaoRetaFinal(cor, 0) && posicao <= Tabuleiro.posicaoChegada(cor));
+            if (!daCor) {
+                throw new IllegalArgumentException("Posição " + posicao + " inválida para o peão " + peao.getId() + ".");
+            }
+            if (posicao != Tabuleiro.posicaoBase(cor)) rascunho.moverPeao(peao, posicao);
+        }
+        // Uma posição impossível (ex: duas cores na mesma casa comum) faria uma captura ao colocar os peões
+        for (Peao peao : peoes) {
+            if (rascunho.getPosicao(peao.getId()) != posicoes[peao.getId()]) {
+                throw new IllegalArgumentException("Peões de cores diferentes na casa " + posicoes[peao.getId()] + ".");
+            }
+        }
+    }
+
     // Persistencia
 
     /**
@@ -210,12 +596,7 @@ public class MotorJogo implements Serializable {
      * @throws SlotSaveIndisponivelException Exceção caso não tenha save no slot.
      */
     public void carregarJogo(int slot) throws SlotSaveIndisponivelException {
-        MotorJogo carregado = GerenciadorDePersistencia.carregarJogo(slot);
-        this.tabuleiro = carregado.tabuleiro;
-        this.jogadores = carregado.jogadores;
-        this.jogadorAtual = carregado.jogadorAtual;
-        this.dado = carregado.dado;
-        this.valorDadoAtual = carregado.valorDadoAtual;
-        this.estado = carregado.estado;
-    }
-}
\ No newline at end of file
+        // O save é aplicado neste motor, para que os jogadores recriados referenciem o motor em uso (e não uma cópia)
+        GerenciadorDePersistencia.carregarJogo(slot, this);
+    }
+}
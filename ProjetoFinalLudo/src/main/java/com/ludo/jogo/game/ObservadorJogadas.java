@@ -0,0 +1,35 @@
+package com.ludo.jogo.game;
+
+/**
+ * Interface de quem acompanha a partida de um motor, evento por evento (ex: o diário de jogadas e o gravador de replay
+ * da persistência; um motor aceita vários, ver MotorJogo.adicionarObservador).
+ * Só as ações da partida real são notificadas: jogadas aplicadas e desfeitas pelas buscas das IAs não passam por aqui.
+ */
+public interface ObservadorJogadas {
+
+    // MÉTODOS
+
+    /**
+     * Chamado depois de cada rolagem (e da passagem do turno, se não havia movimentos para o valor rolado).
+     *
+     * @param valorDado O valor rolado;
+     * @param temMovimentos Se o jogador da vez tem movimentos para o valor (se não, o turno já foi passado);
+     * @param sorteios Quantidade de sorteios feitos pelo dado até aqui.
+     */
+    void dadoRolado(int valorDado, boolean temMovimentos, long sorteios);
+
+    /**
+     * Chamado depois de cada movimento feito por tentarMoverPeao (já com o turno atualizado).
+     *
+     * @param movimento O movimento codificado (ver Tabuleiro.codificarMovimento);
+     * @param sorteios Quantidade de sorteios feitos pelo dado até aqui (inclui desempates das IAs).
+     */
+    void peaoMovido(int movimento, long sorteios);
+
+    /**
+     * Chamado depois que desfazerUltimaJogada volta uma jogada.
+     *
+     * @param sorteios Quantidade de sorteios feitos pelo dado até aqui.
+     */
+    void jogadaDesfeita(long sorteios);
+}
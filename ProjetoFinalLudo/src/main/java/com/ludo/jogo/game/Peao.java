@@ -13,6 +13,7 @@ public class Peao implements Serializable {
     private Casa casaAtual;
     private final Casa casaInicial;
     private EstadoPeao estado;
+    private int id;
 
 
     // CONSTRUTOR
@@ -28,6 +29,7 @@ public class Peao implements Serializable {
         this.casaInicial = casaInicial;
         this.casaAtual = casaInicial;
         this.estado = EstadoPeao.BASE;
+        this.id = -1;
     }
 
 
@@ -52,6 +54,12 @@ public class Peao implements Serializable {
      * @return Retorna o Estado do peão (BASE, EM_JOGO ou FINALIZADO).
      */
     public EstadoPeao getEstado() { return this.estado; }
+    /**
+     * Getter que retorna o identificador do peão no estado compacto do Tabuleiro.
+     *
+     * @return Retorna um índice de 0 a 15, ou -1 se o peão ainda não foi registrado em um tabuleiro.
+     */
+    public int getId() { return this.id; }
 
     // Setters
     /**
@@ -66,6 +74,12 @@ public class Peao implements Serializable {
      * @param estado O novo Estado (BASE, EM_JOGO ou FINALIZADO).
      */
     public void setEstado(EstadoPeao estado) { this.estado = estado; }
+    /**
+     * Setter usado pelo Tabuleiro ao registrar o peão.
+     *
+     * @param id O índice do peão no vetor de posições do tabuleiro.
+     */
+    void setId(int id) { this.id = id; }
 
     // Principais
     /**
@@ -74,6 +88,7 @@ public class Peao implements Serializable {
     public void voltarParaBase() {
         this.casaAtual.removerPeao(this); // Tira o peão da casa que estava
         setCasa(this.casaInicial); // Joga o peão pra casa inicial
+        this.casaInicial.adicionarPeao(this);
         setEstado(EstadoPeao.BASE); // Sinaliza que o peão esta na base
     }
 }
\ No newline at end of file
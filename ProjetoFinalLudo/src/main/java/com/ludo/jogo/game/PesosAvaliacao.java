@@ -0,0 +1,265 @@
+package com.ludo.jogo.game;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Avaliação linear aprendida: estima a chance de uma cor vencer a partir dos componentes da AvaliacaoIncremental
+ * do tabuleiro, como sigmoide(pesos · características).
+ * As características são as da cor avaliada e as do adversário mais adiantado (progresso, peões fora da base,
+ * chegados, ameaças e progresso ameaçado, normalizados), mais o viés e a quantidade de adversários.
+ * Os pesos são ajustados por aprendizado por diferença temporal (simulacao.TreinadorTD) e gravados em um arquivo
+ * pequeno; avaliar() não aloca memória, para poder ser chamada em qualquer nó de uma busca.
+ * Os pesos são imutáveis depois de criados, então a mesma instância pode ser usada por várias threads.
+ */
+public final class PesosAvaliacao implements Serializable {
+
+    // ATRIBUTOS
+
+    /** Arquivo padrão dos pesos (propriedade "ludo.td.arquivo"). */
+    public static final String ARQUIVO_PADRAO = System.getProperty("ludo.td.arquivo", "pesos_td.bin");
+    /** Quantidade de características (e de pesos). */
+    public static final int NUM_CARACTERISTICAS = 12;
+
+    // Índices das características: viés, 5 da cor avaliada, 5 do adversário mais adiantado e adversários
+    static final int VIES = 0;
+    static final int PROPRIAS = 1;
+    static final int DO_LIDER = 6;
+    static final int ADVERSARIOS = 11;
+
+    private static final int MAGICO = 0x4C554450; // "LUDP"
+    private static final int VERSAO = 1;
+    private static final double PROGRESSO_MAXIMO = 4.0 * Tabuleiro.getProgresso(0, Tabuleiro.posicaoChegada(0));
+
+    /** Pesos iniciais, equivalentes em sinal à heurística do JogadorExpectiminimax. */
+    private static final double[] PESOS_INICIAIS = {
+            0.0,
+            4.0, 0.5, 0.5, -0.3, -1.0,
+            -4.0, -0.5, -0.5, 0.3, 1.0,
+            -0.5
+    };
+
+    private final double[] pesos;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param pesos Os pesos, na ordem das características (o vetor é copiado).
+     */
+    public PesosAvaliacao(double[] pesos) {
+        if (pesos.length != NUM_CARACTERISTICAS) {
+            throw new IllegalArgumentException("São esperados " + NUM_CARACTERISTICAS + " pesos, não " + pesos.length + ".");
+        }
+        this.pesos = pesos.clone();
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para os pesos.
+     * @return Uma cópia dos pesos, na ordem das características. */
+    public double[] getPesos() { return this.pesos.clone(); }
+
+    /**
+     * Retorna os pesos padrão: lidos de ARQUIVO_PADRAO se ele existir, senão os pesos iniciais.
+     *
+     * @return Os pesos compartilhados.
+     */
+    public static PesosAvaliacao getPadrao() {
+        return Padrao.PESOS;
+    }
+
+    /** Inicialização preguiçosa dos pesos padrão. */
+    private static final class Padrao {
+        static final PesosAvaliacao PESOS = carregarOuIniciais(Path.of(ARQUIVO_PADRAO));
+    }
+
+    /**
+     * Retorna os pesos iniciais, usados antes de qualquer treino.
+     *
+     * @return Pesos iniciais.
+     */
+    public static PesosAvaliacao iniciais() {
+        return new PesosAvaliacao(PESOS_INICIAIS);
+    }
+
+    /**
+     * Lê os pesos de um arquivo, se possível; senão usa os iniciais.
+     *
+     * @param arquivo O arquivo de pesos;
+     * @return Os pesos.
+     */
+    private static PesosAvaliacao carregarOuIniciais(Path arquivo) {
+        if (Files.isRegularFile(arquivo)) {
+            try {
+                return carregar(arquivo);
+            }
+            catch (IOException e) {
+                System.err.println("Pesos da avaliação inválidos, usando os iniciais: " + e.getMessage());
+            }
+        }
+        return iniciais();
+    }
+
+    // Persistência
+
+    /**
+     * Lê os pesos de um arquivo gravado por salvar().
+     *
+     * @param arquivo O arquivo;
+     * @return Os pesos.
+     * @throws IOException Se o arquivo não puder ser lido ou não for um arquivo de pesos.
+     */
+    public static PesosAvaliacao carregar(Path arquivo) throws IOException {
+        try (DataInputStream entrada = new DataInputStream(Files.newInputStream(arquivo))) {
+            if (entrada.readInt() != MAGICO || entrada.readInt() != VERSAO || entrada.readInt() != NUM_CARACTERISTICAS) {
+                throw new IOException("Cabeçalho inválido em " + arquivo);
+            }
+            double[] pesos = new double[NUM_CARACTERISTICAS];
+            for (int i = 0; i < NUM_CARACTERISTICAS; i++) pesos[i] = entrada.readFloat();
+            if (entrada.read() != -1) throw new IOException("Dados a mais no fim de " + arquivo);
+            return new PesosAvaliacao(pesos);
+        }
+    }
+
+    /**
+     * Grava os pesos em um arquivo (cabeçalho e um float por peso).
+     *
+     * @param arquivo O arquivo de destino;
+     * @throws IOException Se não for possível gravar.
+     */
+    public void salvar(Path arquivo) throws IOException {
+        try (DataOutputStream saida = new DataOutputStream(Files.newOutputStream(arquivo))) {
+            saida.writeInt(MAGICO);
+            saida.writeInt(VERSAO);
+            saida.writeInt(NUM_CARACTERISTICAS);
+            for (double peso : this.pesos) saida.writeFloat((float) peso);
+        }
+    }
+
+    // Avaliação
+
+    /**
+     * Estima a chance de uma cor vencer na posição atual do motor. Não aloca memória.
+     *
+     * @param motor O motor da partida;
+     * @param cor O índice da cor avaliada;
+     * @return Valor entre 0 e 1.
+     */
+    public double avaliar(MotorJogo motor, int cor) {
+        AvaliacaoIncremental avaliacao = motor.getTabuleiro().getAvaliacao();
+        int lider = liderAdversario(motor, cor);
+
+        double soma = this.pesos[VIES]
+                + ponderarCor(avaliacao, cor, PROPRIAS)
+                + ponderarCor(avaliacao, lider, DO_LIDER)
+                + this.pesos[ADVERSARIOS] * adversarios(motor);
+        return sigmoide(soma);
+    }
+
+    /**
+     * Preenche as características de uma cor na posição atual do motor (as mesmas usadas por avaliar).
+     *
+     * @param motor O motor da partida;
+     * @param cor O índice da cor avaliada;
+     * @param destino Vetor com NUM_CARACTERISTICAS posições (sobrescrito).
+     */
+    public static void caracteristicas(MotorJogo motor, int cor, double[] destino) {
+        AvaliacaoIncremental avaliacao = motor.getTabuleiro().getAvaliacao();
+        destino[VIES] = 1;
+        preencherCor(avaliacao, cor, destino, PROPRIAS);
+        preencherCor(avaliacao, liderAdversario(motor, cor), destino, DO_LIDER);
+        destino[ADVERSARIOS] = adversarios(motor);
+    }
+
+    /**
+     * Função logística.
+     *
+     * @param x O argumento;
+     * @return 1 / (1 + e^-x).
+     */
+    public static double sigmoide(double x) {
+        return 1 / (1 + Math.exp(-x));
+    }
+
+    // Auxiliares
+
+    /**
+     * Soma ponderada das 5 características de uma cor.
+     *
+     * @param avaliacao A avaliação incremental do tabuleiro;
+     * @param cor O índice da cor;
+     * @param inicio Índice do primeiro peso da cor (PROPRIAS ou DO_LIDER);
+     * @return A soma.
+     */
+    private double ponderarCor(AvaliacaoIncremental avaliacao, int cor, int inicio) {
+        return this.pesos[inicio] * avaliacao.getSomaProgresso(cor) / PROGRESSO_MAXIMO
+                + this.pesos[inicio + 1] * avaliacao.getForaDaBase(cor) / 4.0
+                + this.pesos[inicio + 2] * avaliacao.getChegados(cor) / 4.0
+                + this.pesos[inicio + 3] * avaliacao.getAmeacas(cor) / 4.0
+                + this.pesos[inicio + 4] * avaliacao.getProgressoAmeacado(cor) / PROGRESSO_MAXIMO;
+    }
+
+    /**
+     * Preenche as 5 características de uma cor, na mesma ordem de ponderarCor.
+     *
+     * @param avaliacao A avaliação incremental do tabuleiro;
+     * @param cor O índice da cor;
+     * @param destino O vetor de características;
+     * @param inicio Índice da primeira característica da cor.
+     */
+    private static void preencherCor(AvaliacaoIncremental avaliacao, int cor, double[] destino, int inicio) {
+        destino[inicio] = avaliacao.getSomaProgresso(cor) / PROGRESSO_MAXIMO;
+        destino[inicio + 1] = avaliacao.getForaDaBase(cor) / 4.0;
+        destino[inicio + 2] = avaliacao.getChegados(cor) / 4.0;
+        destino[inicio + 3] = avaliacao.getAmeacas(cor) / 4.0;
+        destino[inicio + 4] = avaliacao.getProgressoAmeacado(cor) / PROGRESSO_MAXIMO;
+    }
+
+    /**
+     * Encontra o adversário mais adiantado (maior soma de progresso; o primeiro na ordem dos jogadores, em empate).
+     *
+     * @param motor O motor da partida;
+     * @param cor O índice da cor avaliada;
+     * @return O índice da cor do adversário.
+     */
+    private static int liderAdversario(MotorJogo motor, int cor) {
+        AvaliacaoIncremental avaliacao = motor.getTabuleiro().getAvaliacao();
+        List<Jogador> jogadores = motor.getJogadores();
+        int lider = cor;
+        int maior = -1;
+        for (int i = 0; i < jogadores.size(); i++) {
+            int outra = jogadores.get(i).getCor().ordinal();
+            if (outra != cor && avaliacao.getSomaProgresso(outra) > maior) {
+                maior = avaliacao.getSomaProgresso(outra);
+                lider = outra;
+            }
+        }
+        return lider;
+    }
+
+    /**
+     * Característica da quantidade de adversários (0 a 1).
+     *
+     * @param motor O motor da partida;
+     * @return (jogadores - 1) / 3.
+     */
+    private static double adversarios(MotorJogo motor) {
+        return (motor.getJogadores().size() - 1) / 3.0;
+    }
+
+    @Override
+    public String toString() {
+        return "PesosAvaliacao" + Arrays.toString(this.pesos);
+    }
+}
@@ -0,0 +1,191 @@
+package com.ludo.jogo.game;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Pesos das regras do JogadorIA. Cada movimento recebe a soma ponderada das suas características (sair da base,
+ * capturar, fugir do perigo, chegar em casa segura, ...) e a IA escolhe o de maior pontuação.
+ * Os pesos iniciais se aproximam das regras fixas anteriores (sair da base, capturar, fugir do perigo, ir para casa
+ * segura, mover um peão exposto), mas não mantêm a ordem delas: uma redução de perigo pequena (50 x 1/36 = 1,4)
+ * perde para sair de uma casa insegura para uma segura (1,5 + 1). Nenhum peso linear mantém essa ordem, pois
+ * 50 x (maior redução) também precisa ficar abaixo da captura (100). Em 20000 partidas a dois contra as regras
+ * fixas (cada semente uma vez em cada assento), os pesos iniciais vencem 53,7%.
+ * Pesos afinados por simulacao.AfinadorHeuristica são lidos de um arquivo pequeno.
+ * Os pesos são imutáveis depois de criados, então a mesma instância pode ser usada por várias threads.
+ */
+public final class PesosHeuristica implements Serializable {
+
+    // ATRIBUTOS
+
+    /** Arquivo padrão dos pesos (propriedade "ludo.heuristica.arquivo"). */
+    public static final String ARQUIVO_PADRAO = System.getProperty("ludo.heuristica.arquivo", "pesos_heuristica.bin");
+    /** Quantidade de pesos (um por característica do movimento). */
+    public static final int NUM_PESOS = 8;
+
+    // Índices das características
+    /** Sai da base. */
+    public static final int SAIDA_BASE = 0;
+    /** Captura um peão adversário. */
+    public static final int CAPTURA = 1;
+    /** Quanto o movimento reduz o perigo do peão (0 se não reduz). */
+    public static final int REDUCAO_PERIGO = 2;
+    /** Sai de uma casa insegura para uma segura. */
+    public static final int DESTINO_SEGURO = 3;
+    /** O peão está em uma casa insegura. */
+    public static final int ORIGEM_INSEGURA = 4;
+    /** Perigo da casa de destino (0 a 1). */
+    public static final int PERIGO_DESTINO = 5;
+    /** Casas andadas / 6. */
+    public static final int PROGRESSO = 6;
+    /** Entra na reta final (ou chega). */
+    public static final int ENTRA_RETA = 7;
+
+    private static final int MAGICO = 0x4C554448; // "LUDH"
+    private static final int VERSAO = 1;
+
+    private static final double[] PESOS_INICIAIS = {1000, 100, 50, 1.5, 1, -0.9, 0, 0};
+
+    private final double[] pesos;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param pesos Os pesos, na ordem das características (o vetor é copiado).
+     */
+    public PesosHeuristica(double[] pesos) {
+        if (pesos.length != NUM_PESOS) {
+            throw new IllegalArgumentException("São esperados " + NUM_PESOS + " pesos, não " + pesos.length + ".");
+        }
+        this.pesos = pesos.clone();
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para os pesos.
+     * @return Uma cópia dos pesos, na ordem das características. */
+    public double[] getPesos() { return this.pesos.clone(); }
+
+    /**
+     * Retorna os pesos padrão: lidos de ARQUIVO_PADRAO se ele existir, senão os pesos iniciais.
+     *
+     * @return Os pesos compartilhados.
+     */
+    public static PesosHeuristica getPadrao() {
+        return Padrao.PESOS;
+    }
+
+    /** Inicialização preguiçosa dos pesos padrão. */
+    private static final class Padrao {
+        static final PesosHeuristica PESOS = carregarOuIniciais(Path.of(ARQUIVO_PADRAO));
+    }
+
+    /**
+     * Retorna os pesos iniciais, próximos das regras fixas (ver a descrição da classe).
+     *
+     * @return Pesos iniciais.
+     */
+    public static PesosHeuristica iniciais() {
+        return new PesosHeuristica(PESOS_INICIAIS);
+    }
+
+    /**
+     * Lê os pesos de um arquivo, se possível; senão usa os iniciais.
+     *
+     * @param arquivo O arquivo de pesos;
+     * @return Os pesos.
+     */
+    private static PesosHeuristica carregarOuIniciais(Path arquivo) {
+        if (Files.isRegularFile(arquivo)) {
+            try {
+                return carregar(arquivo);
+            }
+            catch (IOException e) {
+                System.err.println("Pesos da heurística inválidos, usando os iniciais: " + e.getMessage());
+            }
+        }
+        return iniciais();
+    }
+
+    // Persistência
+
+    /**
+     * Lê os pesos de um arquivo gravado por salvar().
+     *
+     * @param arquivo O arquivo;
+     * @return Os pesos.
+     * @throws IOException Se o arquivo não puder ser lido ou não for um arquivo de pesos da heurística.
+     */
+    public static PesosHeuristica carregar(Path arquivo) throws IOException {
+        try (DataInputStream entrada = new DataInputStream(Files.newInputStream(arquivo))) {
+            if (entrada.readInt() != MAGICO || entrada.readInt() != VERSAO || entrada.readInt() != NUM_PESOS) {
+                throw new IOException("Cabeçalho inválido em " + arquivo);
+            }
+            double[] pesos = new double[NUM_PESOS];
+            for (int i = 0; i < NUM_PESOS; i++) pesos[i] = entrada.readDouble();
+            if (entrada.read() != -1) throw new IOException("Dados a mais no fim de " + arquivo);
+            return new PesosHeuristica(pesos);
+        }
+    }
+
+    /**
+     * Grava os pesos em um arquivo (cabeçalho e um double por peso).
+     *
+     * @param arquivo O arquivo de destino;
+     * @throws IOException Se não for possível gravar.
+     */
+    public void salvar(Path arquivo) throws IOException {
+        try (DataOutputStream saida = new DataOutputStream(Files.newOutputStream(arquivo))) {
+            saida.writeInt(MAGICO);
+            saida.writeInt(VERSAO);
+            saida.writeInt(NUM_PESOS);
+            for (double peso : this.pesos) saida.writeDouble(peso);
+        }
+    }
+
+    // Pontuação
+
+    /**
+     * Pontua um movimento de uma cor no tabuleiro atual. Não aloca memória.
+     *
+     * @param tabuleiro O tabuleiro;
+     * @param cor O índice da cor que move;
+     * @param movimento O movimento codificado (ver Tabuleiro.codificarMovimento);
+     * @return A soma ponderada das características do movimento.
+     */
+    public double pontuar(Tabuleiro tabuleiro, int cor, int movimento) {
+        AvaliacaoIncremental avaliacao = tabuleiro.getAvaliacao();
+        int origem = tabuleiro.getPosicao(Tabuleiro.idPeaoDoMovimento(movimento));
+        int destino = Tabuleiro.destinoDoMovimento(movimento);
+        boolean origemInsegura = Tabuleiro.isPosicaoCircuito(origem) && !Tabuleiro.isPosicaoSegura(origem);
+        double perigoDestino = avaliacao.getPerigo(cor, destino);
+
+        double pontos = 0;
+        if (origem == Tabuleiro.posicaoBase(cor)) pontos += this.pesos[SAIDA_BASE];
+        if (tabuleiro.isCapturaPossivel(cor, destino)) pontos += this.pesos[CAPTURA];
+        pontos += this.pesos[REDUCAO_PERIGO] * Math.max(0, avaliacao.getPerigo(cor, origem) - perigoDestino);
+        if (origemInsegura) {
+            pontos += this.pesos[ORIGEM_INSEGURA];
+            if (Tabuleiro.isPosicaoSegura(destino)) pontos += this.pesos[DESTINO_SEGURO];
+        }
+        pontos += this.pesos[PERIGO_DESTINO] * perigoDestino;
+        pontos += this.pesos[PROGRESSO] * (Tabuleiro.getProgresso(cor, destino) - Tabuleiro.getProgresso(cor, origem)) / 6.0;
+        if (!Tabuleiro.isPosicaoRetaFinal(origem) && Tabuleiro.isPosicaoRetaFinal(destino)) pontos += this.pesos[ENTRA_RETA];
+        return pontos;
+    }
+
+    @Override
+    public String toString() {
+        return "PesosHeuristica" + Arrays.toString(this.pesos);
+    }
+}
@@ -0,0 +1,200 @@
+package com.ludo.jogo.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Busca especulativa ("pondering") das IAs enquanto um jogador humano pensa.
+ * Depois que o humano rola o dado, cada movimento possível dele é um ramo: o ramo aplica o movimento em uma cópia
+ * do motor e, se o próximo jogador for uma IA (Decisor), decide em segundo plano a jogada dela para cada valor de dado.
+ * As decisões ficam guardadas pelo hash da posição; quando a vez da IA chega e o dado é rolado, buscar() devolve
+ * a decisão pronta na hora. Ramos que divergem da jogada real são cancelados e descartados.
+ * As IAs com tabela de transposição (JogadorExpectiminimax) compartilham a tabela com as buscas especulativas,
+ * então mesmo uma posição não ponderada encontra a tabela aquecida.
+ * Na thread do motor só é feita uma cópia dele (e cada movimento é aplicado e desfeito no próprio motor, para saber
+ * a posição resultante); as demais cópias são feitas pela tarefa em segundo plano.
+ *
+ * Os métodos públicos devem ser chamados pela thread dona do motor (na GUI, a thread do JavaFX).
+ */
+public final class Ponderador {
+
+    // ATRIBUTOS
+
+    private final DecisorAssincrono decisor;
+    private final List<Ramo> ramos = new ArrayList<>();
+    private long acertos;
+    private long faltas;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param decisor Decisor cujo executor roda as buscas especulativas (as decisões reais entram na mesma fila).
+     */
+    public Ponderador(DecisorAssincrono decisor) {
+        this.decisor = decisor;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para as vezes em que buscar() encontrou a decisão pronta.
+     * @return Acertos. */
+    public long getAcertos() { return this.acertos; }
+    /** Getter para as vezes em que buscar() não encontrou a decisão.
+     * @return Faltas. */
+    public long getFaltas() { return this.faltas; }
+    /** Getter para as decisões especulativas prontas.
+     * @return Quantidade de decisões guardadas nos ramos ainda ativos. */
+    public int getDecisoesProntas() {
+        int total = 0;
+        for (Ramo ramo : ramos) total += ramo.decisoes.size();
+        return total;
+    }
+
+    // Principais
+
+    /**
+     * Começa a ponderar a partir da posição atual: o jogador da vez (que não é uma IA) já rolou o dado.
+     * Descarta qualquer especulação anterior.
+     *
+     * @param motor O motor da partida;
+     * @return Futuro concluído quando toda a especulação iniciada aqui terminar (ou for cancelada).
+     */
+    public CompletableFuture<Void> ponderar(MotorJogo motor) {
+        cancelar();
+        if (motor.getEstado() != EstadoJogo.EM_JOGO || motor.getJogadorAtual() instanceof Decisor) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        int quantidade = motor.getNumMovimentos();
+        int[] movimentos = new int[quantidade];
+        System.arraycopy(motor.getMovimentos(), 0, movimentos, 0, quantidade);
+
+        List<Ramo> novos = new ArrayList<>();
+        for (int movimento : movimentos) {
+            // A jogada é aplicada e desfeita no próprio motor (O(1)) só para saber a posição resultante
+            Jogada jogada = new Jogada(motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)),
+                    Tabuleiro.destinoDoMovimento(movimento));
+            jogada.aplicar(motor);
+            long hash = motor.getHash();
+            Jogador proximo = motor.getEstado() == EstadoJogo.EM_JOGO ? motor.getJogadorAtual() : null;
+            jogada.desfazer(motor);
+
+            // Só vale ponderar se a próxima vez for de uma IA; é ela, no motor real, cujos caches as cópias reaproveitam
+            if (!(proximo instanceof Decisor ia)) continue;
+            novos.add(new Ramo(hash, movimento, ia));
+        }
+        if (novos.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        this.ramos.addAll(novos);
+        MotorJogo copia = motor.copiar(); // A única cópia feita nesta thread
+        return this.decisor.executar(() -> {
+            for (Ramo ramo : novos) especular(ramo, copia);
+        });
+    }
+
+    /**
+     * Informa a jogada real: os ramos cuja posição não é a atual do motor são cancelados e descartados.
+     *
+     * @param motor O motor da partida, logo depois da jogada do humano.
+     */
+    public void confirmar(MotorJogo motor) {
+        long hash = motor.getHash();
+        ramos.removeIf(ramo -> {
+            if (ramo.hash == hash) return false;
+            ramo.cancelamento.cancelar();
+            return true;
+        });
+    }
+
+    /**
+     * Procura a decisão da IA para a posição atual (a IA já rolou o dado). Toda a especulação é encerrada,
+     * já que a posição real agora é conhecida.
+     *
+     * @param motor O motor da partida;
+     * @return A decisão pronta, ou null se a posição não foi ponderada (ou ainda não terminou).
+     */
+    public Decisao buscar(MotorJogo motor) {
+        long hash = motor.getHash();
+        Decisao decisao = null;
+        for (Ramo ramo : ramos) {
+            Decisao encontrada = ramo.decisoes.get(hash);
+            if (encontrada != null) decisao = encontrada;
+        }
+        cancelar();
+
+        if (decisao != null) this.acertos++;
+        else this.faltas++;
+        return decisao;
+    }
+
+    /**
+     * Cancela e descarta toda a especulação.
+     */
+    public void cancelar() {
+        for (Ramo ramo : ramos) ramo.cancelamento.cancelar();
+        ramos.clear();
+    }
+
+    /**
+     * Decide, em segundo plano, a jogada da IA de um ramo para cada valor de dado.
+     *
+     * @param ramo O ramo;
+     * @param antes Cópia do motor antes da jogada do humano (só usada pela tarefa de especulação; não é alterada).
+     */
+    private static void especular(Ramo ramo, MotorJogo antes) {
+        if (ramo.cancelamento.isCancelado()) return;
+
+        MotorJogo aposJogada = antes.copiar();
+        try {
+            aposJogada.tentarMoverPeao(aposJogada.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(ramo.movimento)));
+        }
+        catch (MovimentoInvalidoException e) {
+            return;
+        }
+
+        for (int valorDado = 1; valorDado <= 6 && !ramo.cancelamento.isCancelado(); valorDado++) {
+            MotorJogo copia = aposJogada.copiar();
+            copia.getDado().avancar(1); // Como se o dado tivesse sido rolado, para os sorteios seguintes baterem
+            copia.setValorDado(valorDado);
+            if (copia.getNumMovimentos() < 2) continue; // Sem escolha a fazer
+
+            Decisor ia = (Decisor) copia.getJogadorAtual();
+            ia.reaproveitarDe(ramo.original);
+
+            long sorteiosAntes = copia.getDado().getSorteios();
+            int movimento = ia.escolherMovimento(valorDado, ramo.cancelamento);
+            if (ramo.cancelamento.isCancelado()) return;
+
+            ramo.decisoes.put(copia.getHash(), new Decisao(movimento, copia.getHash(),
+                    copia.getDado().getSorteios() - sorteiosAntes));
+        }
+    }
+
+
+    /** Um movimento possível do humano e as decisões especuladas depois dele. */
+    private static final class Ramo {
+
+        final long hash; // Hash do motor depois do movimento do humano
+        final int movimento;
+        final Decisor original; // A IA da vez depois do movimento, no motor real
+        final Cancelamento cancelamento = new Cancelamento();
+        final Map<Long, Decisao> decisoes = new ConcurrentHashMap<>();
+
+        Ramo(long hash, int movimento, Decisor original) {
+            this.hash = hash;
+            this.movimento = movimento;
+            this.original = original;
+        }
+    }
+}
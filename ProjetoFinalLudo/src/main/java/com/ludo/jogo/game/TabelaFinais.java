@@ -0,0 +1,308 @@
+package com.ludo.jogo.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tabela de finais exata para a reta final.
+ * Quando todos os peões de um jogador que ainda não chegaram estão na reta final, nenhum adversário pode interferir
+ * (as casas da reta são só daquela cor e não há captura nem bloqueio nelas), e o resto da partida desse jogador
+ * se reduz a chegar com os 4 peões no menor número de turnos possível, respeitando o retorno ao passar da chegada.
+ * A tabela guarda, para cada um dos 6^4 estados (deslocamento de cada peão na reta, 5 = chegada), o número esperado
+ * de turnos até o fim com a jogada ótima, e o melhor peão para cada valor de dado.
+ * Os valores são calculados por iteração de valor (o retorno na reta cria ciclos), gravados por main() em um arquivo
+ * e lidos por mapeamento em memória; consultar a tabela é O(1).
+ */
+public final class TabelaFinais {
+
+    // ATRIBUTOS
+
+    /** Arquivo padrão da tabela (propriedade "ludo.finais.arquivo"). */
+    public static final String ARQUIVO_PADRAO = System.getProperty("ludo.finais.arquivo", "tabela_finais.bin");
+    /** Quantidade de estados: 4 peões, cada um em uma das 6 casas da reta. */
+    public static final int NUM_ESTADOS = 6 * 6 * 6 * 6;
+    /** Indica que nenhum peão pode ser movido. */
+    public static final int SEM_PEAO = -1;
+
+    private static final int MAGICO = 0x4C554446; // "LUDF"
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 3 * Integer.BYTES;
+    private static final int INICIO_MELHORES = TAMANHO_CABECALHO + NUM_ESTADOS * Float.BYTES;
+    private static final int TAMANHO_ARQUIVO = INICIO_MELHORES + NUM_ESTADOS * 6;
+    private static final int CHEGADA = Tabuleiro.TAMANHO_RETA_FINAL - 1;
+    private static final double PRECISAO = 1e-12;
+
+    private final ByteBuffer dados;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor privado: a tabela é criada por gerar() ou carregar().
+     *
+     * @param dados Conteúdo no formato do arquivo.
+     */
+    private TabelaFinais(ByteBuffer dados) {
+        this.dados = dados;
+    }
+
+
+    // MÉTODOS
+
+    /**
+     * Retorna a tabela padrão: lida de ARQUIVO_PADRAO se ele existir e for válido, senão gerada em memória
+     * (leva milissegundos e dá os mesmos valores; um arquivo inválido é informado em System.err).
+     *
+     * @return A tabela compartilhada.
+     */
+    public static TabelaFinais getPadrao() {
+        return Padrao.TABELA;
+    }
+
+    /** Inicialização preguiçosa da tabela padrão. */
+    private static final class Padrao {
+        static final TabelaFinais TABELA = carregarOuGerar(Path.of(ARQUIVO_PADRAO));
+    }
+
+    /**
+     * Lê a tabela de um arquivo, se possível; senão a gera (o arquivo é só um atalho para a mesma tabela).
+     * Um arquivo inválido é informado em System.err, para não esconder uma instalação com defeito.
+     *
+     * @param arquivo O arquivo da tabela;
+     * @return A tabela.
+     */
+    private static TabelaFinais carregarOuGerar(Path arquivo) {
+        if (Files.isRegularFile(arquivo)) {
+            try {
+                return carregar(arquivo);
+            }
+            catch (IOException e) {
+                System.err.println("Tabela de finais inválida, gerando em memória: " + e.getMessage());
+            }
+        }
+        return gerar();
+    }
+
+    /**
+     * Mapeia um arquivo de tabela em memória (somente leitura).
+     *
+     * @param arquivo O arquivo gravado por salvar();
+     * @return A tabela.
+     * @throws IOException Se o arquivo não puder ser lido ou não for uma tabela de finais.
+     */
+    public static TabelaFinais carregar(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() != TAMANHO_ARQUIVO) throw new IOException("Tamanho inesperado: " + canal.size());
+
+            ByteBuffer dados = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_ARQUIVO);
+            if (dados.getInt(0) != MAGICO || dados.getInt(4) != VERSAO || dados.getInt(8) != NUM_ESTADOS) {
+                throw new IOException("Cabeçalho inválido em " + arquivo);
+            }
+            return new TabelaFinais(dados);
+        }
+    }
+
+    /**
+     * Grava a tabela em um arquivo.
+     *
+     * @param arquivo O arquivo de destino;
+     * @throws IOException Se não for possível gravar.
+     */
+    public void salvar(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer conteudo = this.dados.duplicate().clear();
+            while (conteudo.hasRemaining()) canal.write(conteudo);
+        }
+    }
+
+    /**
+     * Resolve todos os estados por iteração de valor.
+     * Para um estado s em que o jogador vai rolar, T(s) (turnos até o fim, contando o atual) é a média sobre as faces:
+     * com 1 a 5 o turno acaba, custando 1 + T(s'); com 6 o jogador rola de novo no mesmo turno, custando T(s').
+     * Em cada face é escolhido o peão que minimiza esse custo (T do estado final é 0).
+     *
+     * @return A tabela resolvida, em memória.
+     */
+    public static TabelaFinais gerar() {
+        double[] turnos = new double[NUM_ESTADOS];
+        int[] sucessores = new int[NUM_ESTADOS * 6 * 4];
+        for (int estado = 0; estado < NUM_ESTADOS; estado++) {
+            for (int dado = 1; dado <= 6; dado++) {
+                for (int peao = 0; peao < 4; peao++) {
+                    sucessores[(estado * 6 + dado - 1) * 4 + peao] = sucessor(estado, peao, dado);
+                }
+            }
+        }
+
+        // Gauss-Seidel: os ciclos vêm só do retorno na reta, então a convergência é rápida
+        double variacao;
+        do {
+            variacao = 0;
+            for (int estado = 0; estado < NUM_ESTADOS - 1; estado++) {
+                double soma = 0;
+                for (int dado = 1; dado <= 6; dado++) {
+                    soma += custo(turnos, sucessores, estado, dado, melhorPeao(turnos, sucessores, estado, dado));
+                }
+                double novo = soma / 6;
+                variacao = Math.max(variacao, Math.abs(novo - turnos[estado]));
+                turnos[estado] = novo;
+            }
+        } while (variacao > PRECISAO);
+
+        ByteBuffer dados = ByteBuffer.allocate(TAMANHO_ARQUIVO);
+        dados.putInt(MAGICO).putInt(VERSAO).putInt(NUM_ESTADOS);
+        for (int estado = 0; estado < NUM_ESTADOS; estado++) dados.putFloat((float) turnos[estado]);
+        for (int estado = 0; estado < NUM_ESTADOS; estado++) {
+            for (int dado = 1; dado <= 6; dado++) dados.put((byte) melhorPeao(turnos, sucessores, estado, dado));
+        }
+        return new TabelaFinais(dados.flip());
+    }
+
+    // Consultas
+
+    /**
+     * Número esperado de turnos até os 4 peões chegarem, jogando de forma ótima, no início de um turno.
+     *
+     * @param estado Índice do estado (ver indiceEstado);
+     * @return Turnos esperados (0 se todos já chegaram).
+     */
+    public double getTurnosEsperados(int estado) {
+        return this.dados.getFloat(TAMANHO_CABECALHO + estado * Float.BYTES);
+    }
+
+    /**
+     * Melhor peão a mover em um estado com um valor de dado.
+     *
+     * @param estado Índice do estado (ver indiceEstado);
+     * @param valorDado O valor do dado (1 a 6);
+     * @return O índice do peão na cor (0 a 3), ou SEM_PEAO se todos já chegaram.
+     */
+    public int getMelhorPeao(int estado, int valorDado) {
+        return this.dados.get(INICIO_MELHORES + estado * 6 + valorDado - 1);
+    }
+
+    /**
+     * Consulta a tabela para um jogador do tabuleiro: se todos os peões da cor que faltam chegar estão na reta final,
+     * retorna o movimento ótimo.
+     *
+     * @param tabuleiro O tabuleiro da partida;
+     * @param cor O índice da cor do jogador;
+     * @param valorDado O valor do dado;
+     * @return O movimento codificado (Tabuleiro.codificarMovimento), ou POSICAO_INVALIDA se a tabela não se aplica.
+     */
+    public int escolherMovimento(Tabuleiro tabuleiro, int cor, int valorDado) {
+        int estado = indiceEstado(tabuleiro, cor);
+        if (estado < 0) return Tabuleiro.POSICAO_INVALIDA;
+
+        int peao = getMelhorPeao(estado, valorDado);
+        if (peao == SEM_PEAO) return Tabuleiro.POSICAO_INVALIDA;
+
+        int id = cor * 4 + peao;
+        return Tabuleiro.codificarMovimento(id, Tabuleiro.getDestino(cor, tabuleiro.getPosicao(id), valorDado));
+    }
+
+    /**
+     * Calcula o índice do estado de uma cor no tabuleiro.
+     *
+     * @param tabuleiro O tabuleiro da partida;
+     * @param cor O índice da cor;
+     * @return O índice (soma de deslocamento * 6^k de cada peão k), ou -1 se algum peão está fora da reta final.
+     */
+    public static int indiceEstado(Tabuleiro tabuleiro, int cor) {
+        int inicioReta = Tabuleiro.posicaoRetaFinal(cor, 0);
+        int estado = 0;
+        for (int k = 3; k >= 0; k--) {
+            int deslocamento = tabuleiro.getPosicao(cor * 4 + k) - inicioReta;
+            if (deslocamento < 0 || deslocamento > CHEGADA) return -1;
+            estado = estado * 6 + deslocamento;
+        }
+        return estado;
+    }
+
+    /**
+     * Gera a tabela e a grava no arquivo informado (ou em ARQUIVO_PADRAO).
+     *
+     * @param args Caminho do arquivo (opcional).
+     */
+    public static void main(String[] args) {
+        Path arquivo = Path.of(args.length > 0 ? args[0] : ARQUIVO_PADRAO);
+        long inicio = System.nanoTime();
+        TabelaFinais tabela = gerar();
+
+        try {
+            tabela.salvar(arquivo);
+        }
+        catch (IOException e) {
+            System.err.println("Erro ao gravar " + arquivo + ": " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.printf("Tabela de finais: %d estados em %d ms, gravada em %s (%d bytes)%n", NUM_ESTADOS,
+                (System.nanoTime() - inicio) / 1_000_000, arquivo, TAMANHO_ARQUIVO);
+        System.out.printf("Turnos esperados com os 4 peões no início da reta: %.3f%n", tabela.getTurnosEsperados(0));
+    }
+
+    // Auxiliares da geração
+
+    /**
+     * Estado resultante de mover um peão na reta (com retorno ao passar da chegada).
+     *
+     * @param estado O estado atual;
+     * @param peao O índice do peão (0 a 3);
+     * @param valorDado O valor do dado;
+     * @return O novo estado, ou -1 se o peão já chegou.
+     */
+    private static int sucessor(int estado, int peao, int valorDado) {
+        int peso = (int) Math.pow(6, peao);
+        int deslocamento = estado / peso % 6;
+        if (deslocamento == CHEGADA) return -1;
+
+        int alvo = deslocamento + valorDado;
+        if (alvo > CHEGADA) alvo = CHEGADA - (alvo - CHEGADA);
+        return estado + (alvo - deslocamento) * peso;
+    }
+
+    /**
+     * Custo de mover um peão: 1 turno se o dado não for 6, mais os turnos esperados do estado seguinte.
+     *
+     * @param turnos Valores atuais;
+     * @param sucessores Sucessores pré-calculados;
+     * @param estado O estado;
+     * @param valorDado O valor do dado;
+     * @param peao O peão movido;
+     * @return O custo esperado.
+     */
+    private static double custo(double[] turnos, int[] sucessores, int estado, int valorDado, int peao) {
+        int seguinte = sucessores[(estado * 6 + valorDado - 1) * 4 + peao];
+        if (seguinte == NUM_ESTADOS - 1) return 1; // Terminou neste turno
+        return (valorDado == 6 ? 0 : 1) + turnos[seguinte];
+    }
+
+    /**
+     * Escolhe o peão de menor custo (o de menor índice, em empate).
+     *
+     * @param turnos Valores atuais;
+     * @param sucessores Sucessores pré-calculados;
+     * @param estado O estado;
+     * @param valorDado O valor do dado;
+     * @return O índice do peão, ou SEM_PEAO se todos chegaram.
+     */
+    private static int melhorPeao(double[] turnos, int[] sucessores, int estado, int valorDado) {
+        int melhor = SEM_PEAO;
+        double menorCusto = Double.POSITIVE_INFINITY;
+        for (int peao = 0; peao < 4; peao++) {
+            if (sucessores[(estado * 6 + valorDado - 1) * 4 + peao] < 0) continue;
+
+            double custo = custo(turnos, sucessores, estado, valorDado, peao);
+            if (custo < menorCusto) {
+                menorCusto = custo;
+                melhor = peao;
+            }
+        }
+        return melhor;
+    }
+}
@@ -0,0 +1,210 @@
+package com.ludo.jogo.game;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tabela de transposição de tamanho fixo para as buscas das IAs, indexada pelo hash de Zobrist da posição.
+ * Cada balde tem duas entradas: uma que prefere resultados mais profundos (ou da busca atual) e uma sempre substituída.
+ * Cada entrada são dois longs, (chave ^ dados) e dados; uma leitura só é aceita se o XOR bater com a chave,
+ * então threads podem ler e gravar ao mesmo tempo sem travas (uma entrada corrompida pela corrida vira uma falta).
+ */
+public final class TabelaTransposicao {
+
+    // ATRIBUTOS
+
+    /** O valor guardado é exato. */
+    public static final int EXATO = 0;
+    /** O valor guardado é um limite inferior (a busca cortou acima de beta). */
+    public static final int LIMITE_INFERIOR = 1;
+    /** O valor guardado é um limite superior (a busca ficou abaixo de alfa). */
+    public static final int LIMITE_SUPERIOR = 2;
+    /** Indica ausência de melhor movimento. */
+    public static final int SEM_MOVIMENTO = -1;
+
+    private static final int LONGS_POR_BALDE = 4;
+    private static final long VALIDA = 1L << 63;
+    private static final int MAX_GERACAO = 31;
+
+    private final long[] tabela;
+    private final long mascara;
+    private final int deslocamento;
+    private volatile int geracao;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder faltas = new LongAdder();
+    private final LongAdder colisoes = new LongAdder();
+
+
+    // CONSTRUTOR
+
+    /**
+     * Cria a tabela com o maior número de baldes (potência de 2) que cabe no limite de memória.
+     *
+     * @param megabytes Limite de memória, em MB (pelo menos 1).
+     */
+    public TabelaTransposicao(int megabytes) {
+        long longs = Math.max(1, megabytes) * 1024L * 1024L / Long.BYTES;
+        long baldes = Long.highestOneBit(Math.min(longs / LONGS_POR_BALDE, Integer.MAX_VALUE / LONGS_POR_BALDE));
+        this.tabela = new long[(int) (baldes * LONGS_POR_BALDE)];
+        this.mascara = baldes - 1;
+        this.deslocamento = Long.SIZE - Long.numberOfTrailingZeros(baldes);
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a quantidade de entradas.
+     * @return Capacidade da tabela (2 entradas por balde). */
+    public int getCapacidade() { return this.tabela.length / 2; }
+    /** Getter para as buscas que encontraram a posição.
+     * @return Acertos. */
+    public long getAcertos() { return this.acertos.sum(); }
+    /** Getter para as buscas que não encontraram a posição.
+     * @return Faltas. */
+    public long getFaltas() { return this.faltas.sum(); }
+    /** Getter para as gravações que substituíram outra posição.
+     * @return Colisões. */
+    public long getColisoes() { return this.colisoes.sum(); }
+
+    // Principais
+
+    /**
+     * Procura uma posição.
+     *
+     * @param chave Hash da posição;
+     * @return Os dados da entrada (ler com valor, profundidade, tipo e movimento), ou 0 se não encontrada.
+     */
+    public long buscar(long chave) {
+        int indice = indiceBalde(chave);
+        for (int i = indice; i < indice + LONGS_POR_BALDE; i += 2) {
+            long dados = tabela[i + 1];
+            if (dados != 0 && (tabela[i] ^ dados) == chave) {
+                acertos.increment();
+                return dados;
+            }
+        }
+        faltas.increment();
+        return 0;
+    }
+
+    /**
+     * Grava o resultado da busca de uma posição.
+     * A primeira entrada do balde só é substituída pela mesma posição, por uma busca ao menos tão profunda
+     * ou se for de uma busca anterior; caso contrário, a gravação vai para a segunda entrada.
+     *
+     * @param chave Hash da posição;
+     * @param valor Valor encontrado;
+     * @param profundidade Profundidade restante da busca (0 a 255);
+     * @param tipo EXATO, LIMITE_INFERIOR ou LIMITE_SUPERIOR;
+     * @param movimento Melhor movimento (codificado), ou SEM_MOVIMENTO.
+     */
+    public void gravar(long chave, double valor, int profundidade, int tipo, int movimento) {
+        long dados = VALIDA
+                | ((long) geracao << 58)
+                | ((long) (tipo & 0x3) << 56)
+                | ((long) (Math.min(profundidade, 0xFF)) << 48)
+                | ((long) ((movimento + 1) & 0xFFFF) << 32)
+                | (Float.floatToRawIntBits((float) valor) & 0xFFFFFFFFL);
+
+        int indice = indiceBalde(chave);
+        long dadosPreferida = tabela[indice + 1];
+        boolean mesmaPosicao = dadosPreferida != 0 && (tabela[indice] ^ dadosPreferida) == chave;
+
+        int destino = indice + 2;
+        if (dadosPreferida == 0 || mesmaPosicao || profundidade >= profundidade(dadosPreferida)
+                || geracao(dadosPreferida) != geracao) {
+            destino = indice;
+        }
+
+        long anterior = tabela[destino + 1];
+        if (anterior != 0 && (tabela[destino] ^ anterior) != chave) colisoes.increment();
+
+        tabela[destino] = chave ^ dados;
+        tabela[destino + 1] = dados;
+    }
+
+    /**
+     * Marca o início de uma nova busca: entradas antigas passam a poder ser substituídas na primeira posição do balde.
+     */
+    public void novaGeracao() {
+        this.geracao = (this.geracao + 1) & MAX_GERACAO;
+    }
+
+    /**
+     * Apaga todas as entradas e zera os contadores.
+     */
+    public void limpar() {
+        Arrays.fill(this.tabela, 0L);
+        acertos.reset();
+        faltas.reset();
+        colisoes.reset();
+    }
+
+    /**
+     * Resume os contadores da tabela.
+     *
+     * @return Texto com acertos, faltas, taxa de acerto e colisões.
+     */
+    public String gerarRelatorio() {
+        long a = getAcertos();
+        long f = getFaltas();
+        return String.format(Locale.ROOT, "Tabela de transposição: %d entradas, acertos %d, faltas %d (%.1f%%), colisões %d",
+                getCapacidade(), a, f, 100.0 * a / Math.max(1, a + f), getColisoes());
+    }
+
+    // Leitura dos dados de uma entrada
+
+    /**
+     * Extrai o valor dos dados de uma entrada.
+     *
+     * @param dados Dados retornados por buscar;
+     * @return O valor guardado.
+     */
+    public static double valor(long dados) { return Float.intBitsToFloat((int) dados); }
+
+    /**
+     * Extrai a profundidade dos dados de uma entrada.
+     *
+     * @param dados Dados retornados por buscar;
+     * @return A profundidade restante da busca que gravou a entrada.
+     */
+    public static int profundidade(long dados) { return (int) (dados >>> 48) & 0xFF; }
+
+    /**
+     * Extrai o tipo do valor dos dados de uma entrada.
+     *
+     * @param dados Dados retornados por buscar;
+     * @return EXATO, LIMITE_INFERIOR ou LIMITE_SUPERIOR.
+     */
+    public static int tipo(long dados) { return (int) (dados >>> 56) & 0x3; }
+
+    /**
+     * Extrai o melhor movimento dos dados de uma entrada.
+     *
+     * @param dados Dados retornados por buscar;
+     * @return O movimento codificado, ou SEM_MOVIMENTO.
+     */
+    public static int movimento(long dados) { return ((int) (dados >>> 32) & 0xFFFF) - 1; }
+
+    /**
+     * Extrai a geração dos dados de uma entrada.
+     *
+     * @param dados Dados da entrada;
+     * @return A geração da busca que gravou a entrada.
+     */
+    private static int geracao(long dados) { return (int) (dados >>> 58) & MAX_GERACAO; }
+
+    /**
+     * Calcula a posição do balde de uma chave no vetor.
+     *
+     * @param chave Hash da posição;
+     * @return Índice do primeiro long do balde.
+     */
+    private int indiceBalde(long chave) {
+        // Os bits mais altos do hash escolhem o balde; a chave inteira é conferida na leitura
+        return (int) ((chave >>> deslocamento) & mascara) * LONGS_POR_BALDE;
+    }
+}
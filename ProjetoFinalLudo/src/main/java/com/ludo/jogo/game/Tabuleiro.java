@@ -9,9 +9,64 @@ import java.util.Map;
 import com.ludo.jogo.game.enums.Cor;
 import com.ludo.jogo.game.enums.EstadoPeao;
 
-/** Representa o tabuleiro do jogo Ludo. */
+/**
+ * Representa o tabuleiro do jogo Ludo.
+ *
+ * O estado do jogo é guardado de forma compacta: cada casa tem uma posição lógica (0 a 55 no circuito,
+ * 56 a 79 nas retas finais e 80 a 83 nas bases) e o tabuleiro guarda a posição de cada peão registrado
+ * e a quantidade de peões em cada posição. As instâncias de Casa são mantidas como visão para a GUI.
+ */
 public class Tabuleiro implements Serializable {
 
+    // CONSTANTES
+
+    /** Quantidade de casas do circuito principal. */
+    public static final int NUM_CASAS_CIRCUITO = 56;
+    /** Quantidade de casas da reta final de cada cor (a última é a chegada). */
+    public static final int TAMANHO_RETA_FINAL = 6;
+    /** Primeira posição lógica das retas finais. */
+    public static final int INICIO_RETAS = NUM_CASAS_CIRCUITO;
+    /** Primeira posição lógica das bases. */
+    public static final int INICIO_BASES = INICIO_RETAS + 4 * TAMANHO_RETA_FINAL;
+    /** Quantidade total de posições lógicas do tabuleiro. */
+    public static final int NUM_POSICOES = INICIO_BASES + 4;
+    /** Quantidade máxima de peões no tabuleiro (4 cores com 4 peões). */
+    public static final int MAX_PEOES = 16;
+    /** Valor usado para indicar um movimento impossível ou uma casa fora do tabuleiro. */
+    public static final int POSICAO_INVALIDA = -1;
+    /** Quantidade máxima de movimentos possíveis em uma rolagem (um por peão). */
+    public static final int MAX_MOVIMENTOS = 4;
+
+    private static final int DISTANCIA_ENTRE_SAIDAS = 14;
+    private static final int VALORES_DADO = 7; // 0 a 6, o 0 representa "ainda não rolou"
+    private static final boolean[] POSICOES_SEGURAS = new boolean[NUM_POSICOES];
+    private static final long MASCARA_SEGURAS_CIRCUITO = (1L << 9) | (1L << 23) | (1L << 37) | (1L << 51);
+    private static final byte[] TABELA_DESTINOS = new byte[4 * NUM_POSICOES * VALORES_DADO];
+
+    static {
+        // Casas de estrela
+        POSICOES_SEGURAS[9] = true;
+        POSICOES_SEGURAS[23] = true;
+        POSICOES_SEGURAS[37] = true;
+        POSICOES_SEGURAS[51] = true;
+
+        // Retas finais (inclusive a chegada)
+        for (int i = INICIO_RETAS; i < INICIO_BASES; i++) {
+            POSICOES_SEGURAS[i] = true;
+        }
+
+        // Destinos pré-calculados para toda combinação (cor, posição, dado)
+        for (int cor = 0; cor < 4; cor++) {
+            for (int posicao = 0; posicao < NUM_POSICOES; posicao++) {
+                for (int valorDado = 0; valorDado < VALORES_DADO; valorDado++) {
+                    TABELA_DESTINOS[indiceTabelaDestinos(cor, posicao, valorDado)] =
+                            (byte) calcularDestino(cor, posicao, valorDado);
+                }
+            }
+        }
+    }
+
+
     // ATRIBUTOS
 
     private final List<Casa> casasCircuito;
@@ -20,6 +75,23 @@ public class Tabuleiro implements Serializable {
     private final Map<Cor, Casa> casasSaida;
     private final Map<Cor, Integer> indicesEntradaReta;
 
+    // Estado compacto
+    private final Casa[] casas;
+    private final Peao[] peoesRegistrados;
+    private final byte[] posicoesPeoes;
+    private final byte[] ocupacao;
+    private final byte[] ocupacaoPorCor;
+
+    // Máscaras de bits sobre as 56 casas do circuito (bit i = casa i)
+    private final long[] mascarasCor;
+    private long mascaraBloqueios;
+
+    // Hash de Zobrist das posições dos peões
+    private long hash;
+
+    // Componentes da avaliação de posição, atualizados junto com as posições
+    private final AvaliacaoIncremental avaliacao;
+
 
     // CONSTRUTOR
 
@@ -30,6 +102,14 @@ public class Tabuleiro implements Serializable {
         this.casasSaida = new HashMap<>();
         this.casasBase = new HashMap<>();
         this.indicesEntradaReta = new HashMap<>();
+        this.casas = new Casa[NUM_POSICOES];
+        this.peoesRegistrados = new Peao[MAX_PEOES];
+        this.posicoesPeoes = new byte[MAX_PEOES];
+        this.ocupacao = new byte[NUM_POSICOES];
+        this.ocupacaoPorCor = new byte[4 * NUM_POSICOES];
+        this.mascarasCor = new long[4];
+        this.mascaraBloqueios = 0L;
+        this.avaliacao = new AvaliacaoIncremental();
 
         // Índices de entrada na retaFinal: sempre UMA casa antes da casa de saída de cada cor
         // Ajustados para o circuito de 56 casas (0 a 55)
@@ -61,13 +141,16 @@ public class Tabuleiro implements Serializable {
             }
 
             casasCircuito.add(casa);
+            indexarCasa(casa, i);
         }
 
         // Bases e retas finais
         for (Cor cor : Cor.values()) {
             if (cor == Cor.NENHUMA) continue;
 
-            this.casasBase.put(cor, new CasaInicial());
+            Casa base = new CasaInicial();
+            this.casasBase.put(cor, base);
+            indexarCasa(base, posicaoBase(cor.ordinal()));
 
             List<Casa> reta = new ArrayList<>();
             for (int k = 0; k < 5; k++) {
@@ -75,12 +158,132 @@ public class Tabuleiro implements Serializable {
             }
             reta.add(new CasaSegura()); // casa central (compartilhada conceitualmente como chegada)
             this.casasRetaFinal.put(cor, reta);
+
+            for (int k = 0; k < reta.size(); k++) {
+                indexarCasa(reta.get(k), posicaoRetaFinal(cor.ordinal(), k));
+            }
         }
     }
 
 
     // MÉTODOS
 
+    // Posições lógicas
+
+    /**
+     * Retorna a posição lógica da base de uma cor.
+     *
+     * @param cor O índice da cor (ordinal de Cor);
+     * @return A posição da base.
+     */
+    public static int posicaoBase(int cor) { return INICIO_BASES + cor; }
+
+    /**
+     * Retorna a posição lógica de uma casa da reta final de uma cor.
+     *
+     * @param cor O índice da cor (ordinal de Cor);
+     * @param indiceNaReta O índice dentro da reta final (0 a 5);
+     * @return A posição da casa.
+     */
+    public static int posicaoRetaFinal(int cor, int indiceNaReta) {
+        return INICIO_RETAS + cor * TAMANHO_RETA_FINAL + indiceNaReta;
+    }
+
+    /**
+     * Retorna a posição lógica da chegada (última casa da reta final) de uma cor.
+     *
+     * @param cor O índice da cor (ordinal de Cor);
+     * @return A posição da chegada.
+     */
+    public static int posicaoChegada(int cor) { return posicaoRetaFinal(cor, TAMANHO_RETA_FINAL - 1); }
+
+    /**
+     * Retorna a posição lógica da casa de saída de uma cor.
+     *
+     * @param cor O índice da cor (ordinal de Cor);
+     * @return A posição da saída no circuito.
+     */
+    public static int posicaoSaida(int cor) { return cor * DISTANCIA_ENTRE_SAIDAS; }
+
+    /**
+     * Retorna a posição lógica da casa de entrada na reta final de uma cor.
+     *
+     * @param cor O índice da cor (ordinal de Cor);
+     * @return A posição no circuito, sempre uma casa antes da saída da cor.
+     */
+    public static int posicaoEntradaReta(int cor) {
+        return (posicaoSaida(cor) + NUM_CASAS_CIRCUITO - 1) % NUM_CASAS_CIRCUITO;
+    }
+
+    /**
+     * Verifica se uma posição lógica pertence ao circuito principal.
+     *
+     * @param posicao A posição lógica;
+     * @return True se estiver entre 0 e 55.
+     */
+    public static boolean isPosicaoCircuito(int posicao) { return posicao >= 0 && posicao < NUM_CASAS_CIRCUITO; }
+
+    /**
+     * Verifica se uma posição lógica pertence a alguma reta final.
+     *
+     * @param posicao A posição lógica;
+     * @return True se estiver em uma reta final (incluindo a chegada).
+     */
+    public static boolean isPosicaoRetaFinal(int posicao) { return posicao >= INICIO_RETAS && posicao < INICIO_BASES; }
+
+    /**
+     * Verifica se uma posição lógica é segura (estrela ou reta final).
+     *
+     * @param posicao A posição lógica;
+     * @return True se um peão não puder ser capturado nesta posição.
+     */
+    public static boolean isPosicaoSegura(int posicao) {
+        return posicao >= 0 && posicao < NUM_POSICOES && POSICOES_SEGURAS[posicao];
+    }
+
+    /**
+     * Calcula quantas casas um peão já percorreu: 0 na base, 1 (saída) a 56 (entrada da reta) no circuito
+     * e 57 a 62 na reta final, sendo 62 a chegada.
+     *
+     * @param cor O índice da cor do peão (ordinal de Cor);
+     * @param posicao A posição lógica do peão;
+     * @return O progresso do peão.
+     */
+    public static int getProgresso(int cor, int posicao) {
+        if (isPosicaoCircuito(posicao)) {
+            return (posicao - posicaoSaida(cor) + NUM_CASAS_CIRCUITO) % NUM_CASAS_CIRCUITO + 1;
+        }
+        if (isPosicaoRetaFinal(posicao)) {
+            return NUM_CASAS_CIRCUITO + 1 + (posicao - INICIO_RETAS) % TAMANHO_RETA_FINAL;
+        }
+        return 0;
+    }
+
+    /**
+     * Codifica um movimento em um int: id do peão nos bits altos e posição de destino nos 8 bits baixos.
+     *
+     * @param idPeao O id do peão (0 a 15);
+     * @param destino A posição lógica de destino;
+     * @return O movimento codificado.
+     */
+    public static int codificarMovimento(int idPeao, int destino) { return (idPeao << 8) | destino; }
+
+    /**
+     * Extrai o id do peão de um movimento codificado.
+     *
+     * @param movimento O movimento codificado;
+     * @return O id do peão.
+     */
+    public static int idPeaoDoMovimento(int movimento) { return movimento >>> 8; }
+
+    /**
+     * Extrai a posição de destino de um movimento codificado.
+     *
+     * @param movimento O movimento codificado;
+     * @return A posição lógica de destino.
+     */
+    public static int destinoDoMovimento(int movimento) { return movimento & 0xFF; }
+
     // Getters
 
     /**
@@ -94,82 +297,217 @@ public class Tabuleiro implements Serializable {
     }
 
     /**
-     * Calcula a casa de destino baseada na lógica do grafo do tabuleiro.
+     * Retorna a Casa (visão) de uma posição lógica.
      *
-     * @param peao O peão a ser movido;
-     * @param valorDado O valor do dado;
-     * @return A casa de destino ou null se movimento impossível.
+     * @param posicao A posição lógica;
+     * @return A casa correspondente, ou null se a posição for inválida.
      */
-    public Casa getCasaDestino(Peao peao, int valorDado) {
-        // Infos úteis
-        EstadoPeao estado = peao.getEstado();
-        Cor cor = peao.getCor();
-        Casa casaAtual = peao.getCasa();
+    public Casa getCasa(int posicao) {
+        return (posicao >= 0 && posicao < NUM_POSICOES) ? this.casas[posicao] : null;
+    }
 
-        // Peão na Base
-        if (estado == EstadoPeao.BASE) {
-            return (valorDado == 6) ? this.casasSaida.get(cor) : null;
+    /**
+     * Retorna a posição lógica de um peão.
+     * Peões registrados são lidos do estado compacto; os demais, da casa em que estão.
+     *
+     * @param peao O peão;
+     * @return A posição lógica do peão, ou -1 se ele não estiver em uma casa deste tabuleiro.
+     */
+    public int getPosicao(Peao peao) {
+        int id = peao.getId();
+        if (id >= 0 && this.peoesRegistrados[id] == peao) {
+            return this.posicoesPeoes[id];
         }
+        return indiceNesteTabuleiro(peao.getCasa());
+    }
 
-        // Peão na reta final
-        if (this.casasRetaFinal.get(cor).contains(casaAtual)) {
-            List<Casa> casasRetaFinal = this.casasRetaFinal.get(cor);
-            int indiceAtual = casasRetaFinal.indexOf(casaAtual);
-            int indiceAlvo = indiceAtual + valorDado;
-            int ultimaCasa = casasRetaFinal.size() - 1;
+    /**
+     * Retorna o peão registrado com um dado id.
+     *
+     * @param id O id do peão (0 a 15);
+     * @return O peão, ou null se não houver peão com esse id.
+     */
+    public Peao getPeao(int id) { return this.peoesRegistrados[id]; }
 
-            // Se passou do final, retrocede
-            if (indiceAlvo > ultimaCasa) {
-                int excesso = indiceAlvo - ultimaCasa;
-                int indiceVoltando = ultimaCasa - excesso;
-                return (indiceVoltando >= 0) ? casasRetaFinal.get(indiceVoltando) : null;
+    /**
+     * Retorna a posição lógica do peão registrado com um dado id.
+     *
+     * @param id O id do peão (0 a 15);
+     * @return A posição lógica do peão.
+     */
+    public int getPosicao(int id) { return this.posicoesPeoes[id]; }
+
+    /**
+     * Retorna quantos peões (registrados) estão em uma posição lógica.
+     *
+     * @param posicao A posição lógica;
+     * @return A quantidade de peões na posição.
+     */
+    public int getOcupacao(int posicao) { return this.ocupacao[posicao]; }
+
+    /**
+     * Retorna a máscara de ocupação de uma cor sobre o circuito.
+     *
+     * @param cor A cor;
+     * @return Máscara em que o bit i indica que há ao menos um peão da cor na casa i do circuito.
+     */
+    public long getMascaraCor(Cor cor) { return this.mascarasCor[cor.ordinal()]; }
+
+    /**
+     * Retorna a máscara de bloqueios do circuito.
+     *
+     * @return Máscara em que o bit i indica que há dois ou mais peões na casa i do circuito.
+     */
+    public long getMascaraBloqueios() { return this.mascaraBloqueios; }
+
+    /**
+     * Retorna o hash de Zobrist das posições de todos os peões registrados.
+     *
+     * @return O hash de 64 bits, atualizado a cada movimento.
+     */
+    public long getHash() { return this.hash; }
+
+    /**
+     * Retorna os componentes da avaliação de posição, mantidos a cada movimento, captura e desfazer.
+     *
+     * @return A avaliação incremental deste tabuleiro.
+     */
+    public AvaliacaoIncremental getAvaliacao() { return this.avaliacao; }
+
+    // Principais
+
+    /**
+     * Registra um peão no estado compacto do tabuleiro, atribuindo um id de 0 a 15 (4 por cor).
+     * Se os 4 ids da cor já estiverem em uso, o peão continua existindo apenas na visão.
+     *
+     * @param peao O peão a ser registrado.
+     */
+    public void registrarPeao(Peao peao) {
+        int cor = peao.getCor().ordinal();
+        if (cor >= 4 || (peao.getId() >= 0 && this.peoesRegistrados[peao.getId()] == peao)) return;
+
+        for (int k = 0; k < 4; k++) {
+            int id = cor * 4 + k;
+            if (this.peoesRegistrados[id] == null) {
+                int posicao = (peao.getEstado() == EstadoPeao.BASE)
+                        ? posicaoBase(cor)
+                        : indiceNesteTabuleiro(peao.getCasa());
+
+                this.peoesRegistrados[id] = peao;
+                peao.setId(id);
+                this.posicoesPeoes[id] = (byte) posicao;
+                adicionarNaPosicao(cor, posicao);
+                return;
             }
-            return casasRetaFinal.get(indiceAlvo);
         }
+    }
 
-        // Peão em um lugar genérico do circuito
-        if (this.casasCircuito.contains(casaAtual)) {
-            int indiceDaCasaAtual = this.casasCircuito.indexOf(casaAtual);
-            int indiceDaEntradaRetaFinal = this.indicesEntradaReta.get(cor);
-            int movimentos = valorDado;
-
-            // Andamos passo a passo para detectar o momento de entrar na reta final
-            while (movimentos > 0) {
-                // Entrada na reta final
-                if (indiceDaCasaAtual == indiceDaEntradaRetaFinal) {
-                    int movimentosNaReta = movimentos - 1;
-                    List<Casa> listaCasasRetaFinal = this.casasRetaFinal.get(cor);
-                    return (movimentosNaReta < listaCasasRetaFinal.size())
-                            ? listaCasasRetaFinal.get(movimentosNaReta)
-                            : null;
-                }
-                indiceDaCasaAtual = (indiceDaCasaAtual + 1) % 56; // loop (0 a 55)
-                movimentos--;
+    /**
+     * Gera os movimentos válidos de uma cor para um valor de dado, sem alocar memória.
+     * Os movimentos são escritos codificados (ver codificarMovimento) no vetor recebido, na ordem dos peões.
+     *
+     * @param cor O índice da cor (ordinal de Cor);
+     * @param valorDado O valor do dado;
+     * @param movimentos Vetor reutilizável com ao menos MAX_MOVIMENTOS posições;
+     * @return A quantidade de movimentos gerados.
+     */
+    public int gerarMovimentos(int cor, int valorDado, int[] movimentos) {
+        int quantidade = 0;
+        int chegada = posicaoChegada(cor);
+
+        for (int id = cor * 4; id < cor * 4 + 4; id++) {
+            if (this.peoesRegistrados[id] == null) continue;
+
+            int posicao = this.posicoesPeoes[id];
+            if (posicao == chegada) continue; // Peão FINALIZADO
+
+            int destino = getDestino(cor, posicao, valorDado);
+
+            // Verifica se destino existe e nao é bloqueio
+            if (destino != POSICAO_INVALIDA && !isBloqueio(destino)) {
+                movimentos[quantidade++] = codificarMovimento(id, destino);
             }
-            return this.casasCircuito.get(indiceDaCasaAtual);
         }
-        return null; // fallback
+        return quantidade;
+    }
+
+    /**
+     * Calcula a posição de destino a partir de uma posição lógica, sem consultar as casas.
+     * Usa a tabela pré-calculada, então custa uma única leitura de vetor.
+     *
+     * @param cor O índice da cor do peão (ordinal de Cor);
+     * @param posicao A posição lógica atual do peão;
+     * @param valorDado O valor do dado;
+     * @return A posição de destino, ou POSICAO_INVALIDA se o movimento for impossível.
+     */
+    public static int getDestino(int cor, int posicao, int valorDado) {
+        if (cor < 0 || cor >= 4 || posicao < 0 || posicao >= NUM_POSICOES) return POSICAO_INVALIDA;
+        if (valorDado < 0 || valorDado >= VALORES_DADO) return calcularDestino(cor, posicao, valorDado);
+
+        return TABELA_DESTINOS[indiceTabelaDestinos(cor, posicao, valorDado)];
+    }
+
+    /**
+     * Calcula a posição de destino de um peão.
+     *
+     * @param peao O peão a ser movido;
+     * @param valorDado O valor do dado;
+     * @return A posição de destino, ou POSICAO_INVALIDA se o movimento for impossível.
+     */
+    public int getDestino(Peao peao, int valorDado) {
+        int cor = peao.getCor().ordinal();
+        if (cor >= 4) return POSICAO_INVALIDA;
+
+        int posicao = (peao.getEstado() == EstadoPeao.BASE) ? posicaoBase(cor) : getPosicao(peao);
+        return getDestino(cor, posicao, valorDado);
+    }
+
+    /**
+     * Calcula a casa de destino baseada na lógica do grafo do tabuleiro.
+     *
+     * @param peao O peão a ser movido;
+     * @param valorDado O valor do dado;
+     * @return A casa de destino ou null se movimento impossível.
+     */
+    public Casa getCasaDestino(Peao peao, int valorDado) {
+        return getCasa(getDestino(peao, valorDado));
     }
 
     /**
      * Executa, efetivamente, o movimento do Peão peao.
      *
      * @param peao O peão que será movido;
-     * @param destino O destino do peão peao movido.
+     * @param destino A posição lógica de destino;
+     * @return O peão capturado no movimento, ou null se não houve captura.
      */
-    public void moverPeao(Peao peao, Casa destino) {
+    public Peao moverPeao(Peao peao, int destino) {
+        return moverPeao(peao, this.casas[destino]);
+    }
+
+    /**
+     * Executa, efetivamente, o movimento do Peão peao.
+     *
+     * @param peao O peão que será movido;
+     * @param destino O destino do peão peao movido;
+     * @return O peão capturado no movimento, ou null se não houve captura.
+     */
+    public Peao moverPeao(Peao peao, Casa destino) {
+        registrarPeao(peao); // Peões criados fora de um Jogador entram no estado compacto no primeiro movimento
+
         peao.getCasa().removerPeao(peao); // Remove da casa antiga
 
-        verificarCaptura(peao, destino); // Verifica captura antes de entrar
+        Peao capturado = verificarCaptura(peao, destino); // Verifica captura antes de entrar
 
         destino.adicionarPeao(peao); // Add info na casa
         peao.setCasa(destino); // Add info no peão
+        atualizarPosicao(peao, indiceNesteTabuleiro(destino));
 
         // Atualiza estado se entrou/moveu na reta final ou saiu da base
-        List<Casa> reta = this.casasRetaFinal.get(peao.getCor());
-        if (!this.casasBase.get(peao.getCor()).equals(destino)) { // se não está na base
+        int cor = peao.getCor().ordinal();
+        int indiceDestino = destino.getIndice();
+        if (indiceDestino != posicaoBase(cor)) { // se não está na base
             // Coloca FINALIZADO se o destino é igual à última casa
-            if (destino == reta.get(reta.size() - 1)) {
+            if (indiceDestino == posicaoChegada(cor)) {
                 peao.setEstado(EstadoPeao.FINALIZADO);
                 // Opcional: remover visualmente da casa final para não amontoar,
                 // mas logicamente ele precisa estar lá para contar vitória.
@@ -178,29 +516,102 @@ public class Tabuleiro implements Serializable {
                 peao.setEstado(EstadoPeao.JOGANDO);
             }
         }
+        return capturado;
+    }
+
+    /**
+     * Desfaz um movimento feito por moverPeao, devolvendo o peão à origem e o capturado ao destino.
+     *
+     * @param peao O peão que foi movido;
+     * @param origem A posição lógica de onde o peão saiu;
+     * @param estadoAnterior O estado do peão antes do movimento;
+     * @param capturado O peão capturado no movimento, ou null.
+     */
+    public void desfazerMovimento(Peao peao, int origem, EstadoPeao estadoAnterior, Peao capturado) {
+        int destino = getPosicao(peao);
+        Casa casaDestino = peao.getCasa();
+        Casa casaOrigem = this.casas[origem];
+
+        casaDestino.removerPeao(peao);
+        casaOrigem.adicionarPeao(peao);
+        peao.setCasa(casaOrigem);
+        peao.setEstado(estadoAnterior);
+        atualizarPosicao(peao, origem);
+
+        // Só há capturas no circuito, então o capturado estava JOGANDO
+        if (capturado != null) {
+            capturado.getCasa().removerPeao(capturado);
+            casaDestino.adicionarPeao(capturado);
+            capturado.setCasa(casaDestino);
+            capturado.setEstado(EstadoPeao.JOGANDO);
+            atualizarPosicao(capturado, destino);
+        }
     }
 
     /**
      * Verifica se o movimento acarretará em uma captura.
      *
      * @param peaoMovido O peão que foi movido nesse turno;
-     * @param destino A casa em que o peão peaoMovido vai chegar.
+     * @param destino A casa em que o peão peaoMovido vai chegar;
+     * @return O peão capturado, ou null se não houve captura.
      */
-    private void verificarCaptura(Peao peaoMovido, Casa destino) {
-        // Captura impossível se é uma casa segura ou se não há peões para serem capturados
-        if (destino.isCasaSegura() || destino.getPeoes().isEmpty()) {
-            return;
+    private Peao verificarCaptura(Peao peaoMovido, Casa destino) {
+        int posicao = indiceNesteTabuleiro(destino);
+        int cor = peaoMovido.getCor().ordinal();
+
+        // Captura impossível se é uma casa segura, se não há peões inimigos ou se há bloqueio (mais de um peão)
+        if (!isCapturaPossivel(cor, posicao)) {
+            return null;
         }
 
-        // Bloqueio: mais de um peão na casa
-        if (!verificarBloqueio(destino)) {
-            Peao peaoNaCasa = destino.getPeoes().get(0);
-            // Se for inimigo, captura
-            if (peaoNaCasa.getCor() != peaoMovido.getCor()) {
-                destino.removerPeao(peaoNaCasa); // tira o peão inimigo
-                peaoNaCasa.voltarParaBase();     // volta pra base
-            }
+        int corCapturada = corUnicaNaPosicao(posicao);
+        Peao peaoNaCasa = peaoNaPosicao(corCapturada, posicao);
+        if (peaoNaCasa != null) {
+            destino.removerPeao(peaoNaCasa); // tira o peão inimigo
+            peaoNaCasa.voltarParaBase();     // volta pra base
+            atualizarPosicao(peaoNaCasa, posicaoBase(corCapturada));
         }
+        return peaoNaCasa;
+    }
+
+    /**
+     * Verifica se um peão de cor cor, ao chegar na posição destino, captura um peão adversário.
+     *
+     * @param cor A cor do peão que se move;
+     * @param destino A posição lógica de destino;
+     * @return True se houver exatamente um peão inimigo capturável no destino.
+     */
+    public boolean isCapturaPossivel(Cor cor, int destino) {
+        return isCapturaPossivel(cor.ordinal(), destino);
+    }
+
+    /**
+     * Versão por índice de cor de isCapturaPossivel. Só há capturas no circuito, fora das estrelas.
+     *
+     * @param cor O índice da cor do peão que se move;
+     * @param destino A posição lógica de destino;
+     * @return True se houver exatamente um peão inimigo capturável no destino.
+     */
+    public boolean isCapturaPossivel(int cor, int destino) {
+        if (!isPosicaoCircuito(destino)) return false;
+
+        long bit = 1L << destino;
+        long inimigos = mascaraOcupadas() & ~this.mascarasCor[cor];
+        return (inimigos & bit & ~this.mascaraBloqueios & ~MASCARA_SEGURAS_CIRCUITO) != 0;
+    }
+
+    /**
+     * Verifica se há peões de mais de uma cor em uma casa do circuito (só acontece em casas seguras).
+     *
+     * @param posicao A posição lógica;
+     * @return True se a casa é compartilhada por cores diferentes.
+     */
+    public boolean isCasaDisputada(int posicao) {
+        if (!isPosicaoCircuito(posicao)) return false;
+
+        long[] m = this.mascarasCor;
+        long duasOuMaisCores = ((m[0] | m[1]) & (m[2] | m[3])) | (m[0] & m[1]) | (m[2] & m[3]);
+        return (duasOuMaisCores & (1L << posicao)) != 0;
     }
 
     /**
@@ -211,21 +622,29 @@ public class Tabuleiro implements Serializable {
      * @return Retorna true se for um bloqueio válido.
      */
     public boolean verificarBloqueio(Casa casa) {
-        // Usa allMatch para garantir que a casa NÃO está em nenhuma lista de reta final de nenhuma cor
-        boolean naoEhRetaFinal = this.casasRetaFinal.values().stream().allMatch(lista -> !lista.contains(casa));
-
         // Só é bloqueio se: (Não for reta final) E (Tiver mais de 1 peão)
-        return naoEhRetaFinal && casa.getPeoes().size() > 1;
+        return !isPosicaoRetaFinal(indiceNesteTabuleiro(casa)) && casa.getPeoes().size() > 1;
+    }
+
+    /**
+     * Versão compacta de verificarBloqueio, usando apenas a ocupação das posições.
+     *
+     * @param posicao A posição lógica que verificaremos;
+     * @return Retorna true se for um bloqueio válido.
+     */
+    public boolean isBloqueio(int posicao) {
+        if (isPosicaoCircuito(posicao)) return (this.mascaraBloqueios & (1L << posicao)) != 0;
+        return posicao >= INICIO_BASES && posicao < NUM_POSICOES && this.ocupacao[posicao] > 1;
     }
 
     /**
      * Verifica se uma dada Casa faz parte do circuito.
      *
      * @param casa A casa que vamos verificar;
-     * @return True se a casa faz parte do circuito principal (0 a 51).
+     * @return True se a casa faz parte do circuito principal (0 a 55).
      */
     public boolean isCasaDoCircuito(Casa casa) {
-        return this.casasCircuito.contains(casa);
+        return isPosicaoCircuito(indiceNesteTabuleiro(casa));
     }
 
     /**
@@ -235,7 +654,8 @@ public class Tabuleiro implements Serializable {
      * @return Retorna o índice Casa no circuito, ou -1 se não fizer parte do circuito.
      */
     public int getIndiceCircuito(Casa casa) {
-        return this.casasCircuito.indexOf(casa);
+        int indice = indiceNesteTabuleiro(casa);
+        return isPosicaoCircuito(indice) ? indice : -1;
     }
 
     /**
@@ -246,8 +666,7 @@ public class Tabuleiro implements Serializable {
      * @return True se a casa faz parte da reta final da cor dada.
      */
     public boolean isCasaDaRetaFinal(Cor cor, Casa casa) {
-        List<Casa> reta = this.casasRetaFinal.get(cor);
-        return reta != null && reta.contains(casa);
+        return getIndiceRetaFinal(cor, casa) >= 0;
     }
 
     /**
@@ -258,8 +677,184 @@ public class Tabuleiro implements Serializable {
      * @return Retorna o índice da casa na reta final da cor dada, ou -1 se não fizer parte.
      */
     public int getIndiceRetaFinal(Cor cor, Casa casa) {
-        List<Casa> reta = this.casasRetaFinal.get(cor);
-        if (reta == null) return -1;
-        return reta.indexOf(casa);
+        if (cor == null || cor == Cor.NENHUMA) return -1;
+
+        int indiceNaReta = indiceNesteTabuleiro(casa) - posicaoRetaFinal(cor.ordinal(), 0);
+        return (indiceNaReta >= 0 && indiceNaReta < TAMANHO_RETA_FINAL) ? indiceNaReta : -1;
+    }
+
+    // Auxiliares
+
+    /**
+     * Calcula, passo a passo pelas regras, a posição de destino a partir de uma posição lógica.
+     * Usado para montar a tabela de destinos e para valores fora dela.
+     *
+     * @param cor O índice da cor do peão (ordinal de Cor);
+     * @param posicao A posição lógica atual do peão;
+     * @param valorDado O valor do dado;
+     * @return A posição de destino, ou POSICAO_INVALIDA se o movimento for impossível.
+     */
+    private static int calcularDestino(int cor, int posicao, int valorDado) {
+        // Peão na Base
+        if (posicao == posicaoBase(cor)) {
+            return (valorDado == 6) ? posicaoSaida(cor) : POSICAO_INVALIDA;
+        }
+
+        // Peão na reta final
+        int inicioReta = posicaoRetaFinal(cor, 0);
+        if (posicao >= inicioReta && posicao < inicioReta + TAMANHO_RETA_FINAL) {
+            int indiceAlvo = posicao - inicioReta + valorDado;
+            int ultimaCasa = TAMANHO_RETA_FINAL - 1;
+
+            // Se passou do final, retrocede
+            if (indiceAlvo > ultimaCasa) {
+                indiceAlvo = ultimaCasa - (indiceAlvo - ultimaCasa);
+            }
+            return (indiceAlvo >= 0) ? inicioReta + indiceAlvo : POSICAO_INVALIDA;
+        }
+
+        // Peão em um lugar genérico do circuito
+        if (isPosicaoCircuito(posicao)) {
+            int passosAteEntrada = (posicaoEntradaReta(cor) - posicao + NUM_CASAS_CIRCUITO) % NUM_CASAS_CIRCUITO;
+            if (valorDado <= passosAteEntrada) {
+                return (posicao + valorDado) % NUM_CASAS_CIRCUITO;
+            }
+
+            // Entrada na reta final
+            int movimentosNaReta = valorDado - passosAteEntrada - 1;
+            return (movimentosNaReta < TAMANHO_RETA_FINAL) ? inicioReta + movimentosNaReta : POSICAO_INVALIDA;
+        }
+        return POSICAO_INVALIDA;
+    }
+
+    /**
+     * Retorna o índice de uma combinação (cor, posição, dado) na tabela de destinos.
+     *
+     * @param cor O índice da cor;
+     * @param posicao A posição lógica;
+     * @param valorDado O valor do dado;
+     * @return O índice na tabela.
+     */
+    private static int indiceTabelaDestinos(int cor, int posicao, int valorDado) {
+        return (cor * NUM_POSICOES + posicao) * VALORES_DADO + valorDado;
+    }
+
+    /**
+     * Associa uma casa a uma posição lógica.
+     *
+     * @param casa A casa;
+     * @param posicao A posição lógica.
+     */
+    private void indexarCasa(Casa casa, int posicao) {
+        casa.setIndice(posicao);
+        this.casas[posicao] = casa;
+    }
+
+    /**
+     * Retorna a posição lógica de uma casa, garantindo que ela pertence a este tabuleiro.
+     *
+     * @param casa A casa;
+     * @return A posição lógica, ou -1 se a casa não pertencer ao tabuleiro.
+     */
+    private int indiceNesteTabuleiro(Casa casa) {
+        if (casa == null) return POSICAO_INVALIDA;
+
+        int indice = casa.getIndice();
+        return (indice >= 0 && this.casas[indice] == casa) ? indice : POSICAO_INVALIDA;
+    }
+
+    /**
+     * Atualiza a posição de um peão registrado e a ocupação das posições.
+     *
+     * @param peao O peão;
+     * @param novaPosicao A nova posição lógica.
+     */
+    private void atualizarPosicao(Peao peao, int novaPosicao) {
+        int id = peao.getId();
+        if (id < 0 || this.peoesRegistrados[id] != peao) return;
+
+        int cor = id / 4;
+        removerDaPosicao(cor, this.posicoesPeoes[id]);
+        adicionarNaPosicao(cor, novaPosicao);
+        this.posicoesPeoes[id] = (byte) novaPosicao;
+    }
+
+    /**
+     * Conta um peão em uma posição, atualizando a avaliação incremental e, se a casa é do circuito, as máscaras.
+     *
+     * @param cor O índice da cor do peão;
+     * @param posicao A posição lógica.
+     */
+    private void adicionarNaPosicao(int cor, int posicao) {
+        if (posicao < 0) return;
+
+        this.ocupacao[posicao]++;
+        this.hash ^= Zobrist.chavePeao(cor, posicao, this.ocupacaoPorCor[cor * NUM_POSICOES + posicao]++);
+        this.avaliacao.adicionar(cor, posicao);
+        if (isPosicaoCircuito(posicao)) {
+            long bit = 1L << posicao;
+            this.mascarasCor[cor] |= bit;
+            if (this.ocupacao[posicao] == 2) this.mascaraBloqueios |= bit;
+        }
+    }
+
+    /**
+     * Desconta um peão de uma posição, atualizando a avaliação incremental e, se a casa é do circuito, as máscaras.
+     *
+     * @param cor O índice da cor do peão;
+     * @param posicao A posição lógica.
+     */
+    private void removerDaPosicao(int cor, int posicao) {
+        if (posicao < 0) return;
+
+        this.ocupacao[posicao]--;
+        this.hash ^= Zobrist.chavePeao(cor, posicao, --this.ocupacaoPorCor[cor * NUM_POSICOES + posicao]);
+        this.avaliacao.remover(cor, posicao);
+        if (isPosicaoCircuito(posicao)) {
+            long bit = 1L << posicao;
+            if (this.ocupacaoPorCor[cor * NUM_POSICOES + posicao] == 0) this.mascarasCor[cor] &= ~bit;
+            if (this.ocupacao[posicao] == 1) this.mascaraBloqueios &= ~bit;
+        }
+    }
+
+    /**
+     * Retorna a máscara das casas do circuito ocupadas por qualquer cor.
+     *
+     * @return A união das máscaras de todas as cores.
+     */
+    private long mascaraOcupadas() {
+        return this.mascarasCor[0] | this.mascarasCor[1] | this.mascarasCor[2] | this.mascarasCor[3];
+    }
+
+    /**
+     * Retorna a cor de uma casa do circuito ocupada por uma única cor.
+     *
+     * @param posicao A posição lógica (no circuito);
+     * @return O índice da primeira cor encontrada, ou -1 se a casa estiver vazia.
+     */
+    private int corUnicaNaPosicao(int posicao) {
+        long bit = 1L << posicao;
+        for (int cor = 0; cor < 4; cor++) {
+            if ((this.mascarasCor[cor] & bit) != 0) return cor;
+        }
+        return -1;
+    }
+
+    /**
+     * Procura um peão registrado de uma cor em uma posição lógica.
+     *
+     * @param cor O índice da cor;
+     * @param posicao A posição lógica;
+     * @return O primeiro peão encontrado, ou null se não houver.
+     */
+    private Peao peaoNaPosicao(int cor, int posicao) {
+        if (cor < 0) return null;
+
+        for (int id = cor * 4; id < cor * 4 + 4; id++) {
+            if (this.peoesRegistrados[id] != null && this.posicoesPeoes[id] == posicao) {
+                return this.peoesRegistrados[id];
+            }
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.ludo.jogo.game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chaves aleatórias de 64 bits usadas no hash de Zobrist das posições do jogo.
+ * As chaves são geradas com semente fixa, então o mesmo estado tem o mesmo hash em qualquer execução.
+ */
+public final class Zobrist {
+
+    // ATRIBUTOS
+
+    private static final long SEMENTE = 0x4C55444F4D433332L; // "LUDOMC32"
+
+    private static final long[] CHAVES_PEOES = new long[4 * Tabuleiro.NUM_POSICOES * 4];
+    private static final long[] CHAVES_JOGADOR = new long[4];
+    private static final long[] CHAVES_DADO = new long[7];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEMENTE);
+        for (int i = 0; i < CHAVES_PEOES.length; i++) CHAVES_PEOES[i] = random.nextLong();
+        for (int i = 0; i < CHAVES_JOGADOR.length; i++) CHAVES_JOGADOR[i] = random.nextLong();
+        for (int i = 0; i < CHAVES_DADO.length; i++) CHAVES_DADO[i] = random.nextLong();
+    }
+
+
+    // CONSTRUTOR
+
+    /** Classe utilitária, não deve ser instanciada. */
+    private Zobrist() { }
+
+
+    // MÉTODOS
+
+    /**
+     * Chave do k-ésimo peão de uma cor em uma posição. Usar a contagem (e não o id do peão) faz com que
+     * trocar dois peões da mesma cor de lugar resulte no mesmo hash.
+     *
+     * @param cor O índice da cor;
+     * @param posicao A posição lógica;
+     * @param k Quantos peões da mesma cor já estavam na posição (0 a 3);
+     * @return A chave correspondente.
+     */
+    public static long chavePeao(int cor, int posicao, int k) {
+        return CHAVES_PEOES[(cor * Tabuleiro.NUM_POSICOES + posicao) * 4 + k];
+    }
+
+    /**
+     * Chave do jogador da vez.
+     *
+     * @param indiceJogador O índice do jogador na lista de jogadores (0 a 3);
+     * @return A chave correspondente.
+     */
+    public static long chaveJogador(int indiceJogador) { return CHAVES_JOGADOR[indiceJogador]; }
+
+    /**
+     * Chave do valor pendente do dado.
+     *
+     * @param valorDado O valor do dado (0 a 6, 0 quando ainda não rolou);
+     * @return A chave correspondente.
+     */
+    public static long chaveDado(int valorDado) { return CHAVES_DADO[valorDado]; }
+}
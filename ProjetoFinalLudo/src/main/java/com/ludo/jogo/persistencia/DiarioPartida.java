@@ -0,0 +1,449 @@
+package com.ludo.jogo.persistencia;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.CRC32;
+
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.ObservadorJogadas;
+import com.ludo.jogo.game.Peao;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Diário de uma partida: em vez de regravar o jogo inteiro a cada jogada, acrescenta cada rolagem e cada
+ * movimento ao fim de um arquivo, em registros de tamanho fixo (uma escrita sequencial pequena por evento).
+ * De tempos em tempos, a partida inteira é gravada em um checkpoint (FormatoSave, gravado atomicamente) e o diário
+ * recomeça vazio. Depois de uma queda, recuperar() recria a partida a partir do checkpoint mais os registros
+ * seguintes; um último registro gravado pela metade é descartado pelo CRC.
+ * Os checkpoints são gravados em segundo plano (GravadorAssincrono), para não travar a thread que joga; o diário
+ * só é esvaziado depois que o checkpoint estiver no disco, no próximo registro.
+ * <p>
+ * Registro (20 bytes, big-endian):
+ * <pre>
+ * int sequência     byte tipo     byte valor do dado     short movimento     long sorteios do dado     int CRC32
+ * </pre>
+ * Checkpoint (arquivo do diário + ".checkpoint"): int mágico "LUDJ", long sequência do próximo registro,
+ * byte movimento pendente (1 se o jogador da vez já rolou e falta mover), save.
+ */
+public final class DiarioPartida implements ObservadorJogadas, AutoCloseable {
+
+    // ATRIBUTOS
+
+    /** Número mágico no início dos checkpoints ("LUDJ"). */
+    public static final int MAGICO_CHECKPOINT = 0x4C55444A;
+    /** Quantidade padrão de registros entre dois checkpoints. */
+    public static final int INTERVALO_CHECKPOINT = 64;
+    /** Tamanho de cada registro do diário, em bytes. */
+    public static final int TAMANHO_REGISTRO = 20;
+
+    private static final byte ROLAGEM = 1;
+    private static final byte MOVIMENTO = 2;
+    private static final byte DESFEITA = 3;
+
+    private final Path arquivo;
+    private final Path arquivoCheckpoint;
+    private final int intervaloCheckpoint;
+    private final boolean sincronizar;
+    private final GravadorAssincrono gravador;
+
+    private final ByteBuffer registro;
+    private final CRC32 crc;
+    private FileChannel canal;
+    private MotorJogo motor;
+    private long sequencia;
+    private int registrosDesdeCheckpoint;
+    private final ByteArrayOutputStream registrosAposCheckpoint; // Registros feitos depois do último checkpoint pedido
+    private CompletableFuture<Void> checkpointPendente;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao: checkpoint a cada INTERVALO_CHECKPOINT registros, sem forçar cada registro no disco
+     * (sobrevive à queda do programa, mas não necessariamente à do sistema).
+     *
+     * @param arquivo O arquivo do diário.
+     */
+    public DiarioPartida(Path arquivo) {
+        this(arquivo, INTERVALO_CHECKPOINT, false);
+    }
+
+    /**
+     * Construtor completo.
+     *
+     * @param arquivo O arquivo do diário;
+     * @param intervaloCheckpoint Quantidade de registros entre dois checkpoints;
+     * @param sincronizar Se true, força cada registro no disco antes de continuar (mais lento).
+     */
+    public DiarioPartida(Path arquivo, int intervaloCheckpoint, boolean sincronizar) {
+        this(arquivo, intervaloCheckpoint, sincronizar, GravadorAssincrono.getPadrao());
+    }
+
+    /**
+     * Construtor completo, com o gravador dos checkpoints.
+     *
+     * @param arquivo O arquivo do diário;
+     * @param intervaloCheckpoint Quantidade de registros entre dois checkpoints;
+     * @param sincronizar Se true, força cada registro no disco antes de continuar (mais lento);
+     * @param gravador Gravador onde os checkpoints são gravados.
+     */
+    public DiarioPartida(Path arquivo, int intervaloCheckpoint, boolean sincronizar, GravadorAssincrono gravador) {
+        if (intervaloCheckpoint < 1) throw new IllegalArgumentException("Intervalo de checkpoint inválido: " + intervaloCheckpoint);
+        this.arquivo = arquivo;
+        this.arquivoCheckpoint = arquivoCheckpoint(arquivo);
+        this.intervaloCheckpoint = intervaloCheckpoint;
+        this.sincronizar = sincronizar;
+        this.gravador = gravador;
+        this.registrosAposCheckpoint = new ByteArrayOutputStream();
+        this.registro = ByteBuffer.allocate(TAMANHO_REGISTRO);
+        this.crc = new CRC32();
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para o arquivo do diário.
+     * @return O caminho do arquivo. */
+    public Path getArquivo() { return this.arquivo; }
+    /** Getter para a sequência do próximo registro.
+     * @return Quantidade de registros gravados desde iniciar(). */
+    public long getSequencia() { return this.sequencia; }
+
+    // Principais
+
+    /**
+     * Começa a registrar a partida de um motor: grava o checkpoint da posição atual, esvazia o diário e passa a
+     * observar o motor. Pode ser chamado de novo (ex: depois de carregar um save no mesmo motor) para recomeçar.
+     * Este primeiro checkpoint é esperado: sem ele, os registros da partida nova não teriam de onde partir.
+     *
+     * @param motor O motor com a partida.
+     * @throws IOException Se não for possível gravar o checkpoint ou abrir o diário.
+     */
+    public void iniciar(MotorJogo motor) throws IOException {
+        desconectar();
+        if (this.canal == null) {
+            this.canal = FileChannel.open(this.arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        // Diário vazio antes do checkpoint novo: uma queda entre os dois deixa o checkpoint antigo sem registros
+        this.canal.truncate(0);
+        this.sequencia = 0;
+        pedirCheckpoint(motor);
+        aguardarCheckpoint();
+
+        this.motor = motor;
+        motor.adicionarObservador(this);
+    }
+
+    /**
+     * Verifica se há uma partida registrada para recuperar.
+     *
+     * @param arquivo O arquivo do diário;
+     * @return True se o checkpoint do diário existe.
+     */
+    public static boolean existe(Path arquivo) {
+        return Files.exists(arquivoCheckpoint(arquivo));
+    }
+
+    /**
+     * Recria a partida registrada em um diário: aplica o último checkpoint e refaz os registros seguintes, parando
+     * no primeiro registro incompleto, corrompido ou que não se encaixa na partida (o fim gravado pela metade
+     * de uma queda). O motor não passa a ser observado; para continuar registrando, chame iniciar(). Os movimentos
+     * refeitos notificam os observadores do destino, que por isso deve ser recuperado antes de receber observadores.
+     *
+     * @param arquivo O arquivo do diário;
+     * @param destino O motor onde a partida será recriada;
+     * @return A quantidade de registros refeitos depois do checkpoint.
+     * @throws IOException Se o checkpoint não existir ou estiver corrompido.
+     */
+    public static int recuperar(Path arquivo, MotorJogo destino) throws IOException {
+        ByteBuffer checkpoint = lerCheckpoint(arquivo);
+        long sequencia = checkpoint.getLong(4);
+        boolean movimentoPendente = checkpoint.get(12) != 0;
+        byte[] save = Arrays.copyOfRange(checkpoint.array(), checkpoint.position(), checkpoint.limit());
+
+        byte[] registros;
+        try {
+            registros = Files.readAllBytes(arquivo);
+        }
+        catch (NoSuchFileException e) {
+            registros = new byte[0]; // Queda antes do primeiro registro
+        }
+
+        FormatoSave.decodificar(save, destino);
+        try {
+            destino.setMovimentoPendente(movimentoPendente); // O save guarda o valor do dado, mas não se já foi jogado
+        }
+        catch (IllegalArgumentException e) {
+            throw new IOException("Checkpoint com movimento pendente inválido.", e);
+        }
+        Dado dado = destino.getDado();
+        long sorteios = dado.getSorteios();
+
+        ByteBuffer buffer = ByteBuffer.wrap(registros);
+        CRC32 crc = new CRC32();
+        int refeitos = 0;
+        for (int inicio = 0; inicio + TAMANHO_REGISTRO <= registros.length; inicio += TAMANHO_REGISTRO) {
+            crc.reset();
+            crc.update(registros, inicio, TAMANHO_REGISTRO - 4);
+            if (buffer.getInt(inicio + TAMANHO_REGISTRO - 4) != (int) crc.getValue()) break;
+
+            long sequenciaRegistro = buffer.getInt(inicio) & 0xFFFFFFFFL;
+            if (sequenciaRegistro < sequencia) continue; // Já incluído no checkpoint (queda antes de esvaziar o diário)
+            if (sequenciaRegistro != sequencia) break;
+            long sorteiosRegistro = buffer.getLong(inicio + 8);
+            if (sorteiosRegistro < 0 || sorteiosRegistro > FormatoSave.MAX_SORTEIOS) break;
+
+            if (!refazer(destino, buffer.get(inicio + 4), buffer.get(inicio + 5), buffer.getShort(inicio + 6))) break;
+            sorteios = sorteiosRegistro;
+            sequencia++;
+            refeitos++;
+        }
+
+        // O dado continua de onde a partida parou, incluindo os sorteios gastos em desempates das IAs
+        destino.setDado(new Dado(dado.getAlgoritmo(), dado.getSemente(), sorteios));
+        return refeitos;
+    }
+
+    /**
+     * Refaz um registro no motor, sem rolar o dado: a rolagem usa o valor registrado e o movimento passa pelas
+     * mesmas validações de uma jogada normal.
+     *
+     * @param motor O motor;
+     * @param tipo O tipo do registro;
+     * @param valorDado O valor do dado (rolagens);
+     * @param movimento O movimento codificado (movimentos);
+     * @return False se o registro não pode ser aplicado nesta partida (nada é alterado nesse caso).
+     */
+    private static boolean refazer(MotorJogo motor, int tipo, int valorDado, int movimento) {
+        if (motor.getEstado() != EstadoJogo.EM_JOGO) return false;
+
+        if (tipo == ROLAGEM) {
+            if (valorDado < 1 || valorDado > 6) return false;
+            motor.setValorDado(valorDado);
+            if (motor.getNumMovimentos() == 0) motor.finalizarTurno(); // Como em rolarSemJogar
+            else motor.setMovimentoPendente(true); // Rolou e falta mover
+            return true;
+        }
+        if (tipo == MOVIMENTO) {
+            int idPeao = Tabuleiro.idPeaoDoMovimento(movimento);
+            if (idPeao >= Tabuleiro.MAX_PEOES) return false;
+            Peao peao = motor.getTabuleiro().getPeao(idPeao);
+            if (peao == null) return false;
+            try {
+                motor.tentarMoverPeao(peao);
+            }
+            catch (MovimentoInvalidoException e) {
+                return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void dadoRolado(int valorDado, boolean temMovimentos, long sorteios) {
+        registrar(ROLAGEM, valorDado, 0, sorteios);
+    }
+
+    @Override
+    public void peaoMovido(int movimento, long sorteios) {
+        registrar(MOVIMENTO, 0, movimento, sorteios);
+    }
+
+    @Override
+    public void jogadaDesfeita(long sorteios) {
+        // A jogada desfeita pode ser anterior ao checkpoint, então não há como refazê-la: grava a posição atual.
+        // O registro marca o ponto: numa queda antes de o checkpoint ser gravado, a recuperação para nele
+        registrar(DESFEITA, 0, 0, sorteios);
+        if (this.motor != null && this.registrosDesdeCheckpoint != 0) pedirCheckpoint(this.motor);
+    }
+
+    /**
+     * Acrescenta um registro ao diário e, a cada intervaloCheckpoint registros, pede um checkpoint.
+     *
+     * @param tipo O tipo do registro;
+     * @param valorDado O valor do dado;
+     * @param movimento O movimento codificado;
+     * @param sorteios Quantidade de sorteios do dado.
+     */
+    private void registrar(byte tipo, int valorDado, int movimento, long sorteios) {
+        this.registro.clear();
+        this.registro.putInt((int) this.sequencia);
+        this.registro.put(tipo);
+        this.registro.put((byte) valorDado);
+        this.registro.putShort((short) movimento);
+        this.registro.putLong(sorteios);
+        this.crc.reset();
+        this.crc.update(this.registro.array(), 0, this.registro.position());
+        this.registro.putInt((int) this.crc.getValue());
+        this.registro.flip();
+
+        try {
+            esvaziarSeGravado();
+            while (this.registro.hasRemaining()) this.canal.write(this.registro);
+            if (this.sincronizar) this.canal.force(false);
+            this.registrosAposCheckpoint.write(this.registro.array(), 0, TAMANHO_REGISTRO);
+            this.sequencia++;
+
+            if (++this.registrosDesdeCheckpoint >= this.intervaloCheckpoint) pedirCheckpoint(this.motor);
+        }
+        catch (IOException e) {
+            falhar(e);
+        }
+    }
+
+    /**
+     * Pede a gravação do checkpoint da posição atual, em segundo plano. Até ele estar no disco, o diário continua
+     * com todos os registros desde o checkpoint anterior; uma queda nesse meio tempo recupera a partida por eles.
+     *
+     * @param motorJogo O motor com a partida (codificado antes de retornar).
+     */
+    private void pedirCheckpoint(MotorJogo motorJogo) {
+        byte[] save = FormatoSave.codificar(motorJogo);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 8 + 1 + save.length);
+        buffer.putInt(MAGICO_CHECKPOINT);
+        buffer.putLong(this.sequencia);
+        buffer.put((byte) (motorJogo.isMovimentoPendente() ? 1 : 0));
+        buffer.put(save);
+        this.checkpointPendente = this.gravador.agendar(this.arquivoCheckpoint, buffer.array());
+        this.registrosAposCheckpoint.reset();
+        this.registrosDesdeCheckpoint = 0;
+    }
+
+    /**
+     * Se o último checkpoint pedido já foi gravado, esvazia o diário, mantendo só os registros feitos depois do
+     * pedido. Uma queda entre esvaziar e regravá-los perde esses registros, mas a partida volta ao checkpoint.
+     * Registros já incluídos no checkpoint que continuem no diário são reconhecidos pela sequência e pulados.
+     *
+     * @throws IOException Se o checkpoint não pôde ser gravado ou o diário não pôde ser reescrito.
+     */
+    private void esvaziarSeGravado() throws IOException {
+        if (this.checkpointPendente == null || !this.checkpointPendente.isDone()) return;
+        aguardarCheckpoint();
+
+        this.canal.truncate(0);
+        ByteBuffer restantes = ByteBuffer.wrap(this.registrosAposCheckpoint.toByteArray());
+        while (restantes.hasRemaining()) this.canal.write(restantes);
+        if (this.sincronizar) this.canal.force(false);
+    }
+
+    /**
+     * Espera o último checkpoint pedido ser gravado.
+     *
+     * @throws IOException Se não foi possível gravá-lo.
+     */
+    private void aguardarCheckpoint() throws IOException {
+        if (this.checkpointPendente == null) return;
+        try {
+            this.checkpointPendente.join();
+        }
+        catch (CompletionException e) {
+            throw new IOException("Não foi possível gravar o checkpoint do diário.", e.getCause());
+        }
+        finally {
+            this.checkpointPendente = null;
+        }
+    }
+
+    /**
+     * Para de registrar depois de uma falha de escrita: a partida continua, e o diário fica como estava
+     * (recuperável até o último registro gravado).
+     *
+     * @param e O erro de escrita.
+     */
+    private void falhar(IOException e) {
+        e.printStackTrace();
+        System.err.println("Erro ao gravar o diário da partida: " + e.getMessage());
+        desconectar();
+    }
+
+    /**
+     * Deixa de observar o motor atual.
+     */
+    private void desconectar() {
+        if (this.motor != null) {
+            this.motor.removerObservador(this);
+            this.motor = null;
+        }
+    }
+
+    /**
+     * Apaga o diário e o checkpoint (ex: quando a partida termina normalmente).
+     *
+     * @throws IOException Se não for possível apagar.
+     */
+    public void apagar() throws IOException {
+        try {
+            close(); // Espera o checkpoint pendente, que senão poderia ser gravado depois de apagado
+        }
+        finally {
+            Files.deleteIfExists(this.arquivoCheckpoint);
+            Files.deleteIfExists(this.arquivo);
+        }
+    }
+
+    /**
+     * Para de observar o motor, espera o checkpoint pendente e fecha o arquivo do diário. Os arquivos continuam
+     * no disco.
+     *
+     * @throws IOException Se o checkpoint pendente não pôde ser gravado ou não for possível fechar o arquivo.
+     */
+    @Override
+    public void close() throws IOException {
+        desconectar();
+        try {
+            aguardarCheckpoint();
+        }
+        finally {
+            if (this.canal != null) {
+                this.canal.close();
+                this.canal = null;
+            }
+        }
+    }
+
+    /**
+     * Lê o checkpoint de um diário e confere o cabeçalho.
+     *
+     * @param arquivo O arquivo do diário;
+     * @return O checkpoint, posicionado no início do save (logo depois do cabeçalho).
+     * @throws IOException Se o checkpoint não existir ou não tiver um cabeçalho válido.
+     */
+    private static ByteBuffer lerCheckpoint(Path arquivo) throws IOException {
+        ByteBuffer checkpoint = ByteBuffer.wrap(Files.readAllBytes(arquivoCheckpoint(arquivo)));
+        try {
+            if (checkpoint.getInt() != MAGICO_CHECKPOINT) throw new IOException("O arquivo não é um checkpoint do Ludo.");
+            checkpoint.getLong(); // Sequência
+            checkpoint.get(); // Movimento pendente
+        }
+        catch (BufferUnderflowException e) {
+            throw new IOException("Checkpoint truncado.", e);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Caminho do checkpoint de um diário.
+     *
+     * @param arquivo O arquivo do diário;
+     * @return O caminho do checkpoint, ao lado do diário.
+     */
+    private static Path arquivoCheckpoint(Path arquivo) {
+        return arquivo.resolveSibling(arquivo.getFileName() + ".checkpoint");
+    }
+}
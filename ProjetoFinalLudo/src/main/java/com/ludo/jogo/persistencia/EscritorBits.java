@@ -0,0 +1,73 @@
+package com.ludo.jogo.persistencia;
+
+import java.util.Arrays;
+
+/**
+ * Escreve valores de poucos bits em sequência, do bit mais significativo para o menos, em um vetor de bytes
+ * que cresce conforme a necessidade. O último byte é completado com zeros.
+ */
+final class EscritorBits {
+
+    // ATRIBUTOS
+
+    private byte[] bytes;
+    private long totalBits;
+
+
+    // CONSTRUTOR
+
+    /** Construtor padrao. */
+    EscritorBits() {
+        this.bytes = new byte[64];
+    }
+
+
+    // MÉTODOS
+
+    /** Getter para a quantidade de bits escritos.
+     * @return Total de bits. */
+    long getTotalBits() { return this.totalBits; }
+
+    /**
+     * Escreve os bits menos significativos de um valor.
+     *
+     * @param valor O valor;
+     * @param bits Quantidade de bits (0 a 31).
+     */
+    void escrever(int valor, int bits) {
+        for (int i = bits - 1; i >= 0; i--) escreverBit((valor >>> i) & 1);
+    }
+
+    /**
+     * Escreve um inteiro positivo no código gama de Elias: valores pequenos ocupam poucos bits
+     * (1 ocupa 1 bit, 2 e 3 ocupam 3, 4 a 7 ocupam 5...).
+     *
+     * @param valor O valor (maior que 0).
+     */
+    void escreverGama(long valor) {
+        int tamanho = 64 - Long.numberOfLeadingZeros(valor);
+        for (int i = 1; i < tamanho; i++) escreverBit(0);
+        for (int i = tamanho - 1; i >= 0; i--) escreverBit((int) (valor >>> i) & 1);
+    }
+
+    /**
+     * Escreve um bit.
+     *
+     * @param bit O bit (0 ou 1).
+     */
+    private void escreverBit(int bit) {
+        int indice = (int) (this.totalBits >>> 3);
+        if (indice == this.bytes.length) this.bytes = Arrays.copyOf(this.bytes, this.bytes.length * 2);
+        if (bit != 0) this.bytes[indice] |= (byte) (0x80 >>> (this.totalBits & 7));
+        this.totalBits++;
+    }
+
+    /**
+     * Retorna os bytes escritos.
+     *
+     * @return Cópia dos bytes, com o último completado com zeros.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(this.bytes, (int) ((this.totalBits + 7) >>> 3));
+    }
+}
@@ -0,0 +1,90 @@
+package com.ludo.jogo.persistencia;
+
+import java.util.List;
+
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Conteúdo de um jogo salvo, já lido e validado: jogadores, dado, posições dos peões e turno.
+ * É o resultado comum da leitura do formato atual (FormatoSave) e da migração dos saves antigos (MigracaoSaveLegado),
+ * e só é aplicado a um motor depois de lido por inteiro.
+ */
+final class EstadoSalvo {
+
+    // ATRIBUTOS
+
+    private final List<Class<? extends Jogador>> tipos;
+    private final List<Cor> cores;
+    private final Dado dado;
+    private final int[] posicoes;
+    private final int assentoDaVez;
+    private final int valorDado;
+    private final EstadoJogo estado;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param tipos Tipos dos jogadores, na ordem de jogada;
+     * @param cores Cores dos jogadores, na mesma ordem;
+     * @param dado O dado da partida, no ponto da sequência em que estava;
+     * @param posicoes Posição lógica de cada peão, indexada pelo id (cor * 4 + k);
+     * @param assentoDaVez Índice do jogador da vez;
+     * @param valorDado Valor pendente do dado (0 se ainda não rolou);
+     * @param estado Estado do jogo.
+     */
+    EstadoSalvo(List<Class<? extends Jogador>> tipos, List<Cor> cores, Dado dado, int[] posicoes, int assentoDaVez,
+                int valorDado, EstadoJogo estado) {
+        this.tipos = List.copyOf(tipos);
+        this.cores = List.copyOf(cores);
+        this.dado = dado;
+        this.posicoes = posicoes.clone();
+        this.assentoDaVez = assentoDaVez;
+        this.valorDado = valorDado;
+        this.estado = estado;
+    }
+
+
+    // MÉTODOS
+
+    /** Getter para o dado salvo.
+     * @return O dado, no ponto da sequência em que estava. */
+    Dado getDado() { return this.dado; }
+
+    /**
+     * Recria a partida salva em um motor, substituindo a partida atual dele.
+     * A posição é validada antes: se for inválida, o motor não é alterado.
+     *
+     * @param motor O motor de destino.
+     * @throws IllegalArgumentException Se as posições ou o turno salvos forem inválidos.
+     */
+    void aplicar(MotorJogo motor) {
+        validar();
+        iniciarJogadores(motor);
+        motor.restaurarPosicao(posicoes, assentoDaVez, valorDado, estado);
+    }
+
+    /**
+     * Verifica as posições e o turno salvos, sem tocar em nenhum motor.
+     *
+     * @throws IllegalArgumentException Se forem inválidos.
+     */
+    void validar() {
+        MotorJogo.validarPosicao(cores, posicoes, assentoDaVez, valorDado);
+    }
+
+    /**
+     * Inicia no motor uma partida nova com os jogadores e o dado salvos, com todos os peões na base.
+     *
+     * @param motor O motor de destino.
+     */
+    void iniciarJogadores(MotorJogo motor) {
+        motor.iniciarNovoJogo(tipos, cores, dado);
+    }
+}
@@ -0,0 +1,205 @@
+package com.ludo.jogo.persistencia;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorExpectiminimax;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.JogadorMCTS;
+import com.ludo.jogo.game.JogadorTD;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Formato binário dos jogos salvos. Em vez de serializar o grafo do MotorJogo (casas, peões, jogadores...),
+ * grava apenas o que define a partida, em algumas dezenas de bytes (big-endian):
+ * <pre>
+ * int  mágico "LUDS"          byte versão
+ * byte jogadores (n)          n x (byte cor, byte tipo)
+ * byte assento da vez         byte valor do dado         byte estado do jogo
+ * 16 x byte posição dos peões (por id; -1 para cores fora da partida)
+ * byte tamanho + ASCII do algoritmo do dado               long semente      long sorteios
+ * int  CRC32 de todos os bytes anteriores
+ * </pre>
+ * A leitura valida tudo antes de tocar no motor, e o CRC detecta arquivos truncados ou corrompidos.
+ */
+public final class FormatoSave {
+
+    // ATRIBUTOS
+
+    /** Número mágico no início dos saves ("LUDS"). */
+    public static final int MAGICO = 0x4C554453;
+    /** Versão atual do formato. */
+    public static final int VERSAO = 1;
+
+    // O código de cada tipo de jogador é o índice nesta lista: tipos novos só podem ser acrescentados no fim
+    private static final List<Class<? extends Jogador>> TIPOS = List.of(JogadorHumano.class, JogadorIA.class,
+            JogadorExpectiminimax.class, JogadorMCTS.class, JogadorTD.class);
+    private static final EstadoJogo[] ESTADOS = EstadoJogo.values();
+    private static final int TAMANHO_MAXIMO = 4 + 1 + 1 + 4 * 2 + 3 + Tabuleiro.MAX_PEOES + 1 + 255 + 8 + 8 + 4;
+    /** Maior quantidade de sorteios aceita em um save. Partidas usam alguns milhares; o limite impede que um arquivo
+     * adulterado faça o dado de um algoritmo sem pulo direto (ver Dado) refazer bilhões de sorteios ao carregar. */
+    static final long MAX_SORTEIOS = 1L << 24;
+
+
+    // CONSTRUTOR
+
+    /** Classe utilitária: não deve ser instanciada. */
+    private FormatoSave() {
+    }
+
+
+    // MÉTODOS
+
+    /**
+     * Codifica a partida de um motor.
+     *
+     * @param motor O motor com a partida;
+     * @return Os bytes do save.
+     * @throws IllegalArgumentException Se algum jogador for de um tipo sem código no formato.
+     */
+    public static byte[] codificar(MotorJogo motor) {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_MAXIMO);
+        List<Jogador> jogadores = motor.getJogadores();
+
+        buffer.putInt(MAGICO);
+        buffer.put((byte) VERSAO);
+        buffer.put((byte) jogadores.size());
+        for (Jogador jogador : jogadores) {
+            int tipo = TIPOS.indexOf(jogador.getClass());
+            if (tipo < 0) {
+                throw new IllegalArgumentException("Tipo de jogador sem código no formato de save: " + jogador.getClass().getSimpleName());
+            }
+            buffer.put((byte) jogador.getCor().ordinal());
+            buffer.put((byte) tipo);
+        }
+        buffer.put((byte) jogadores.indexOf(motor.getJogadorAtual()));
+        buffer.put((byte) motor.getValorDadoAtual());
+        buffer.put((byte) motor.getEstado().ordinal());
+
+        byte[] posicoes = new byte[Tabuleiro.MAX_PEOES];
+        Arrays.fill(posicoes, (byte) Tabuleiro.POSICAO_INVALIDA);
+        for (Jogador jogador : jogadores) {
+            int cor = jogador.getCor().ordinal();
+            for (int id = cor * 4; id < cor * 4 + 4; id++) posicoes[id] = (byte) motor.getTabuleiro().getPosicao(id);
+        }
+        buffer.put(posicoes);
+
+        Dado dado = motor.getDado();
+        byte[] algoritmo = dado.getAlgoritmo().getBytes(StandardCharsets.US_ASCII);
+        buffer.put((byte) algoritmo.length);
+        buffer.put(algoritmo);
+        buffer.putLong(dado.getSemente());
+        buffer.putLong(dado.getSorteios());
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Verifica se os bytes começam com o número mágico deste formato.
+     *
+     * @param dados Os bytes de um save;
+     * @return True se é um save no formato binário (de qualquer versão).
+     */
+    public static boolean isFormatoBinario(byte[] dados) {
+        return dados.length >= 4 && ByteBuffer.wrap(dados).getInt() == MAGICO;
+    }
+
+    /**
+     * Lê um save e recria a partida em um motor. O motor só é alterado se o save inteiro for válido.
+     *
+     * @param dados Os bytes do save;
+     * @param destino O motor onde a partida será recriada.
+     * @throws IOException Se o save estiver corrompido, for de uma versão desconhecida ou descrever uma posição inválida.
+     */
+    public static void decodificar(byte[] dados, MotorJogo destino) throws IOException {
+        EstadoSalvo estado = ler(dados);
+        try {
+            estado.aplicar(destino);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IOException("Save com posição inválida: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lê e valida um save, sem aplicá-lo.
+     *
+     * @param dados Os bytes do save;
+     * @return O conteúdo do save.
+     * @throws IOException Se o save estiver corrompido ou for de uma versão desconhecida.
+     */
+    static EstadoSalvo ler(byte[] dados) throws IOException {
+        if (!isFormatoBinario(dados)) throw new IOException("O arquivo não é um save do Ludo.");
+        if (dados.length < 8) throw new IOException("Save truncado.");
+
+        CRC32 crc = new CRC32();
+        crc.update(dados, 0, dados.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(dados);
+        if (buffer.getInt(dados.length - 4) != (int) crc.getValue()) {
+            throw new IOException("Save corrompido (CRC não confere).");
+        }
+        buffer.limit(dados.length - 4);
+
+        try {
+            buffer.getInt(); // Mágico
+            int versao = buffer.get();
+            if (versao != VERSAO) throw new IOException("Versão de save desconhecida: " + versao);
+
+            int numJogadores = buffer.get();
+            if (numJogadores < 1 || numJogadores > 4) throw new IOException("Quantidade de jogadores inválida: " + numJogadores);
+            List<Cor> cores = new ArrayList<>();
+            List<Class<? extends Jogador>> tipos = new ArrayList<>();
+            for (int i = 0; i < numJogadores; i++) {
+                int cor = buffer.get();
+                int tipo = buffer.get();
+                if (cor < 0 || cor >= 4 || cores.contains(Cor.values()[cor])) throw new IOException("Cor inválida: " + cor);
+                if (tipo < 0 || tipo >= TIPOS.size()) throw new IOException("Tipo de jogador desconhecido: " + tipo);
+                cores.add(Cor.values()[cor]);
+                tipos.add(TIPOS.get(tipo));
+            }
+
+            int assentoDaVez = buffer.get();
+            int valorDado = buffer.get();
+            int estado = buffer.get();
+            if (estado < 0 || estado >= ESTADOS.length) throw new IOException("Estado de jogo inválido: " + estado);
+
+            int[] posicoes = new int[Tabuleiro.MAX_PEOES];
+            for (int id = 0; id < posicoes.length; id++) posicoes[id] = buffer.get();
+
+            byte[] algoritmo = new byte[buffer.get() & 0xFF];
+            buffer.get(algoritmo);
+            long semente = buffer.getLong();
+            long sorteios = buffer.getLong();
+            if (buffer.hasRemaining()) throw new IOException("Dados a mais no save.");
+            if (sorteios < 0 || sorteios > MAX_SORTEIOS) throw new IOException("Quantidade de sorteios inválida: " + sorteios);
+
+            try {
+                Dado dado = new Dado(new String(algoritmo, StandardCharsets.US_ASCII), semente, sorteios);
+                EstadoSalvo salvo = new EstadoSalvo(tipos, cores, dado, posicoes, assentoDaVez, valorDado, ESTADOS[estado]);
+                salvo.validar();
+                return salvo;
+            }
+            catch (IllegalArgumentException e) {
+                throw new IOException("Save inválido: " + e.getMessage(), e);
+            }
+        }
+        catch (BufferUnderflowException e) {
+            throw new IOException("Save truncado.", e);
+        }
+    }
+}
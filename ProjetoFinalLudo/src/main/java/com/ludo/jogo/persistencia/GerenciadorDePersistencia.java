@@ -1,16 +1,25 @@
 package com.ludo.jogo.persistencia;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import com.ludo.jogo.game.MotorJogo;
 import com.ludo.jogo.game.exceptions.SlotSaveIndisponivelException;
 
-/** Classe utilitária responsável por salvar, carregar e apagar o estado do jogo em arquivos. */
+/**
+ * Classe utilitária responsável por salvar, carregar e apagar o estado do jogo em arquivos.
+ * Os jogos são gravados no formato binário de FormatoSave; saves antigos (serialização Java do MotorJogo)
+ * continuam podendo ser carregados, por MigracaoSaveLegado, e passam para o formato novo no próximo salvamento.
+ * A gravação é atômica: uma falha no meio (ou o fim do programa) deixa o save anterior intacto. Para não
+ * bloquear a GUI, prefira GravadorAssincrono.
+ */
 public class GerenciadorDePersistencia {
 
 
@@ -22,47 +31,122 @@ public class GerenciadorDePersistencia {
     // MÉTODOS
 
     /**
-     * Serializa o objeto MotorJogo e o salva no arquivo.
+     * Codifica o jogo e o salva no arquivo do slot.
      *
      * @param motorJogo O objeto do jogo a ser salvo;
      * @param slot O número do slot (1, 2, 3 ou 4) onde será salvo.
      */
     public static void salvarJogo(MotorJogo motorJogo, int slot) {
-        String arquivoNome = SAVE_PATH + slot + ".dat";
-
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(arquivoNome))) {
-            oos.writeObject(motorJogo);
+        try {
+            salvarJogo(motorJogo, arquivoDoSlot(slot));
             System.out.println("Jogo salvo com sucesso no slot " + slot);
         }
-        catch (IOException e) {
+        catch (IOException | IllegalArgumentException e) {
             e.printStackTrace();
             System.err.println("Erro ao salvar o jogo: " + e.getMessage());
         }
     }
 
+    /**
+     * Codifica o jogo e o salva em um arquivo.
+     *
+     * @param motorJogo O objeto do jogo a ser salvo;
+     * @param arquivo O arquivo de destino.
+     * @throws IOException Se não for possível gravar.
+     */
+    public static void salvarJogo(MotorJogo motorJogo, Path arquivo) throws IOException {
+        gravarAtomicamente(arquivo, FormatoSave.codificar(motorJogo));
+    }
+
+    /**
+     * Grava os bytes em um arquivo temporário ao lado do destino, força a escrita no disco e só então
+     * o renomeia para o destino, de forma atômica. Quem lê o destino vê o conteúdo antigo ou o novo, nunca metade.
+     *
+     * @param arquivo O arquivo de destino;
+     * @param dados O conteúdo.
+     * @throws IOException Se não for possível gravar ou renomear.
+     */
+    static void gravarAtomicamente(Path arquivo, byte[] dados) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(dados);
+            while (buffer.hasRemaining()) canal.write(buffer);
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
     /**
      * Tenta carregar o jogo. Se o arquivo não existir, lança a exceção informando que o slot está vazio.
      *
      * @param slot O número do slot a ser carregado.
-     * @return O objeto MotorJogo recuperado.
+     * @return Um novo MotorJogo com o jogo recuperado.
      * @throws SlotSaveIndisponivelException Se o arquivo não existir (vazio) ou erro de leitura.
      */
     public static MotorJogo carregarJogo(int slot) throws SlotSaveIndisponivelException {
-        String arquivoNome = SAVE_PATH + slot + ".dat";
-        File arquivo = new File(arquivoNome);
+        MotorJogo motorJogo = new MotorJogo();
+        carregarJogo(slot, motorJogo);
+        return motorJogo;
+    }
 
-        if (!arquivo.exists()) {
+    /**
+     * Carrega o jogo do slot em um motor existente, substituindo a partida dele.
+     * O motor só é alterado se o save for lido por inteiro.
+     *
+     * @param slot O número do slot a ser carregado;
+     * @param destino O motor onde o jogo será recriado.
+     * @throws SlotSaveIndisponivelException Se o arquivo não existir (vazio) ou erro de leitura.
+     */
+    public static void carregarJogo(int slot, MotorJogo destino) throws SlotSaveIndisponivelException {
+        try {
+            carregarJogo(arquivoDoSlot(slot), destino);
+        }
+        catch (NoSuchFileException e) {
             throw new SlotSaveIndisponivelException("Slot " + slot + " vazio! Não há jogo salvo para carregar.");
         }
+        catch (IOException e) {
+            throw new SlotSaveIndisponivelException("Erro ao ler o save do slot " + slot + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Carrega o jogo de um arquivo em um motor existente, no formato atual ou no formato antigo.
+     *
+     * @param arquivo O arquivo do save;
+     * @param destino O motor onde o jogo será recriado.
+     * @throws IOException Se o arquivo não existir, não puder ser lido ou não for um save válido.
+     */
+    public static void carregarJogo(Path arquivo, MotorJogo destino) throws IOException {
+        byte[] dados = Files.readAllBytes(arquivo);
 
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(arquivo))) {
-            return (MotorJogo) ois.readObject();
+        if (FormatoSave.isFormatoBinario(dados)) {
+            FormatoSave.decodificar(dados, destino);
         }
-        catch (IOException | ClassNotFoundException e) {
-            throw new SlotSaveIndisponivelException("Erro ao ler o save do slot " + slot + ": " + e.getMessage());
+        else if (MigracaoSaveLegado.isSaveLegado(dados)) {
+            EstadoSalvo estado = MigracaoSaveLegado.ler(dados);
+            try {
+                estado.aplicar(destino);
+            }
+            catch (IllegalArgumentException e) {
+                throw new IOException("Save antigo com posição inválida: " + e.getMessage(), e);
+            }
+        }
+        else {
+            throw new IOException("O arquivo não é um save do Ludo.");
         }
     }
 
+    /**
+     * Caminho do arquivo de um slot.
+     *
+     * @param slot O número do slot;
+     * @return O caminho (relativo ao diretório de execução).
+     */
+    static Path arquivoDoSlot(int slot) {
+        return Path.of(SAVE_PATH + slot + ".dat");
+    }
+
     /**
      * Apaga o arquivo de save do slot especificado.
      *
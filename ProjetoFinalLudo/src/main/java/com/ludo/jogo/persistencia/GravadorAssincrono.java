@@ -0,0 +1,166 @@
+package com.ludo.jogo.persistencia;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.ludo.jogo.game.MotorJogo;
+
+/**
+ * Grava os jogos salvos fora da thread que pede (na GUI, a thread do JavaFX).
+ * O estado é codificado (FormatoSave) no momento do pedido, então o motor pode continuar sendo usado enquanto
+ * o arquivo é gravado; a gravação é atômica (ver GerenciadorDePersistencia.gravarAtomicamente).
+ * Pedidos seguidos para o mesmo arquivo, feitos antes de a gravação começar, são juntados em uma única
+ * gravação com o estado mais recente, e todos recebem o mesmo CompletableFuture.
+ */
+public final class GravadorAssincrono implements AutoCloseable {
+
+    // ATRIBUTOS
+
+    private static final GravadorAssincrono PADRAO = new GravadorAssincrono(Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "ludo-saves");
+        thread.setDaemon(true); // Não impede o fim da aplicação: uma gravação interrompida não corrompe o slot
+        return thread;
+    }));
+
+    private final ExecutorService executor;
+    private final Map<Path, Pendente> pendentes;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param executor Executor onde as gravações rodam (com uma thread, elas acontecem na ordem dos pedidos).
+     */
+    public GravadorAssincrono(ExecutorService executor) {
+        this.executor = executor;
+        this.pendentes = new HashMap<>();
+    }
+
+
+    // MÉTODOS
+
+    /**
+     * Retorna o gravador compartilhado, com uma thread daemon.
+     *
+     * @return O gravador padrão.
+     */
+    public static GravadorAssincrono getPadrao() { return PADRAO; }
+
+    /**
+     * Pede a gravação do jogo no arquivo de um slot.
+     *
+     * @param motor O motor com o jogo (lido antes de retornar);
+     * @param slot O número do slot;
+     * @return O futuro da gravação; termina com exceção se não for possível gravar.
+     */
+    public CompletableFuture<Void> salvar(MotorJogo motor, int slot) {
+        return salvar(motor, GerenciadorDePersistencia.arquivoDoSlot(slot));
+    }
+
+    /**
+     * Pede a gravação do jogo em um arquivo. Deve ser chamado pela thread dona do motor.
+     *
+     * @param motor O motor com o jogo (lido antes de retornar);
+     * @param arquivo O arquivo de destino;
+     * @return O futuro da gravação; termina com exceção se não for possível gravar.
+     */
+    public CompletableFuture<Void> salvar(MotorJogo motor, Path arquivo) {
+        return agendar(arquivo, FormatoSave.codificar(motor));
+    }
+
+    /**
+     * Pede a gravação de um replay em um arquivo.
+     *
+     * @param replay O replay (codificado antes de retornar);
+     * @param arquivo O arquivo de destino;
+     * @return O futuro da gravação; termina com exceção se não for possível gravar.
+     */
+    public CompletableFuture<Void> salvar(ReplayPartida replay, Path arquivo) {
+        return agendar(arquivo, replay.codificar());
+    }
+
+    /**
+     * Pede a gravação de bytes já prontos em um arquivo (ex: os checkpoints do DiarioPartida).
+     *
+     * @param arquivo O arquivo de destino;
+     * @param dados O conteúdo completo do arquivo;
+     * @return O futuro da gravação; termina com exceção se não for possível gravar.
+     */
+    CompletableFuture<Void> agendar(Path arquivo, byte[] dados) {
+        synchronized (this.pendentes) {
+            Pendente pendente = this.pendentes.get(arquivo);
+            if (pendente != null) {
+                pendente.dados = dados; // A gravação ainda não começou: grava só o estado mais recente
+                return pendente.futuro;
+            }
+
+            Pendente novo = new Pendente(dados);
+            this.pendentes.put(arquivo, novo);
+            try {
+                CompletableFuture.runAsync(() -> gravar(arquivo), this.executor).whenComplete((nada, erro) -> {
+                    if (erro != null) novo.futuro.completeExceptionally(erro);
+                    else novo.futuro.complete(null);
+                });
+            }
+            catch (RejectedExecutionException e) {
+                this.pendentes.remove(arquivo); // Gravador já encerrado
+                novo.futuro.completeExceptionally(e);
+            }
+            return novo.futuro;
+        }
+    }
+
+    /**
+     * Espera as gravações já pedidas terminarem (por exemplo, antes de carregar ou apagar um slot).
+     */
+    public void aguardar() {
+        CompletableFuture.runAsync(() -> { }, this.executor).join();
+    }
+
+    /**
+     * Grava o estado mais recente pedido para um arquivo. A partir daqui, novos pedidos geram outra gravação.
+     *
+     * @param arquivo O arquivo de destino.
+     */
+    private void gravar(Path arquivo) {
+        byte[] dados;
+        synchronized (this.pendentes) {
+            dados = this.pendentes.remove(arquivo).dados;
+        }
+        try {
+            GerenciadorDePersistencia.gravarAtomicamente(arquivo, dados);
+        }
+        catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Encerra o executor depois das gravações já pedidas.
+     */
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+
+    /** Gravação pedida e ainda não começada. */
+    private static final class Pendente {
+
+        private byte[] dados;
+        private final CompletableFuture<Void> futuro = new CompletableFuture<>();
+
+        Pendente(byte[] dados) {
+            this.dados = dados;
+        }
+    }
+}
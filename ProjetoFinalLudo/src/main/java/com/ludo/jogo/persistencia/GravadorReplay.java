@@ -0,0 +1,198 @@
+package com.ludo.jogo.persistencia;
+
+import java.util.Arrays;
+
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.ObservadorJogadas;
+import com.ludo.jogo.game.Tabuleiro;
+
+/**
+ * Grava o replay (ReplayPartida) da partida de um motor, observando as rolagens e jogadas dela.
+ * Replays não representam jogadas desfeitas: ao desfazer uma jogada, a gravação para na rolagem anterior a ela.
+ * A partida do motor não deve ser substituída (novo jogo, carregar) durante a gravação. Pode gravar junto com
+ * outros observadores do mesmo motor (ex: o DiarioPartida).
+ */
+public final class GravadorReplay implements ObservadorJogadas {
+
+    // ATRIBUTOS
+
+    private final MotorJogo motor;
+    private final byte[] saveInicial;
+    private long sorteiosAnteriores;
+
+    // Por rolagem: sorteios de desempate antes dela, quantidade de movimentos e índice do escolhido
+    private long[] sorteiosExtras;
+    private int[] numMovimentos;
+    private int[] escolhas;
+    private int rolagens;
+    private int limiteRolagens;
+    private long sorteiosNoFim;
+
+    private final int[] movimentosDaRolagem;
+    private boolean escolhaPendente;
+    private int rolagemDaUltimaJogada;
+    private boolean gravando;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Começa a gravar a partida de um motor a partir da posição atual, passando a observá-lo.
+     *
+     * @param motor O motor com a partida.
+     * @throws IllegalArgumentException Se algum jogador for de um tipo sem código no formato de save, ou se o jogador
+     *         da vez já tiver rolado e faltar mover (o replay começa antes de uma rolagem).
+     */
+    public GravadorReplay(MotorJogo motor) {
+        if (motor.isMovimentoPendente()) {
+            throw new IllegalArgumentException("A gravação do replay deve começar antes da rolagem do jogador da vez.");
+        }
+        this.motor = motor;
+        this.saveInicial = FormatoSave.codificar(motor);
+        this.sorteiosAnteriores = motor.getDado().getSorteios();
+        this.sorteiosExtras = new long[256];
+        this.numMovimentos = new int[256];
+        this.escolhas = new int[256];
+        this.movimentosDaRolagem = new int[Tabuleiro.MAX_MOVIMENTOS];
+        this.rolagemDaUltimaJogada = -1;
+        this.limiteRolagens = Integer.MAX_VALUE;
+        this.gravando = true;
+        motor.adicionarObservador(this);
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a quantidade de rolagens gravadas.
+     * @return Rolagens completas até aqui. */
+    public int getRolagens() { return Math.min(this.limiteRolagens, this.escolhaPendente ? this.rolagens - 1 : this.rolagens); }
+    /** Indica se a gravação continua.
+     * @return False depois de encerrar() ou de uma jogada desfeita. */
+    public boolean isGravando() { return this.gravando; }
+
+    // Principais
+
+    @Override
+    public void dadoRolado(int valorDado, boolean temMovimentos, long sorteios) {
+        if (!this.gravando) return;
+        long extras = sorteios - this.sorteiosAnteriores - 1;
+        if (this.escolhaPendente || extras < 0) { // Jogada fora de tentarMoverPeao ou dado trocado: não há como representar
+            encerrar();
+            return;
+        }
+
+        if (this.rolagens == this.escolhas.length) {
+            int tamanho = this.rolagens * 2;
+            this.sorteiosExtras = Arrays.copyOf(this.sorteiosExtras, tamanho);
+            this.numMovimentos = Arrays.copyOf(this.numMovimentos, tamanho);
+            this.escolhas = Arrays.copyOf(this.escolhas, tamanho);
+        }
+        this.sorteiosExtras[this.rolagens] = extras;
+        this.sorteiosAnteriores = sorteios;
+
+        int quantidade = 0;
+        if (temMovimentos) {
+            quantidade = this.motor.getNumMovimentos();
+            System.arraycopy(this.motor.getMovimentos(), 0, this.movimentosDaRolagem, 0, quantidade);
+            this.escolhaPendente = true;
+        }
+        this.numMovimentos[this.rolagens] = quantidade;
+        this.escolhas[this.rolagens] = 0;
+        this.rolagens++;
+    }
+
+    @Override
+    public void peaoMovido(int movimento, long sorteios) {
+        if (!this.gravando) return;
+        if (!this.escolhaPendente) {
+            encerrar();
+            return;
+        }
+
+        int quantidade = this.numMovimentos[this.rolagens - 1];
+        for (int i = 0; i < quantidade; i++) {
+            if (this.movimentosDaRolagem[i] == movimento) {
+                this.escolhas[this.rolagens - 1] = i;
+                this.escolhaPendente = false;
+                this.rolagemDaUltimaJogada = this.rolagens - 1;
+                return;
+            }
+        }
+        encerrar(); // Movimento fora da lista da rolagem
+    }
+
+    @Override
+    public void jogadaDesfeita(long sorteios) {
+        if (!this.gravando) return;
+        // A rolagem da jogada desfeita e as seguintes (que passaram a vez) ficam de fora do replay;
+        // se a jogada é anterior à gravação, sobra só a posição inicial
+        this.limiteRolagens = Math.max(this.rolagemDaUltimaJogada, 0);
+        encerrar();
+    }
+
+    /**
+     * Para de gravar e de observar o motor. O replay continua disponível em getReplay().
+     */
+    public void encerrar() {
+        if (this.gravando) this.sorteiosNoFim = this.motor.getDado().getSorteios();
+        this.gravando = false;
+        this.motor.removerObservador(this);
+    }
+
+    /**
+     * Monta o replay com as rolagens completas gravadas até aqui (uma rolagem cuja jogada ainda não foi feita fica de fora),
+     * com um checkpoint a cada ReplayPartida.INTERVALO_CHECKPOINT rolagens.
+     *
+     * @return O replay.
+     */
+    public ReplayPartida getReplay() {
+        return getReplay(ReplayPartida.INTERVALO_CHECKPOINT);
+    }
+
+    /**
+     * Monta o replay com as rolagens completas gravadas até aqui e um checkpoint a cada intervalo rolagens.
+     * Os checkpoints são tirados reproduzindo a partida uma vez, o que também confere a gravação.
+     *
+     * @param intervaloCheckpoint Rolagens entre dois checkpoints (intervalos menores: arquivo maior, busca mais rápida);
+     * @return O replay.
+     */
+    public ReplayPartida getReplay(int intervaloCheckpoint) {
+        int total = getRolagens();
+        // Sorteios depois da última rolagem: até a rolagem seguinte, se ela ficou de fora, ou até agora
+        long sorteiosFinais;
+        if (total < this.rolagens) sorteiosFinais = this.sorteiosExtras[total];
+        else sorteiosFinais = (this.gravando ? this.motor.getDado().getSorteios() : this.sorteiosNoFim) - this.sorteiosAnteriores;
+
+        boolean comSorteiosExtras = total > 0 && sorteiosFinais != 0;
+        for (int i = 0; i < total; i++) {
+            if (this.sorteiosExtras[i] != 0) comSorteiosExtras = true;
+        }
+
+        // Os sorteios antes da rolagem i + 1 foram gastos nos desempates da rolagem i: são gravados depois dela
+        EscritorBits escritor = new EscritorBits();
+        for (int i = 0; i < total; i++) {
+            if (comSorteiosExtras && i == 0) escreverSorteios(escritor, this.sorteiosExtras[0]);
+            escritor.escrever(this.escolhas[i], ReplayPartida.bitsDaEscolha(this.numMovimentos[i]));
+            if (comSorteiosExtras) escreverSorteios(escritor, i + 1 < total ? this.sorteiosExtras[i + 1] : sorteiosFinais);
+        }
+        return new ReplayPartida(this.saveInicial, total, comSorteiosExtras, escritor.toByteArray(), escritor.getTotalBits())
+                .comCheckpoints(intervaloCheckpoint);
+    }
+
+    /**
+     * Escreve uma entrada de sorteios de desempate: 0 se não houve, ou 1 seguido da quantidade (código gama).
+     *
+     * @param escritor Onde escrever;
+     * @param sorteios A quantidade de sorteios.
+     */
+    private static void escreverSorteios(EscritorBits escritor, long sorteios) {
+        if (sorteios == 0) {
+            escritor.escrever(0, 1);
+        }
+        else {
+            escritor.escrever(1, 1);
+            escritor.escreverGama(sorteios);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ludo.jogo.persistencia;
+
+/**
+ * Lê valores escritos por EscritorBits, na mesma ordem. Pode voltar a qualquer posição (em bits) já conhecida.
+ */
+final class LeitorBits {
+
+    // ATRIBUTOS
+
+    private final byte[] bytes;
+    private final long limite;
+    private long posicao;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param bytes Os bytes escritos;
+     * @param totalBits Quantidade de bits válidos.
+     */
+    LeitorBits(byte[] bytes, long totalBits) {
+        this.bytes = bytes;
+        this.limite = totalBits;
+    }
+
+
+    // MÉTODOS
+
+    /** Getter para a posição de leitura.
+     * @return Quantidade de bits já lidos. */
+    long getPosicao() { return this.posicao; }
+
+    /**
+     * Muda a posição de leitura.
+     *
+     * @param posicao A posição, em bits desde o início.
+     */
+    void setPosicao(long posicao) { this.posicao = posicao; }
+
+    /**
+     * Lê um valor de alguns bits.
+     *
+     * @param bits Quantidade de bits (0 a 31);
+     * @return O valor.
+     * @throws IllegalStateException Se os bits acabaram.
+     */
+    int ler(int bits) {
+        int valor = 0;
+        for (int i = 0; i < bits; i++) valor = (valor << 1) | lerBit();
+        return valor;
+    }
+
+    /**
+     * Lê um inteiro escrito no código gama de Elias.
+     *
+     * @return O valor (maior que 0).
+     * @throws IllegalStateException Se os bits acabaram ou o código for inválido.
+     */
+    long lerGama() {
+        int zeros = 0;
+        while (lerBit() == 0) {
+            if (++zeros > 62) throw new IllegalStateException("Código gama inválido.");
+        }
+        long valor = 1;
+        for (int i = 0; i < zeros; i++) valor = (valor << 1) | lerBit();
+        return valor;
+    }
+
+    /**
+     * Lê um bit.
+     *
+     * @return O bit (0 ou 1).
+     * @throws IllegalStateException Se os bits acabaram.
+     */
+    private int lerBit() {
+        if (this.posicao >= this.limite) throw new IllegalStateException("Fim inesperado dos bits.");
+        int bit = (this.bytes[(int) (this.posicao >>> 3)] >>> (7 - (this.posicao & 7))) & 1;
+        this.posicao++;
+        return bit;
+    }
+}
@@ -0,0 +1,245 @@
+package com.ludo.jogo.persistencia;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.enums.EstadoPeao;
+
+/**
+ * Lê os saves antigos, gravados com serialização Java de todo o MotorJogo (save_slot_N.dat de versões anteriores).
+ * As classes do jogo mudaram desde então e não conseguem mais ler esses arquivos, então a leitura usa classes
+ * "sombra" com os mesmos campos das classes antigas: cada descritor de classe do fluxo é trocado pelo da sombra
+ * correspondente, e depois as posições dos peões são calculadas a partir das casas antigas.
+ * Os saves antigos não guardavam a semente do dado, então a partida migrada continua com um dado novo.
+ */
+final class MigracaoSaveLegado {
+
+    // ATRIBUTOS
+
+    /** Cabeçalho de um fluxo de serialização Java (STREAM_MAGIC e STREAM_VERSION). */
+    private static final int CABECALHO_SERIALIZACAO = 0xACED0005;
+
+    private static final String PACOTE_ANTIGO = "com.ludo.jogo.game.";
+    private static final Map<String, Class<?>> SOMBRAS = Map.ofEntries(
+            Map.entry(PACOTE_ANTIGO + "MotorJogo", MotorJogoAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "Dado", DadoAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "Jogador", JogadorAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "JogadorHumano", JogadorHumanoAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "JogadorIA", JogadorIAAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "Peao", PeaoAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "Tabuleiro", TabuleiroAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "Casa", CasaAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "CasaComum", CasaComumAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "CasaInicial", CasaInicialAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "CasaSegura", CasaSeguraAntigo.class),
+            Map.entry(PACOTE_ANTIGO + "CasaRetaFinal", CasaRetaFinalAntigo.class));
+
+    // Apenas as classes que aparecem nos saves antigos podem ser criadas durante a leitura
+    private static final ObjectInputFilter FILTRO = ObjectInputFilter.Config.createFilter(
+            "java.util.ArrayList;java.util.HashMap;java.util.Map$Entry;java.lang.Object;java.lang.Integer;java.lang.Number;"
+                    + "java.lang.Enum;"
+                    + "com.ludo.jogo.game.enums.*;" + MigracaoSaveLegado.class.getName() + "$*;maxdepth=64;!*");
+
+
+    // CONSTRUTOR
+
+    /** Classe utilitária: não deve ser instanciada. */
+    private MigracaoSaveLegado() {
+    }
+
+
+    // MÉTODOS
+
+    /**
+     * Verifica se os bytes são um fluxo de serialização Java (o formato dos saves antigos).
+     *
+     * @param dados Os bytes de um save;
+     * @return True se é um save antigo.
+     */
+    static boolean isSaveLegado(byte[] dados) {
+        return dados.length >= 4
+                && ((dados[0] & 0xFF) << 24 | (dados[1] & 0xFF) << 16 | (dados[2] & 0xFF) << 8 | (dados[3] & 0xFF))
+                == CABECALHO_SERIALIZACAO;
+    }
+
+    /**
+     * Lê um save antigo.
+     *
+     * @param dados Os bytes do save;
+     * @return O conteúdo do save, convertido.
+     * @throws IOException Se o arquivo não for um save antigo válido.
+     */
+    static EstadoSalvo ler(byte[] dados) throws IOException {
+        Object lido;
+        try (ObjectInputStream entrada = new LeitorSombras(new ByteArrayInputStream(dados))) {
+            lido = entrada.readObject();
+        }
+        catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Save antigo inválido: " + e.getMessage(), e);
+        }
+        if (!(lido instanceof MotorJogoAntigo motor)) throw new IOException("Save antigo sem MotorJogo.");
+
+        try {
+            return converter(motor);
+        }
+        catch (RuntimeException e) {
+            throw new IOException("Save antigo inconsistente: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Converte o motor antigo: a posição de cada peão é a da sua casa no circuito, na reta final da cor ou na base.
+     *
+     * @param motor O motor antigo lido;
+     * @return O conteúdo do save.
+     * @throws IOException Se algum peão estiver em uma casa que não pertence ao tabuleiro.
+     */
+    private static EstadoSalvo converter(MotorJogoAntigo motor) throws IOException {
+        List<Class<? extends Jogador>> tipos = new ArrayList<>();
+        List<Cor> cores = new ArrayList<>();
+        int[] posicoes = new int[Tabuleiro.MAX_PEOES];
+
+        for (JogadorAntigo jogador : motor.jogadores) {
+            int cor = jogador.cor.ordinal();
+            tipos.add(jogador instanceof JogadorIAAntigo ? JogadorIA.class : JogadorHumano.class);
+            cores.add(jogador.cor);
+
+            if (jogador.peoes.size() != 4) throw new IOException("O jogador " + jogador.cor + " não tem 4 peões.");
+            for (int k = 0; k < 4; k++) {
+                posicoes[cor * 4 + k] = posicaoDoPeao(motor.tabuleiro, jogador.peoes.get(k));
+            }
+        }
+
+        int assentoDaVez = motor.jogadores.indexOf(motor.jogadorAtual);
+        if (assentoDaVez < 0) throw new IOException("O jogador da vez não está na partida.");
+        return new EstadoSalvo(tipos, cores, new Dado(), posicoes, assentoDaVez, motor.valorDadoAtual, motor.estado);
+    }
+
+    /**
+     * Calcula a posição lógica da casa antiga de um peão.
+     *
+     * @param tabuleiro O tabuleiro antigo;
+     * @param peao O peão antigo;
+     * @return A posição lógica (ver Tabuleiro).
+     * @throws IOException Se a casa não for do circuito, da reta final da cor nem da base da cor.
+     */
+    private static int posicaoDoPeao(TabuleiroAntigo tabuleiro, PeaoAntigo peao) throws IOException {
+        int cor = peao.cor.ordinal();
+        if (peao.estado == EstadoPeao.BASE || peao.casaAtual == tabuleiro.casasBase.get(peao.cor)) {
+            return Tabuleiro.posicaoBase(cor);
+        }
+
+        int indice = indiceDaCasa(tabuleiro.casasCircuito, peao.casaAtual);
+        if (indice >= 0) return indice;
+
+        indice = indiceDaCasa(tabuleiro.casasRetaFinal.get(peao.cor), peao.casaAtual);
+        if (indice >= 0) return Tabuleiro.posicaoRetaFinal(cor, indice);
+
+        throw new IOException("Peão " + peao.cor + " em uma casa fora do tabuleiro.");
+    }
+
+    /**
+     * Procura uma casa em uma lista, por identidade (as casas antigas não definem equals).
+     *
+     * @param casas A lista de casas;
+     * @param casa A casa procurada;
+     * @return O índice, ou -1 se não está na lista.
+     */
+    private static int indiceDaCasa(List<CasaAntigo> casas, CasaAntigo casa) {
+        for (int i = 0; i < casas.size(); i++) {
+            if (casas.get(i) == casa) return i;
+        }
+        return -1;
+    }
+
+
+    /** Fluxo de objetos que lê as classes antigas do jogo como as sombras desta classe. */
+    private static final class LeitorSombras extends ObjectInputStream {
+
+        LeitorSombras(InputStream entrada) throws IOException {
+            super(entrada);
+            setObjectInputFilter(FILTRO);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass lido = super.readClassDescriptor();
+            Class<?> sombra = SOMBRAS.get(lido.getName());
+            // A sombra tem os mesmos campos da classe antiga, então o layout dos dados no fluxo é o mesmo
+            return sombra != null ? ObjectStreamClass.lookup(sombra) : lido;
+        }
+    }
+
+    // Sombras das classes antigas: apenas os campos, com os mesmos nomes e tipos compatíveis
+
+    private static final class MotorJogoAntigo implements Serializable {
+        int valorDadoAtual;
+        DadoAntigo dado;
+        EstadoJogo estado;
+        JogadorAntigo jogadorAtual;
+        List<JogadorAntigo> jogadores;
+        TabuleiroAntigo tabuleiro;
+    }
+
+    private static final class DadoAntigo implements Serializable {
+    }
+
+    private abstract static class JogadorAntigo implements Serializable {
+        Cor cor;
+        Object motorJogo;
+        List<PeaoAntigo> peoes;
+    }
+
+    private static final class JogadorHumanoAntigo extends JogadorAntigo {
+    }
+
+    private static final class JogadorIAAntigo extends JogadorAntigo {
+    }
+
+    private static final class PeaoAntigo implements Serializable {
+        CasaAntigo casaAtual;
+        CasaAntigo casaInicial;
+        Cor cor;
+        EstadoPeao estado;
+    }
+
+    private static final class TabuleiroAntigo implements Serializable {
+        Map<Cor, CasaAntigo> casasBase;
+        List<CasaAntigo> casasCircuito;
+        Map<Cor, List<CasaAntigo>> casasRetaFinal;
+        Map<Cor, CasaAntigo> casasSaida;
+        Map<Cor, Integer> indicesEntradaReta;
+    }
+
+    private abstract static class CasaAntigo implements Serializable {
+        List<Object> peoesNaCasa;
+    }
+
+    private static final class CasaComumAntigo extends CasaAntigo {
+    }
+
+    private static final class CasaInicialAntigo extends CasaAntigo {
+    }
+
+    private static final class CasaSeguraAntigo extends CasaAntigo {
+    }
+
+    private static final class CasaRetaFinalAntigo extends CasaAntigo {
+        Cor corPermitida;
+    }
+}
@@ -0,0 +1,328 @@
+package com.ludo.jogo.persistencia;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import com.ludo.jogo.game.Tabuleiro;
+
+/**
+ * Replay de uma partida inteira: a posição inicial (um save de FormatoSave, com jogadores e semente do dado) e,
+ * para cada rolagem, só o que o dado não determina: o índice do movimento escolhido na lista de movimentos da
+ * rolagem (0 bits se havia um só, 1 bit se havia dois, 2 bits se havia três ou quatro) e, se a partida teve
+ * desempates das IAs, os sorteios gastos neles depois da rolagem (1 bit quando não houve; uma entrada a mais, no
+ * início, para os sorteios antes da primeira rolagem). Os estados intermediários são recriados por ReprodutorReplay,
+ * refazendo as rolagens no MotorJogo.
+ * <p>
+ * Para ir direto a uma rolagem sem refazer a partida desde o início, o replay leva checkpoints a cada K rolagens
+ * (posições dos peões, turno e sorteios do dado, em 27 bytes) e, no rodapé, um índice com a rolagem, a posição nos
+ * bits e o deslocamento de cada checkpoint. Ir a qualquer rolagem custa então no máximo K rolagens refeitas.
+ * <pre>
+ * int  mágico "LUDR"          byte versão
+ * short tamanho + save inicial
+ * int  rolagens               byte opções (bit 0: com sorteios de desempate)
+ * int  total de bits          bits das rolagens
+ * n x  checkpoint: 16 x byte posição, byte assento da vez, byte valor do dado, byte estado, long sorteios
+ * n x  índice: int rolagem, int posição nos bits, int deslocamento do checkpoint no arquivo
+ * int  n                      int deslocamento do índice
+ * int  CRC32 de todos os bytes anteriores
+ * </pre>
+ */
+public final class ReplayPartida {
+
+    // ATRIBUTOS
+
+    /** Número mágico no início dos replays ("LUDR"). */
+    public static final int MAGICO = 0x4C554452;
+    /** Versão atual do formato. */
+    public static final int VERSAO = 2;
+    /** Quantidade padrão de rolagens entre dois checkpoints. */
+    public static final int INTERVALO_CHECKPOINT = 64;
+
+    private static final int COM_SORTEIOS_EXTRAS = 1;
+    /** Tamanho de um checkpoint: posições dos peões, turno, estado e sorteios do dado. */
+    static final int TAMANHO_CHECKPOINT = Tabuleiro.MAX_PEOES + 3 + 8;
+    private static final int TAMANHO_INDICE = 12;
+
+    private final byte[] saveInicial;
+    private final int rolagens;
+    private final boolean comSorteiosExtras;
+    private final byte[] bits;
+    private final long totalBits;
+
+    // Checkpoints, em ordem de rolagem: a rolagem, a posição nos bits e o estado codificado de cada um
+    private final int[] rolagensCheckpoint;
+    private final long[] bitsCheckpoint;
+    private final byte[] checkpoints;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param saveInicial A posição inicial, no formato de FormatoSave;
+     * @param rolagens Quantidade de rolagens gravadas;
+     * @param comSorteiosExtras Se os bits trazem os sorteios de desempate;
+     * @param bits Os bits das rolagens;
+     * @param totalBits Quantidade de bits válidos.
+     */
+    ReplayPartida(byte[] saveInicial, int rolagens, boolean comSorteiosExtras, byte[] bits, long totalBits) {
+        this(saveInicial, rolagens, comSorteiosExtras, bits, totalBits, new int[0], new long[0], new byte[0]);
+    }
+
+    /**
+     * Construtor com checkpoints.
+     *
+     * @param saveInicial A posição inicial, no formato de FormatoSave;
+     * @param rolagens Quantidade de rolagens gravadas;
+     * @param comSorteiosExtras Se os bits trazem os sorteios de desempate;
+     * @param bits Os bits das rolagens;
+     * @param totalBits Quantidade de bits válidos;
+     * @param rolagensCheckpoint Rolagem de cada checkpoint, em ordem crescente;
+     * @param bitsCheckpoint Posição nos bits de cada checkpoint;
+     * @param checkpoints Os checkpoints codificados, TAMANHO_CHECKPOINT bytes cada.
+     */
+    ReplayPartida(byte[] saveInicial, int rolagens, boolean comSorteiosExtras, byte[] bits, long totalBits,
+                  int[] rolagensCheckpoint, long[] bitsCheckpoint, byte[] checkpoints) {
+        this.saveInicial = saveInicial;
+        this.rolagens = rolagens;
+        this.comSorteiosExtras = comSorteiosExtras;
+        this.bits = bits;
+        this.totalBits = totalBits;
+        this.rolagensCheckpoint = rolagensCheckpoint;
+        this.bitsCheckpoint = bitsCheckpoint;
+        this.checkpoints = checkpoints;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a quantidade de rolagens.
+     * @return Rolagens gravadas no replay. */
+    public int getRolagens() { return this.rolagens; }
+    /** Getter para a posição inicial.
+     * @return Cópia do save da posição inicial. */
+    public byte[] getSaveInicial() { return this.saveInicial.clone(); }
+    /** Getter para a quantidade de bits das rolagens.
+     * @return Bits usados pelas escolhas e desempates. */
+    public long getTotalBits() { return this.totalBits; }
+    /** Getter para a quantidade de checkpoints.
+     * @return Checkpoints do replay. */
+    public int getNumCheckpoints() { return this.rolagensCheckpoint.length; }
+    /** Indica se as rolagens trazem os sorteios de desempate.
+     * @return True se a partida teve desempates. */
+    boolean isComSorteiosExtras() { return this.comSorteiosExtras; }
+
+    /**
+     * Cria um leitor dos bits das rolagens, posicionado no início.
+     *
+     * @return O leitor.
+     */
+    LeitorBits criarLeitor() {
+        return new LeitorBits(this.bits, this.totalBits);
+    }
+
+    /**
+     * Procura o último checkpoint até uma rolagem.
+     *
+     * @param rolagem A rolagem;
+     * @return O índice do checkpoint, ou -1 se não há checkpoint até ela.
+     */
+    int checkpointAte(int rolagem) {
+        int indice = Arrays.binarySearch(this.rolagensCheckpoint, rolagem);
+        return indice >= 0 ? indice : -indice - 2;
+    }
+
+    /** Getter para a rolagem de um checkpoint.
+     * @param indice O índice do checkpoint;
+     * @return A rolagem. */
+    int getRolagemCheckpoint(int indice) { return this.rolagensCheckpoint[indice]; }
+    /** Getter para a posição nos bits de um checkpoint.
+     * @param indice O índice do checkpoint;
+     * @return A posição, em bits. */
+    long getBitsCheckpoint(int indice) { return this.bitsCheckpoint[indice]; }
+
+    /**
+     * Lê um checkpoint.
+     *
+     * @param indice O índice do checkpoint;
+     * @return Os bytes do checkpoint, só para leitura.
+     */
+    ByteBuffer lerCheckpoint(int indice) {
+        return ByteBuffer.wrap(this.checkpoints, indice * TAMANHO_CHECKPOINT, TAMANHO_CHECKPOINT).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Cria uma cópia do replay com um checkpoint a cada intervalo rolagens, reproduzindo a partida uma vez.
+     *
+     * @param intervalo Rolagens entre dois checkpoints;
+     * @return O replay com checkpoints.
+     * @throws IllegalStateException Se o replay não corresponder à partida.
+     */
+    ReplayPartida comCheckpoints(int intervalo) {
+        if (intervalo < 1) throw new IllegalArgumentException("Intervalo de checkpoint inválido: " + intervalo);
+        int quantidade = this.rolagens > 0 ? (this.rolagens - 1) / intervalo : 0; // Nenhum na rolagem 0 nem no fim
+        int[] rolagensNovas = new int[quantidade];
+        long[] bitsNovos = new long[quantidade];
+        ByteBuffer estados = ByteBuffer.allocate(quantidade * TAMANHO_CHECKPOINT);
+
+        ReprodutorReplay reprodutor;
+        try {
+            reprodutor = new ReprodutorReplay(new ReplayPartida(this.saveInicial, this.rolagens, this.comSorteiosExtras,
+                    this.bits, this.totalBits));
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Replay com posição inicial inválida: " + e.getMessage(), e);
+        }
+        for (int i = 0; i < quantidade; i++) {
+            reprodutor.irPara((i + 1) * intervalo);
+            rolagensNovas[i] = reprodutor.getRolagem();
+            bitsNovos[i] = reprodutor.getPosicaoBits();
+            reprodutor.capturarCheckpoint(estados);
+        }
+        return new ReplayPartida(this.saveInicial, this.rolagens, this.comSorteiosExtras, this.bits, this.totalBits,
+                rolagensNovas, bitsNovos, estados.array());
+    }
+
+    /**
+     * Quantidade de bits do índice do movimento escolhido em uma rolagem.
+     *
+     * @param numMovimentos Quantidade de movimentos da rolagem;
+     * @return 0 para nenhum ou um movimento, 1 para dois, 2 para três ou quatro.
+     */
+    static int bitsDaEscolha(int numMovimentos) {
+        return numMovimentos <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(numMovimentos - 1);
+    }
+
+    // Principais
+
+    /**
+     * Codifica o replay.
+     *
+     * @return Os bytes do replay.
+     */
+    public byte[] codificar() {
+        int numCheckpoints = this.rolagensCheckpoint.length;
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 1 + 2 + this.saveInicial.length + 4 + 1 + 4 + this.bits.length
+                + numCheckpoints * (TAMANHO_CHECKPOINT + TAMANHO_INDICE) + 4 + 4 + 4);
+        buffer.putInt(MAGICO);
+        buffer.put((byte) VERSAO);
+        buffer.putShort((short) this.saveInicial.length);
+        buffer.put(this.saveInicial);
+        buffer.putInt(this.rolagens);
+        buffer.put((byte) (this.comSorteiosExtras ? COM_SORTEIOS_EXTRAS : 0));
+        buffer.putInt((int) this.totalBits);
+        buffer.put(this.bits);
+
+        int inicioCheckpoints = buffer.position();
+        buffer.put(this.checkpoints);
+        int inicioIndice = buffer.position();
+        for (int i = 0; i < numCheckpoints; i++) {
+            buffer.putInt(this.rolagensCheckpoint[i]);
+            buffer.putInt((int) this.bitsCheckpoint[i]);
+            buffer.putInt(inicioCheckpoints + i * TAMANHO_CHECKPOINT);
+        }
+        buffer.putInt(numCheckpoints);
+        buffer.putInt(inicioIndice);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Lê e valida um replay. A posição inicial é validada aqui; as escolhas, ao reproduzir.
+     *
+     * @param dados Os bytes do replay;
+     * @return O replay.
+     * @throws IOException Se o replay estiver corrompido ou for de uma versão desconhecida.
+     */
+    public static ReplayPartida ler(byte[] dados) throws IOException {
+        if (dados.length < 8 || ByteBuffer.wrap(dados).getInt() != MAGICO) throw new IOException("O arquivo não é um replay do Ludo.");
+
+        CRC32 crc = new CRC32();
+        crc.update(dados, 0, dados.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(dados);
+        if (buffer.getInt(dados.length - 4) != (int) crc.getValue()) {
+            throw new IOException("Replay corrompido (CRC não confere).");
+        }
+        buffer.limit(dados.length - 4);
+
+        try {
+            buffer.getInt(); // Mágico
+            int versao = buffer.get();
+            if (versao != VERSAO) throw new IOException("Versão de replay desconhecida: " + versao);
+
+            byte[] saveInicial = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(saveInicial);
+            FormatoSave.ler(saveInicial); // Valida a posição inicial
+
+            int rolagens = buffer.getInt();
+            int opcoes = buffer.get();
+            long totalBits = buffer.getInt() & 0xFFFFFFFFL;
+            if (rolagens < 0) throw new IOException("Quantidade de rolagens inválida: " + rolagens);
+            boolean comSorteiosExtras = (opcoes & COM_SORTEIOS_EXTRAS) != 0;
+            long tamanhoBits = (totalBits + 7) >>> 3;
+
+            if (buffer.remaining() < tamanhoBits + 8) throw new IOException("Replay truncado.");
+            byte[] bits = new byte[(int) tamanhoBits];
+            buffer.get(bits);
+            int inicioCheckpoints = buffer.position();
+
+            // Rodapé: quantidade de checkpoints e onde começa o índice
+            int numCheckpoints = buffer.getInt(buffer.limit() - 8);
+            int inicioIndice = buffer.getInt(buffer.limit() - 4);
+            if (numCheckpoints < 0 || inicioIndice != inicioCheckpoints + (long) numCheckpoints * TAMANHO_CHECKPOINT
+                    || buffer.limit() - 8 - inicioIndice != (long) numCheckpoints * TAMANHO_INDICE) {
+                throw new IOException("Índice de checkpoints inválido.");
+            }
+
+            int[] rolagensCheckpoint = new int[numCheckpoints];
+            long[] bitsCheckpoint = new long[numCheckpoints];
+            for (int i = 0; i < numCheckpoints; i++) {
+                int entrada = inicioIndice + i * TAMANHO_INDICE;
+                rolagensCheckpoint[i] = buffer.getInt(entrada);
+                bitsCheckpoint[i] = buffer.getInt(entrada + 4) & 0xFFFFFFFFL;
+                int anterior = i > 0 ? rolagensCheckpoint[i - 1] : 0;
+                if (rolagensCheckpoint[i] <= anterior || rolagensCheckpoint[i] > rolagens || bitsCheckpoint[i] > totalBits
+                        || buffer.getInt(entrada + 8) != inicioCheckpoints + i * TAMANHO_CHECKPOINT) {
+                    throw new IOException("Checkpoint " + i + " inválido no índice.");
+                }
+            }
+            byte[] checkpoints = Arrays.copyOfRange(dados, inicioCheckpoints, inicioIndice);
+            return new ReplayPartida(saveInicial, rolagens, comSorteiosExtras, bits, totalBits,
+                    rolagensCheckpoint, bitsCheckpoint, checkpoints);
+        }
+        catch (BufferUnderflowException e) {
+            throw new IOException("Replay truncado.", e);
+        }
+    }
+
+    /**
+     * Grava o replay em um arquivo, de forma atômica.
+     *
+     * @param arquivo O arquivo de destino.
+     * @throws IOException Se não for possível gravar.
+     */
+    public void salvar(Path arquivo) throws IOException {
+        GerenciadorDePersistencia.gravarAtomicamente(arquivo, codificar());
+    }
+
+    /**
+     * Lê um replay de um arquivo.
+     *
+     * @param arquivo O arquivo do replay;
+     * @return O replay.
+     * @throws IOException Se o arquivo não existir, não puder ser lido ou não for um replay válido.
+     */
+    public static ReplayPartida carregar(Path arquivo) throws IOException {
+        return ler(Files.readAllBytes(arquivo));
+    }
+}
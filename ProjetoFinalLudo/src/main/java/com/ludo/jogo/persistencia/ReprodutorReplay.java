@@ -0,0 +1,201 @@
+package com.ludo.jogo.persistencia;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Reproduz um replay (ReplayPartida) em um MotorJogo, rolagem por rolagem: o dado é rolado com a semente
+ * original e o movimento escolhido é lido da lista de movimentos da rolagem, sem consultar os jogadores.
+ * Depois de cada passo, getMotor() tem a partida exatamente como estava naquele ponto (posição, turno e dado).
+ * Para ir a uma rolagem (para frente ou para trás), parte do último checkpoint do replay até ela, ou da posição
+ * atual se ela estiver mais perto: no máximo K rolagens refeitas, rápido o bastante para arrastar a linha do tempo.
+ */
+public final class ReprodutorReplay {
+
+    // ATRIBUTOS
+
+    private final ReplayPartida replay;
+    private final EstadoSalvo inicial;
+    private final String algoritmoDado;
+    private final long sementeDado;
+    private final long sorteiosIniciais;
+
+    private final MotorJogo motor;
+    private final LeitorBits leitor;
+    private int rolagem;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Prepara a reprodução, com o motor na posição inicial do replay.
+     *
+     * @param replay O replay.
+     * @throws IOException Se a posição inicial do replay for inválida.
+     */
+    public ReprodutorReplay(ReplayPartida replay) throws IOException {
+        this.replay = replay;
+        this.inicial = FormatoSave.ler(replay.getSaveInicial());
+        Dado dado = this.inicial.getDado();
+        this.algoritmoDado = dado.getAlgoritmo();
+        this.sementeDado = dado.getSemente();
+        this.sorteiosIniciais = dado.getSorteios();
+        this.motor = new MotorJogo();
+        this.leitor = replay.criarLeitor();
+        try {
+            reiniciar();
+        }
+        catch (IllegalArgumentException e) {
+            throw new IOException("Replay com posição inicial inválida: " + e.getMessage(), e);
+        }
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para o motor da reprodução.
+     * @return O motor, na posição da rolagem atual (não deve ser alterado por fora). */
+    public MotorJogo getMotor() { return this.motor; }
+    /** Getter para a rolagem atual.
+     * @return Quantidade de rolagens já reproduzidas. */
+    public int getRolagem() { return this.rolagem; }
+    /** Getter para o total de rolagens.
+     * @return Quantidade de rolagens do replay. */
+    public int getTotalRolagens() { return this.replay.getRolagens(); }
+    /** Getter para a posição de leitura nos bits do replay.
+     * @return Bits já lidos. */
+    long getPosicaoBits() { return this.leitor.getPosicao(); }
+
+    // Principais
+
+    /**
+     * Volta à posição inicial do replay.
+     */
+    public void reiniciar() {
+        this.inicial.aplicar(this.motor);
+        this.motor.setDado(new Dado(this.algoritmoDado, this.sementeDado, this.sorteiosIniciais));
+        this.leitor.setPosicao(0);
+        this.rolagem = 0;
+    }
+
+    /**
+     * Reproduz a próxima rolagem (e a jogada dela, se houver).
+     *
+     * @return False se o replay já acabou.
+     * @throws IllegalStateException Se o replay não corresponder à partida (escolha fora da lista, bits faltando).
+     */
+    public boolean avancar() {
+        if (this.rolagem >= this.replay.getRolagens()) return false;
+        if (this.motor.getEstado() != EstadoJogo.EM_JOGO) throw new IllegalStateException("Replay continua depois do fim da partida.");
+
+        boolean comSorteiosExtras = this.replay.isComSorteiosExtras();
+        if (comSorteiosExtras && this.rolagem == 0) avancarDado(); // Sorteios antes da primeira rolagem
+        if (this.motor.rolarSemJogar()) {
+            int quantidade = this.motor.getNumMovimentos();
+            int escolha = this.leitor.ler(ReplayPartida.bitsDaEscolha(quantidade));
+            if (escolha >= quantidade) throw new IllegalStateException("Replay com escolha inválida na rolagem " + this.rolagem);
+
+            int movimento = this.motor.getMovimentos()[escolha];
+            try {
+                this.motor.tentarMoverPeao(this.motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)));
+            }
+            catch (MovimentoInvalidoException e) {
+                throw new IllegalStateException("Movimento da lista recusado pelo motor: " + e.getMessage(), e);
+            }
+        }
+        if (comSorteiosExtras) avancarDado(); // Desempates das IAs nesta rolagem
+        this.rolagem++;
+        return true;
+    }
+
+    /**
+     * Lê uma entrada de sorteios de desempate e avança o dado por ela.
+     */
+    private void avancarDado() {
+        if (this.leitor.ler(1) == 1) this.motor.getDado().avancar(this.leitor.lerGama());
+    }
+
+    /**
+     * Volta uma rolagem (refazendo a partir do checkpoint anterior).
+     *
+     * @return False se já está na posição inicial.
+     */
+    public boolean voltar() {
+        if (this.rolagem == 0) return false;
+        irPara(this.rolagem - 1);
+        return true;
+    }
+
+    /**
+     * Vai para uma rolagem: parte do último checkpoint até ela, a menos que a posição atual esteja entre
+     * os dois, e reproduz o resto.
+     *
+     * @param destino A rolagem (0 é a posição inicial, getTotalRolagens() o fim).
+     * @throws IllegalArgumentException Se a rolagem estiver fora do replay.
+     */
+    public void irPara(int destino) {
+        if (destino < 0 || destino > this.replay.getRolagens()) throw new IllegalArgumentException("Rolagem fora do replay: " + destino);
+
+        int checkpoint = this.replay.checkpointAte(destino);
+        int rolagemCheckpoint = checkpoint >= 0 ? this.replay.getRolagemCheckpoint(checkpoint) : 0;
+        if (destino < this.rolagem || this.rolagem < rolagemCheckpoint) {
+            if (checkpoint >= 0) restaurarCheckpoint(checkpoint);
+            else reiniciar();
+        }
+        while (this.rolagem < destino) avancar();
+    }
+
+    /**
+     * Coloca o motor no estado de um checkpoint do replay.
+     *
+     * @param indice O índice do checkpoint.
+     * @throws IllegalStateException Se o checkpoint descrever uma posição inválida.
+     */
+    private void restaurarCheckpoint(int indice) {
+        ByteBuffer checkpoint = this.replay.lerCheckpoint(indice);
+        int[] posicoes = new int[Tabuleiro.MAX_PEOES];
+        for (int id = 0; id < posicoes.length; id++) posicoes[id] = checkpoint.get();
+        int assentoDaVez = checkpoint.get();
+        int valorDado = checkpoint.get();
+        int estado = checkpoint.get();
+        long sorteios = checkpoint.getLong();
+        if (estado < 0 || estado >= EstadoJogo.values().length || sorteios < this.sorteiosIniciais
+                || sorteios > FormatoSave.MAX_SORTEIOS) {
+            throw new IllegalStateException("Checkpoint " + indice + " inválido.");
+        }
+
+        this.inicial.iniciarJogadores(this.motor);
+        try {
+            this.motor.restaurarPosicao(posicoes, assentoDaVez, valorDado, EstadoJogo.values()[estado]);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Checkpoint " + indice + " inválido: " + e.getMessage(), e);
+        }
+        this.motor.setDado(new Dado(this.algoritmoDado, this.sementeDado, sorteios));
+        this.leitor.setPosicao(this.replay.getBitsCheckpoint(indice));
+        this.rolagem = this.replay.getRolagemCheckpoint(indice);
+    }
+
+    /**
+     * Escreve o estado atual como checkpoint (ver ReplayPartida): posições dos peões, turno, estado e sorteios do dado.
+     *
+     * @param destino Onde escrever (TAMANHO_CHECKPOINT bytes).
+     */
+    void capturarCheckpoint(ByteBuffer destino) {
+        Tabuleiro tabuleiro = this.motor.getTabuleiro();
+        for (int id = 0; id < Tabuleiro.MAX_PEOES; id++) {
+            destino.put((byte) (tabuleiro.getPeao(id) != null ? tabuleiro.getPosicao(id) : Tabuleiro.POSICAO_INVALIDA));
+        }
+        destino.put((byte) this.motor.getJogadores().indexOf(this.motor.getJogadorAtual()));
+        destino.put((byte) this.motor.getValorDadoAtual());
+        destino.put((byte) this.motor.getEstado().ordinal());
+        destino.putLong(this.motor.getDado().getSorteios());
+    }
+}
@@ -0,0 +1,441 @@
+package com.ludo.jogo.simulacao;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.PesosHeuristica;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Afina os pesos das regras do JogadorIA (PesosHeuristica) com um algoritmo genético sobre partidas sem GUI.
+ * A cada geração, cada candidato joga o mesmo lote de partidas contra a IA com os pesos iniciais: as sementes
+ * são as mesmas para todos os candidatos (números aleatórios comuns) e cada semente é jogada duas vezes, uma em
+ * cada lado do tabuleiro, para que a diferença entre candidatos venha dos pesos e não da sorte nos dados.
+ * Os melhores candidatos (elite) passam direto para a próxima geração; o resto nasce por torneio, cruzamento
+ * uniforme e mutação.
+ * As partidas são distribuídas entre os núcleos com Fork/Join, como no SimuladorParalelo, e o resultado não
+ * depende da quantidade de threads. Depois de cada geração o estado é gravado em um arquivo de checkpoint,
+ * e uma execução interrompida continua de onde parou.
+ * Uso: gradle afinarHeuristica --args="--geracoes 30 --populacao 24 --partidas 2000 --threads 4"
+ */
+public class AfinadorHeuristica {
+
+    // ATRIBUTOS
+
+    /** Quantidade de partidas a partir da qual uma tarefa é dividida ao meio. */
+    public static final int PARTIDAS_POR_TAREFA = 32;
+
+    private static final List<Class<? extends Jogador>> TIPOS = List.of(JogadorIA.class, JogadorIA.class);
+    private static final List<Cor> CORES = List.of(Cor.VERMELHO, Cor.AMARELO);
+    private static final long SEMENTE_EVOLUCAO = 0x5DEECE66DL;
+    private static final int TAMANHO_TORNEIO = 3;
+    private static final int MAGICO = 0x4C554441; // "LUDA"
+    private static final int VERSAO = 1;
+
+    private final int populacao;
+    private final int elite;
+    private final int partidasPorCandidato;
+    private final double mutacao;
+    private final int threads;
+    private final long semente;
+    private final PesosHeuristica referencia;
+
+    private int geracao;
+    private List<PesosHeuristica> candidatos;
+    private PesosHeuristica melhor;
+    private double melhorTaxa;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao. A população inicial é formada pelos pesos iniciais e por mutações deles.
+     *
+     * @param populacao Quantidade de candidatos por geração (pelo menos 2);
+     * @param elite Quantidade de melhores candidatos mantidos entre gerações (de 1 a populacao - 1);
+     * @param partidasPorCandidato Partidas de cada candidato por geração (par: cada semente é jogada dos dois lados);
+     * @param mutacao Desvio padrão relativo da mutação;
+     * @param threads Quantidade de threads;
+     * @param semente Semente base das partidas e da evolução.
+     */
+    public AfinadorHeuristica(int populacao, int elite, int partidasPorCandidato, double mutacao, int threads,
+                              long semente) {
+        if (populacao < 2 || elite < 1 || elite >= populacao) {
+            throw new IllegalArgumentException("A população deve ter pelo menos 2 candidatos e a elite de 1 a populacao - 1.");
+        }
+        if (partidasPorCandidato < 2 || partidasPorCandidato % 2 != 0) {
+            throw new IllegalArgumentException("A quantidade de partidas por candidato deve ser par e positiva.");
+        }
+        if (mutacao < 0) {
+            throw new IllegalArgumentException("A mutação não pode ser negativa.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("A quantidade de threads deve ser pelo menos 1.");
+        }
+        this.populacao = populacao;
+        this.elite = elite;
+        this.partidasPorCandidato = partidasPorCandidato;
+        this.mutacao = mutacao;
+        this.threads = threads;
+        this.semente = semente;
+        this.referencia = PesosHeuristica.iniciais();
+
+        SplittableRandom aleatorio = aleatorioDaGeracao(0);
+        this.candidatos = new ArrayList<>();
+        this.candidatos.add(this.referencia);
+        while (this.candidatos.size() < populacao) this.candidatos.add(mutar(this.referencia, aleatorio));
+        this.melhor = this.referencia;
+        this.melhorTaxa = 0.5;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a próxima geração a executar.
+     * @return O número de gerações já executadas. */
+    public int getGeracao() { return this.geracao; }
+    /** Getter para os candidatos da próxima geração.
+     * @return Cópia da população atual. */
+    public List<PesosHeuristica> getCandidatos() { return List.copyOf(this.candidatos); }
+    /** Getter para o melhor candidato encontrado até agora.
+     * @return Os pesos do melhor candidato. */
+    public PesosHeuristica getMelhor() { return this.melhor; }
+    /** Getter para a taxa de vitórias do melhor candidato, na geração em que foi avaliado.
+     * @return Taxa entre 0 e 1. */
+    public double getMelhorTaxa() { return this.melhorTaxa; }
+
+    // Principais
+
+    /**
+     * Executa uma geração: avalia todos os candidatos, atualiza o melhor e gera a população seguinte.
+     *
+     * @return As taxas de vitória dos candidatos avaliados, na ordem da população.
+     */
+    public double[] executarGeracao() {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        int[] vitorias;
+        try {
+            vitorias = pool.invoke(new TarefaAvaliacao(this, Dado.derivarSemente(semente, geracao), 0,
+                    (long) populacao * partidasPorCandidato));
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        double[] taxas = new double[populacao];
+        Integer[] ordem = new Integer[populacao];
+        for (int i = 0; i < populacao; i++) {
+            taxas[i] = (double) vitorias[i] / partidasPorCandidato;
+            ordem[i] = i;
+        }
+        // Ordem estável: em empate, vence o candidato de menor índice (a elite anterior vem primeiro)
+        Arrays.sort(ordem, (a, b) -> Double.compare(taxas[b], taxas[a]));
+        if (taxas[ordem[0]] > melhorTaxa) {
+            melhor = candidatos.get(ordem[0]);
+            melhorTaxa = taxas[ordem[0]];
+        }
+
+        candidatos = proximaPopulacao(taxas, ordem, aleatorioDaGeracao(geracao + 1));
+        geracao++;
+        return taxas;
+    }
+
+    /**
+     * Joga uma partida de um candidato contra a referência. As partidas 2k e 2k+1 usam a mesma semente,
+     * com o candidato em lados opostos.
+     *
+     * @param pesos Os pesos do candidato;
+     * @param sementeGeracao Semente da geração (a mesma para todos os candidatos);
+     * @param partida Índice da partida do candidato;
+     * @return True se o candidato venceu.
+     */
+    boolean jogarPartida(PesosHeuristica pesos, long sementeGeracao, int partida) {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(TIPOS, CORES), Dado.derivarSemente(sementeGeracao, partida / 2));
+        int lado = partida % 2;
+        ((JogadorIA) motor.getJogadores().get(lado)).setPesos(pesos);
+        ((JogadorIA) motor.getJogadores().get(1 - lado)).setPesos(referencia);
+
+        SimuladorPartidas.jogarAteOFim(motor);
+        return motor.getEstado() == EstadoJogo.ENCERRADO && motor.getJogadorAtual() == motor.getJogadores().get(lado);
+    }
+
+    /**
+     * Gera a população seguinte: a elite, seguida de filhos de pais escolhidos por torneio.
+     *
+     * @param taxas Taxas de vitória da geração atual;
+     * @param ordem Índices dos candidatos, do melhor para o pior;
+     * @param aleatorio Gerador da evolução desta geração;
+     * @return A nova população.
+     */
+    private List<PesosHeuristica> proximaPopulacao(double[] taxas, Integer[] ordem, SplittableRandom aleatorio) {
+        List<PesosHeuristica> proxima = new ArrayList<>();
+        for (int i = 0; i < elite; i++) proxima.add(candidatos.get(ordem[i]));
+
+        while (proxima.size() < populacao) {
+            double[] pai = candidatos.get(torneio(taxas, aleatorio)).getPesos();
+            double[] mae = candidatos.get(torneio(taxas, aleatorio)).getPesos();
+            double[] filho = new double[PesosHeuristica.NUM_PESOS];
+            for (int i = 0; i < filho.length; i++) filho[i] = aleatorio.nextBoolean() ? pai[i] : mae[i];
+            proxima.add(mutar(new PesosHeuristica(filho), aleatorio));
+        }
+        return proxima;
+    }
+
+    /**
+     * Escolhe um candidato por torneio: o melhor entre alguns sorteados.
+     *
+     * @param taxas Taxas de vitória;
+     * @param aleatorio Gerador;
+     * @return O índice do vencedor do torneio.
+     */
+    private int torneio(double[] taxas, SplittableRandom aleatorio) {
+        int vencedor = aleatorio.nextInt(taxas.length);
+        for (int i = 1; i < TAMANHO_TORNEIO; i++) {
+            int desafiante = aleatorio.nextInt(taxas.length);
+            if (taxas[desafiante] > taxas[vencedor]) vencedor = desafiante;
+        }
+        return vencedor;
+    }
+
+    /**
+     * Perturba cada peso com ruído gaussiano proporcional à sua magnitude (mais 1, para que pesos nulos
+     * também variem).
+     *
+     * @param pesos Os pesos originais;
+     * @param aleatorio Gerador;
+     * @return Os pesos mutados.
+     */
+    private PesosHeuristica mutar(PesosHeuristica pesos, SplittableRandom aleatorio) {
+        double[] valores = pesos.getPesos();
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] += mutacao * (Math.abs(valores[i]) + 1) * gaussiana(aleatorio);
+        }
+        return new PesosHeuristica(valores);
+    }
+
+    /**
+     * Sorteia um valor da normal padrão (Box-Muller), usando só o gerador recebido.
+     *
+     * @param aleatorio Gerador;
+     * @return O valor sorteado.
+     */
+    private static double gaussiana(SplittableRandom aleatorio) {
+        double u = 1 - aleatorio.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * aleatorio.nextDouble());
+    }
+
+    /**
+     * Gerador da evolução de uma geração, derivado apenas da semente e do número da geração (para que a
+     * execução retomada de um checkpoint siga igual à ininterrupta).
+     *
+     * @param numero Número da geração;
+     * @return O gerador.
+     */
+    private SplittableRandom aleatorioDaGeracao(int numero) {
+        return new SplittableRandom(Dado.derivarSemente(semente ^ SEMENTE_EVOLUCAO, numero));
+    }
+
+    // Checkpoint
+
+    /**
+     * Grava o estado (geração, população e melhor candidato) em um arquivo. A gravação é feita em um arquivo
+     * temporário e depois movida, para que uma interrupção no meio não corrompa o checkpoint anterior.
+     *
+     * @param arquivo O arquivo de checkpoint;
+     * @throws IOException Se não for possível gravar.
+     */
+    public void salvarCheckpoint(Path arquivo) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (DataOutputStream saida = new DataOutputStream(Files.newOutputStream(temporario))) {
+            saida.writeInt(MAGICO);
+            saida.writeInt(VERSAO);
+            saida.writeLong(semente);
+            saida.writeInt(populacao);
+            saida.writeInt(PesosHeuristica.NUM_PESOS);
+            saida.writeInt(geracao);
+            for (PesosHeuristica candidato : candidatos) escreverPesos(saida, candidato);
+            escreverPesos(saida, melhor);
+            saida.writeDouble(melhorTaxa);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Continua a partir de um checkpoint gravado por um afinador com a mesma semente e população.
+     *
+     * @param arquivo O arquivo de checkpoint;
+     * @throws IOException Se o arquivo não puder ser lido ou for de outra configuração.
+     */
+    public void retomar(Path arquivo) throws IOException {
+        try (DataInputStream entrada = new DataInputStream(Files.newInputStream(arquivo))) {
+            if (entrada.readInt() != MAGICO || entrada.readInt() != VERSAO) {
+                throw new IOException("Cabeçalho inválido em " + arquivo);
+            }
+            if (entrada.readLong() != semente || entrada.readInt() != populacao
+                    || entrada.readInt() != PesosHeuristica.NUM_PESOS) {
+                throw new IOException("O checkpoint " + arquivo + " é de outra configuração (semente ou população).");
+            }
+            int lida = entrada.readInt();
+            List<PesosHeuristica> lidos = new ArrayList<>();
+            for (int i = 0; i < populacao; i++) lidos.add(lerPesos(entrada));
+            PesosHeuristica melhorLido = lerPesos(entrada);
+            double taxaLida = entrada.readDouble();
+            if (entrada.read() != -1) throw new IOException("Dados a mais no fim de " + arquivo);
+
+            this.geracao = lida;
+            this.candidatos = lidos;
+            this.melhor = melhorLido;
+            this.melhorTaxa = taxaLida;
+        }
+    }
+
+    /**
+     * Grava os pesos de um candidato (um double por peso).
+     *
+     * @param saida O fluxo de saída;
+     * @param pesos Os pesos;
+     * @throws IOException Se não for possível gravar.
+     */
+    private static void escreverPesos(DataOutputStream saida, PesosHeuristica pesos) throws IOException {
+        for (double peso : pesos.getPesos()) saida.writeDouble(peso);
+    }
+
+    /**
+     * Lê os pesos de um candidato gravados por escreverPesos.
+     *
+     * @param entrada O fluxo de entrada;
+     * @return Os pesos.
+     * @throws IOException Se não for possível ler.
+     */
+    private static PesosHeuristica lerPesos(DataInputStream entrada) throws IOException {
+        double[] pesos = new double[PesosHeuristica.NUM_PESOS];
+        for (int i = 0; i < pesos.length; i++) pesos[i] = entrada.readDouble();
+        return new PesosHeuristica(pesos);
+    }
+
+    /**
+     * Ponto de entrada do afinador em linha de comando.
+     *
+     * @param args --geracoes N, --populacao N, --elite N, --partidas N (por candidato), --mutacao S, --threads N,
+     *             --semente S, --checkpoint ARQUIVO e --saida ARQUIVO (opcionais).
+     */
+    public static void main(String[] args) {
+        int geracoes = 30;
+        int populacao = 24;
+        int elite = 4;
+        int partidas = 2000;
+        double mutacao = 0.2;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long semente = 42L;
+        Path checkpoint = Path.of("afinador_checkpoint.bin");
+        Path saida = Path.of(PesosHeuristica.ARQUIVO_PADRAO);
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--geracoes": geracoes = Integer.parseInt(args[++i]); break;
+                    case "--populacao": populacao = Integer.parseInt(args[++i]); break;
+                    case "--elite": elite = Integer.parseInt(args[++i]); break;
+                    case "--partidas": partidas = Integer.parseInt(args[++i]); break;
+                    case "--mutacao": mutacao = Double.parseDouble(args[++i]); break;
+                    case "--threads": threads = Integer.parseInt(args[++i]); break;
+                    case "--semente": semente = Long.parseLong(args[++i]); break;
+                    case "--checkpoint": checkpoint = Path.of(args[++i]); break;
+                    case "--saida": saida = Path.of(args[++i]); break;
+                    default: throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+
+            AfinadorHeuristica afinador = new AfinadorHeuristica(populacao, elite, partidas, mutacao, threads, semente);
+            if (Files.isRegularFile(checkpoint)) {
+                afinador.retomar(checkpoint);
+                System.out.println("Retomando de " + checkpoint + " na geração " + (afinador.getGeracao() + 1));
+            }
+
+            while (afinador.getGeracao() < geracoes) {
+                long inicio = System.nanoTime();
+                double[] taxas = afinador.executarGeracao();
+                double maior = 0;
+                for (double taxa : taxas) maior = Math.max(maior, taxa);
+                afinador.salvarCheckpoint(checkpoint);
+                System.out.printf(Locale.ROOT, "Geração %d: melhor da geração %.2f%%, melhor até agora %.2f%% (%.1f s)%n",
+                        afinador.getGeracao(), 100 * maior, 100 * afinador.getMelhorTaxa(),
+                        (System.nanoTime() - inicio) / 1e9);
+            }
+
+            afinador.getMelhor().salvar(saida);
+            System.out.println("Pesos gravados em " + saida + ": " + afinador.getMelhor());
+        }
+        catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Erro: " + e.getMessage());
+            System.err.println("Uso: --geracoes 30 --populacao 24 --elite 4 --partidas 2000 --mutacao 0.2 --threads 4 --semente 42 --checkpoint afinador_checkpoint.bin --saida pesos_heuristica.bin");
+            System.exit(1);
+        }
+        catch (IOException e) {
+            System.err.println("Erro de arquivo: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+
+    /**
+     * Tarefa que joga um intervalo das partidas da geração, dividindo-o enquanto for grande. O índice i
+     * corresponde à partida i % partidasPorCandidato do candidato i / partidasPorCandidato.
+     */
+    private static class TarefaAvaliacao extends RecursiveTask<int[]> {
+
+        private final AfinadorHeuristica afinador;
+        private final long sementeGeracao;
+        private final long inicio;
+        private final long fim;
+
+        TarefaAvaliacao(AfinadorHeuristica afinador, long sementeGeracao, long inicio, long fim) {
+            this.afinador = afinador;
+            this.sementeGeracao = sementeGeracao;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (fim - inicio <= PARTIDAS_POR_TAREFA) {
+                int[] vitorias = new int[afinador.populacao];
+                for (long i = inicio; i < fim; i++) {
+                    int candidato = (int) (i / afinador.partidasPorCandidato);
+                    int partida = (int) (i % afinador.partidasPorCandidato);
+                    if (afinador.jogarPartida(afinador.candidatos.get(candidato), sementeGeracao, partida)) {
+                        vitorias[candidato]++;
+                    }
+                }
+                return vitorias;
+            }
+
+            long meio = (inicio + fim) >>> 1;
+            TarefaAvaliacao esquerda = new TarefaAvaliacao(afinador, sementeGeracao, inicio, meio);
+            esquerda.fork();
+            int[] vitorias = new TarefaAvaliacao(afinador, sementeGeracao, meio, fim).compute();
+            int[] daEsquerda = esquerda.join();
+            for (int i = 0; i < vitorias.length; i++) vitorias[i] += daEsquerda[i];
+            return vitorias;
+        }
+    }
+}
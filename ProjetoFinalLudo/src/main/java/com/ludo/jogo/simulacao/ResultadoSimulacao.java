@@ -0,0 +1,118 @@
+package com.ludo.jogo.simulacao;
+
+import java.util.List;
+import java.util.Locale;
+
+/** Acumula as estatísticas de um lote de partidas simuladas. */
+public class ResultadoSimulacao {
+
+    // ATRIBUTOS
+
+    private final List<String> participantes;
+    private long partidas;
+    private long partidasSemVencedor;
+    private long totalTurnos;
+    private final long[] vitoriasPorAssento;
+    private final long[] vitoriasPorParticipante;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param participantes Descrição de cada participante configurado (ex: "VERMELHO (JogadorIA)").
+     */
+    public ResultadoSimulacao(List<String> participantes) {
+        this.participantes = List.copyOf(participantes);
+        this.vitoriasPorAssento = new long[participantes.size()];
+        this.vitoriasPorParticipante = new long[participantes.size()];
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a quantidade de partidas.
+     * @return Partidas registradas. */
+    public long getPartidas() { return this.partidas; }
+    /** Getter para as partidas que atingiram o limite de turnos.
+     * @return Partidas sem vencedor. */
+    public long getPartidasSemVencedor() { return this.partidasSemVencedor; }
+    /** Getter para o total de turnos.
+     * @return Soma dos turnos (rolagens) de todas as partidas. */
+    public long getTotalTurnos() { return this.totalTurnos; }
+    /** Getter para as vitórias de um assento (ordem de jogada).
+     * @param assento Índice do assento (0 = primeiro a jogar);
+     * @return Quantidade de vitórias. */
+    public long getVitoriasAssento(int assento) { return this.vitoriasPorAssento[assento]; }
+    /** Getter para as vitórias de um participante configurado.
+     * @param participante Índice do participante na configuração;
+     * @return Quantidade de vitórias. */
+    public long getVitoriasParticipante(int participante) { return this.vitoriasPorParticipante[participante]; }
+
+    // Principais
+
+    /**
+     * Registra o resultado de uma partida.
+     *
+     * @param assentoVencedor Assento do vencedor, ou -1 se a partida não terminou;
+     * @param participanteVencedor Participante vencedor, ou -1 se a partida não terminou;
+     * @param turnos Quantidade de turnos (rolagens) da partida.
+     */
+    public void registrarPartida(int assentoVencedor, int participanteVencedor, long turnos) {
+        this.partidas++;
+        this.totalTurnos += turnos;
+
+        if (assentoVencedor < 0) {
+            this.partidasSemVencedor++;
+            return;
+        }
+        this.vitoriasPorAssento[assentoVencedor]++;
+        this.vitoriasPorParticipante[participanteVencedor]++;
+    }
+
+    /**
+     * Soma os resultados de outro lote a este.
+     *
+     * @param outro Resultado com a mesma configuração de participantes.
+     */
+    public void combinar(ResultadoSimulacao outro) {
+        this.partidas += outro.partidas;
+        this.partidasSemVencedor += outro.partidasSemVencedor;
+        this.totalTurnos += outro.totalTurnos;
+        for (int i = 0; i < this.vitoriasPorAssento.length; i++) {
+            this.vitoriasPorAssento[i] += outro.vitoriasPorAssento[i];
+            this.vitoriasPorParticipante[i] += outro.vitoriasPorParticipante[i];
+        }
+    }
+
+    /**
+     * Monta o relatório do lote.
+     *
+     * @param segundos Tempo gasto na simulação, em segundos;
+     * @return Texto com partidas/segundo, turnos médios e taxa de vitória por assento e por cor.
+     */
+    public String gerarRelatorio(double segundos) {
+        StringBuilder sb = new StringBuilder();
+        long comVencedor = Math.max(1, this.partidas - this.partidasSemVencedor);
+
+        sb.append(String.format(Locale.ROOT, "Partidas: %d (sem vencedor: %d)%n", this.partidas, this.partidasSemVencedor));
+        sb.append(String.format(Locale.ROOT, "Tempo: %.3f s (%.1f partidas/s)%n", segundos, this.partidas / Math.max(segundos, 1e-9)));
+        sb.append(String.format(Locale.ROOT, "Turnos por partida (média): %.1f%n",
+                (double) this.totalTurnos / Math.max(1, this.partidas)));
+
+        sb.append("Vitórias por assento:").append(System.lineSeparator());
+        for (int i = 0; i < this.vitoriasPorAssento.length; i++) {
+            sb.append(String.format(Locale.ROOT, "  Assento %d: %.2f%%%n", i + 1,
+                    100.0 * this.vitoriasPorAssento[i] / comVencedor));
+        }
+
+        sb.append("Vitórias por cor:").append(System.lineSeparator());
+        for (int i = 0; i < this.vitoriasPorParticipante.length; i++) {
+            sb.append(String.format(Locale.ROOT, "  %s: %.2f%%%n", this.participantes.get(i),
+                    100.0 * this.vitoriasPorParticipante[i] / comVencedor));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.ludo.jogo.simulacao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Distribui as partidas de um SimuladorPartidas entre vários núcleos usando Fork/Join.
+ * Cada tarefa folha joga seu intervalo de partidas com o próprio MotorJogo (e, portanto, tabuleiro e dado),
+ * acumulando em um ResultadoSimulacao local; os resultados só são somados na junção das tarefas,
+ * então as threads não compartilham nenhum estado mutável durante a simulação.
+ */
+public class SimuladorParalelo {
+
+    // ATRIBUTOS
+
+    /** Quantidade de partidas a partir da qual uma tarefa é dividida ao meio. */
+    public static final int PARTIDAS_POR_TAREFA = 256;
+
+    private final SimuladorPartidas simulador;
+    private final int threads;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param simulador Simulador com a configuração dos jogadores;
+     * @param threads Quantidade de threads (núcleos) a usar.
+     */
+    public SimuladorParalelo(SimuladorPartidas simulador, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("A quantidade de threads deve ser pelo menos 1.");
+        }
+        this.simulador = simulador;
+        this.threads = threads;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a quantidade de threads.
+     * @return Threads usadas na simulação. */
+    public int getThreads() { return this.threads; }
+
+    // Principais
+
+    /**
+     * Joga uma quantidade de partidas completas em paralelo.
+     *
+     * @param partidas Quantidade de partidas;
+     * @return O resultado combinado de todas as threads.
+     */
+    public ResultadoSimulacao simular(long partidas) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.invoke(new TarefaSimulacao(simulador, 0, partidas));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Mede o desempenho com 1, 2, 4, ... threads (até maxThreads) e monta uma tabela de escalonamento.
+     * Antes das medições, um lote de aquecimento é jogado para que a JIT compile o caminho quente.
+     *
+     * @param simulador Simulador com a configuração dos jogadores;
+     * @param partidas Partidas por medição;
+     * @param maxThreads Quantidade máxima de threads;
+     * @return Texto com partidas/segundo, aceleração e eficiência para cada quantidade de threads.
+     */
+    public static String medirEscalonamento(SimuladorPartidas simulador, long partidas, int maxThreads) {
+        List<Integer> quantidades = new ArrayList<>();
+        for (int t = 1; t < maxThreads; t *= 2) quantidades.add(t);
+        quantidades.add(maxThreads);
+
+        new SimuladorParalelo(simulador, maxThreads).simular(Math.max(partidas / 4, PARTIDAS_POR_TAREFA));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-8s %14s %12s %12s%n", "Threads", "Partidas/s", "Aceleração", "Eficiência"));
+
+        double base = 0;
+        for (int t : quantidades) {
+            long inicio = System.nanoTime();
+            new SimuladorParalelo(simulador, t).simular(partidas);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            double taxa = partidas / Math.max(segundos, 1e-9);
+            if (base == 0) base = taxa;
+            double aceleracao = taxa / base;
+            sb.append(String.format(Locale.ROOT, "%-8d %14.1f %11.2fx %11.1f%%%n",
+                    t, taxa, aceleracao, 100.0 * aceleracao / t));
+        }
+        return sb.toString();
+    }
+
+
+    /** Tarefa que joga um intervalo de partidas, dividindo-o enquanto for grande. */
+    private static class TarefaSimulacao extends RecursiveTask<ResultadoSimulacao> {
+
+        private final SimuladorPartidas simulador;
+        private final long inicio;
+        private final long fim;
+
+        TarefaSimulacao(SimuladorPartidas simulador, long inicio, long fim) {
+            this.simulador = simulador;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected ResultadoSimulacao compute() {
+            if (fim - inicio <= PARTIDAS_POR_TAREFA) {
+                ResultadoSimulacao resultado = new ResultadoSimulacao(simulador.getParticipantes());
+                simulador.simular(inicio, fim, resultado);
+                return resultado;
+            }
+
+            long meio = (inicio + fim) >>> 1;
+            TarefaSimulacao esquerda = new TarefaSimulacao(simulador, inicio, meio);
+            esquerda.fork();
+            ResultadoSimulacao resultado = new TarefaSimulacao(simulador, meio, fim).compute();
+            resultado.combinar(esquerda.join());
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.ludo.jogo.simulacao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.game.exceptions.MovimentoInvalidoException;
+
+/**
+ * Executa partidas completas entre jogadores automáticos, sem GUI (não depende de JavaFX).
+ * Uso: gradle simular --args="--partidas 100000 --jogadores JogadorIA,JogadorIA --rotacionar"
+ * Com --threads N as partidas são distribuídas por SimuladorParalelo; com --escalonamento é medida
+ * a taxa com 1, 2, 4, ... threads.
+ */
+public class SimuladorPartidas {
+
+    // ATRIBUTOS
+
+    /** Limite de turnos (rolagens) por partida, para não travar a simulação em caso de bug. */
+    public static final int LIMITE_TURNOS = 100_000;
+
+    private static final String PACOTE_JOGADORES = "com.ludo.jogo.game.";
+
+    private final List<Class<? extends Jogador>> tipos;
+    private final List<Cor> cores;
+    private final boolean rotacionar;
+    private final long semente;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao, com semente aleatória.
+     *
+     * @param tipos Classes dos jogadores, na ordem dos assentos (não podem ser JogadorHumano);
+     * @param cores Cores dos jogadores, na mesma ordem;
+     * @param rotacionar Se true, a cada partida os participantes trocam de assento em rodízio.
+     */
+    public SimuladorPartidas(List<Class<? extends Jogador>> tipos, List<Cor> cores, boolean rotacionar) {
+        this(tipos, cores, rotacionar, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Cria um simulador reproduzível: a partida de índice i usa o dado Dado.derivarSemente(semente, i),
+     * então o resultado do lote não depende da quantidade de threads nem da ordem de execução.
+     *
+     * @param tipos Classes dos jogadores, na ordem dos assentos (não podem ser JogadorHumano);
+     * @param cores Cores dos jogadores, na mesma ordem;
+     * @param rotacionar Se true, a cada partida os participantes trocam de assento em rodízio;
+     * @param semente Semente base do lote.
+     */
+    public SimuladorPartidas(List<Class<? extends Jogador>> tipos, List<Cor> cores, boolean rotacionar, long semente) {
+        if (tipos.isEmpty() || tipos.size() > 4 || tipos.size() != cores.size()) {
+            throw new IllegalArgumentException("Informe de 1 a 4 jogadores, com uma cor para cada.");
+        }
+        for (Class<? extends Jogador> tipo : tipos) {
+            if (JogadorHumano.class.isAssignableFrom(tipo)) {
+                throw new IllegalArgumentException("JogadorHumano depende da GUI e não pode ser simulado.");
+            }
+        }
+        this.tipos = List.copyOf(tipos);
+        this.cores = List.copyOf(cores);
+        this.rotacionar = rotacionar;
+        this.semente = semente;
+    }
+
+
+    // MÉTODOS
+
+    // Getters
+    /** Getter para a semente base.
+     * @return A semente do lote. */
+    public long getSemente() { return this.semente; }
+
+    /**
+     * Descreve os participantes configurados, para o relatório.
+     *
+     * @return Lista no formato "COR (TipoJogador)".
+     */
+    public List<String> getParticipantes() {
+        List<String> participantes = new ArrayList<>();
+        for (int i = 0; i < tipos.size(); i++) {
+            participantes.add(cores.get(i) + " (" + tipos.get(i).getSimpleName() + ")");
+        }
+        return participantes;
+    }
+
+    // Principais
+
+    /**
+     * Joga uma quantidade de partidas completas e acumula as estatísticas.
+     *
+     * @param partidas Quantidade de partidas;
+     * @return O resultado do lote.
+     */
+    public ResultadoSimulacao simular(int partidas) {
+        ResultadoSimulacao resultado = new ResultadoSimulacao(getParticipantes());
+        simular(0, partidas, resultado);
+        return resultado;
+    }
+
+    /**
+     * Joga as partidas de índice inicio (inclusive) a fim (exclusive), acumulando em resultado.
+     * O índice da partida define o rodízio de assentos.
+     *
+     * @param inicio Índice da primeira partida;
+     * @param fim Índice após a última partida;
+     * @param resultado Onde acumular as estatísticas.
+     */
+    public void simular(long inicio, long fim, ResultadoSimulacao resultado) {
+        int n = tipos.size();
+
+        // Uma configuração de assentos por rotação possível
+        List<ConfigJogo> configuracoes = new ArrayList<>();
+        for (int rotacao = 0; rotacao < n; rotacao++) {
+            List<Class<? extends Jogador>> tiposRotacao = new ArrayList<>();
+            List<Cor> coresRotacao = new ArrayList<>();
+            for (int assento = 0; assento < n; assento++) {
+                tiposRotacao.add(tipos.get((assento + rotacao) % n));
+                coresRotacao.add(cores.get((assento + rotacao) % n));
+            }
+            configuracoes.add(new ConfigJogo(tiposRotacao, coresRotacao));
+        }
+
+        // Cada chamada tem o próprio motor, então threads diferentes podem simular lotes diferentes
+        MotorJogo motor = new MotorJogo();
+        for (long partida = inicio; partida < fim; partida++) {
+            int rotacao = rotacionar ? (int) (partida % n) : 0;
+            motor.iniciarNovoJogo(configuracoes.get(rotacao), Dado.derivarSemente(semente, partida));
+
+            long turnos = jogarAteOFim(motor);
+
+            if (motor.getEstado() == EstadoJogo.ENCERRADO) {
+                int assento = motor.getJogadores().indexOf(motor.getJogadorAtual());
+                resultado.registrarPartida(assento, (assento + rotacao) % n, turnos);
+            }
+            else {
+                resultado.registrarPartida(-1, -1, turnos);
+            }
+        }
+    }
+
+    /**
+     * Joga uma partida já iniciada até alguém vencer ou até o limite de turnos.
+     *
+     * @param motor O motor com a partida iniciada;
+     * @return A quantidade de turnos (rolagens) jogados.
+     */
+    public static long jogarAteOFim(MotorJogo motor) {
+        long turnos = 0;
+        while (motor.getEstado() == EstadoJogo.EM_JOGO && turnos < LIMITE_TURNOS) {
+            try {
+                motor.jogarTurno();
+            }
+            catch (MovimentoInvalidoException e) {
+                // A IA já trata os próprios erros; aqui apenas evitamos interromper o lote
+                motor.finalizarTurno();
+            }
+            turnos++;
+        }
+        return turnos;
+    }
+
+    /**
+     * Converte o nome de uma classe de jogador (simples ou completo) na classe correspondente.
+     *
+     * @param nome Nome da classe, ex: "JogadorIA";
+     * @return A classe do jogador.
+     */
+    @SuppressWarnings("unchecked")
+    public static Class<? extends Jogador> resolverTipo(String nome) {
+        String nomeCompleto = nome.contains(".") ? nome : PACOTE_JOGADORES + nome;
+        try {
+            Class<?> classe = Class.forName(nomeCompleto);
+            if (!Jogador.class.isAssignableFrom(classe)) {
+                throw new IllegalArgumentException(nome + " não é um Jogador.");
+            }
+            return (Class<? extends Jogador>) classe;
+        }
+        catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Classe de jogador não encontrada: " + nome);
+        }
+    }
+
+    /**
+     * Ponto de entrada da simulação em linha de comando.
+     *
+     * @param args --partidas N, --jogadores A,B,..., --cores C1,C2,..., --rotacionar, --threads N,
+     *             --escalonamento e --semente S (opcionais).
+     */
+    public static void main(String[] args) {
+        int partidas = 10_000;
+        List<Class<? extends Jogador>> tipos = new ArrayList<>();
+        List<Cor> cores = new ArrayList<>();
+        boolean rotacionar = false;
+        int threads = 1;
+        boolean escalonamento = false;
+        Long semente = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--partidas": partidas = Integer.parseInt(args[++i]); break;
+                    case "--jogadores":
+                        for (String nome : args[++i].split(",")) tipos.add(resolverTipo(nome.trim()));
+                        break;
+                    case "--cores":
+                        for (String nome : args[++i].split(",")) cores.add(Cor.valueOf(nome.trim().toUpperCase()));
+                        break;
+                    case "--rotacionar": rotacionar = true; break;
+                    case "--threads": threads = Integer.parseInt(args[++i]); break;
+                    case "--escalonamento": escalonamento = true; break;
+                    case "--semente": semente = Long.parseLong(args[++i]); break;
+                    default: throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+
+            if (tipos.isEmpty()) {
+                for (int i = 0; i < 4; i++) tipos.add(resolverTipo("JogadorIA"));
+            }
+            if (cores.isEmpty()) {
+                for (int i = 0; i < tipos.size(); i++) cores.add(Cor.values()[i]);
+            }
+
+            SimuladorPartidas simulador = semente != null
+                    ? new SimuladorPartidas(tipos, cores, rotacionar, semente)
+                    : new SimuladorPartidas(tipos, cores, rotacionar);
+
+            if (escalonamento) {
+                System.out.print(SimuladorParalelo.medirEscalonamento(simulador, partidas,
+                        Runtime.getRuntime().availableProcessors()));
+                return;
+            }
+
+            long inicio = System.nanoTime();
+            ResultadoSimulacao resultado = threads > 1
+                    ? new SimuladorParalelo(simulador, threads).simular(partidas)
+                    : simulador.simular(partidas);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            System.out.println("Semente: " + simulador.getSemente());
+            System.out.print(resultado.gerarRelatorio(segundos));
+        }
+        catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Erro: " + e.getMessage());
+            System.err.println("Uso: --partidas N --jogadores JogadorIA,JogadorIA --cores VERMELHO,VERDE --rotacionar --threads 4 --escalonamento --semente 42");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.ludo.jogo.simulacao;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.Jogada;
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorTD;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.PesosAvaliacao;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Treina os pesos da avaliação (PesosAvaliacao) por autojogo com aprendizado por diferença temporal, TD(λ).
+ * Em cada rodada, um lote de partidas sem GUI é jogado com os pesos atuais (todos os jogadores usam a política
+ * do JogadorTD, com uma pequena chance de jogada aleatória). Para cada cor, a sequência das posições depois das
+ * suas jogadas é ajustada na direção do retorno λ (mistura dos valores seguintes e do resultado final: 1 para
+ * quem venceu, 0 para os outros), e os gradientes do lote são somados e aplicados de uma vez.
+ * As partidas são distribuídas entre os núcleos com Fork/Join, como no SimuladorParalelo: cada tarefa acumula
+ * o próprio gradiente, e a soma só acontece na junção. Como a divisão das tarefas e as sementes dependem apenas
+ * dos índices das partidas, os pesos treinados não dependem da quantidade de threads.
+ * Uso: gradle treinarTD --args="--rodadas 100 --partidas 1000 --threads 4"
+ */
+public class TreinadorTD {
+
+    // ATRIBUTOS
+
+    /** Quantidade de partidas a partir da qual uma tarefa é dividida ao meio. */
+    public static final int PARTIDAS_POR_TAREFA = 16;
+
+    private static final List<Class<? extends Jogador>> TIPOS = List.of(JogadorTD.class, JogadorTD.class,
+            JogadorTD.class, JogadorTD.class);
+    private static final long SEMENTE_EXPLORACAO = 0x5DEECE66DL;
+
+    private final List<Integer> jogadoresPorPartida;
+    private final double taxaAprendizado;
+    private final double lambda;
+    private final double exploracao;
+    private final int threads;
+    private final long semente;
+
+
+    // CONSTRUTOR
+
+    /**
+     * Construtor padrao.
+     *
+     * @param jogadoresPorPartida Quantidades de jogadores (2 a 4), usadas em rodízio pelas partidas;
+     * @param taxaAprendizado Passo do gradiente (por posição, em média, no lote);
+     * @param lambda Parâmetro λ do TD(λ), entre 0 e 1;
+     * @param exploracao Chance de uma jogada aleatória, entre 0 e 1;
+     * @param threads Quantidade de threads;
+     * @param semente Semente base das partidas.
+     */
+    public TreinadorTD(List<Integer> jogadoresPorPartida, double taxaAprendizado, double lambda, double exploracao,
+                       int threads, long semente) {
+        if (jogadoresPorPartida.isEmpty()) {
+            throw new IllegalArgumentException("Informe pelo menos uma quantidade de jogadores.");
+        }
+        for (int jogadores : jogadoresPorPartida) {
+            if (jogadores < 2 || jogadores > 4) {
+                throw new IllegalArgumentException("Cada partida deve ter de 2 a 4 jogadores.");
+            }
+        }
+        if (lambda < 0 || lambda > 1 || exploracao < 0 || exploracao > 1) {
+            throw new IllegalArgumentException("Lambda e exploração devem estar entre 0 e 1.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("A quantidade de threads deve ser pelo menos 1.");
+        }
+        this.jogadoresPorPartida = List.copyOf(jogadoresPorPartida);
+        this.taxaAprendizado = taxaAprendizado;
+        this.lambda = lambda;
+        this.exploracao = exploracao;
+        this.threads = threads;
+        this.semente = semente;
+    }
+
+
+    // MÉTODOS
+
+    // Principais
+
+    /**
+     * Treina uma rodada: joga as partidas de índice inicio (inclusive) a fim (exclusive) com os pesos atuais
+     * e aplica o gradiente somado do lote.
+     *
+     * @param pesos Os pesos atuais;
+     * @param inicio Índice da primeira partida (define sementes e quantidade de jogadores);
+     * @param fim Índice após a última partida;
+     * @return Os pesos novos e o erro da rodada.
+     */
+    public Rodada treinarRodada(PesosAvaliacao pesos, long inicio, long fim) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        Gradiente gradiente;
+        try {
+            gradiente = pool.invoke(new TarefaTreino(this, pesos, inicio, fim));
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        double[] novos = pesos.getPesos();
+        if (gradiente.posicoes > 0) {
+            for (int i = 0; i < novos.length; i++) {
+                novos[i] += taxaAprendizado * gradiente.soma[i] / gradiente.posicoes;
+            }
+        }
+        double erro = gradiente.posicoes > 0 ? gradiente.erroQuadratico / gradiente.posicoes : 0;
+        return new Rodada(new PesosAvaliacao(novos), erro, gradiente.posicoes);
+    }
+
+    /**
+     * Joga uma partida de autojogo e acumula o gradiente TD(λ) de todas as cores.
+     *
+     * @param pesos Os pesos usados pela política e pelos valores;
+     * @param partida Índice da partida;
+     * @param gradiente Onde acumular.
+     */
+    void jogarPartida(PesosAvaliacao pesos, long partida, Gradiente gradiente) {
+        int quantidade = jogadoresPorPartida.get((int) (partida % jogadoresPorPartida.size()));
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(TIPOS.subList(0, quantidade), cores(quantidade)),
+                Dado.derivarSemente(semente, partida));
+        SplittableRandom aleatorio = new SplittableRandom(Dado.derivarSemente(semente ^ SEMENTE_EXPLORACAO, partida));
+
+        // Posições (características) depois de cada jogada, por cor
+        List<List<double[]>> trajetorias = new ArrayList<>();
+        for (int cor = 0; cor < 4; cor++) trajetorias.add(new ArrayList<>());
+
+        int turnos = 0;
+        while (motor.getEstado() == EstadoJogo.EM_JOGO && turnos++ < SimuladorPartidas.LIMITE_TURNOS) {
+            if (!motor.rolarSemJogar()) continue;
+
+            int movimento = aleatorio.nextDouble() < exploracao
+                    ? motor.getMovimentos()[aleatorio.nextInt(motor.getNumMovimentos())]
+                    : JogadorTD.melhorMovimento(motor, pesos);
+            int cor = motor.getJogadorAtual().getCor().ordinal();
+            new Jogada(motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)),
+                    Tabuleiro.destinoDoMovimento(movimento)).aplicar(motor);
+
+            double[] caracteristicas = new double[PesosAvaliacao.NUM_CARACTERISTICAS];
+            PesosAvaliacao.caracteristicas(motor, cor, caracteristicas);
+            trajetorias.get(cor).add(caracteristicas);
+        }
+        if (motor.getEstado() != EstadoJogo.ENCERRADO) return; // Partida interrompida pelo limite: sem resultado
+
+        int vencedor = motor.getJogadorAtual().getCor().ordinal();
+        for (int cor = 0; cor < 4; cor++) {
+            acumularTrajetoria(pesos, trajetorias.get(cor), cor == vencedor ? 1 : 0, gradiente);
+        }
+    }
+
+    /**
+     * Acumula o gradiente de uma trajetória, com o retorno λ calculado de trás para a frente:
+     * G(T-1) = resultado e G(t) = (1 - λ) V(t+1) + λ G(t+1). Com a sigmoide e a entropia cruzada,
+     * o gradiente de cada posição é (G(t) - V(t)) x(t).
+     *
+     * @param pesos Os pesos atuais;
+     * @param trajetoria Características das posições, em ordem;
+     * @param resultado 1 se a cor venceu, 0 se não;
+     * @param gradiente Onde acumular.
+     */
+    private void acumularTrajetoria(PesosAvaliacao pesos, List<double[]> trajetoria, double resultado,
+                                    Gradiente gradiente) {
+        double[] w = pesos.getPesos();
+        double retorno = resultado;
+        double valorSeguinte = resultado;
+        for (int t = trajetoria.size() - 1; t >= 0; t--) {
+            double[] x = trajetoria.get(t);
+            retorno = (1 - lambda) * valorSeguinte + lambda * retorno;
+
+            double soma = 0;
+            for (int i = 0; i < x.length; i++) soma += w[i] * x[i];
+            double valor = PesosAvaliacao.sigmoide(soma);
+
+            double erro = retorno - valor;
+            for (int i = 0; i < x.length; i++) gradiente.soma[i] += erro * x[i];
+            gradiente.erroQuadratico += erro * erro;
+            gradiente.posicoes++;
+            valorSeguinte = valor;
+        }
+    }
+
+    /**
+     * Cores usadas em uma partida: com 2 jogadores, cores opostas (como na GUI); senão, as primeiras.
+     *
+     * @param quantidade Quantidade de jogadores;
+     * @return As cores.
+     */
+    private static List<Cor> cores(int quantidade) {
+        if (quantidade == 2) return List.of(Cor.VERMELHO, Cor.AMARELO);
+        return List.of(Cor.values()).subList(0, quantidade);
+    }
+
+    /**
+     * Ponto de entrada do treino em linha de comando.
+     *
+     * @param args --rodadas N, --partidas N (por rodada), --jogadores 2,3,4, --taxa A, --lambda L,
+     *             --exploracao E, --threads N, --semente S e --saida ARQUIVO (opcionais).
+     */
+    public static void main(String[] args) {
+        int rodadas = 100;
+        int partidas = 1000;
+        List<Integer> jogadores = new ArrayList<>(List.of(2, 3, 4));
+        double taxa = 100;
+        double lambda = 0.7;
+        double exploracao = 0.02;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long semente = 42L;
+        Path saida = Path.of(PesosAvaliacao.ARQUIVO_PADRAO);
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--rodadas": rodadas = Integer.parseInt(args[++i]); break;
+                    case "--partidas": partidas = Integer.parseInt(args[++i]); break;
+                    case "--jogadores":
+                        jogadores.clear();
+                        for (String n : args[++i].split(",")) jogadores.add(Integer.parseInt(n.trim()));
+                        break;
+                    case "--taxa": taxa = Double.parseDouble(args[++i]); break;
+                    case "--lambda": lambda = Double.parseDouble(args[++i]); break;
+                    case "--exploracao": exploracao = Double.parseDouble(args[++i]); break;
+                    case "--threads": threads = Integer.parseInt(args[++i]); break;
+                    case "--semente": semente = Long.parseLong(args[++i]); break;
+                    case "--saida": saida = Path.of(args[++i]); break;
+                    default: throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+
+            TreinadorTD treinador = new TreinadorTD(jogadores, taxa, lambda, exploracao, threads, semente);
+            PesosAvaliacao pesos = PesosAvaliacao.getPadrao(); // Continua do arquivo padrão, se existir
+            for (int rodada = 0; rodada < rodadas; rodada++) {
+                long inicio = System.nanoTime();
+                Rodada resultado = treinador.treinarRodada(pesos, (long) rodada * partidas, (long) (rodada + 1) * partidas);
+                pesos = resultado.getPesos();
+                System.out.printf(Locale.ROOT, "Rodada %d: erro quadrático médio %.5f em %d posições (%.1f s)%n",
+                        rodada + 1, resultado.getErroMedio(), resultado.getPosicoes(), (System.nanoTime() - inicio) / 1e9);
+            }
+
+            pesos.salvar(saida);
+            System.out.println("Pesos gravados em " + saida + ": " + pesos);
+        }
+        catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Erro: " + e.getMessage());
+            System.err.println("Uso: --rodadas 100 --partidas 1000 --jogadores 2,3,4 --taxa 100 --lambda 0.7 --exploracao 0.02 --threads 4 --semente 42 --saida pesos_td.bin");
+            System.exit(1);
+        }
+        catch (IOException e) {
+            System.err.println("Erro ao gravar " + saida + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+
+    /** Resultado de uma rodada de treino. */
+    public static final class Rodada {
+
+        private final PesosAvaliacao pesos;
+        private final double erroMedio;
+        private final long posicoes;
+
+        Rodada(PesosAvaliacao pesos, double erroMedio, long posicoes) {
+            this.pesos = pesos;
+            this.erroMedio = erroMedio;
+            this.posicoes = posicoes;
+        }
+
+        /** Getter para os pesos depois da rodada.
+         * @return Os pesos novos. */
+        public PesosAvaliacao getPesos() { return this.pesos; }
+        /** Getter para o erro quadrático médio (retorno λ menos valor), com os pesos anteriores.
+         * @return O erro médio por posição. */
+        public double getErroMedio() { return this.erroMedio; }
+        /** Getter para as posições usadas no treino.
+         * @return Quantidade de posições. */
+        public long getPosicoes() { return this.posicoes; }
+    }
+
+    /** Gradiente acumulado de um intervalo de partidas. */
+    static final class Gradiente {
+
+        final double[] soma = new double[PesosAvaliacao.NUM_CARACTERISTICAS];
+        double erroQuadratico;
+        long posicoes;
+
+        void combinar(Gradiente outro) {
+            for (int i = 0; i < soma.length; i++) soma[i] += outro.soma[i];
+            erroQuadratico += outro.erroQuadratico;
+            posicoes += outro.posicoes;
+        }
+    }
+
+    /** Tarefa que joga um intervalo de partidas, dividindo-o enquanto for grande. */
+    private static class TarefaTreino extends RecursiveTask<Gradiente> {
+
+        private final TreinadorTD treinador;
+        private final PesosAvaliacao pesos;
+        private final long inicio;
+        private final long fim;
+
+        TarefaTreino(TreinadorTD treinador, PesosAvaliacao pesos, long inicio, long fim) {
+            this.treinador = treinador;
+            this.pesos = pesos;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected Gradiente compute() {
+            if (fim - inicio <= PARTIDAS_POR_TAREFA) {
+                Gradiente gradiente = new Gradiente();
+                for (long partida = inicio; partida < fim; partida++) treinador.jogarPartida(pesos, partida, gradiente);
+                return gradiente;
+            }
+
+            long meio = (inicio + fim) >>> 1;
+            TarefaTreino esquerda = new TarefaTreino(treinador, pesos, inicio, meio);
+            esquerda.fork();
+            Gradiente gradiente = new TarefaTreino(treinador, pesos, meio, fim).compute();
+            gradiente.combinar(esquerda.join());
+            return gradiente;
+        }
+    }
+}
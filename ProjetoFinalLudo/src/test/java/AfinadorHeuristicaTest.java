@@ -0,0 +1,67 @@
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.PesosHeuristica;
+import com.ludo.jogo.simulacao.AfinadorHeuristica;
+
+/**
+ * Testes para a classe AfinadorHeuristica.
+ */
+class AfinadorHeuristicaTest {
+
+    /**
+     * Testa se uma geração dá as mesmas taxas e a mesma população seguinte com 1 e com 3 threads.
+     */
+    @Test
+    void geracaoNaoDependeDaQuantidadeDeThreads() {
+        AfinadorHeuristica umaThread = new AfinadorHeuristica(4, 1, 8, 0.2, 1, 5L);
+        AfinadorHeuristica tresThreads = new AfinadorHeuristica(4, 1, 8, 0.2, 3, 5L);
+
+        assertArrayEquals(umaThread.executarGeracao(), tresThreads.executarGeracao(), 0);
+        assertPopulacoesIguais(umaThread, tresThreads);
+    }
+
+    /**
+     * Testa se parar depois de uma geração, gravar o checkpoint e retomar em outro afinador leva ao mesmo
+     * resultado de duas gerações seguidas.
+     */
+    @Test
+    void retomarDoCheckpointContinuaIgual(@TempDir Path pasta) throws Exception {
+        AfinadorHeuristica seguido = new AfinadorHeuristica(4, 1, 8, 0.2, 2, 9L);
+        seguido.executarGeracao();
+        seguido.executarGeracao();
+
+        Path checkpoint = pasta.resolve("checkpoint.bin");
+        AfinadorHeuristica interrompido = new AfinadorHeuristica(4, 1, 8, 0.2, 2, 9L);
+        interrompido.executarGeracao();
+        interrompido.salvarCheckpoint(checkpoint);
+
+        AfinadorHeuristica retomado = new AfinadorHeuristica(4, 1, 8, 0.2, 2, 9L);
+        retomado.retomar(checkpoint);
+        assertEquals(1, retomado.getGeracao());
+        retomado.executarGeracao();
+
+        assertEquals(2, retomado.getGeracao());
+        assertPopulacoesIguais(seguido, retomado);
+        assertEquals(seguido.getMelhorTaxa(), retomado.getMelhorTaxa());
+        assertArrayEquals(seguido.getMelhor().getPesos(), retomado.getMelhor().getPesos(), 0);
+    }
+
+    /**
+     * Compara as populações atuais de dois afinadores.
+     *
+     * @param esperado O afinador de referência;
+     * @param obtido O afinador comparado.
+     */
+    private static void assertPopulacoesIguais(AfinadorHeuristica esperado, AfinadorHeuristica obtido) {
+        assertEquals(esperado.getCandidatos().size(), obtido.getCandidatos().size());
+        for (int i = 0; i < esperado.getCandidatos().size(); i++) {
+            PesosHeuristica a = esperado.getCandidatos().get(i);
+            assertArrayEquals(a.getPesos(), obtido.getCandidatos().get(i).getPesos(), 0);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.AvaliacaoIncremental;
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Jogada;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Peao;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Testes para a classe AvaliacaoIncremental.
+ */
+class AvaliacaoIncrementalTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(
+            List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.VERDE, Cor.AMARELO, Cor.AZUL));
+
+    /**
+     * Testa as ameaças em uma posição montada: um peão verde três casas atrás de um vermelho o ameaça,
+     * mas o vermelho, à frente, não ameaça o verde.
+     */
+    @Test
+    void peaoAtrasAmeacaOPeaoDaFrente() {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 1L);
+        Tabuleiro tabuleiro = motor.getTabuleiro();
+        Peao vermelho = motor.getJogadores().get(0).getPeoes().getFirst();
+        Peao verde = motor.getJogadores().get(1).getPeoes().getFirst();
+
+        tabuleiro.moverPeao(vermelho, 5);
+        tabuleiro.moverPeao(verde, 2);
+
+        AvaliacaoIncremental avaliacao = tabuleiro.getAvaliacao();
+        int indiceVermelho = Cor.VERMELHO.ordinal();
+        int indiceVerde = Cor.VERDE.ordinal();
+        assertEquals(6, avaliacao.getSomaProgresso(indiceVermelho));
+        assertEquals(1, avaliacao.getForaDaBase(indiceVermelho));
+        assertEquals(1, avaliacao.getAmeacas(indiceVermelho));
+        assertEquals(6, avaliacao.getProgressoAmeacado(indiceVermelho));
+        assertEquals(0, avaliacao.getAmeacas(indiceVerde));
+    }
+
+    /**
+     * Testa se os componentes mantidos pelo tabuleiro são sempre iguais aos calculados do zero,
+     * ao longo de partidas inteiras e ao aplicar e desfazer cada jogada possível.
+     */
+    @Test
+    void avaliacaoAcompanhaMovimentosECapturas() throws Exception {
+        for (long semente = 0; semente < 5; semente++) {
+            MotorJogo motor = new MotorJogo();
+            motor.iniciarNovoJogo(CONFIG, semente);
+            Tabuleiro tabuleiro = motor.getTabuleiro();
+
+            while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+                assertMesmosComponentes(AvaliacaoIncremental.calcular(tabuleiro), tabuleiro.getAvaliacao());
+
+                int valorDado = 1 + (int) ((tabuleiro.getHash() >>> 1) % 6);
+                motor.setValorDado(valorDado);
+                for (int i = 0; i < motor.getNumMovimentos(); i++) {
+                    int movimento = motor.getMovimentos()[i];
+                    Jogada jogada = new Jogada(tabuleiro.getPeao(Tabuleiro.idPeaoDoMovimento(movimento)),
+                            Tabuleiro.destinoDoMovimento(movimento));
+                    jogada.aplicar(motor);
+                    assertMesmosComponentes(AvaliacaoIncremental.calcular(tabuleiro), tabuleiro.getAvaliacao());
+                    jogada.desfazer(motor);
+                    motor.setValorDado(valorDado);
+                }
+                motor.setValorDado(0);
+
+                motor.jogarTurno();
+            }
+        }
+    }
+
+    /**
+     * Testa o mapa de perigo contra a força bruta (para cada adversário, as faces do dado com que algum peão dele
+     * chega à casa), em todas as casas ao longo de partidas inteiras.
+     */
+    @Test
+    void perigoBateComAForcaBruta() throws Exception {
+        for (long semente = 10; semente < 13; semente++) {
+            MotorJogo motor = new MotorJogo();
+            motor.iniciarNovoJogo(CONFIG, semente);
+            Tabuleiro tabuleiro = motor.getTabuleiro();
+
+            while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+                AvaliacaoIncremental avaliacao = tabuleiro.getAvaliacao();
+                for (int casa = 0; casa < Tabuleiro.NUM_CASAS_CIRCUITO; casa++) {
+                    for (int cor = 0; cor < 4; cor++) {
+                        double escapa = 1;
+                        for (int atacante = 0; atacante < 4; atacante++) {
+                            double chance = chanceDeAlcance(tabuleiro, atacante, casa);
+                            assertEquals(chance, avaliacao.getChanceDeAlcance(atacante, casa), 1e-12);
+                            if (atacante != cor) escapa *= 1 - chance;
+                        }
+                        assertEquals(1 - escapa, avaliacao.getPerigo(cor, casa), 1e-12);
+                    }
+                }
+                motor.jogarTurno();
+            }
+        }
+    }
+
+    /**
+     * Calcula por força bruta a chance de uma cor alcançar uma casa exposta na próxima rolagem.
+     */
+    private static double chanceDeAlcance(Tabuleiro tabuleiro, int atacante, int casa) {
+        if (Tabuleiro.isPosicaoSegura(casa)) return 0;
+
+        int faces = 0;
+        for (int valorDado = 1; valorDado <= 6; valorDado++) {
+            for (int k = 0; k < 4; k++) {
+                int id = atacante * 4 + k;
+                if (Tabuleiro.getDestino(atacante, tabuleiro.getPosicao(id), valorDado) == casa) {
+                    faces++;
+                    break;
+                }
+            }
+        }
+        return faces / 6.0;
+    }
+
+    private static void assertMesmosComponentes(AvaliacaoIncremental esperada, AvaliacaoIncremental atual) {
+        for (int cor = 0; cor < 4; cor++) {
+            assertEquals(esperada.getSomaProgresso(cor), atual.getSomaProgresso(cor));
+            assertEquals(esperada.getForaDaBase(cor), atual.getForaDaBase(cor));
+            assertEquals(esperada.getChegados(cor), atual.getChegados(cor));
+            assertEquals(esperada.getAmeacas(cor), atual.getAmeacas(cor));
+            assertEquals(esperada.getProgressoAmeacado(cor), atual.getProgressoAmeacado(cor));
+        }
+    }
+}
@@ -1,3 +1,12 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
@@ -54,4 +63,90 @@ class DadoTest {
 
         assertInstanceOf(Integer.class, valor, "A rolagem deve retornar um inteiro.");
     }
+
+    /**
+     * Testa se dois dados com a mesma semente geram a mesma sequência,
+     * tanto em rolagens individuais quanto em lote.
+     */
+    @Test
+    void mesmaSementeGeraMesmaSequencia() {
+        Dado a = new Dado(42L);
+        Dado b = new Dado(42L);
+
+        int[] individuais = new int[100];
+        for (int i = 0; i < individuais.length; i++) individuais[i] = a.rolar();
+
+        assertArrayEquals(individuais, b.rolar(100));
+    }
+
+    /**
+     * Testa se um dado salvo e carregado continua a sequência do ponto em que parou.
+     */
+    @Test
+    void dadoSerializadoContinuaASequencia() throws Exception {
+        Dado original = new Dado("SplittableRandom", 7L);
+        original.rolar(37);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        Dado carregado;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            carregado = (Dado) in.readObject();
+        }
+
+        assertEquals(original.getSorteios(), carregado.getSorteios());
+        assertArrayEquals(original.rolar(50), carregado.rolar(50));
+    }
+
+    /**
+     * Testa se o algoritmo padrão gera a mesma sequência do L64X128MixRandom do JDK, e se recriar o dado
+     * num ponto distante da sequência (pulando direto) chega ao mesmo estado de rolar até lá.
+     */
+    @Test
+    void dadoPadraoPulaParaQualquerPontoDaSequencia() {
+        for (long semente : new long[] {0L, 42L, -7L}) {
+            RandomGenerator jdk = RandomGeneratorFactory.of("L64X128MixRandom").create(semente);
+            Dado dado = new Dado(semente);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(1 + (int) (((jdk.nextLong() >>> 32) * 6) >>> 32), dado.rolar());
+            }
+
+            for (long sorteios : new long[] {0L, 1L, 63L, 64L, 1000L, 123_457L}) {
+                Dado rolado = new Dado(semente);
+                for (long i = 0; i < sorteios; i++) rolado.rolar();
+                Dado recriado = new Dado(Dado.ALGORITMO_PADRAO, semente, sorteios);
+                assertEquals(sorteios, recriado.getSorteios());
+                assertArrayEquals(rolado.rolar(20), recriado.rolar(20));
+            }
+        }
+
+        // Longe demais para refazer sorteio a sorteio: só termina se o pulo for direto
+        Dado distante = new Dado(Dado.ALGORITMO_PADRAO, 5L, 1L << 50);
+        Dado metade = new Dado(Dado.ALGORITMO_PADRAO, 5L, 1L << 49);
+        metade.avancar(1L << 49);
+        assertArrayEquals(distante.rolar(20), metade.rolar(20));
+    }
+
+    /**
+     * Testa se o dado do algoritmo padrão, serializado, continua a sequência do ponto em que parou.
+     */
+    @Test
+    void dadoPadraoSerializadoContinuaASequencia() throws Exception {
+        Dado original = new Dado(11L);
+        original.rolar(123);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        Dado carregado;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            carregado = (Dado) in.readObject();
+        }
+
+        assertEquals(original.getSorteios(), carregado.getSorteios());
+        assertArrayEquals(original.rolar(50), carregado.rolar(50));
+    }
 }
@@ -0,0 +1,152 @@
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.Cancelamento;
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Decisao;
+import com.ludo.jogo.game.DecisorAssincrono;
+import com.ludo.jogo.game.JogadorExpectiminimax;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.TabelaTransposicao;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Testes para a classe DecisorAssincrono.
+ */
+class DecisorAssincronoTest {
+
+    /**
+     * Testa se uma partida jogada com decisões assíncronas (sobre cópias do motor) é idêntica à jogada
+     * de forma síncrona com a mesma semente, inclusive nos sorteios de desempate das IAs.
+     */
+    @Test
+    void decisoesAssincronasReproduzemAPartidaSincrona() throws Exception {
+        ConfigJogo config = new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO, Cor.AZUL));
+
+        MotorJogo sincrono = new MotorJogo();
+        sincrono.iniciarNovoJogo(config, 11L);
+        MotorJogo assincrono = new MotorJogo();
+        assincrono.iniciarNovoJogo(config, 11L);
+
+        try (DecisorAssincrono decisor = new DecisorAssincrono(Executors.newSingleThreadExecutor())) {
+            while (sincrono.getEstado() == EstadoJogo.EM_JOGO) {
+                sincrono.jogarTurno();
+
+                if (assincrono.rolarSemJogar()) {
+                    Decisao decisao = decisor.decidir(assincrono, Cancelamento.NENHUM).get(5, TimeUnit.SECONDS);
+                    assertTrue(decisao.aplicar(assincrono));
+                }
+                assertEquals(sincrono.getHash(), assincrono.getHash());
+                assertEquals(sincrono.getDado().getSorteios(), assincrono.getDado().getSorteios());
+            }
+        }
+        assertEquals(EstadoJogo.ENCERRADO, assincrono.getEstado());
+    }
+
+    /**
+     * Testa se cancelar uma busca longa a encerra rapidamente, com CancellationException,
+     * sem alterar o motor original.
+     */
+    @Test
+    void cancelamentoInterrompeABusca() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(List.of(JogadorExpectiminimax.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), 3L);
+        JogadorExpectiminimax jogador = (JogadorExpectiminimax) motor.getJogadores().getFirst();
+        jogador.setProfundidadeMaxima(40);
+        jogador.setTempoPorJogadaMs(60_000);
+
+        // Avança até a IA ter uma escolha de verdade
+        while (true) {
+            if (motor.getJogadorAtual() != jogador) {
+                motor.jogarTurno();
+                continue;
+            }
+            if (!motor.rolarSemJogar()) continue;
+            if (motor.getNumMovimentos() >= 2) break;
+            jogador.fazerJogada(motor.getValorDadoAtual());
+        }
+        long hash = motor.getHash();
+
+        try (DecisorAssincrono decisor = new DecisorAssincrono(Executors.newSingleThreadExecutor())) {
+            Cancelamento cancelamento = new Cancelamento();
+            CompletableFuture<Decisao> futuro = decisor.decidir(motor, cancelamento);
+            Thread.sleep(50);
+            assertFalse(futuro.isDone(), "Uma busca de 60 s não deveria ter terminado.");
+
+            cancelamento.cancelar();
+            ExecutionException erro = assertThrows(ExecutionException.class, () -> futuro.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(CancellationException.class, erro.getCause());
+        }
+        assertEquals(hash, motor.getHash());
+    }
+
+    /**
+     * Testa se uma decisão não é aplicada a um motor que mudou depois do pedido.
+     */
+    @Test
+    void decisaoNaoEhAplicadaEmOutraPosicao() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), 5L);
+        while (!motor.rolarSemJogar()) {
+            // Rola até haver um movimento
+        }
+
+        Decisao decisao = DecisorAssincrono.getPadrao().decidir(motor, Cancelamento.NENHUM).get(5, TimeUnit.SECONDS);
+        motor.setValorDado(motor.getValorDadoAtual() == 6 ? 5 : 6);
+        long hash = motor.getHash();
+
+        assertFalse(decisao.aplicar(motor));
+        assertEquals(hash, motor.getHash());
+    }
+
+    /**
+     * Testa se as decisões feitas em cópias do motor usam uma única tabela de transposição, criada no jogador
+     * original (que nunca busca por conta própria), e se ela é reaproveitada de uma jogada para a outra.
+     */
+    @Test
+    void tabelaDeTransposicaoEhCompartilhadaEntreAsDecisoes() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(List.of(JogadorExpectiminimax.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), 8L);
+        JogadorExpectiminimax jogador = (JogadorExpectiminimax) motor.getJogadores().getFirst();
+        jogador.setProfundidadeMaxima(2);
+
+        TabelaTransposicao tabela = null;
+        int decisoes = 0;
+        try (DecisorAssincrono decisor = new DecisorAssincrono(Executors.newSingleThreadExecutor())) {
+            while (decisoes < 5 && motor.getEstado() == EstadoJogo.EM_JOGO) {
+                if (motor.getJogadorAtual() != jogador) {
+                    motor.jogarTurno();
+                    continue;
+                }
+                if (!motor.rolarSemJogar()) continue;
+
+                assertTrue(decisor.decidir(motor, Cancelamento.NENHUM).get(5, TimeUnit.SECONDS).aplicar(motor));
+                assertNotNull(jogador.getTabelaTransposicao());
+                if (tabela == null) tabela = jogador.getTabelaTransposicao();
+                assertSame(tabela, jogador.getTabelaTransposicao());
+                decisoes++;
+            }
+        }
+        assertEquals(5, decisoes);
+        assertTrue(tabela.getAcertos() + tabela.getFaltas() > 0, "As buscas das cópias deveriam usar a tabela do original.");
+    }
+}
@@ -0,0 +1,248 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.persistencia.DiarioPartida;
+import com.ludo.jogo.persistencia.GravadorAssincrono;
+
+/**
+ * Testes para a classe DiarioPartida.
+ */
+class DiarioPartidaTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.VERDE, Cor.AZUL));
+
+    /**
+     * Testa se a partida recuperada (checkpoint mais registros) é a mesma do momento da queda,
+     * inclusive o ponto da sequência do dado: as duas continuam iguais até o fim.
+     */
+    @Test
+    void recuperaPartidaNoPontoDaQueda(@TempDir Path pasta) throws Exception {
+        Path arquivo = pasta.resolve("partida.diario");
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 11L);
+        DiarioPartida diario = new DiarioPartida(arquivo, 16, false, gravadorNaMesmaThread());
+        diario.iniciar(motor);
+
+        for (int i = 0; i < 100; i++) motor.jogarTurno();
+        assertTrue(diario.getSequencia() > 100);
+        assertTrue(Files.size(arquivo) < 16 * DiarioPartida.TAMANHO_REGISTRO); // Esvaziado a cada checkpoint
+        // Queda: o diário não é fechado
+
+        MotorJogo recuperado = new MotorJogo();
+        DiarioPartida.recuperar(arquivo, recuperado);
+        assertEquals(motor.getHash(), recuperado.getHash());
+        assertEquals(motor.getDado().getSorteios(), recuperado.getDado().getSorteios());
+
+        diario.close();
+        for (int i = 0; i < 2000 && motor.getEstado() == EstadoJogo.EM_JOGO; i++) {
+            motor.jogarTurno();
+            recuperado.jogarTurno();
+            assertEquals(motor.getHash(), recuperado.getHash());
+        }
+    }
+
+    /**
+     * Testa se um último registro gravado pela metade é descartado, e a partida volta ao registro anterior.
+     */
+    @Test
+    void registroIncompletoEhDescartado(@TempDir Path pasta) throws Exception {
+        Path arquivo = pasta.resolve("partida.diario");
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 5L);
+        try (DiarioPartida diario = new DiarioPartida(arquivo, 1000, false)) {
+            diario.iniciar(motor);
+            for (int i = 0; i < 10; i++) motor.jogarTurno();
+        }
+        long tamanho = Files.size(arquivo);
+
+        // Cópia do diário com o último registro pela metade
+        byte[] registros = Files.readAllBytes(arquivo);
+        Files.write(arquivo, Arrays.copyOf(registros, registros.length - DiarioPartida.TAMANHO_REGISTRO / 2));
+        MotorJogo cortado = new MotorJogo();
+        int refeitos = DiarioPartida.recuperar(arquivo, cortado);
+        assertEquals(tamanho / DiarioPartida.TAMANHO_REGISTRO - 1, refeitos);
+
+        // O mesmo diário, com o último registro corrompido em vez de cortado
+        registros[registros.length - 3] ^= 0x40;
+        Files.write(arquivo, registros);
+        MotorJogo corrompido = new MotorJogo();
+        assertEquals(refeitos, DiarioPartida.recuperar(arquivo, corrompido));
+        assertEquals(cortado.getHash(), corrompido.getHash());
+    }
+
+    /**
+     * Testa se registros já incluídos no checkpoint (queda entre gravar o checkpoint e esvaziar o diário)
+     * são pulados na recuperação.
+     */
+    @Test
+    void registrosAnterioresAoCheckpointSaoPulados(@TempDir Path pasta) throws Exception {
+        Path arquivo = pasta.resolve("partida.diario");
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 8L);
+        DiarioPartida diario = new DiarioPartida(arquivo, 8, false);
+        diario.iniciar(motor);
+
+        byte[] antes = new byte[0];
+        byte[] depois = new byte[0];
+        while (depois.length >= antes.length) { // Até o diário ser esvaziado por um checkpoint
+            antes = Files.readAllBytes(arquivo);
+            motor.jogarTurno();
+            depois = Files.readAllBytes(arquivo);
+        }
+        Files.write(arquivo, antes, StandardOpenOption.TRUNCATE_EXISTING);
+        Files.write(arquivo, depois, StandardOpenOption.APPEND);
+
+        MotorJogo recuperado = new MotorJogo();
+        DiarioPartida.recuperar(arquivo, recuperado);
+        assertEquals(motor.getHash(), recuperado.getHash());
+        diario.close();
+    }
+
+    /**
+     * Testa se desfazer uma jogada é refletido na recuperação, e se apagar() remove a partida registrada.
+     */
+    @Test
+    void jogadaDesfeitaEhRecuperada(@TempDir Path pasta) throws Exception {
+        Path arquivo = pasta.resolve("partida.diario");
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 2L);
+        DiarioPartida diario = new DiarioPartida(arquivo);
+        diario.iniciar(motor);
+
+        for (int i = 0; i < 30; i++) motor.jogarTurno();
+        assertTrue(motor.desfazerUltimaJogada());
+        motor.jogarTurno();
+        GravadorAssincrono.getPadrao().aguardar(); // O checkpoint da jogada desfeita é gravado em segundo plano
+
+        MotorJogo recuperado = new MotorJogo();
+        DiarioPartida.recuperar(arquivo, recuperado);
+        assertEquals(motor.getHash(), recuperado.getHash());
+
+        assertTrue(DiarioPartida.existe(arquivo));
+        diario.apagar();
+        assertFalse(DiarioPartida.existe(arquivo));
+        assertFalse(Files.exists(arquivo));
+    }
+
+    /**
+     * Testa se uma queda logo depois de uma rolagem com movimentos recupera o dado rolado e ainda não jogado,
+     * tanto pelo registro da rolagem quanto por um checkpoint gravado depois dela.
+     */
+    @Test
+    void rolagemSemMovimentoEhRecuperada(@TempDir Path pasta) throws Exception {
+        for (int intervalo : new int[] {1000, 1}) {
+            Path arquivo = pasta.resolve("partida" + intervalo + ".diario");
+            MotorJogo motor = new MotorJogo();
+            motor.iniciarNovoJogo(CONFIG, 9L);
+            DiarioPartida diario = new DiarioPartida(arquivo, intervalo, false, gravadorNaMesmaThread());
+            diario.iniciar(motor);
+
+            for (int i = 0; i < 20; i++) motor.jogarTurno();
+            while (!motor.rolarSemJogar()) { } // Queda entre a rolagem e o movimento
+            assertTrue(motor.isMovimentoPendente());
+
+            MotorJogo recuperado = new MotorJogo();
+            DiarioPartida.recuperar(arquivo, recuperado);
+            diario.close();
+            assertTrue(recuperado.isMovimentoPendente());
+            assertEquals(motor.getValorDadoAtual(), recuperado.getValorDadoAtual());
+            assertEquals(motor.getHash(), recuperado.getHash());
+
+            // O movimento pendente é feito com o dado já rolado, e a partida segue igual
+            int idPeao = Tabuleiro.idPeaoDoMovimento(motor.getMovimentos()[0]);
+            motor.tentarMoverPeao(motor.getTabuleiro().getPeao(idPeao));
+            recuperado.tentarMoverPeao(recuperado.getTabuleiro().getPeao(idPeao));
+            assertFalse(recuperado.isMovimentoPendente());
+            for (int i = 0; i < 20; i++) {
+                motor.jogarTurno();
+                recuperado.jogarTurno();
+                assertEquals(motor.getHash(), recuperado.getHash());
+            }
+        }
+    }
+
+    /**
+     * Testa se uma queda antes de o checkpoint de uma jogada desfeita ser gravado recupera a partida de antes de
+     * desfazer (e não aplica os registros seguintes sobre ela), e se a partida atual é recuperada depois que ele é gravado.
+     */
+    @Test
+    void checkpointNaoGravadoNaoCorrompeARecuperacao(@TempDir Path pasta) throws Exception {
+        Path arquivo = pasta.resolve("partida.diario");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch liberar = new CountDownLatch(1);
+        try (GravadorAssincrono gravador = new GravadorAssincrono(executor)) {
+            MotorJogo motor = new MotorJogo();
+            motor.iniciarNovoJogo(CONFIG, 2L);
+            DiarioPartida diario = new DiarioPartida(arquivo, 1000, false, gravador);
+            diario.iniciar(motor);
+            executor.execute(() -> { // Segura as gravações seguintes
+                try {
+                    liberar.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            for (int i = 0; i < 30; i++) motor.jogarTurno();
+            long antesDeDesfazer = motor.getHash();
+            assertTrue(motor.desfazerUltimaJogada());
+            for (int i = 0; i < 5; i++) motor.jogarTurno();
+
+            MotorJogo semCheckpoint = new MotorJogo();
+            DiarioPartida.recuperar(arquivo, semCheckpoint);
+            assertEquals(antesDeDesfazer, semCheckpoint.getHash());
+
+            liberar.countDown();
+            diario.close();
+            MotorJogo comCheckpoint = new MotorJogo();
+            DiarioPartida.recuperar(arquivo, comCheckpoint);
+            assertEquals(motor.getHash(), comCheckpoint.getHash());
+        }
+    }
+
+    /**
+     * Gravador que grava os checkpoints na própria thread que pede, para os testes que medem o diário.
+     *
+     * @return O gravador.
+     */
+    private static GravadorAssincrono gravadorNaMesmaThread() {
+        return new GravadorAssincrono(new AbstractExecutorService() {
+            private volatile boolean encerrado;
+
+            @Override
+            public void execute(Runnable tarefa) { tarefa.run(); }
+            @Override
+            public void shutdown() { this.encerrado = true; }
+            @Override
+            public List<Runnable> shutdownNow() { this.encerrado = true; return List.of(); }
+            @Override
+            public boolean isShutdown() { return this.encerrado; }
+            @Override
+            public boolean isTerminated() { return this.encerrado; }
+            @Override
+            public boolean awaitTermination(long tempo, TimeUnit unidade) { return true; }
+        });
+    }
+}
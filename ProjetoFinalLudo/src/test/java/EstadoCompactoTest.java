@@ -0,0 +1,93 @@
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.EstadoCompacto;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Testes para a classe EstadoCompacto.
+ */
+class EstadoCompactoTest {
+
+    /**
+     * Testa se o estado compacto segue exatamente as regras do MotorJogo: em partidas inteiras,
+     * os movimentos gerados, as posições, o jogador da vez e o vencedor devem ser sempre iguais.
+     */
+    @Test
+    void estadoCompactoAcompanhaOMotor() throws Exception {
+        ConfigJogo config = new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class),
+                List.of(Cor.VERDE, Cor.AMARELO, Cor.AZUL));
+        int[] movimentos = new int[Tabuleiro.MAX_MOVIMENTOS];
+
+        for (long semente = 0; semente < 10; semente++) {
+            MotorJogo motor = new MotorJogo();
+            motor.iniciarNovoJogo(config, semente);
+            EstadoCompacto estado = new EstadoCompacto();
+            estado.carregar(motor);
+
+            int turno = 0;
+            while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+                int valorDado = motor.getDado().rolar();
+                motor.setValorDado(valorDado);
+
+                int quantidade = estado.gerarMovimentos(valorDado, movimentos);
+                assertArrayEquals(Arrays.copyOf(motor.getMovimentos(), motor.getNumMovimentos()),
+                        Arrays.copyOf(movimentos, quantidade), "Movimentos diferentes no turno " + turno);
+
+                if (quantidade == 0) {
+                    motor.finalizarTurno();
+                    estado.passarVez(valorDado);
+                }
+                else {
+                    int movimento = movimentos[turno % quantidade];
+                    motor.tentarMoverPeao(motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)));
+                    estado.aplicar(movimento, valorDado);
+                }
+                turno++;
+
+                EstadoCompacto esperado = new EstadoCompacto();
+                esperado.carregar(motor);
+                for (int id = 0; id < Tabuleiro.MAX_PEOES; id++) {
+                    assertEquals(esperado.getPosicao(id), estado.getPosicao(id));
+                }
+                assertEquals(esperado.getAssentoDaVez(), estado.getAssentoDaVez());
+                assertEquals(esperado.getVencedor(), estado.getVencedor());
+            }
+            assertTrue(estado.getVencedor() >= 0);
+        }
+    }
+
+    /**
+     * Testa se copiarDe cria uma cópia independente: jogar a cópia até o fim não altera o original.
+     */
+    @Test
+    void copiaEhIndependente() {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), 3L);
+        EstadoCompacto original = new EstadoCompacto();
+        original.carregar(motor);
+
+        EstadoCompacto copia = new EstadoCompacto();
+        copia.copiarDe(original);
+        int vencedor = copia.jogarAteOFim(new java.util.SplittableRandom(1), 0, 100_000,
+                new int[Tabuleiro.MAX_MOVIMENTOS]);
+
+        assertTrue(vencedor == 0 || vencedor == 1);
+        assertEquals(-1, original.getVencedor());
+        for (int id = 0; id < Tabuleiro.MAX_PEOES; id++) {
+            assertEquals(motor.getTabuleiro().getPeao(id) == null ? Tabuleiro.POSICAO_INVALIDA
+                    : Tabuleiro.posicaoBase(id / 4), original.getPosicao(id));
+        }
+    }
+}
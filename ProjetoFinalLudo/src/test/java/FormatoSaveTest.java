@@ -0,0 +1,119 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.persistencia.FormatoSave;
+
+/**
+ * Testes para a classe FormatoSave.
+ */
+class FormatoSaveTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(
+            List.of(JogadorIA.class, JogadorHumano.class, JogadorIA.class),
+            List.of(Cor.AZUL, Cor.VERMELHO, Cor.VERDE));
+
+    /**
+     * Testa se uma partida no meio, salva e carregada em outro motor, tem a mesma posição, os mesmos
+     * jogadores e continua com as mesmas rolagens do dado; e se o save tem poucas dezenas de bytes.
+     */
+    @Test
+    void partidaSalvaContinuaIgual() throws Exception {
+        MotorJogo original = new MotorJogo();
+        original.iniciarNovoJogo(CONFIG, 77L);
+        for (int turno = 0; turno < 120 && original.getEstado() == EstadoJogo.EM_JOGO; turno++) {
+            if (original.getJogadorAtual() instanceof JogadorIA) original.jogarTurno();
+            else if (original.rolarSemJogar()) {
+                original.tentarMoverPeao(original.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(original.getMovimentos()[0])));
+            }
+        }
+
+        byte[] save = FormatoSave.codificar(original);
+        assertTrue(save.length < 100, "O save deveria ter algumas dezenas de bytes, tem " + save.length);
+
+        MotorJogo carregado = new MotorJogo();
+        FormatoSave.decodificar(save, carregado);
+
+        assertEquals(original.getHash(), carregado.getHash());
+        assertEquals(original.getEstado(), carregado.getEstado());
+        assertEquals(original.getJogadores().size(), carregado.getJogadores().size());
+        for (int i = 0; i < original.getJogadores().size(); i++) {
+            assertSame(original.getJogadores().get(i).getClass(), carregado.getJogadores().get(i).getClass());
+            assertEquals(original.getJogadores().get(i).getCor(), carregado.getJogadores().get(i).getCor());
+        }
+        for (int i = 0; i < 20; i++) assertEquals(original.getDado().rolar(), carregado.getDado().rolar());
+    }
+
+    /**
+     * Testa se um save corrompido ou truncado é recusado sem alterar o motor de destino.
+     */
+    @Test
+    void saveCorrompidoNaoAlteraOMotor() {
+        MotorJogo original = new MotorJogo();
+        original.iniciarNovoJogo(CONFIG, 5L);
+        byte[] save = FormatoSave.codificar(original);
+
+        MotorJogo destino = new MotorJogo();
+        destino.iniciarNovoJogo(new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), 9L);
+        long hashAntes = destino.getHash();
+
+        byte[] corrompido = save.clone();
+        corrompido[20] ^= 0x10;
+        assertThrows(IOException.class, () -> FormatoSave.decodificar(corrompido, destino));
+        byte[] truncado = Arrays.copyOf(save, save.length - 9);
+        assertThrows(IOException.class, () -> FormatoSave.decodificar(truncado, destino));
+
+        assertEquals(hashAntes, destino.getHash());
+        assertEquals(2, destino.getJogadores().size());
+    }
+
+    /**
+     * Testa se um save íntegro (CRC correto) mas com posição impossível ou com uma quantidade absurda de sorteios
+     * é recusado antes de o motor de destino ser alterado.
+     */
+    @Test
+    void saveComConteudoInvalidoNaoAlteraOMotor() {
+        MotorJogo original = new MotorJogo();
+        original.iniciarNovoJogo(CONFIG, 5L);
+        byte[] save = FormatoSave.codificar(original);
+
+        MotorJogo destino = new MotorJogo();
+        destino.iniciarNovoJogo(new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), 9L);
+        long hashAntes = destino.getHash();
+
+        byte[] posicaoInvalida = save.clone();
+        posicaoInvalida[15] = 90; // Posição do peão 0 (depois de mágico, versão, 3 jogadores e turno)
+        assertThrows(IOException.class, () -> FormatoSave.decodificar(recalcularCrc(posicaoInvalida), destino));
+
+        byte[] sorteiosDemais = save.clone();
+        ByteBuffer.wrap(sorteiosDemais).putLong(sorteiosDemais.length - 12, Long.MAX_VALUE);
+        assertThrows(IOException.class, () -> FormatoSave.decodificar(recalcularCrc(sorteiosDemais), destino));
+
+        assertEquals(hashAntes, destino.getHash());
+        assertEquals(2, destino.getJogadores().size());
+    }
+
+    private static byte[] recalcularCrc(byte[] save) {
+        CRC32 crc = new CRC32();
+        crc.update(save, 0, save.length - 4);
+        ByteBuffer.wrap(save).putInt(save.length - 4, (int) crc.getValue());
+        return save;
+    }
+}
@@ -0,0 +1,88 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.persistencia.FormatoSave;
+import com.ludo.jogo.persistencia.GerenciadorDePersistencia;
+
+/**
+ * Testes para a classe GerenciadorDePersistencia.
+ */
+class GerenciadorDePersistenciaTest {
+
+    /** Save gravado pela versão antiga do jogo (serialização Java do MotorJogo). */
+    private static final Path SAVE_LEGADO = Path.of("src/test/resources/save_legado.dat");
+
+    /**
+     * Testa se um save antigo é migrado com os jogadores, as posições dos peões e o turno que tinha,
+     * e se a partida migrada pode ser gravada no formato novo.
+     */
+    @Test
+    void saveLegadoEhMigrado(@TempDir Path pasta) throws Exception {
+        MotorJogo motor = new MotorJogo();
+        GerenciadorDePersistencia.carregarJogo(SAVE_LEGADO, motor);
+
+        List<Jogador> jogadores = motor.getJogadores();
+        assertInstanceOf(JogadorHumano.class, jogadores.get(0));
+        assertEquals(Cor.AMARELO, jogadores.get(0).getCor());
+        assertInstanceOf(JogadorIA.class, jogadores.get(1));
+        assertEquals(Cor.VERMELHO, jogadores.get(1).getCor());
+        assertArrayEquals(new int[] {40, 39, 39, 40}, posicoes(motor, Cor.AMARELO));
+        int base = Tabuleiro.posicaoBase(Cor.VERMELHO.ordinal());
+        assertArrayEquals(new int[] {42, base, base, base}, posicoes(motor, Cor.VERMELHO));
+        assertEquals(Cor.AMARELO, motor.getJogadorAtual().getCor());
+        assertEquals(3, motor.getValorDadoAtual());
+        assertEquals(EstadoJogo.EM_JOGO, motor.getEstado());
+
+        Path novo = pasta.resolve("save_slot_1.dat");
+        GerenciadorDePersistencia.salvarJogo(motor, novo);
+        MotorJogo recarregado = new MotorJogo();
+        GerenciadorDePersistencia.carregarJogo(novo, recarregado);
+        assertEquals(motor.getHash(), recarregado.getHash());
+        assertTrue(FormatoSave.isFormatoBinario(Files.readAllBytes(novo)));
+    }
+
+    /**
+     * Testa se, ao carregar em um motor existente, os jogadores recriados referenciam esse motor
+     * (e jogam nele), e não uma cópia.
+     */
+    @Test
+    void carregarUsaOMotorDeDestino() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        GerenciadorDePersistencia.carregarJogo(SAVE_LEGADO, motor);
+
+        // O humano (amarelo, dado 3) joga e a IA joga pelo motor carregado até devolver a vez
+        motor.tentarMoverPeao(motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(motor.getMovimentos()[0])));
+        for (int turno = 0; turno < 50 && motor.getJogadorAtual() instanceof JogadorIA; turno++) {
+            motor.jogarTurno();
+        }
+        assertEquals(Cor.AMARELO, motor.getJogadorAtual().getCor(), "A IA deveria ter jogado no motor carregado.");
+    }
+
+    /**
+     * Posições dos peões de uma cor.
+     *
+     * @param motor O motor;
+     * @param cor A cor;
+     * @return As 4 posições, por id.
+     */
+    private static int[] posicoes(MotorJogo motor, Cor cor) {
+        int[] posicoes = new int[4];
+        for (int k = 0; k < 4; k++) posicoes[k] = motor.getTabuleiro().getPosicao(cor.ordinal() * 4 + k);
+        return posicoes;
+    }
+}
@@ -0,0 +1,87 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.persistencia.GerenciadorDePersistencia;
+import com.ludo.jogo.persistencia.GravadorAssincrono;
+
+/**
+ * Testes para a classe GravadorAssincrono.
+ */
+class GravadorAssincronoTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.AMARELO));
+
+    /**
+     * Testa se saves seguidos do mesmo arquivo, pedidos enquanto o gravador está ocupado, viram uma única
+     * gravação com o estado mais recente (copiado no pedido, mesmo que o motor mude depois), sem deixar
+     * o arquivo temporário para trás.
+     */
+    @Test
+    void savesSeguidosSaoJuntados(@TempDir Path pasta) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (GravadorAssincrono gravador = new GravadorAssincrono(executor)) {
+            CountDownLatch liberar = new CountDownLatch(1);
+            executor.submit(() -> liberar.await(5, TimeUnit.SECONDS)); // Ocupa a thread do gravador
+
+            Path arquivo = pasta.resolve("save_slot_1.dat");
+            MotorJogo motor = new MotorJogo();
+            motor.iniciarNovoJogo(CONFIG, 3L);
+            CompletableFuture<Void> primeiro = gravador.salvar(motor, arquivo);
+            motor.jogarTurno();
+            motor.jogarTurno();
+            CompletableFuture<Void> segundo = gravador.salvar(motor, arquivo);
+            long hashSalvo = motor.getHash();
+            motor.jogarTurno(); // Muda depois do pedido: não deve aparecer no arquivo
+
+            CompletableFuture<Void> outroArquivo = gravador.salvar(motor, pasta.resolve("save_slot_2.dat"));
+            assertSame(primeiro, segundo);
+            assertNotSame(primeiro, outroArquivo);
+
+            liberar.countDown();
+            segundo.get(5, TimeUnit.SECONDS);
+            outroArquivo.get(5, TimeUnit.SECONDS);
+
+            MotorJogo carregado = new MotorJogo();
+            GerenciadorDePersistencia.carregarJogo(arquivo, carregado);
+            assertEquals(hashSalvo, carregado.getHash());
+            assertFalse(Files.exists(pasta.resolve("save_slot_1.dat.tmp")));
+        }
+    }
+
+    /**
+     * Testa se uma falha na gravação chega ao futuro, com a IOException como causa.
+     */
+    @Test
+    void falhaNaGravacaoChegaAoFuturo(@TempDir Path pasta) throws Exception {
+        try (GravadorAssincrono gravador = new GravadorAssincrono(Executors.newSingleThreadExecutor())) {
+            MotorJogo motor = new MotorJogo();
+            motor.iniciarNovoJogo(CONFIG, 3L);
+
+            CompletableFuture<Void> futuro = gravador.salvar(motor, pasta.resolve("nao_existe").resolve("save.dat"));
+            ExecutionException erro = assertThrows(ExecutionException.class, () -> futuro.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, erro.getCause());
+        }
+    }
+}
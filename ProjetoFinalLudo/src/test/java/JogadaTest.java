@@ -0,0 +1,111 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.Jogada;
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Peao;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoPeao;
+
+/**
+ * Testes para a classe Jogada (aplicar/desfazer).
+ */
+class JogadaTest {
+
+    /**
+     * Cria um MotorJogo com dois jogadores IA.
+     */
+    private MotorJogo criarJogo() {
+        MotorJogo motor = new MotorJogo();
+
+        List<Class<? extends Jogador>> tipos = new ArrayList<>();
+        tipos.add(JogadorIA.class);
+        tipos.add(JogadorIA.class);
+
+        List<Cor> cores = new ArrayList<>();
+        cores.add(Cor.VERMELHO);
+        cores.add(Cor.VERDE);
+
+        motor.iniciarNovoJogo(tipos, cores);
+        return motor;
+    }
+
+    /**
+     * Testa se desfazer uma captura devolve o peão capturado à casa de destino
+     * e o peão movido à sua origem, restaurando o hash.
+     */
+    @Test
+    void desfazerCapturaRestauraOsDoisPeoes() {
+        MotorJogo motor = criarJogo();
+        Tabuleiro tabuleiro = motor.getTabuleiro();
+        Peao vermelho = motor.getJogadores().get(0).getPeoes().getFirst();
+        Peao verde = motor.getJogadores().get(1).getPeoes().getFirst();
+
+        tabuleiro.moverPeao(vermelho, 2);
+        tabuleiro.moverPeao(verde, 5);
+        long hashAntes = motor.getHash();
+
+        motor.setValorDado(3);
+        Jogada jogada = new Jogada(vermelho, 5);
+        jogada.aplicar(motor);
+
+        assertSame(verde, jogada.getCapturado(), "O peão verde deve ser capturado.");
+        assertEquals(EstadoPeao.BASE, verde.getEstado());
+
+        jogada.desfazer(motor);
+
+        assertEquals(2, tabuleiro.getPosicao(vermelho));
+        assertEquals(5, tabuleiro.getPosicao(verde));
+        assertEquals(EstadoPeao.JOGANDO, verde.getEstado());
+        assertSame(tabuleiro.getCasa(5), verde.getCasa());
+        assertEquals(1, tabuleiro.getOcupacao(5));
+        assertEquals(Cor.VERMELHO, motor.getJogadorAtual().getCor(), "O turno deve voltar ao vermelho.");
+
+        motor.setValorDado(0);
+        assertEquals(hashAntes, motor.getHash(), "Hash deve voltar ao valor anterior.");
+    }
+
+    /**
+     * Testa se uma sequência aleatória de jogadas desfeita em ordem inversa
+     * volta exatamente ao hash de cada ponto intermediário.
+     */
+    @Test
+    void sequenciaDeJogadasDesfeitaVoltaAoInicio() {
+        MotorJogo motor = criarJogo();
+        Random random = new Random(42);
+        Deque<Jogada> pilha = new ArrayDeque<>();
+        Deque<Long> hashes = new ArrayDeque<>();
+
+        for (int i = 0; i < 300; i++) {
+            int valorDado = 1 + random.nextInt(6);
+            motor.setValorDado(valorDado);
+
+            List<Peao> validos = motor.getJogadorAtual().getPeoesValidos(valorDado, motor.getTabuleiro());
+            if (validos.isEmpty()) continue;
+
+            Peao peao = validos.get(random.nextInt(validos.size()));
+            Jogada jogada = new Jogada(peao, motor.getTabuleiro().getDestino(peao, valorDado));
+
+            hashes.push(motor.getHash());
+            jogada.aplicar(motor);
+            pilha.push(jogada);
+        }
+
+        assertNotNull(pilha.peek(), "A sequência deve ter ao menos uma jogada.");
+        while (!pilha.isEmpty()) {
+            pilha.pop().desfazer(motor);
+            assertEquals(hashes.pop(), motor.getHash());
+        }
+    }
+}
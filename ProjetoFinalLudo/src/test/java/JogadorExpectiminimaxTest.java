@@ -0,0 +1,84 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorExpectiminimax;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.simulacao.SimuladorPartidas;
+
+/**
+ * Testes para a classe JogadorExpectiminimax.
+ */
+class JogadorExpectiminimaxTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(
+            List.of(JogadorExpectiminimax.class, JogadorIA.class), List.of(Cor.VERMELHO, Cor.AMARELO));
+
+    /**
+     * Inicia uma partida com a busca limitada por profundidade (e não por tempo), para ser reproduzível.
+     */
+    private MotorJogo criarJogo(long semente, int profundidade) {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, semente);
+        JogadorExpectiminimax jogador = (JogadorExpectiminimax) motor.getJogadores().getFirst();
+        jogador.setProfundidadeMaxima(profundidade);
+        jogador.setTempoPorJogadaMs(60_000);
+        return motor;
+    }
+
+    /**
+     * Testa se a busca deixa o motor exatamente como estava: depois da jogada escolhida,
+     * desfazê-la deve voltar ao hash de antes da busca.
+     */
+    @Test
+    void buscaPreservaOEstadoDoMotor() throws Exception {
+        MotorJogo motor = criarJogo(11L, 3);
+        JogadorExpectiminimax jogador = (JogadorExpectiminimax) motor.getJogadores().getFirst();
+
+        int buscas = 0;
+        while (motor.getEstado() == EstadoJogo.EM_JOGO && buscas < 30) {
+            if (motor.getJogadorAtual() != jogador) {
+                motor.jogarTurno();
+                continue;
+            }
+            motor.setValorDado(motor.getDado().rolar());
+            if (motor.getNumMovimentos() < 2) {
+                motor.finalizarTurno();
+                continue;
+            }
+
+            long hashAntes = motor.getHash();
+            jogador.fazerJogada(motor.getValorDadoAtual());
+            assertTrue(jogador.getNosVisitados() > 0, "Com mais de um movimento a IA deve buscar.");
+
+            motor.desfazerUltimaJogada();
+            assertEquals(hashAntes, motor.getHash(), "A busca não pode deixar alterações no motor.");
+
+            jogador.fazerJogada(motor.getValorDadoAtual());
+            buscas++;
+        }
+        assertTrue(buscas > 0);
+    }
+
+    /**
+     * Testa se a busca vence a maioria das partidas contra o JogadorIA de regras fixas.
+     */
+    @Test
+    void buscaVenceAMaioriaContraJogadorIA() {
+        int partidas = 40;
+        int vitorias = 0;
+        for (long semente = 0; semente < partidas; semente++) {
+            MotorJogo motor = criarJogo(semente, 2);
+            SimuladorPartidas.jogarAteOFim(motor);
+            if (motor.getJogadorAtual().getCor() == Cor.VERMELHO) vitorias++;
+        }
+
+        assertTrue(vitorias > partidas * 0.6, "Venceu apenas " + vitorias + " de " + partidas + " partidas.");
+    }
+}
@@ -7,11 +7,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
+import com.ludo.jogo.game.Cancelamento;
+import com.ludo.jogo.game.ConfigJogo;
 import com.ludo.jogo.game.Jogador;
 import com.ludo.jogo.game.JogadorIA;
 import com.ludo.jogo.game.Jogavel;
 import com.ludo.jogo.game.MotorJogo;
 import com.ludo.jogo.game.Peao;
+import com.ludo.jogo.game.Tabuleiro;
 import com.ludo.jogo.game.enums.Cor;
 import com.ludo.jogo.game.enums.EstadoPeao;
 
@@ -78,4 +81,32 @@ class JogadorIATest {
                     "Peão deve ter uma casa inicial associada.");
         }
     }
+
+    /**
+     * Testa se o jogador IA usa o mapa de perigo: com um peão ameaçado e outro fora de perigo, ambos em casas
+     * comuns, ele move o ameaçado para fora do alcance do adversário.
+     */
+    @Test
+    void jogadorIAFogeDoPerigo() {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.VERDE)), 1L);
+        Tabuleiro tabuleiro = motor.getTabuleiro();
+        JogadorIA jogador = (JogadorIA) motor.getJogadores().getFirst();
+        Peao livre = jogador.getPeoes().get(0);
+        Peao ameacado = jogador.getPeoes().get(1);
+        Peao atacante = motor.getJogadores().get(1).getPeoes().getFirst();
+
+        tabuleiro.moverPeao(livre, 20);
+        tabuleiro.moverPeao(ameacado, 5);
+        tabuleiro.moverPeao(atacante, 2); // Alcança a casa 5 com um 3
+        assertTrue(tabuleiro.getAvaliacao().getPerigo(Cor.VERMELHO.ordinal(), 5) > 0);
+        assertEquals(0, tabuleiro.getAvaliacao().getPerigo(Cor.VERMELHO.ordinal(), 10));
+
+        motor.setValorDado(5);
+        int movimento = jogador.escolherMovimento(5, Cancelamento.NENHUM);
+
+        assertEquals(ameacado.getId(), Tabuleiro.idPeaoDoMovimento(movimento),
+                "A IA deve tirar do perigo o peão ameaçado.");
+    }
 }
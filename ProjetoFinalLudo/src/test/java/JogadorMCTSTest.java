@@ -0,0 +1,77 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.JogadorMCTS;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.simulacao.SimuladorPartidas;
+
+/**
+ * Testes para a classe JogadorMCTS.
+ */
+class JogadorMCTSTest {
+
+    /**
+     * Inicia uma partida MCTS x JogadorIA com a busca limitada por quantidade de rollouts.
+     */
+    private MotorJogo criarJogo(long semente, int rollouts, int threads) {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(List.of(JogadorMCTS.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), semente);
+        JogadorMCTS jogador = (JogadorMCTS) motor.getJogadores().getFirst();
+        jogador.setRolloutsPorJogada(rollouts);
+        jogador.setThreads(threads);
+        jogador.setTempoPorJogadaMs(60_000);
+        return motor;
+    }
+
+    /**
+     * Testa se, com limite de rollouts e uma thread, a partida é reproduzível pela semente.
+     */
+    @Test
+    void partidaComLimiteDeRolloutsEhReproduzivel() {
+        MotorJogo a = criarJogo(5L, 64, 1);
+        MotorJogo b = criarJogo(5L, 64, 1);
+
+        long turnosA = SimuladorPartidas.jogarAteOFim(a);
+        long turnosB = SimuladorPartidas.jogarAteOFim(b);
+
+        assertEquals(EstadoJogo.ENCERRADO, a.getEstado());
+        assertEquals(turnosA, turnosB);
+        assertEquals(a.getHash(), b.getHash());
+    }
+
+    /**
+     * Testa se a busca paralela respeita o limite de rollouts somado entre as threads.
+     */
+    @Test
+    void buscaParalelaRespeitaOLimiteDeRollouts() throws Exception {
+        MotorJogo motor = criarJogo(9L, 101, 3);
+        JogadorMCTS jogador = (JogadorMCTS) motor.getJogadores().getFirst();
+
+        // Joga até a vez do MCTS com mais de um movimento possível
+        while (true) {
+            motor.setValorDado(motor.getDado().rolar());
+            if (motor.getNumMovimentos() == 0) {
+                motor.finalizarTurno();
+            }
+            else if (motor.getJogadorAtual() != jogador) {
+                ((JogadorIA) motor.getJogadorAtual()).fazerJogada(motor.getValorDadoAtual());
+            }
+            else if (motor.getNumMovimentos() > 1) {
+                break;
+            }
+            else {
+                jogador.fazerJogada(motor.getValorDadoAtual());
+            }
+        }
+
+        jogador.fazerJogada(motor.getValorDadoAtual());
+        assertEquals(101, jogador.getRolloutsUltimaJogada());
+    }
+}
@@ -0,0 +1,52 @@
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.Cancelamento;
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.JogadorTD;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Testes para a classe JogadorTD.
+ */
+class JogadorTDTest {
+
+    /**
+     * Testa se, ao longo de uma partida, cada escolha do JogadorTD é um dos movimentos da rolagem
+     * e não altera o motor, e se a partida termina.
+     */
+    @Test
+    void escolheMovimentosValidosSemAlterarOMotor() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(new ConfigJogo(List.of(JogadorTD.class, JogadorIA.class),
+                List.of(Cor.VERMELHO, Cor.AMARELO)), 9L);
+        JogadorTD jogador = (JogadorTD) motor.getJogadores().getFirst();
+
+        while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+            if (motor.getJogadorAtual() == jogador && motor.rolarSemJogar()) {
+                long hash = motor.getHash();
+                int movimento = jogador.escolherMovimento(motor.getValorDadoAtual(), Cancelamento.NENHUM);
+                assertEquals(hash, motor.getHash());
+                assertNotEquals(Tabuleiro.POSICAO_INVALIDA, movimento);
+
+                boolean encontrado = false;
+                for (int i = 0; i < motor.getNumMovimentos(); i++) encontrado |= motor.getMovimentos()[i] == movimento;
+                assertTrue(encontrado, "O movimento escolhido deve estar entre os da rolagem.");
+
+                jogador.fazerJogada(motor.getValorDadoAtual());
+            }
+            else if (motor.getJogadorAtual() != jogador) {
+                motor.jogarTurno();
+            }
+        }
+        assertEquals(EstadoJogo.ENCERRADO, motor.getEstado());
+    }
+}
@@ -0,0 +1,76 @@
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.PesosAvaliacao;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Testes para a classe PesosAvaliacao.
+ */
+class PesosAvaliacaoTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.VERDE, Cor.AZUL));
+
+    /**
+     * Testa se os pesos gravados em arquivo são lidos de volta (com a precisão de float).
+     */
+    @Test
+    void pesosGravadosSaoLidosDeVolta(@TempDir Path pasta) throws Exception {
+        double[] valores = new double[PesosAvaliacao.NUM_CARACTERISTICAS];
+        for (int i = 0; i < valores.length; i++) valores[i] = (i - 5) * 0.37;
+        Path arquivo = pasta.resolve("pesos.bin");
+
+        new PesosAvaliacao(valores).salvar(arquivo);
+        PesosAvaliacao lidos = PesosAvaliacao.carregar(arquivo);
+
+        assertArrayEquals(valores, lidos.getPesos(), 1e-6);
+    }
+
+    /**
+     * Testa se avaliar() é a sigmoide do produto dos pesos pelas características, ao longo de uma partida,
+     * e se ela não aloca memória depois de aquecida.
+     */
+    @Test
+    void avaliarUsaAsCaracteristicasSemAlocar() throws Exception {
+        PesosAvaliacao pesos = PesosAvaliacao.iniciais();
+        double[] w = pesos.getPesos();
+        double[] x = new double[PesosAvaliacao.NUM_CARACTERISTICAS];
+
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 4L);
+        while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+            for (int cor : new int[] {Cor.VERMELHO.ordinal(), Cor.VERDE.ordinal(), Cor.AZUL.ordinal()}) {
+                PesosAvaliacao.caracteristicas(motor, cor, x);
+                double soma = 0;
+                for (int i = 0; i < x.length; i++) soma += w[i] * x[i];
+
+                double valor = pesos.avaliar(motor, cor);
+                assertEquals(PesosAvaliacao.sigmoide(soma), valor, 1e-12);
+                assertTrue(valor > 0 && valor < 1);
+            }
+            motor.jogarTurno();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        double total = 0;
+        for (int i = 0; i < 200_000; i++) total += pesos.avaliar(motor, i & 1); // Aquecimento (JIT)
+        long antes = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 200_000; i++) total += pesos.avaliar(motor, i & 1);
+        long alocados = threads.getCurrentThreadAllocatedBytes() - antes;
+
+        assertTrue(total > 0);
+        assertTrue(alocados < 1024, "avaliar() alocou " + alocados + " bytes.");
+    }
+}
@@ -0,0 +1,46 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.PesosHeuristica;
+
+/**
+ * Testes para a classe PesosHeuristica.
+ */
+class PesosHeuristicaTest {
+
+    /**
+     * Testa se os pesos gravados em arquivo são lidos de volta iguais, e se um arquivo de outro tipo é recusado.
+     */
+    @Test
+    void pesosSobrevivemAoArquivo(@TempDir Path pasta) throws Exception {
+        PesosHeuristica pesos = new PesosHeuristica(new double[] {900, 120.5, 40, 2, 0.75, -1.25, 0.1, 3});
+        Path arquivo = pasta.resolve("pesos.bin");
+        pesos.salvar(arquivo);
+
+        assertArrayEquals(pesos.getPesos(), PesosHeuristica.carregar(arquivo).getPesos(), 0);
+
+        Files.write(arquivo, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        assertThrows(IOException.class, () -> PesosHeuristica.carregar(arquivo));
+    }
+
+    /**
+     * Testa se os pesos iniciais mantêm a ordem de prioridade das regras: sair da base vale mais que capturar,
+     * que vale mais que a maior redução de perigo, que vale mais que ir para casa segura.
+     */
+    @Test
+    void pesosIniciaisMantemAPrioridadeDasRegras() {
+        double[] pesos = PesosHeuristica.iniciais().getPesos();
+        assertTrue(pesos[PesosHeuristica.SAIDA_BASE] > pesos[PesosHeuristica.CAPTURA]);
+        assertTrue(pesos[PesosHeuristica.CAPTURA] > pesos[PesosHeuristica.REDUCAO_PERIGO]);
+        assertTrue(pesos[PesosHeuristica.REDUCAO_PERIGO] > pesos[PesosHeuristica.DESTINO_SEGURO]
+                + pesos[PesosHeuristica.ORIGEM_INSEGURA]);
+        assertTrue(pesos[PesosHeuristica.PERIGO_DESTINO] < 0);
+    }
+}
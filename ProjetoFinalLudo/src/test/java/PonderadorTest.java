@@ -0,0 +1,130 @@
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.Cancelamento;
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Decisao;
+import com.ludo.jogo.game.DecisorAssincrono;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Ponderador;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+
+/**
+ * Testes para a classe Ponderador.
+ */
+class PonderadorTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(List.of(JogadorHumano.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.AMARELO));
+
+    /**
+     * Testa se, depois de ponderar a vez do humano e confirmar o movimento dele, a decisão da IA sai pronta
+     * e é a mesma que a IA tomaria sem ponderar, ao longo de várias vezes do humano.
+     */
+    @Test
+    void decisaoPonderadaEhIgualADecisaoNormal() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 21L);
+        int acertosEsperados = 0;
+
+        try (DecisorAssincrono decisor = new DecisorAssincrono(Executors.newSingleThreadExecutor())) {
+            Ponderador ponderador = new Ponderador(decisor);
+
+            for (int vez = 0; vez < 40 && motor.getEstado() == EstadoJogo.EM_JOGO; vez++) {
+                if (!chegarNaEscolhaDoHumano(motor)) break;
+
+                ponderador.ponderar(motor).get(30, TimeUnit.SECONDS);
+                moverPeaoQualquer(motor);
+                ponderador.confirmar(motor);
+
+                if (!(motor.getJogadorAtual() instanceof JogadorIA) || !motor.rolarSemJogar()) continue;
+
+                Decisao ponderada = ponderador.buscar(motor);
+                if (motor.getNumMovimentos() >= 2) {
+                    assertNotNull(ponderada, "A decisão deveria ter sido ponderada.");
+                    acertosEsperados++;
+                }
+
+                MotorJogo referencia = motor.copiar();
+                Decisao normal = decisor.decidir(motor, Cancelamento.NENHUM).get(5, TimeUnit.SECONDS);
+                assertTrue(normal.aplicar(referencia));
+
+                assertTrue((ponderada != null ? ponderada : normal).aplicar(motor));
+                assertEquals(referencia.getHash(), motor.getHash());
+                assertEquals(referencia.getDado().getSorteios(), motor.getDado().getSorteios());
+            }
+        }
+        assertTrue(acertosEsperados > 0);
+    }
+
+    /**
+     * Testa se a especulação descartada não é usada: depois de cancelar(), não restam decisões prontas
+     * e buscar() não encontra a posição real.
+     */
+    @Test
+    void especulacaoDivergenteEhDescartada() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 8L);
+
+        try (DecisorAssincrono decisor = new DecisorAssincrono(Executors.newSingleThreadExecutor())) {
+            Ponderador ponderador = new Ponderador(decisor);
+            assertTrue(chegarNaEscolhaDoHumano(motor));
+
+            ponderador.ponderar(motor).get(30, TimeUnit.SECONDS);
+            assertTrue(ponderador.getDecisoesProntas() > 0);
+
+            ponderador.cancelar();
+            assertEquals(0, ponderador.getDecisoesProntas());
+
+            // Sem especulação ativa, nenhuma posição é encontrada
+            moverPeaoQualquer(motor);
+            ponderador.confirmar(motor);
+            if (motor.getJogadorAtual() instanceof JogadorIA) motor.rolarSemJogar();
+            assertNull(ponderador.buscar(motor));
+            assertEquals(0, ponderador.getAcertos());
+            assertEquals(1, ponderador.getFaltas());
+        }
+    }
+
+    /**
+     * Avança a partida (jogando pelas IAs e passando as vezes sem movimento) até o humano ter rolado
+     * um dado com pelo menos dois movimentos e sem direito a rolar de novo.
+     *
+     * @param motor O motor;
+     * @return False se a partida acabou antes.
+     */
+    private static boolean chegarNaEscolhaDoHumano(MotorJogo motor) throws Exception {
+        while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+            if (motor.getJogadorAtual() instanceof JogadorIA) {
+                motor.jogarTurno();
+                continue;
+            }
+            if (!motor.rolarSemJogar()) continue;
+            if (motor.getNumMovimentos() >= 2 && motor.getValorDadoAtual() != 6) return true;
+            moverPeaoQualquer(motor);
+        }
+        return false;
+    }
+
+    /**
+     * Faz um dos movimentos da rolagem pelo humano, escolhido pelo hash da posição (para variar os peões em jogo).
+     *
+     * @param motor O motor.
+     */
+    private static void moverPeaoQualquer(MotorJogo motor) throws Exception {
+        int escolhido = (int) ((motor.getHash() >>> 1) % motor.getNumMovimentos());
+        int movimento = motor.getMovimentos()[escolhido];
+        motor.tentarMoverPeao(motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(movimento)));
+    }
+}
@@ -0,0 +1,102 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.Dado;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.Tabuleiro;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.persistencia.FormatoSave;
+import com.ludo.jogo.persistencia.GravadorReplay;
+import com.ludo.jogo.persistencia.ReplayPartida;
+
+/**
+ * Testes para a classe ReplayPartida.
+ */
+class ReplayPartidaTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.VERDE, Cor.AMARELO, Cor.AZUL));
+
+    /**
+     * Grava uma partida inteira.
+     *
+     * @param semente Semente do dado;
+     * @return O replay.
+     */
+    private static ReplayPartida gravarPartida(long semente) throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, semente);
+        GravadorReplay gravador = new GravadorReplay(motor);
+        while (motor.getEstado() == EstadoJogo.EM_JOGO) motor.jogarTurno();
+        gravador.encerrar();
+        return gravador.getReplay();
+    }
+
+    /**
+     * Testa se o replay sobrevive a gravar e ler um arquivo, e se cada rolagem ocupa poucos bits
+     * (a partida inteira cabe em uma fração do espaço de um save por turno).
+     */
+    @Test
+    void replayEhCompacto(@TempDir Path pasta) throws Exception {
+        ReplayPartida replay = gravarPartida(17L);
+        Path arquivo = pasta.resolve("partida.replay");
+        replay.salvar(arquivo);
+        ReplayPartida lido = ReplayPartida.carregar(arquivo);
+
+        assertEquals(replay.getRolagens(), lido.getRolagens());
+        assertEquals(replay.getTotalBits(), lido.getTotalBits());
+        assertArrayEquals(replay.codificar(), lido.codificar());
+
+        assertTrue(replay.getTotalBits() <= 3L * replay.getRolagens());
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 17L);
+        int tamanhoSave = FormatoSave.codificar(motor).length;
+        assertTrue(replay.codificar().length * 10 < (long) tamanhoSave * replay.getRolagens());
+    }
+
+    /**
+     * Testa se sem desempates (só humanos, jogando a primeira opção) as rolagens com um movimento não ocupam bits.
+     */
+    @Test
+    void rolagensSemEscolhaNaoOcupamBits() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(List.of(JogadorHumano.class, JogadorHumano.class), List.of(Cor.VERDE, Cor.AZUL), new Dado(9L));
+        GravadorReplay gravador = new GravadorReplay(motor);
+        int escolhas = 0;
+        for (int i = 0; i < 200; i++) {
+            if (motor.rolarSemJogar()) {
+                int quantidade = motor.getNumMovimentos();
+                if (quantidade > 1) escolhas += quantidade == 2 ? 1 : 2;
+                motor.tentarMoverPeao(motor.getTabuleiro().getPeao(Tabuleiro.idPeaoDoMovimento(motor.getMovimentos()[0])));
+            }
+        }
+        assertEquals(escolhas, gravador.getReplay().getTotalBits());
+    }
+
+    /**
+     * Testa se replays corrompidos ou truncados são recusados.
+     */
+    @Test
+    void replayCorrompidoEhRecusado() throws Exception {
+        byte[] dados = gravarPartida(3L).codificar();
+
+        byte[] corrompido = dados.clone();
+        corrompido[corrompido.length / 2] ^= 0x10;
+        assertThrows(IOException.class, () -> ReplayPartida.ler(corrompido));
+        assertThrows(IOException.class, () -> ReplayPartida.ler(Arrays.copyOf(dados, dados.length - 3)));
+        assertThrows(IOException.class, () -> ReplayPartida.ler(new byte[] {1, 2, 3}));
+    }
+}
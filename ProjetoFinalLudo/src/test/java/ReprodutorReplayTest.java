@@ -0,0 +1,163 @@
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.ConfigJogo;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.JogadorTD;
+import com.ludo.jogo.game.MotorJogo;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.game.enums.EstadoJogo;
+import com.ludo.jogo.persistencia.DiarioPartida;
+import com.ludo.jogo.persistencia.GravadorReplay;
+import com.ludo.jogo.persistencia.ReplayPartida;
+import com.ludo.jogo.persistencia.ReprodutorReplay;
+
+/**
+ * Testes para a classe ReprodutorReplay.
+ */
+class ReprodutorReplayTest {
+
+    private static final ConfigJogo CONFIG = new ConfigJogo(List.of(JogadorIA.class, JogadorTD.class, JogadorIA.class),
+            List.of(Cor.VERMELHO, Cor.AMARELO, Cor.AZUL));
+
+    /**
+     * Testa se a reprodução passa por todos os estados da partida gravada (inclusive o ponto do dado, com os
+     * desempates das IAs) e termina no mesmo fim.
+     */
+    @Test
+    void reproduzTodosOsEstados() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 21L);
+        GravadorReplay gravador = new GravadorReplay(motor);
+        List<Long> hashes = new ArrayList<>();
+        while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+            motor.jogarTurno();
+            hashes.add(motor.getHash());
+        }
+        gravador.encerrar();
+
+        ReprodutorReplay reprodutor = new ReprodutorReplay(ReplayPartida.ler(gravador.getReplay().codificar()));
+        assertEquals(hashes.size(), reprodutor.getTotalRolagens());
+        for (long hash : hashes) {
+            assertTrue(reprodutor.avancar());
+            assertEquals(hash, reprodutor.getMotor().getHash());
+        }
+        assertFalse(reprodutor.avancar());
+        assertEquals(EstadoJogo.ENCERRADO, reprodutor.getMotor().getEstado());
+        assertEquals(motor.getDado().getSorteios(), reprodutor.getMotor().getDado().getSorteios());
+
+        reprodutor.irPara(hashes.size() / 2);
+        assertEquals(hashes.get(hashes.size() / 2 - 1), reprodutor.getMotor().getHash());
+        reprodutor.irPara(0);
+        MotorJogo inicio = new MotorJogo();
+        inicio.iniciarNovoJogo(CONFIG, 21L);
+        assertEquals(inicio.getHash(), reprodutor.getMotor().getHash());
+    }
+
+    /**
+     * Testa se o replay e o diário gravam a mesma partida juntos, e se encerrar um não desliga o outro.
+     */
+    @Test
+    void gravaJuntoComODiario(@TempDir Path pasta) throws Exception {
+        Path arquivo = pasta.resolve("partida.diario");
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 13L);
+        try (DiarioPartida diario = new DiarioPartida(arquivo, 1000, false)) {
+            diario.iniciar(motor);
+            GravadorReplay gravador = new GravadorReplay(motor);
+            for (int i = 0; i < 60; i++) motor.jogarTurno();
+            long hashNoFimDoReplay = motor.getHash();
+            gravador.encerrar();
+            for (int i = 0; i < 20; i++) motor.jogarTurno();
+
+            ReprodutorReplay reprodutor = new ReprodutorReplay(gravador.getReplay());
+            assertEquals(60, reprodutor.getTotalRolagens());
+            reprodutor.irPara(60);
+            assertEquals(hashNoFimDoReplay, reprodutor.getMotor().getHash());
+
+            MotorJogo recuperado = new MotorJogo();
+            DiarioPartida.recuperar(arquivo, recuperado);
+            assertEquals(motor.getHash(), recuperado.getHash());
+        }
+    }
+
+    /**
+     * Testa se ir a rolagens em ordem qualquer (pelos checkpoints) e voltar de uma em uma chega aos mesmos
+     * estados da reprodução em sequência, inclusive o dado.
+     */
+    @Test
+    void buscaPorCheckpointsChegaAoMesmoEstado() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 33L);
+        GravadorReplay gravador = new GravadorReplay(motor);
+        List<Long> hashes = new ArrayList<>();
+        List<Long> sorteios = new ArrayList<>();
+        hashes.add(motor.getHash());
+        sorteios.add(motor.getDado().getSorteios());
+        while (motor.getEstado() == EstadoJogo.EM_JOGO) {
+            motor.jogarTurno();
+            hashes.add(motor.getHash());
+            sorteios.add(motor.getDado().getSorteios());
+        }
+        gravador.encerrar();
+
+        ReplayPartida replay = ReplayPartida.ler(gravador.getReplay(16).codificar());
+        assertEquals((replay.getRolagens() - 1) / 16, replay.getNumCheckpoints());
+        ReprodutorReplay reprodutor = new ReprodutorReplay(replay);
+
+        int total = reprodutor.getTotalRolagens();
+        int[] destinos = {total, 17, 16, 15, total / 2, 3, total - 1, 0, 48, 47, 49, total};
+        for (int destino : destinos) {
+            reprodutor.irPara(destino);
+            assertEquals(destino, reprodutor.getRolagem());
+            assertEquals(hashes.get(destino), reprodutor.getMotor().getHash());
+            assertEquals(sorteios.get(destino), reprodutor.getMotor().getDado().getSorteios());
+        }
+
+        for (int rolagem = total - 1; rolagem >= 0; rolagem--) {
+            assertTrue(reprodutor.voltar());
+            assertEquals(hashes.get(rolagem), reprodutor.getMotor().getHash());
+        }
+        assertFalse(reprodutor.voltar());
+
+        // Continuar depois de um checkpoint refaz o resto da partida igual
+        reprodutor.irPara(32);
+        while (reprodutor.avancar()) {
+            assertEquals(hashes.get(reprodutor.getRolagem()), reprodutor.getMotor().getHash());
+        }
+    }
+
+    /**
+     * Testa se o replay continua uma partida do ponto em que a gravação começou, e se ao desfazer uma jogada
+     * a gravação para antes da rolagem dela.
+     */
+    @Test
+    void gravacaoDoMeioDaPartidaAteJogadaDesfeita() throws Exception {
+        MotorJogo motor = new MotorJogo();
+        motor.iniciarNovoJogo(CONFIG, 4L);
+        for (int i = 0; i < 50; i++) motor.jogarTurno();
+
+        GravadorReplay gravador = new GravadorReplay(motor);
+        for (int i = 0; i < 40; i++) motor.jogarTurno();
+        long tabuleiroAntes = motor.getTabuleiro().getHash();
+        while (motor.getTabuleiro().getHash() == tabuleiroAntes) motor.jogarTurno(); // Até a próxima jogada
+        assertEquals(EstadoJogo.EM_JOGO, motor.getEstado());
+        int rolagensAntes = gravador.getRolagens();
+        assertTrue(motor.desfazerUltimaJogada());
+        assertFalse(gravador.isGravando());
+        assertTrue(gravador.getRolagens() < rolagensAntes);
+
+        ReprodutorReplay reprodutor = new ReprodutorReplay(gravador.getReplay());
+        reprodutor.irPara(reprodutor.getTotalRolagens());
+        MotorJogo fim = reprodutor.getMotor();
+        assertEquals(motor.getTabuleiro().getHash(), fim.getTabuleiro().getHash());
+        assertEquals(motor.getJogadorAtual().getCor(), fim.getJogadorAtual().getCor());
+    }
+}
@@ -0,0 +1,96 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.Jogador;
+import com.ludo.jogo.game.JogadorHumano;
+import com.ludo.jogo.game.JogadorIA;
+import com.ludo.jogo.game.enums.Cor;
+import com.ludo.jogo.simulacao.ResultadoSimulacao;
+import com.ludo.jogo.simulacao.SimuladorParalelo;
+import com.ludo.jogo.simulacao.SimuladorPartidas;
+
+/**
+ * Testes para a classe SimuladorPartidas.
+ */
+class SimuladorPartidasTest {
+
+    /**
+     * Testa se um lote de partidas entre IAs termina com vencedor em todas
+     * e se as vitórias por assento e por cor somam o total de partidas.
+     */
+    @Test
+    void partidasEntreIAsTerminamComVencedor() {
+        List<Class<? extends Jogador>> tipos = new ArrayList<>();
+        tipos.add(JogadorIA.class);
+        tipos.add(JogadorIA.class);
+
+        List<Cor> cores = new ArrayList<>();
+        cores.add(Cor.VERMELHO);
+        cores.add(Cor.AMARELO);
+
+        SimuladorPartidas simulador = new SimuladorPartidas(tipos, cores, true);
+        ResultadoSimulacao resultado = simulador.simular(20);
+
+        assertEquals(20, resultado.getPartidas());
+        assertEquals(0, resultado.getPartidasSemVencedor(), "Toda partida entre IAs deve terminar.");
+        assertEquals(20, resultado.getVitoriasAssento(0) + resultado.getVitoriasAssento(1));
+        assertEquals(20, resultado.getVitoriasParticipante(0) + resultado.getVitoriasParticipante(1));
+        assertTrue(resultado.getTotalTurnos() > 0);
+    }
+
+    /**
+     * Testa se o simulador recusa JogadorHumano, que depende da GUI.
+     */
+    @Test
+    void simuladorRecusaJogadorHumano() {
+        List<Class<? extends Jogador>> tipos = new ArrayList<>();
+        tipos.add(JogadorHumano.class);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimuladorPartidas(tipos, List.of(Cor.VERDE), false));
+    }
+
+    /**
+     * Testa se a simulação paralela joga exatamente a quantidade pedida de partidas,
+     * mesmo quando ela não é múltipla do tamanho das tarefas.
+     */
+    @Test
+    void simulacaoParalelaJogaTodasAsPartidas() {
+        List<Class<? extends Jogador>> tipos = List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class);
+        List<Cor> cores = List.of(Cor.VERMELHO, Cor.VERDE, Cor.AZUL);
+        SimuladorPartidas simulador = new SimuladorPartidas(tipos, cores, true);
+
+        int partidas = 2 * SimuladorParalelo.PARTIDAS_POR_TAREFA + 37;
+        ResultadoSimulacao resultado = new SimuladorParalelo(simulador, 4).simular(partidas);
+
+        assertEquals(partidas, resultado.getPartidas());
+        assertEquals(0, resultado.getPartidasSemVencedor());
+        assertEquals(partidas, resultado.getVitoriasParticipante(0) + resultado.getVitoriasParticipante(1)
+                + resultado.getVitoriasParticipante(2));
+    }
+
+    /**
+     * Testa se um lote com semente fixa é reproduzível e se o resultado
+     * não depende da quantidade de threads.
+     */
+    @Test
+    void loteComSementeEhReproduzivel() {
+        List<Class<? extends Jogador>> tipos = List.of(JogadorIA.class, JogadorIA.class, JogadorIA.class, JogadorIA.class);
+        List<Cor> cores = List.of(Cor.VERMELHO, Cor.VERDE, Cor.AMARELO, Cor.AZUL);
+        SimuladorPartidas simulador = new SimuladorPartidas(tipos, cores, true, 2024L);
+
+        ResultadoSimulacao serial = simulador.simular(600);
+        ResultadoSimulacao paralelo = new SimuladorParalelo(simulador, 3).simular(600);
+
+        assertEquals(serial.getTotalTurnos(), paralelo.getTotalTurnos());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(serial.getVitoriasParticipante(i), paralelo.getVitoriasParticipante(i));
+            assertEquals(serial.getVitoriasAssento(i), paralelo.getVitoriasAssento(i));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ludo.jogo.game.TabelaFinais;
+
+/**
+ * Testes para a classe TabelaFinais.
+ */
+class TabelaFinaisTest {
+
+    private static final int FINAL = TabelaFinais.NUM_ESTADOS - 1;
+
+    /**
+     * Testa se a tabela gravada em arquivo e lida por mapeamento em memória é idêntica à gerada.
+     */
+    @Test
+    void tabelaGravadaEhIgualAGerada(@TempDir Path pasta) throws Exception {
+        TabelaFinais gerada = TabelaFinais.gerar();
+        Path arquivo = pasta.resolve("finais.bin");
+        gerada.salvar(arquivo);
+        TabelaFinais lida = TabelaFinais.carregar(arquivo);
+
+        for (int estado = 0; estado < TabelaFinais.NUM_ESTADOS; estado++) {
+            assertEquals(gerada.getTurnosEsperados(estado), lida.getTurnosEsperados(estado));
+            for (int dado = 1; dado <= 6; dado++) {
+                assertEquals(gerada.getMelhorPeao(estado, dado), lida.getMelhorPeao(estado, dado));
+            }
+        }
+        assertEquals(0, lida.getTurnosEsperados(FINAL));
+        assertEquals(TabelaFinais.SEM_PEAO, lida.getMelhorPeao(FINAL, 3));
+    }
+
+    /**
+     * Testa os valores contra simulações: seguindo a política da tabela a partir dos 4 peões no início da reta,
+     * a média de turnos deve bater com o valor esperado da tabela, e ser menor que a de sempre mover o primeiro peão.
+     */
+    @Test
+    void politicaDaTabelaBateComAsSimulacoes() {
+        TabelaFinais tabela = TabelaFinais.getPadrao();
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        int partidas = 100_000;
+        long turnosTabela = 0;
+        long turnosPrimeiro = 0;
+
+        for (int i = 0; i < partidas; i++) {
+            turnosTabela += jogar(tabela, aleatorio, true);
+            turnosPrimeiro += jogar(tabela, aleatorio, false);
+        }
+
+        double mediaTabela = (double) turnosTabela / partidas;
+        double mediaPrimeiro = (double) turnosPrimeiro / partidas;
+        assertEquals(tabela.getTurnosEsperados(0), mediaTabela, 0.05);
+        assertTrue(mediaTabela < mediaPrimeiro);
+    }
+
+    /**
+     * Joga os 4 peões da reta até a chegada, contando os turnos (um 6 dá outra rolagem no mesmo turno).
+     *
+     * @param tabela A tabela de finais;
+     * @param aleatorio Gerador do dado;
+     * @param usarTabela Se true, segue a tabela; se false, move sempre o primeiro peão que não chegou;
+     * @return Turnos usados.
+     */
+    private static int jogar(TabelaFinais tabela, SplittableRandom aleatorio, boolean usarTabela) {
+        int[] deslocamentos = new int[4];
+        int turnos = 1;
+        while (indice(deslocamentos) != FINAL) {
+            int dado = 1 + aleatorio.nextInt(6);
+            int peao = usarTabela ? tabela.getMelhorPeao(indice(deslocamentos), dado) : primeiroNaoChegado(deslocamentos);
+
+            int alvo = deslocamentos[peao] + dado;
+            deslocamentos[peao] = alvo > 5 ? 10 - alvo : alvo;
+            if (dado != 6 && indice(deslocamentos) != FINAL) turnos++;
+        }
+        return turnos;
+    }
+
+    private static int primeiroNaoChegado(int[] deslocamentos) {
+        int peao = 0;
+        while (deslocamentos[peao] == 5) peao++;
+        return peao;
+    }
+
+    private static int indice(int[] deslocamentos) {
+        return deslocamentos[0] + 6 * (deslocamentos[1] + 6 * (deslocamentos[2] + 6 * deslocamentos[3]));
+    }
+}
@@ -0,0 +1,126 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.TabelaTransposicao;
+
+/**
+ * Testes para a classe TabelaTransposicao.
+ */
+class TabelaTransposicaoTest {
+
+    /**
+     * Testa se uma entrada gravada é lida de volta com o mesmo valor, profundidade, tipo e movimento,
+     * e se os contadores registram acertos e faltas.
+     */
+    @Test
+    void entradaGravadaEhEncontrada() {
+        TabelaTransposicao tabela = new TabelaTransposicao(1);
+        long chave = 0x1234_5678_9ABC_DEF0L;
+
+        assertEquals(0, tabela.buscar(chave));
+        tabela.gravar(chave, -12.5, 7, TabelaTransposicao.LIMITE_INFERIOR, 0x0A2F);
+
+        long dados = tabela.buscar(chave);
+        assertEquals(-12.5, TabelaTransposicao.valor(dados));
+        assertEquals(7, TabelaTransposicao.profundidade(dados));
+        assertEquals(TabelaTransposicao.LIMITE_INFERIOR, TabelaTransposicao.tipo(dados));
+        assertEquals(0x0A2F, TabelaTransposicao.movimento(dados));
+        assertEquals(1, tabela.getAcertos());
+        assertEquals(1, tabela.getFaltas());
+
+        tabela.gravar(chave + 1, 0, 0, TabelaTransposicao.EXATO, TabelaTransposicao.SEM_MOVIMENTO);
+        assertEquals(TabelaTransposicao.SEM_MOVIMENTO, TabelaTransposicao.movimento(tabela.buscar(chave + 1)));
+
+        tabela.limpar();
+        assertEquals(0, tabela.buscar(chave));
+    }
+
+    /**
+     * Testa a política de substituição: no mesmo balde, uma busca mais rasa não apaga a entrada mais profunda
+     * (vai para a segunda entrada), mas uma terceira posição substitui a segunda e conta uma colisão.
+     * Depois de novaGeracao, a entrada profunda antiga pode ser substituída.
+     */
+    @Test
+    void entradaMaisProfundaEhPreservada() {
+        TabelaTransposicao tabela = new TabelaTransposicao(1);
+        // Mesmos bits de índice (20 em diante), chaves diferentes
+        long profunda = 5L << 20;
+        long rasa1 = profunda | 1;
+        long rasa2 = profunda | 2;
+
+        tabela.gravar(profunda, 1, 10, TabelaTransposicao.EXATO, 1);
+        tabela.gravar(rasa1, 2, 2, TabelaTransposicao.EXATO, 2);
+        tabela.gravar(rasa2, 3, 3, TabelaTransposicao.EXATO, 3);
+
+        assertEquals(10, TabelaTransposicao.profundidade(tabela.buscar(profunda)));
+        assertEquals(0, tabela.buscar(rasa1));
+        assertEquals(3, TabelaTransposicao.profundidade(tabela.buscar(rasa2)));
+        assertEquals(1, tabela.getColisoes());
+
+        tabela.novaGeracao();
+        tabela.gravar(rasa1, 2, 2, TabelaTransposicao.EXATO, 2);
+        assertEquals(0, tabela.buscar(profunda));
+        assertEquals(2, TabelaTransposicao.profundidade(tabela.buscar(rasa1)));
+    }
+
+    /**
+     * Testa o uso por várias threads sem travas: cada gravação tem valor e movimento derivados da chave,
+     * então qualquer leitura aceita deve ser consistente com a chave procurada (nunca uma mistura de duas gravações).
+     */
+    @Test
+    void acessoConcorrenteNuncaRetornaEntradaCorrompida() throws Exception {
+        TabelaTransposicao tabela = new TabelaTransposicao(1);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<Integer>> resultados = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long semente = t;
+                resultados.add(executor.submit(() -> {
+                    SplittableRandom aleatorio = new SplittableRandom(semente);
+                    int erros = 0;
+                    for (int i = 0; i < 200_000; i++) {
+                        // Poucas chaves em poucos baldes, para forçar disputa pelas mesmas entradas
+                        long chave = (aleatorio.nextLong(64) << 20) ^ aleatorio.nextLong(1 << 12) * 0x9E3779B97F4A7C15L;
+                        if (aleatorio.nextBoolean()) {
+                            tabela.gravar(chave, valorEsperado(chave), (int) (chave & 0xF), TabelaTransposicao.EXATO,
+                                    movimentoEsperado(chave));
+                        }
+                        else {
+                            long dados = tabela.buscar(chave);
+                            if (dados != 0 && (TabelaTransposicao.valor(dados) != valorEsperado(chave)
+                                    || TabelaTransposicao.movimento(dados) != movimentoEsperado(chave)
+                                    || TabelaTransposicao.profundidade(dados) != (int) (chave & 0xF))) {
+                                erros++;
+                            }
+                        }
+                    }
+                    return erros;
+                }));
+            }
+
+            for (Future<Integer> resultado : resultados) assertEquals(0, resultado.get());
+            assertTrue(tabela.getAcertos() > 0);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static float valorEsperado(long chave) {
+        return (float) (chave % 1000);
+    }
+
+    private static int movimentoEsperado(long chave) {
+        return (int) ((chave >>> 7) & 0x3FFF);
+    }
+}
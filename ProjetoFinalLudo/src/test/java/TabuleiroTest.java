@@ -203,4 +203,191 @@ class TabuleiroTest {
         assertEquals(-1, tabuleiro.getIndiceRetaFinal(Cor.AMARELO, base),
                 "getIndiceRetaFinal deve retornar -1 para casas fora da reta final.");
     }
+
+    /**
+     * Testa o cálculo de destino pelas posições lógicas:
+     * - entrada na reta final a partir da casa de entrada;
+     * - retorno (bounce) ao passar da chegada;
+     * - peão de outra cor não usa a reta final alheia.
+     */
+    @Test
+    void getDestinoPorPosicaoLogica() {
+        int vermelho = Cor.VERMELHO.ordinal();
+        int verde = Cor.VERDE.ordinal();
+
+        // Da casa 53, o vermelho anda 2 até a entrada (55) e mais 2 dentro da reta
+        assertEquals(Tabuleiro.posicaoRetaFinal(vermelho, 1), Tabuleiro.getDestino(vermelho, 53, 4));
+
+        // O verde passa pela casa 55 normalmente
+        assertEquals(1, Tabuleiro.getDestino(verde, 53, 4));
+
+        // Na reta final, passar da chegada faz o peão voltar
+        assertEquals(Tabuleiro.posicaoRetaFinal(vermelho, 3),
+                Tabuleiro.getDestino(vermelho, Tabuleiro.posicaoRetaFinal(vermelho, 4), 3));
+
+        // Na base só sai com 6
+        assertEquals(Tabuleiro.POSICAO_INVALIDA, Tabuleiro.getDestino(verde, Tabuleiro.posicaoBase(verde), 5));
+        assertEquals(14, Tabuleiro.getDestino(verde, Tabuleiro.posicaoBase(verde), 6));
+    }
+
+    /**
+     * Testa se uma captura atualiza o estado compacto:
+     * o peão capturado volta para a posição da base e a ocupação do destino continua 1.
+     */
+    @Test
+    void capturaAtualizaPosicoesEOcupacao() {
+        Tabuleiro tabuleiro = new Tabuleiro();
+
+        Peao vermelho = new Peao(Cor.VERMELHO, tabuleiro.getCasaBase(Cor.VERMELHO));
+        Peao verde = new Peao(Cor.VERDE, tabuleiro.getCasaBase(Cor.VERDE));
+        tabuleiro.registrarPeao(vermelho);
+        tabuleiro.registrarPeao(verde);
+
+        tabuleiro.moverPeao(verde, 3);
+        tabuleiro.moverPeao(vermelho, 0);
+
+        assertTrue(tabuleiro.isCapturaPossivel(Cor.VERMELHO, 3));
+        tabuleiro.moverPeao(vermelho, 3);
+
+        assertEquals(EstadoPeao.BASE, verde.getEstado(), "Peão capturado deve voltar para a base.");
+        assertEquals(Tabuleiro.posicaoBase(Cor.VERDE.ordinal()), tabuleiro.getPosicao(verde));
+        assertEquals(3, tabuleiro.getPosicao(vermelho));
+        assertEquals(1, tabuleiro.getOcupacao(3));
+        assertEquals(0, tabuleiro.getOcupacao(0));
+    }
+
+    /**
+     * Testa se a tabela de destinos reproduz o caminhamento passo a passo pelo circuito
+     * (entrada na reta final ao passar pela casa anterior à saída da cor) para todas as cores e dados.
+     */
+    @Test
+    void tabelaDeDestinosIgualAoCaminhamentoPassoAPasso() {
+        for (Cor cor : Cor.values()) {
+            if (cor == Cor.NENHUMA) continue;
+            int c = cor.ordinal();
+            int entrada = (c * 14 + 55) % 56;
+
+            for (int posicao = 0; posicao < 56; posicao++) {
+                for (int valorDado = 1; valorDado <= 6; valorDado++) {
+                    int atual = posicao;
+                    int movimentos = valorDado;
+                    int esperado = -1;
+                    boolean entrouNaReta = false;
+
+                    while (movimentos > 0) {
+                        if (atual == entrada) {
+                            esperado = Tabuleiro.posicaoRetaFinal(c, movimentos - 1);
+                            entrouNaReta = true;
+                            break;
+                        }
+                        atual = (atual + 1) % 56;
+                        movimentos--;
+                    }
+                    if (!entrouNaReta) esperado = atual;
+
+                    assertEquals(esperado, Tabuleiro.getDestino(c, posicao, valorDado),
+                            "Destino divergente para " + cor + " na casa " + posicao + " com dado " + valorDado);
+                }
+            }
+
+            // Reta final: avança e volta ao passar da chegada
+            for (int k = 0; k < 6; k++) {
+                for (int valorDado = 1; valorDado <= 6; valorDado++) {
+                    int alvo = k + valorDado;
+                    if (alvo > 5) alvo = 5 - (alvo - 5);
+                    int esperado = (alvo >= 0) ? Tabuleiro.posicaoRetaFinal(c, alvo) : Tabuleiro.POSICAO_INVALIDA;
+
+                    assertEquals(esperado, Tabuleiro.getDestino(c, Tabuleiro.posicaoRetaFinal(c, k), valorDado));
+                }
+            }
+        }
+    }
+
+    /**
+     * Testa se as máscaras de ocupação acompanham os movimentos:
+     * - dois peões na mesma casa do circuito formam bloqueio;
+     * - ao sair um deles o bloqueio some, mas a casa continua marcada para a cor;
+     * - cores diferentes em uma estrela deixam a casa disputada, sem captura.
+     */
+    @Test
+    void mascarasDeOcupacaoAcompanhamOsMovimentos() {
+        Tabuleiro tabuleiro = new Tabuleiro();
+
+        Peao v1 = new Peao(Cor.VERMELHO, tabuleiro.getCasaBase(Cor.VERMELHO));
+        Peao v2 = new Peao(Cor.VERMELHO, tabuleiro.getCasaBase(Cor.VERMELHO));
+        Peao azul = new Peao(Cor.AZUL, tabuleiro.getCasaBase(Cor.AZUL));
+
+        tabuleiro.moverPeao(v1, 4);
+        tabuleiro.moverPeao(v2, 4);
+        assertTrue(tabuleiro.isBloqueio(4), "Dois peões na casa 4 devem formar bloqueio.");
+        assertFalse(tabuleiro.isCapturaPossivel(Cor.AZUL, 4), "Não há captura em bloqueio.");
+
+        tabuleiro.moverPeao(v2, 9);
+        assertFalse(tabuleiro.isBloqueio(4));
+        assertEquals(1L << 4 | 1L << 9, tabuleiro.getMascaraCor(Cor.VERMELHO));
+
+        tabuleiro.moverPeao(azul, 9);
+        assertTrue(tabuleiro.isCasaDisputada(9), "Estrela com peões de duas cores deve estar disputada.");
+        assertEquals(EstadoPeao.JOGANDO, v2.getEstado(), "Não há captura em casa segura.");
+        assertFalse(tabuleiro.isCasaDisputada(4));
+    }
+
+    /**
+     * Testa o hash de Zobrist:
+     * - trocar de lugar dois peões da mesma cor não muda o hash;
+     * - a mesma configuração obtida por caminhos diferentes tem o mesmo hash.
+     */
+    @Test
+    void hashDependeApenasDasPosicoes() {
+        Tabuleiro t1 = new Tabuleiro();
+        Peao a1 = new Peao(Cor.AMARELO, t1.getCasaBase(Cor.AMARELO));
+        Peao b1 = new Peao(Cor.AMARELO, t1.getCasaBase(Cor.AMARELO));
+        t1.moverPeao(a1, 30);
+        t1.moverPeao(b1, 33);
+
+        Tabuleiro t2 = new Tabuleiro();
+        Peao a2 = new Peao(Cor.AMARELO, t2.getCasaBase(Cor.AMARELO));
+        Peao b2 = new Peao(Cor.AMARELO, t2.getCasaBase(Cor.AMARELO));
+        t2.moverPeao(a2, 28);
+        t2.moverPeao(b2, 30);
+        t2.moverPeao(a2, 33);
+
+        assertEquals(t1.getHash(), t2.getHash(), "Mesma configuração deve ter o mesmo hash.");
+
+        t2.moverPeao(b2, 31);
+        assertFalse(t1.getHash() == t2.getHash(), "Configurações diferentes devem ter hashes diferentes.");
+    }
+
+    /**
+     * Testa o gerador de movimentos:
+     * - peões na base só geram movimento com 6;
+     * - destinos bloqueados não são gerados;
+     * - o movimento codifica o id do peão e o destino.
+     */
+    @Test
+    void gerarMovimentosIgnoraBaseEBloqueios() {
+        Tabuleiro tabuleiro = new Tabuleiro();
+        Peao vermelho = new Peao(Cor.VERMELHO, tabuleiro.getCasaBase(Cor.VERMELHO));
+        Peao verde1 = new Peao(Cor.VERDE, tabuleiro.getCasaBase(Cor.VERDE));
+        Peao verde2 = new Peao(Cor.VERDE, tabuleiro.getCasaBase(Cor.VERDE));
+        Peao vermelhoNaBase = new Peao(Cor.VERMELHO, tabuleiro.getCasaBase(Cor.VERMELHO));
+        tabuleiro.registrarPeao(vermelhoNaBase);
+
+        tabuleiro.moverPeao(vermelho, 2);
+        tabuleiro.moverPeao(verde1, 5);
+        tabuleiro.moverPeao(verde2, 5);
+
+        int[] movimentos = new int[Tabuleiro.MAX_MOVIMENTOS];
+
+        // Com 3, o vermelho cairia no bloqueio verde da casa 5
+        assertEquals(0, tabuleiro.gerarMovimentos(Cor.VERMELHO.ordinal(), 3, movimentos));
+
+        // Com 4, só o peão do circuito anda
+        assertEquals(1, tabuleiro.gerarMovimentos(Cor.VERMELHO.ordinal(), 4, movimentos));
+        assertEquals(vermelho.getId(), Tabuleiro.idPeaoDoMovimento(movimentos[0]));
+        assertEquals(6, Tabuleiro.destinoDoMovimento(movimentos[0]));
+
+        // Com 6, os dois peões vermelhos podem andar
+        assertEquals(2, tabuleiro.gerarMovimentos(Cor.VERMELHO.ordinal(), 6, movimentos));
+    }
 }
@@ -0,0 +1,32 @@
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.ludo.jogo.game.PesosAvaliacao;
+import com.ludo.jogo.simulacao.TreinadorTD;
+
+/**
+ * Testes para a classe TreinadorTD.
+ */
+class TreinadorTDTest {
+
+    /**
+     * Testa se uma rodada de treino muda os pesos e dá o mesmo resultado com 1 e com 3 threads.
+     */
+    @Test
+    void treinoNaoDependeDaQuantidadeDeThreads() {
+        PesosAvaliacao iniciais = PesosAvaliacao.iniciais();
+        TreinadorTD.Rodada umaThread = new TreinadorTD(List.of(2, 4), 100, 0.7, 0.05, 1, 3L)
+                .treinarRodada(iniciais, 0, 60);
+        TreinadorTD.Rodada tresThreads = new TreinadorTD(List.of(2, 4), 100, 0.7, 0.05, 3, 3L)
+                .treinarRodada(iniciais, 0, 60);
+
+        assertTrue(umaThread.getPosicoes() > 0);
+        assertArrayEquals(umaThread.getPesos().getPesos(), tresThreads.getPesos().getPesos(), 0);
+        assertFalse(Arrays.equals(iniciais.getPesos(), umaThread.getPesos().getPesos()));
+    }
+}